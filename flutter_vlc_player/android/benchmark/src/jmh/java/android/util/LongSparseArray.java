@@ -0,0 +1,135 @@
+package android.util;
+
+import java.util.Arrays;
+
+/**
+ * A host JVM copy of the platform's {@code LongSparseArray}, the structure the players were kept in
+ * before {@code ConcurrentLongMap}: sorted parallel key and value arrays searched by binary search,
+ * with removals marked and compacted lazily. Only the methods the benchmarks use are kept.
+ */
+public class LongSparseArray<E> {
+
+    private static final Object DELETED = new Object();
+
+    private boolean garbage = false;
+    private long[] keys;
+    private Object[] values;
+    private int size;
+
+    public LongSparseArray() {
+        this(10);
+    }
+
+    public LongSparseArray(int initialCapacity) {
+        keys = new long[Math.max(1, initialCapacity)];
+        values = new Object[keys.length];
+        size = 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E get(long key) {
+        int i = binarySearch(keys, size, key);
+        if (i < 0 || values[i] == DELETED)
+            return null;
+        return (E) values[i];
+    }
+
+    public void remove(long key) {
+        int i = binarySearch(keys, size, key);
+        if (i >= 0 && values[i] != DELETED) {
+            values[i] = DELETED;
+            garbage = true;
+        }
+    }
+
+    public void put(long key, E value) {
+        int i = binarySearch(keys, size, key);
+        if (i >= 0) {
+            values[i] = value;
+            return;
+        }
+        i = ~i;
+        if (i < size && values[i] == DELETED) {
+            keys[i] = key;
+            values[i] = value;
+            return;
+        }
+        if (garbage && size >= keys.length) {
+            gc();
+            i = ~binarySearch(keys, size, key);
+        }
+        if (size >= keys.length) {
+            int capacity = size * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        System.arraycopy(keys, i, keys, i + 1, size - i);
+        System.arraycopy(values, i, values, i + 1, size - i);
+        keys[i] = key;
+        values[i] = value;
+        size++;
+    }
+
+    public void append(long key, E value) {
+        if (size != 0 && key <= keys[size - 1]) {
+            put(key, value);
+            return;
+        }
+        if (garbage && size >= keys.length)
+            gc();
+        if (size >= keys.length) {
+            int capacity = size * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        keys[size] = key;
+        values[size] = value;
+        size++;
+    }
+
+    public int size() {
+        if (garbage)
+            gc();
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public E valueAt(int index) {
+        if (garbage)
+            gc();
+        return (E) values[index];
+    }
+
+    private void gc() {
+        int o = 0;
+        for (int i = 0; i < size; i++) {
+            Object value = values[i];
+            if (value != DELETED) {
+                if (i != o) {
+                    keys[o] = keys[i];
+                    values[o] = value;
+                    values[i] = null;
+                }
+                o++;
+            }
+        }
+        garbage = false;
+        size = o;
+    }
+
+    private static int binarySearch(long[] array, int size, long value) {
+        int lo = 0;
+        int hi = size - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            long midVal = array[mid];
+            if (midVal < value)
+                lo = mid + 1;
+            else if (midVal > value)
+                hi = mid - 1;
+            else
+                return mid;
+        }
+        return ~lo;
+    }
+}
@@ -0,0 +1,102 @@
+package software.solid.fluttervlcplayer;
+
+import android.util.LongSparseArray;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the player registry lookups of {@link ConcurrentLongMap} with the synchronized
+ * {@link LongSparseArray} it replaced, from one thread and from the platform thread and the task
+ * queue at once, and the cost of registering and disposing a player.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConcurrentLongMapBenchmark {
+
+    @Param({"1", "4", "32"})
+    int players;
+
+    private final ConcurrentLongMap<Object> map = new ConcurrentLongMap<>();
+    private final LongSparseArray<Object> sparseArray = new LongSparseArray<>();
+    private long[] ids;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // view ids are small and sequential
+        ids = new long[players];
+        for (int i = 0; i < players; i++) {
+            ids[i] = i;
+            Object player = new Object();
+            map.put(i, player);
+            sparseArray.append(i, player);
+        }
+    }
+
+    private long nextId(Cursor cursor) {
+        long id = ids[cursor.next];
+        cursor.next = cursor.next + 1 == ids.length ? 0 : cursor.next + 1;
+        return id;
+    }
+
+    @Benchmark
+    public Object concurrentLongMapGet(Cursor cursor) {
+        return map.get(nextId(cursor));
+    }
+
+    @Benchmark
+    public Object longSparseArrayGet(Cursor cursor) {
+        long id = nextId(cursor);
+        synchronized (sparseArray) {
+            return sparseArray.get(id);
+        }
+    }
+
+    @Benchmark
+    @Threads(2)
+    public Object concurrentLongMapGetContended(Cursor cursor) {
+        return map.get(nextId(cursor));
+    }
+
+    @Benchmark
+    @Threads(2)
+    public Object longSparseArrayGetContended(Cursor cursor) {
+        long id = nextId(cursor);
+        synchronized (sparseArray) {
+            return sparseArray.get(id);
+        }
+    }
+
+    @Benchmark
+    public Object concurrentLongMapPutRemove() {
+        // a player created and disposed next to the existing ones
+        map.put(players, ids);
+        return map.remove(players);
+    }
+
+    @Benchmark
+    public Object longSparseArrayPutRemove() {
+        synchronized (sparseArray) {
+            sparseArray.append(players, ids);
+            Object player = sparseArray.get(players);
+            sparseArray.remove(players);
+            return player;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package software.solid.fluttervlcplayer;
+
+import androidx.annotation.NonNull;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records how long each {@link Messages.VlcPlayerApi} method takes natively, per method and
+ * player, in {@link LatencyHistogram}s.
+ *
+ * <p>The API is wrapped in a proxy only when metrics are enabled, so there is no cost otherwise.
+ * Calls not addressed to a single player, like {@code executeBatch}, are recorded under
+ * {@link #NO_PLAYER}. Asynchronous methods are timed until their {@link Messages.Result} is
+ * completed.
+ */
+final class ApiMetrics {
+
+    static final long NO_PLAYER = -1;
+
+    private static final double NANOS_PER_MICRO = 1000.0;
+
+    private final ConcurrentHashMap<String, ConcurrentHashMap<Long, LatencyHistogram>> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Returns an implementation of the API that times every call made to {@code api}.
+     */
+    Messages.VlcPlayerApi instrument(@NonNull final Messages.VlcPlayerApi api) {
+        return (Messages.VlcPlayerApi) Proxy.newProxyInstance(
+                Messages.VlcPlayerApi.class.getClassLoader(),
+                new Class<?>[]{Messages.VlcPlayerApi.class},
+                new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                        boolean recorded = method.getDeclaringClass() == Messages.VlcPlayerApi.class
+                                && !method.getName().equals("getApiMetrics")
+                                && !method.getName().equals("resetApiMetrics");
+                        long start = recorded ? System.nanoTime() : 0;
+                        int resultIndex = args == null ? -1 : args.length - 1;
+                        // an asynchronous call is recorded by its result, unless it throws
+                        boolean async = recorded && resultIndex >= 0 && args[resultIndex] instanceof Messages.Result;
+                        if (async)
+                            args[resultIndex] = new RecordingResult<>(
+                                    (Messages.Result<?>) args[resultIndex], method.getName(), playerIdOf(args), start);
+                        boolean completed = false;
+                        try {
+                            Object value = method.invoke(api, args);
+                            completed = true;
+                            return value;
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        } finally {
+                            if (recorded && !(async && completed))
+                                record(method.getName(), playerIdOf(args), System.nanoTime() - start);
+                        }
+                    }
+                });
+    }
+
+    void record(String method, long playerId, long nanos) {
+        ConcurrentHashMap<Long, LatencyHistogram> byPlayer = histograms.get(method);
+        if (byPlayer == null) {
+            ConcurrentHashMap<Long, LatencyHistogram> created = new ConcurrentHashMap<>();
+            byPlayer = histograms.putIfAbsent(method, created);
+            if (byPlayer == null)
+                byPlayer = created;
+        }
+        LatencyHistogram histogram = byPlayer.get(playerId);
+        if (histogram == null) {
+            LatencyHistogram created = new LatencyHistogram();
+            histogram = byPlayer.putIfAbsent(playerId, created);
+            if (histogram == null)
+                histogram = created;
+        }
+        histogram.record(nanos);
+    }
+
+    List<Messages.ApiMethodMetrics> getMetrics() {
+        List<Messages.ApiMethodMetrics> metrics = new ArrayList<>();
+        for (Map.Entry<String, ConcurrentHashMap<Long, LatencyHistogram>> method : histograms.entrySet()) {
+            for (Map.Entry<Long, LatencyHistogram> player : method.getValue().entrySet()) {
+                LatencyHistogram histogram = player.getValue();
+                var metric = new Messages.ApiMethodMetrics();
+                metric.setMethod(method.getKey());
+                metric.setPlayerId(player.getKey());
+                metric.setCount(histogram.getCount());
+                metric.setMeanMicros(histogram.getMeanNanos() / NANOS_PER_MICRO);
+                metric.setP50Micros(histogram.getPercentileNanos(50) / NANOS_PER_MICRO);
+                metric.setP90Micros(histogram.getPercentileNanos(90) / NANOS_PER_MICRO);
+                metric.setP99Micros(histogram.getPercentileNanos(99) / NANOS_PER_MICRO);
+                metric.setMaxMicros(histogram.getMaxNanos() / NANOS_PER_MICRO);
+                metrics.add(metric);
+            }
+        }
+        return metrics;
+    }
+
+    /**
+     * Drops the recorded values. Calls in flight may still land in the dropped histograms.
+     */
+    void reset() {
+        histograms.clear();
+    }
+
+    private static long playerIdOf(Object[] args) {
+        if (args == null || args.length == 0)
+            return NO_PLAYER;
+        Object arg = args[0];
+        if (arg instanceof Long)
+            return (Long) arg;
+        if (arg instanceof Messages.CreateMessage)
+            return ((Messages.CreateMessage) arg).getPlayerId();
+        if (arg instanceof Messages.SetMediaMessage)
+            return ((Messages.SetMediaMessage) arg).getPlayerId();
+        if (arg instanceof Messages.AddSubtitleMessage)
+            return ((Messages.AddSubtitleMessage) arg).getPlayerId();
+        if (arg instanceof Messages.AddAudioMessage)
+            return ((Messages.AddAudioMessage) arg).getPlayerId();
+        if (arg instanceof Messages.SnapshotMessage)
+            return ((Messages.SnapshotMessage) arg).getPlayerId();
+        if (arg instanceof Messages.FrameTapMessage)
+            return ((Messages.FrameTapMessage) arg).getPlayerId();
+        if (arg instanceof Messages.MotionDetectionMessage)
+            return ((Messages.MotionDetectionMessage) arg).getPlayerId();
+        if (arg instanceof Messages.PlayerStateMessage)
+            return ((Messages.PlayerStateMessage) arg).getPlayerId();
+        if (arg instanceof Messages.SpuTracksMessage)
+            return ((Messages.SpuTracksMessage) arg).getPlayerId();
+        if (arg instanceof Messages.PlayerCommand)
+            return ((Messages.PlayerCommand) arg).getPlayerId();
+        return NO_PLAYER;
+    }
+
+    private final class RecordingResult<T> implements Messages.Result<T> {
+        private final Messages.Result<T> result;
+        private final String method;
+        private final long playerId;
+        private final long startNanos;
+
+        RecordingResult(Messages.Result<T> result, String method, long playerId, long startNanos) {
+            this.result = result;
+            this.method = method;
+            this.playerId = playerId;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void success(@NonNull T value) {
+            record(method, playerId, System.nanoTime() - startNanos);
+            result.success(value);
+        }
+
+        @Override
+        public void error(@NonNull Throwable error) {
+            record(method, playerId, System.nanoTime() - startNanos);
+            result.error(error);
+        }
+    }
+}
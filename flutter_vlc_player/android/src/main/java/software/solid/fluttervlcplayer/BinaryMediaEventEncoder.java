@@ -0,0 +1,211 @@
+package software.solid.fluttervlcplayer;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Encodes media events into a compact little-endian binary layout, sent as a byte array.
+ *
+ * <p>The first byte is the event type, followed by a fixed set of fields per type:
+ * <pre>
+ *   opening (1), paused (2), stopped (3), error (7): no fields
+ *   playing (4):      width i32, height i32, speed f32, duration i64,
+ *                     audioTracksCount i32, activeAudioTrack i32, spuTracksCount i32, activeSpuTrack i32
+ *   ended (5):        position i64
+ *   timeChanged (6):  width i32, height i32, speed f32, position i64, duration i64, buffer f32,
+ *                     audioTracksCount i32, activeAudioTrack i32, spuTracksCount i32, activeSpuTrack i32,
+ *                     isPlaying u8
+ *   timeChangedDelta (8): changed fields mask u16, then only the timeChanged fields set in the
+ *                     mask, in the order above; the mask bits are the
+ *                     {@link MediaEventDeltaTracker} field bits, width and height share one bit
+ *   positionAnchor (9): position i64, speed f32, timestamp (monotonic, microseconds) i64,
+ *                     isPlaying u8
+ *   prepared (10):    duration i64, width i32, height i32,
+ *                     audioTracksCount i32, spuTracksCount i32, videoTracksCount i32
+ * </pre>
+ * Recording events carry a variable length path and are still sent in the map format.
+ *
+ * <p>Each event type writes into its own reused buffer, so encoding does not allocate. Delta
+ * events reuse one array per encoded length. The returned array is only valid until the next event of the same type is encoded; the event sink
+ * must copy it if it cannot hand it to the channel right away. An encoder built without array
+ * reuse returns a new array per event instead, for sinks that always hold on to the events, such
+ * as the batched delivery.
+ *
+ * <p>This class is not thread-safe. All calls must be done on the same thread or synchronized
+ * externally.
+ */
+final class BinaryMediaEventEncoder implements MediaEventEncoder {
+
+    static final byte OPENING = 1;
+    static final byte PAUSED = 2;
+    static final byte STOPPED = 3;
+    static final byte PLAYING = 4;
+    static final byte ENDED = 5;
+    static final byte TIME_CHANGED = 6;
+    static final byte ERROR = 7;
+    static final byte TIME_CHANGED_DELTA = 8;
+    static final byte POSITION_ANCHOR = 9;
+    static final byte PREPARED = 10;
+
+    private static final int PLAYING_SIZE = 1 + 4 + 4 + 4 + 8 + 4 * 4;
+    private static final int ENDED_SIZE = 1 + 8;
+    private static final int TIME_CHANGED_SIZE = 1 + 4 + 4 + 4 + 8 + 8 + 4 + 4 * 4 + 1;
+    private static final int TIME_CHANGED_DELTA_MAX_SIZE = TIME_CHANGED_SIZE + 2;
+    private static final int POSITION_ANCHOR_SIZE = 1 + 8 + 4 + 8 + 1;
+    private static final int PREPARED_SIZE = 1 + 8 + 4 + 4 + 4 * 3;
+
+    private final byte[] opening = {OPENING};
+    private final byte[] paused = {PAUSED};
+    private final byte[] stopped = {STOPPED};
+    private final byte[] error = {ERROR};
+    private final ByteBuffer playing = ByteBuffer.allocate(PLAYING_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private final ByteBuffer ended = ByteBuffer.allocate(ENDED_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private final ByteBuffer timeChanged = ByteBuffer.allocate(TIME_CHANGED_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private final ByteBuffer timeChangedDelta = ByteBuffer.allocate(TIME_CHANGED_DELTA_MAX_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private final ByteBuffer positionAnchor = ByteBuffer.allocate(POSITION_ANCHOR_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private final ByteBuffer prepared = ByteBuffer.allocate(PREPARED_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private final byte[][] timeChangedDeltaArrays = new byte[TIME_CHANGED_DELTA_MAX_SIZE + 1][];
+    //
+    private final MapMediaEventEncoder mapEncoder = new MapMediaEventEncoder();
+    private final boolean reuseArrays;
+
+    BinaryMediaEventEncoder() {
+        this(true);
+    }
+
+    BinaryMediaEventEncoder(boolean reuseArrays) {
+        this.reuseArrays = reuseArrays;
+    }
+
+    @Override
+    public Object opening() {
+        return opening;
+    }
+
+    @Override
+    public Object paused() {
+        return paused;
+    }
+
+    @Override
+    public Object stopped() {
+        return stopped;
+    }
+
+    @Override
+    public Object playing(int width, int height, float speed, long duration, int audioTracksCount, int activeAudioTrack, int spuTracksCount, int activeSpuTrack) {
+        playing.clear();
+        playing.put(PLAYING)
+                .putInt(width)
+                .putInt(height)
+                .putFloat(speed)
+                .putLong(duration)
+                .putInt(audioTracksCount)
+                .putInt(activeAudioTrack)
+                .putInt(spuTracksCount)
+                .putInt(activeSpuTrack);
+        return output(playing.array());
+    }
+
+    @Override
+    public Object ended(long position) {
+        ended.clear();
+        ended.put(ENDED).putLong(position);
+        return output(ended.array());
+    }
+
+    @Override
+    public Object timeChanged(int changedFields, int width, int height, float speed, long position, long duration, float buffer, int audioTracksCount, int activeAudioTrack, int spuTracksCount, int activeSpuTrack, boolean isPlaying) {
+        if (changedFields != MediaEventDeltaTracker.ALL)
+            return timeChangedDelta(changedFields, width, height, speed, position, duration, buffer, audioTracksCount, activeAudioTrack, spuTracksCount, activeSpuTrack, isPlaying);
+        timeChanged.clear();
+        timeChanged.put(TIME_CHANGED)
+                .putInt(width)
+                .putInt(height)
+                .putFloat(speed)
+                .putLong(position)
+                .putLong(duration)
+                .putFloat(buffer)
+                .putInt(audioTracksCount)
+                .putInt(activeAudioTrack)
+                .putInt(spuTracksCount)
+                .putInt(activeSpuTrack)
+                .put((byte) (isPlaying ? 1 : 0));
+        return output(timeChanged.array());
+    }
+
+    private byte[] timeChangedDelta(int changedFields, int width, int height, float speed, long position, long duration, float buffer, int audioTracksCount, int activeAudioTrack, int spuTracksCount, int activeSpuTrack, boolean isPlaying) {
+        timeChangedDelta.clear();
+        timeChangedDelta.put(TIME_CHANGED_DELTA).putShort((short) changedFields);
+        if ((changedFields & MediaEventDeltaTracker.SIZE) != 0)
+            timeChangedDelta.putInt(width).putInt(height);
+        if ((changedFields & MediaEventDeltaTracker.SPEED) != 0)
+            timeChangedDelta.putFloat(speed);
+        if ((changedFields & MediaEventDeltaTracker.POSITION) != 0)
+            timeChangedDelta.putLong(position);
+        if ((changedFields & MediaEventDeltaTracker.DURATION) != 0)
+            timeChangedDelta.putLong(duration);
+        if ((changedFields & MediaEventDeltaTracker.BUFFER) != 0)
+            timeChangedDelta.putFloat(buffer);
+        if ((changedFields & MediaEventDeltaTracker.AUDIO_TRACKS_COUNT) != 0)
+            timeChangedDelta.putInt(audioTracksCount);
+        if ((changedFields & MediaEventDeltaTracker.ACTIVE_AUDIO_TRACK) != 0)
+            timeChangedDelta.putInt(activeAudioTrack);
+        if ((changedFields & MediaEventDeltaTracker.SPU_TRACKS_COUNT) != 0)
+            timeChangedDelta.putInt(spuTracksCount);
+        if ((changedFields & MediaEventDeltaTracker.ACTIVE_SPU_TRACK) != 0)
+            timeChangedDelta.putInt(activeSpuTrack);
+        if ((changedFields & MediaEventDeltaTracker.IS_PLAYING) != 0)
+            timeChangedDelta.put((byte) (isPlaying ? 1 : 0));
+        //
+        int length = timeChangedDelta.position();
+        if (!reuseArrays)
+            return Arrays.copyOf(timeChangedDelta.array(), length);
+        byte[] bytes = timeChangedDeltaArrays[length];
+        if (bytes == null) {
+            bytes = new byte[length];
+            timeChangedDeltaArrays[length] = bytes;
+        }
+        System.arraycopy(timeChangedDelta.array(), 0, bytes, 0, length);
+        return bytes;
+    }
+
+    @Override
+    public Object error() {
+        return error;
+    }
+
+    @Override
+    public Object positionAnchor(long position, float speed, long timestampMicros, boolean isPlaying) {
+        positionAnchor.clear();
+        positionAnchor.put(POSITION_ANCHOR)
+                .putLong(position)
+                .putFloat(speed)
+                .putLong(timestampMicros)
+                .put((byte) (isPlaying ? 1 : 0));
+        return output(positionAnchor.array());
+    }
+
+    @Override
+    public Object recording(boolean isRecording, String recordPath) {
+        return mapEncoder.recording(isRecording, recordPath);
+    }
+
+    @Override
+    public Object prepared(long duration, int width, int height, int audioTracksCount, int spuTracksCount, int videoTracksCount) {
+        prepared.clear();
+        prepared.put(PREPARED)
+                .putLong(duration)
+                .putInt(width)
+                .putInt(height)
+                .putInt(audioTracksCount)
+                .putInt(spuTracksCount)
+                .putInt(videoTracksCount);
+        return output(prepared.array());
+    }
+
+    private byte[] output(byte[] array) {
+        return reuseArrays ? array : array.clone();
+    }
+}
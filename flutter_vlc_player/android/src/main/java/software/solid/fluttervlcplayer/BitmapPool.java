@@ -0,0 +1,86 @@
+package software.solid.fluttervlcplayer;
+
+import android.graphics.Bitmap;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * A bounded pool of mutable ARGB_8888 bitmaps by size, so frequent snapshots of the same size
+ * reuse their pixel memory instead of allocating a bitmap each time.
+ *
+ * <p>Bitmaps are acquired on the main thread and released from the encoder thread, so all calls
+ * are synchronized.
+ */
+final class BitmapPool {
+
+    static final long DEFAULT_MAX_BYTES = 8 * 1024 * 1024;
+
+    private final long maxBytes;
+    private final HashMap<Long, ArrayDeque<Bitmap>> bitmaps = new HashMap<>();
+    private long pooledBytes = 0;
+
+    BitmapPool(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    synchronized Bitmap acquire(int width, int height) {
+        ArrayDeque<Bitmap> pooled = bitmaps.get(keyOf(width, height));
+        Bitmap bitmap = pooled == null ? null : pooled.pollFirst();
+        if (bitmap == null)
+            return Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+        pooledBytes -= bitmap.getAllocationByteCount();
+        return bitmap;
+    }
+
+    /**
+     * Hands a bitmap back for reuse, or recycles it when the pool is full.
+     */
+    synchronized void release(Bitmap bitmap) {
+        if (bitmap.isRecycled())
+            return;
+        int byteCount = bitmap.getAllocationByteCount();
+        if (pooledBytes + byteCount > maxBytes)
+            evict(maxBytes - byteCount);
+        if (pooledBytes + byteCount > maxBytes) {
+            bitmap.recycle();
+            return;
+        }
+        long key = keyOf(bitmap.getWidth(), bitmap.getHeight());
+        ArrayDeque<Bitmap> pooled = bitmaps.get(key);
+        if (pooled == null) {
+            pooled = new ArrayDeque<>();
+            bitmaps.put(key, pooled);
+        }
+        pooled.addFirst(bitmap);
+        pooledBytes += byteCount;
+    }
+
+    synchronized void clear() {
+        evict(0);
+    }
+
+    /**
+     * Recycles pooled bitmaps, the oldest of each size first, until at most
+     * {@code targetBytes} are pooled.
+     */
+    private void evict(long targetBytes) {
+        Iterator<Map.Entry<Long, ArrayDeque<Bitmap>>> iterator = bitmaps.entrySet().iterator();
+        while (pooledBytes > targetBytes && iterator.hasNext()) {
+            ArrayDeque<Bitmap> pooled = iterator.next().getValue();
+            while (pooledBytes > targetBytes && !pooled.isEmpty()) {
+                Bitmap bitmap = pooled.pollLast();
+                pooledBytes -= bitmap.getAllocationByteCount();
+                bitmap.recycle();
+            }
+            if (pooled.isEmpty())
+                iterator.remove();
+        }
+    }
+
+    private static long keyOf(int width, int height) {
+        return ((long) width << 32) | (height & 0xffffffffL);
+    }
+}
@@ -0,0 +1,131 @@
+package software.solid.fluttervlcplayer;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A map from primitive long keys to values that can be read from any thread without locking,
+ * such as the players looked up by id from the platform thread and the background task queue.
+ *
+ * <p>Entries are stored with open addressing and linear probing in a table that is never modified
+ * once published. Writes are serialized and copy the table, so a lookup is one volatile read and
+ * a short probe, with no boxing of the key. This suits maps that are read far more often than
+ * they are written.
+ *
+ * <p>Values must not be null.
+ */
+final class ConcurrentLongMap<V> {
+
+    private static final int MIN_CAPACITY = 8;
+
+    private static final class Table {
+        final long[] keys;
+        final Object[] values;
+        final int size;
+
+        Table(int capacity, int size) {
+            this.keys = new long[capacity];
+            this.values = new Object[capacity];
+            this.size = size;
+        }
+    }
+
+    private volatile Table table = new Table(MIN_CAPACITY, 0);
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        Table table = this.table;
+        int mask = table.keys.length - 1;
+        for (int i = indexFor(key, mask); ; i = (i + 1) & mask) {
+            Object value = table.values[i];
+            if (value == null)
+                return null;
+            if (table.keys[i] == key)
+                return (V) value;
+        }
+    }
+
+    int size() {
+        return table.size;
+    }
+
+    /**
+     * Returns the values at the time of the call, in no particular order.
+     */
+    @SuppressWarnings("unchecked")
+    List<V> values() {
+        Table table = this.table;
+        List<V> values = new ArrayList<>(table.size);
+        for (Object value : table.values) {
+            if (value != null)
+                values.add((V) value);
+        }
+        return values;
+    }
+
+    @Nullable
+    synchronized V put(long key, @NonNull V value) {
+        V previous = get(key);
+        Table current = table;
+        // kept at most half full so probes stay short
+        int capacity = current.keys.length;
+        int size = previous == null ? current.size + 1 : current.size;
+        while (size * 2 > capacity)
+            capacity *= 2;
+        Table next = new Table(capacity, size);
+        copyInto(current, next, key);
+        insert(next, key, value);
+        table = next;
+        return previous;
+    }
+
+    @Nullable
+    synchronized V remove(long key) {
+        V previous = get(key);
+        if (previous == null)
+            return null;
+        Table current = table;
+        int capacity = current.keys.length;
+        while (capacity > MIN_CAPACITY && (current.size - 1) * 4 < capacity)
+            capacity /= 2;
+        Table next = new Table(capacity, current.size - 1);
+        copyInto(current, next, key);
+        table = next;
+        return previous;
+    }
+
+    /**
+     * Removes all the entries and returns their values.
+     */
+    synchronized List<V> clear() {
+        List<V> values = values();
+        table = new Table(MIN_CAPACITY, 0);
+        return values;
+    }
+
+    private static void copyInto(Table from, Table to, long skippedKey) {
+        for (int i = 0; i < from.keys.length; i++) {
+            if (from.values[i] != null && from.keys[i] != skippedKey)
+                insert(to, from.keys[i], from.values[i]);
+        }
+    }
+
+    private static void insert(Table table, long key, Object value) {
+        int mask = table.keys.length - 1;
+        int i = indexFor(key, mask);
+        while (table.values[i] != null)
+            i = (i + 1) & mask;
+        table.keys[i] = key;
+        table.values[i] = value;
+    }
+
+    private static int indexFor(long key, int mask) {
+        // view ids are small and sequential, the multiplication spreads them over the table
+        int hash = (int) (key ^ (key >>> 32)) * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,6 @@
+package software.solid.fluttervlcplayer.Enums;
+
+public enum FrameFormat {
+    RGBA,
+    JPEG
+}
@@ -0,0 +1,7 @@
+package software.solid.fluttervlcplayer.Enums;
+
+public enum SnapshotFormat {
+    JPEG,
+    PNG,
+    WEBP
+}
@@ -0,0 +1,7 @@
+package software.solid.fluttervlcplayer.Enums;
+
+public enum TrackType {
+    AUDIO,
+    VIDEO,
+    SPU
+}
@@ -1,8 +1,13 @@
 package software.solid.fluttervlcplayer;
 
 import android.content.Context;
+import android.content.res.AssetFileDescriptor;
 import android.graphics.Bitmap;
 import android.net.Uri;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.ParcelFileDescriptor;
 import android.util.Base64;
 import android.util.Log;
 import android.view.View;
@@ -14,40 +19,97 @@ import org.videolan.libvlc.Media;
 import org.videolan.libvlc.MediaPlayer;
 import org.videolan.libvlc.RendererDiscoverer;
 import org.videolan.libvlc.RendererItem;
+import org.videolan.libvlc.interfaces.IMedia;
 
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.plugin.common.EventChannel;
 import io.flutter.plugin.platform.PlatformView;
 import io.flutter.view.TextureRegistry;
+import software.solid.fluttervlcplayer.Enums.FrameFormat;
 import software.solid.fluttervlcplayer.Enums.HwAcc;
+import software.solid.fluttervlcplayer.Enums.SnapshotFormat;
 
 final class FlutterVlcPlayer implements PlatformView {
 
+    private static final int TIME_CHANGED_EVENT = 1;
+    private static final long NEXT_MEDIA_FIRST_FRAME_TIMEOUT_MS = 5000;
+    private static final long NANOS_PER_MICRO = 1000;
+    //
     private final String TAG = this.getClass().getSimpleName();
     private final boolean debug = false;
     //
+    private final int viewId;
     private final Context context;
+    private final BinaryMessenger binaryMessenger;
+    private final LibVLCPool libVLCPool;
     private final VLCTextureView textureView;
     private final TextureRegistry.SurfaceTextureEntry textureEntry;
     //
-    private final QueuingEventSink mediaEventSink = new QueuingEventSink();
+    private final QueuingEventSink mediaEventSink;
+    private final boolean batchedEvents;
     private final EventChannel mediaEventChannel;
     //
     private final QueuingEventSink rendererEventSink = new QueuingEventSink();
     private final EventChannel rendererEventChannel;
     //
-    private LibVLC libVLC;
-    private MediaPlayer mediaPlayer;
-    private List<String> options;
+    private volatile LibVLC libVLC;
+    private volatile MediaPlayer mediaPlayer;
+    private volatile List<String> options;
+    // the requested volume, carried over to a committed next media
+    private volatile int volume = LibVLCPool.DEFAULT_VOLUME;
+    private MediaEventEncoder mediaEventEncoder = new MapMediaEventEncoder();
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final PositionUpdateLimiter positionUpdateLimiter = new PositionUpdateLimiter(
+            handler,
+            new Runnable() {
+                @Override
+                public void run() {
+                    sendTimeChanged();
+                }
+            });
+    private float lastBuffering = 100f;
+    private final MediaPropertiesCache mediaProperties = new MediaPropertiesCache();
+    private final MediaEventDeltaTracker mediaEventDelta = new MediaEventDeltaTracker();
+    private final PositionAnchor positionAnchor = new PositionAnchor();
+    private final TrackTable trackTable = new TrackTable();
+    private boolean positionAnchors = false;
     private List<RendererDiscoverer> rendererDiscoverers = new ArrayList<>();
     private List<RendererItem> rendererItems = new ArrayList<>();
-    private boolean isDisposed = false;
+    private volatile boolean isDisposed = false;
+    //
+    private final AtomicInteger mediaGeneration = new AtomicInteger();
+    // guards the media preparer, never held across a libvlc call
+    private final Object mediaPreparerLock = new Object();
+    private ExecutorService mediaPreparer;
+    private boolean isMediaPreparerShutdown = false;
+    private FrameTap frameTap;
+    // the next media, opened on a player of its own until it is committed
+    private final AtomicReference<NextMedia> nextMedia = new AtomicReference<>();
+    // the descriptor the current media is read from, libvlc only reads it once playback starts so
+    // it is kept open until the player is given another media or stopped for good
+    private final AtomicReference<Closeable> mediaDescriptor = new AtomicReference<>();
+    private PendingCommit pendingCommit;
+    private MotionDetector motionDetector;
 
     // Platform view
     @Override
@@ -55,39 +117,85 @@ final class FlutterVlcPlayer implements PlatformView {
         return textureView;
     }
 
+    // the playback commands run on a background task queue and may block inside libvlc, so the
+    // player is only marked dead here, and released on the media preparer once the command in
+    // flight has returned
     @Override
     public void dispose() {
         if (isDisposed)
             return;
+        isDisposed = true;
         //
+        stopFrameTap();
+        stopMotionDetection();
+        releaseNextMedia();
+        completeCommit(false);
+        final MediaPlayer player = mediaPlayer;
+        if (player != null) {
+            player.setEventListener(null);
+            player.getVLCVout().detachViews();
+        }
         textureView.dispose();
         textureEntry.release();
         mediaEventChannel.setStreamHandler(null);
         rendererEventChannel.setStreamHandler(null);
+        positionUpdateLimiter.cancel();
+        mediaGeneration.incrementAndGet();
+        shutdownMediaPreparer(new Runnable() {
+            @Override
+            public void run() {
+                releaseMediaPlayer();
+            }
+        });
+    }
+
+    private synchronized void releaseMediaPlayer() {
+        // a next media prepared by a command that raced the disposal
+        releaseNextMedia();
         if (mediaPlayer != null) {
             mediaPlayer.stop();
-            mediaPlayer.setEventListener(null);
-            mediaPlayer.getVLCVout().detachViews();
-            mediaPlayer.release();
+            // hand the player back for reuse before giving up our reference to its LibVLC
+            libVLCPool.recycleMediaPlayer(libVLC, mediaPlayer);
             mediaPlayer = null;
         }
+        closeDescriptor(mediaDescriptor.getAndSet(null));
         if (libVLC != null) {
-            libVLC.release();
+            libVLCPool.release(libVLC);
             libVLC = null;
         }
-        isDisposed = true;
     }
 
     // VLC Player
-    FlutterVlcPlayer(int viewId, Context context, BinaryMessenger binaryMessenger, TextureRegistry textureRegistry) {
+    FlutterVlcPlayer(final int viewId, Context context, BinaryMessenger binaryMessenger, TextureRegistry textureRegistry, LibVLCPool libVLCPool, int eventQueueCapacity, QueuingEventSink.OverflowPolicy eventOverflowPolicy, @Nullable final MediaEventBatcher mediaEventBatcher) {
+        this.viewId = viewId;
         this.context = context;
+        this.binaryMessenger = binaryMessenger;
+        this.libVLCPool = libVLCPool;
+        batchedEvents = mediaEventBatcher != null;
+        // the batched events are encoded into new arrays, there is nothing to copy
+        mediaEventSink = new QueuingEventSink(eventQueueCapacity, eventOverflowPolicy, !batchedEvents);
+        // a dropped time update may have carried changes the next delta would not repeat
+        final Runnable resyncOnDrop = new Runnable() {
+            @Override
+            public void run() {
+                handler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        mediaEventDelta.resync();
+                    }
+                });
+            }
+        };
+        mediaEventSink.setOnEventsDropped(resyncOnDrop);
         // event for media
         mediaEventChannel = new EventChannel(binaryMessenger, "flutter_video_plugin/getVideoEvents_" + viewId);
         mediaEventChannel.setStreamHandler(
                 new EventChannel.StreamHandler() {
                     @Override
                     public void onListen(Object o, EventChannel.EventSink sink) {
-                        mediaEventSink.setDelegate(sink);
+                        mediaEventSink.setDelegate(mediaEventBatcher != null ? mediaEventBatcher.sinkFor(viewId, sink, resyncOnDrop) : sink);
+                        // a new listener has no previous state to apply deltas to
+                        mediaEventDelta.resync();
                     }
 
                     @Override
@@ -121,14 +229,76 @@ final class FlutterVlcPlayer implements PlatformView {
     //     return isLocal ? Uri.fromFile(new File(streamPath)) : Uri.parse(streamPath);
     // }
 
-    public void initialize(List<String> options) {
+    /**
+     * Acquires the LibVLC and media player for the given options, which may wait on a pre-warm or
+     * build a new instance, so it runs on the background task queue. The player is then attached
+     * to the view on the main thread, and this returns once it is, so the media set next has its
+     * events listened to.
+     */
+    public void initialize(List<String> options, final boolean binaryEvents, final long maxPositionUpdatesPerSecond, final boolean positionAnchors) {
         this.options = options;
-        libVLC = new LibVLC(context, options);
-        mediaPlayer = new MediaPlayer(libVLC);
-        setupVlcMediaPlayer();
+        final LibVLC acquiredLibVLC = libVLCPool.acquire(context, options);
+        final MediaPlayer acquiredMediaPlayer = libVLCPool.acquireMediaPlayer(acquiredLibVLC);
+        FutureTask<Void> attach = new FutureTask<>(new Callable<Void>() {
+            @Override
+            public Void call() {
+                if (isDisposed) {
+                    // disposed while the instance was acquired, nothing releases them later
+                    libVLCPool.recycleMediaPlayer(acquiredLibVLC, acquiredMediaPlayer);
+                    libVLCPool.release(acquiredLibVLC);
+                    return null;
+                }
+                FlutterVlcPlayer.this.positionAnchors = positionAnchors;
+                positionUpdateLimiter.setMaxUpdatesPerSecond(maxPositionUpdatesPerSecond);
+                if (binaryEvents)
+                    mediaEventEncoder = new BinaryMediaEventEncoder(!batchedEvents);
+                libVLC = acquiredLibVLC;
+                mediaPlayer = acquiredMediaPlayer;
+                setupVlcMediaPlayer();
+                return null;
+            }
+        });
+        if (Looper.myLooper() == Looper.getMainLooper())
+            attach.run();
+        else
+            handler.post(attach);
+        try {
+            attach.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // left to the task when it has already started
+            if (attach.cancel(false)) {
+                libVLCPool.recycleMediaPlayer(acquiredLibVLC, acquiredMediaPlayer);
+                libVLCPool.release(acquiredLibVLC);
+            }
+        }
+    }
+
+    // the informational events, like PositionChanged right before each TimeChanged, leave a
+    // pending time update to its rate limit
+    private static boolean isStateTransition(int eventType) {
+        switch (eventType) {
+            case MediaPlayer.Event.Opening:
+            case MediaPlayer.Event.Playing:
+            case MediaPlayer.Event.Paused:
+            case MediaPlayer.Event.Stopped:
+            case MediaPlayer.Event.EndReached:
+            case MediaPlayer.Event.EncounteredError:
+            case MediaPlayer.Event.MediaChanged:
+            case MediaPlayer.Event.RecordChanged:
+                return true;
+            default:
+                return false;
+        }
     }
 
     private void setupVlcMediaPlayer() {
+        mediaProperties.reset();
+        mediaEventDelta.resync();
+        positionAnchor.reset();
+        trackTable.invalidate();
 
         //
         mediaPlayer.getVLCVout().setWindowSize(textureView.getWidth(), textureView.getHeight());
@@ -141,92 +311,118 @@ final class FlutterVlcPlayer implements PlatformView {
                 new MediaPlayer.EventListener() {
                     @Override
                     public void onEvent(MediaPlayer.Event event) {
-                        HashMap<String, Object> eventObject = new HashMap<>();
-                        //
-                        // Current video track is only available when the media is playing
-                        int height = 0;
-                        int width = 0;
-                        Media.VideoTrack currentVideoTrack = mediaPlayer.getCurrentVideoTrack();
-                        if (currentVideoTrack != null) {
-                            height = currentVideoTrack.height;
-                            width = currentVideoTrack.width;
-                        }
+                        // time updates are rate limited, a state transition must not overtake a
+                        // pending one
+                        if (isStateTransition(event.type))
+                            positionUpdateLimiter.flush();
                         //
                         switch (event.type) {
 
                             case MediaPlayer.Event.Opening:
-                                eventObject.put("event", "opening");
-                                mediaEventSink.success(eventObject);
+                                mediaProperties.isPlaying = false;
+                                mediaEventSink.success(mediaEventEncoder.opening());
                                 break;
 
                             case MediaPlayer.Event.Paused:
-                                eventObject.put("event", "paused");
-                                mediaEventSink.success(eventObject);
+                                mediaProperties.isPlaying = false;
+                                mediaEventSink.success(mediaEventEncoder.paused());
+                                sendPositionAnchor(mediaPlayer.getTime());
                                 break;
 
                             case MediaPlayer.Event.Stopped:
-                                eventObject.put("event", "stopped");
-                                mediaEventSink.success(eventObject);
+                                mediaProperties.isPlaying = false;
+                                mediaEventSink.success(mediaEventEncoder.stopped());
+                                sendPositionAnchor(0);
                                 break;
 
                             case MediaPlayer.Event.Playing:
-                                eventObject.put("event", "playing");
-                                eventObject.put("height", height);
-                                eventObject.put("width", width);
-                                eventObject.put("speed", mediaPlayer.getRate());
-                                eventObject.put("duration", mediaPlayer.getLength());
-                                eventObject.put("audioTracksCount", mediaPlayer.getAudioTracksCount());
-                                eventObject.put("activeAudioTrack", mediaPlayer.getAudioTrack());
-                                eventObject.put("spuTracksCount", mediaPlayer.getSpuTracksCount());
-                                eventObject.put("activeSpuTrack", mediaPlayer.getSpuTrack());
-                                mediaEventSink.success(eventObject.clone());
+                                mediaProperties.isPlaying = true;
+                                mediaProperties.refreshAll(mediaPlayer);
+                                mediaEventDelta.playing(
+                                        mediaProperties.width,
+                                        mediaProperties.height,
+                                        mediaProperties.rate,
+                                        mediaProperties.length,
+                                        mediaProperties.audioTracksCount,
+                                        mediaProperties.audioTrack,
+                                        mediaProperties.spuTracksCount,
+                                        mediaProperties.spuTrack
+                                );
+                                mediaEventSink.success(mediaEventEncoder.playing(
+                                        mediaProperties.width,
+                                        mediaProperties.height,
+                                        mediaProperties.rate,
+                                        mediaProperties.length,
+                                        mediaProperties.audioTracksCount,
+                                        mediaProperties.audioTrack,
+                                        mediaProperties.spuTracksCount,
+                                        mediaProperties.spuTrack
+                                ));
+                                sendPositionAnchor(mediaPlayer.getTime());
                                 break;
 
                             case MediaPlayer.Event.Vout:
+                                if (event.getVoutCount() > 0)
+                                    completeCommit(true);
 //                                mediaPlayer.getVLCVout().setWindowSize(textureView.getWidth(), textureView.getHeight());
+                                mediaProperties.refreshVideoSize(mediaPlayer);
                                 break;
 
                             case MediaPlayer.Event.EndReached:
-                                eventObject.put("event", "ended");
-                                eventObject.put("position", mediaPlayer.getTime());
-                                mediaEventSink.success(eventObject);
+                                mediaProperties.isPlaying = false;
+                                long endPosition = mediaPlayer.getTime();
+                                mediaEventSink.success(mediaEventEncoder.ended(endPosition));
+                                sendPositionAnchor(endPosition);
                                 break;
 
                             case MediaPlayer.Event.Buffering:
+                                boolean wasStalled = lastBuffering < 100f;
+                                lastBuffering = event.getBuffering();
+                                // the position stops advancing while stalled
+                                if (wasStalled != lastBuffering < 100f)
+                                    sendPositionAnchor(mediaPlayer.getTime());
+                                positionUpdateLimiter.submit();
+                                break;
+
                             case MediaPlayer.Event.TimeChanged:
-                                eventObject.put("event", "timeChanged");
-                                eventObject.put("height", height);
-                                eventObject.put("width", width);
-                                eventObject.put("speed", mediaPlayer.getRate());
-                                eventObject.put("position", mediaPlayer.getTime());
-                                eventObject.put("duration", mediaPlayer.getLength());
-                                eventObject.put("buffer", event.getBuffering());
-                                eventObject.put("audioTracksCount", mediaPlayer.getAudioTracksCount());
-                                eventObject.put("activeAudioTrack", mediaPlayer.getAudioTrack());
-                                eventObject.put("spuTracksCount", mediaPlayer.getSpuTracksCount());
-                                eventObject.put("activeSpuTrack", mediaPlayer.getSpuTrack());
-                                eventObject.put("isPlaying", mediaPlayer.isPlaying());
-                                mediaEventSink.success(eventObject);
+                                // once the clock runs every elementary stream is known, so a media
+                                // without video has no first frame left to wait for
+                                if (pendingCommit != null && mediaPlayer.getVideoTracksCount() == 0)
+                                    completeCommit(true);
+                                if (positionAnchors && positionAnchor.hasDrifted(event.getTimeChanged()))
+                                    sendPositionAnchor(event.getTimeChanged());
+                                positionUpdateLimiter.submit();
                                 break;
 
                             case MediaPlayer.Event.EncounteredError:
+                                completeCommit(false);
                                 //mediaEventSink.error("500", "Player State got an error.", null);
-                                eventObject.put("event", "error");
-                                mediaEventSink.success(eventObject);
+                                mediaProperties.isPlaying = false;
+                                mediaEventSink.success(mediaEventEncoder.error());
                                 break;
 
                             case MediaPlayer.Event.RecordChanged:
-                                eventObject.put("event", "recording");
-                                eventObject.put("isRecording", event.getRecording());
-                                eventObject.put("recordPath", event.getRecordPath());
-                                mediaEventSink.success(eventObject);
+                                mediaEventSink.success(mediaEventEncoder.recording(event.getRecording(), event.getRecordPath()));
                                 break;
 
                             case MediaPlayer.Event.LengthChanged:
+                                mediaProperties.refreshLength(mediaPlayer);
+                                break;
+
                             case MediaPlayer.Event.MediaChanged:
+                                mediaProperties.reset();
+                                positionAnchor.reset();
+                                trackTable.invalidate();
+                                break;
+
                             case MediaPlayer.Event.ESAdded:
                             case MediaPlayer.Event.ESDeleted:
                             case MediaPlayer.Event.ESSelected:
+                                mediaProperties.refreshTracks(mediaPlayer);
+                                mediaProperties.refreshVideoSize(mediaPlayer);
+                                trackTable.invalidate();
+                                break;
+
                             case MediaPlayer.Event.PausableChanged:
                             case MediaPlayer.Event.SeekableChanged:
                             case MediaPlayer.Event.PositionChanged:
@@ -238,21 +434,89 @@ final class FlutterVlcPlayer implements PlatformView {
         );
     }
 
-    void play() {
-        if (mediaPlayer != null && !mediaPlayer.isPlaying()) {
-            mediaPlayer.play();
+    private void sendTimeChanged() {
+        if (mediaPlayer == null) return;
+
+        // only the position is read from the player, everything else comes from the cache
+        long position = mediaPlayer.getTime();
+        int changedFields = mediaEventDelta.timeChanged(
+                mediaProperties.width,
+                mediaProperties.height,
+                mediaProperties.rate,
+                position,
+                mediaProperties.length,
+                lastBuffering,
+                mediaProperties.audioTracksCount,
+                mediaProperties.audioTrack,
+                mediaProperties.spuTracksCount,
+                mediaProperties.spuTrack,
+                mediaProperties.isPlaying
+        );
+        if (positionAnchors && changedFields != MediaEventDeltaTracker.ALL) {
+            // the position is extrapolated from the anchors on the Dart side
+            changedFields &= ~MediaEventDeltaTracker.POSITION;
+            if (changedFields == 0)
+                return;
         }
+        mediaEventSink.success(mediaEventEncoder.timeChanged(
+                changedFields,
+                mediaProperties.width,
+                mediaProperties.height,
+                mediaProperties.rate,
+                position,
+                mediaProperties.length,
+                lastBuffering,
+                mediaProperties.audioTracksCount,
+                mediaProperties.audioTrack,
+                mediaProperties.spuTracksCount,
+                mediaProperties.spuTrack,
+                mediaProperties.isPlaying
+        ), TIME_CHANGED_EVENT);
     }
 
-    void pause() {
-        if (mediaPlayer != null && mediaPlayer.isPlaying()) {
-            mediaPlayer.pause();
+    private void sendPositionAnchor(long mediaTime) {
+        if (!positionAnchors) return;
+
+        mediaTime = Math.max(0, mediaTime);
+        float rate = mediaProperties.rate;
+        boolean isPlaying = mediaProperties.isPlaying && lastBuffering >= 100f;
+        long timestampMicros = positionAnchor.set(mediaTime, rate, isPlaying);
+        mediaEventSink.success(mediaEventEncoder.positionAnchor(mediaTime, rate, timestampMicros, isPlaying));
+    }
+
+    /**
+     * Sends a full snapshot of the time update fields right away, for a listener that lost track
+     * of the previous ones.
+     */
+    void resyncMediaEvents() {
+        mediaEventDelta.resync();
+        positionUpdateLimiter.cancel();
+        sendTimeChanged();
+    }
+
+    long getDroppedMediaEventCount() {
+        return mediaEventSink.getDroppedCount();
+    }
+
+    // the commands read the player once, commitNext may swap it while one is running
+    synchronized void play() {
+        final MediaPlayer player = mediaPlayer;
+        if (player != null && !player.isPlaying()) {
+            player.play();
         }
     }
 
-    void stop() {
-        if (mediaPlayer != null) {
-            mediaPlayer.stop();
+    synchronized void pause() {
+        final MediaPlayer player = mediaPlayer;
+        if (player != null && player.isPlaying()) {
+            player.pause();
+        }
+    }
+
+    synchronized void stop() {
+        final MediaPlayer player = mediaPlayer;
+        if (player != null) {
+            player.stop();
         }
     }
 
@@ -266,62 +530,406 @@ final class FlutterVlcPlayer implements PlatformView {
         return mediaPlayer.isSeekable();
     }
 
-    void setStreamUrl(String url, boolean isAssetUrl, boolean autoPlay, long hwAcc) {
-        if (mediaPlayer == null) return;
+    synchronized void setStreamUrl(String url, boolean isAssetUrl, boolean autoPlay, long hwAcc) {
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return;
 
+        // supersedes a media still being prepared
+        mediaGeneration.incrementAndGet();
         try {
-            if (mediaPlayer.isPlaying()) {
-                mediaPlayer.stop();
+            if (player.isPlaying()) {
+                player.stop();
             }
             //
-            Media media;
-            if (isAssetUrl)
-                media = new Media(libVLC, context.getAssets().openFd(url));
-            else if (url.startsWith("content://"))
-                media = new Media(libVLC, context.getContentResolver().openFileDescriptor(Uri.parse(url), "r").getFileDescriptor());
-            else
-                media = new Media(libVLC, Uri.parse(url));
-            final HwAcc hwAccValue = HwAcc.values()[(int) hwAcc];
-            switch (hwAccValue) {
-                case DISABLED:
-                    media.setHWDecoderEnabled(false, false);
-                    break;
-                case DECODING:
-                case FULL:
-                    media.setHWDecoderEnabled(true, true);
-                    break;
+            Closeable descriptor = openDescriptor(url, isAssetUrl);
+            Media media = createMedia(libVLC, url, descriptor, hwAcc);
+            player.setMedia(media);
+            media.release();
+            // the previous media is no longer read once replaced
+            closeDescriptor(mediaDescriptor.getAndSet(descriptor));
+            //
+            if (autoPlay) {
+                player.play();
             }
-            if (hwAccValue == HwAcc.DECODING) {
-                media.addOption(":no-mediacodec-dr");
-                media.addOption(":no-omxil-dr");
+        } catch (IOException e) {
+            log(e.getMessage());
+        }
+    }
+
+    /**
+     * Builds, and optionally parses, the media on a worker thread and returns right away. Once the
+     * media is set on the player a prepared event carrying its duration and tracks is sent, before
+     * playback starts if {@code autoPlay} is set. A later call supersedes a media still being
+     * prepared.
+     */
+    synchronized void setStreamUrlAsync(final String url, final boolean isAssetUrl, final boolean autoPlay, final long hwAcc, final boolean parse) {
+        if (isDisposed || mediaPlayer == null) return;
+
+        final int generation = mediaGeneration.incrementAndGet();
+        runOnMediaPreparer(new Runnable() {
+            @Override
+            public void run() {
+                prepareMedia(generation, url, isAssetUrl, autoPlay, hwAcc, parse);
+            }
+        });
+    }
+
+    private void prepareMedia(int generation, String url, boolean isAssetUrl, boolean autoPlay, long hwAcc, boolean parse) {
+        final LibVLC libVLC;
+        synchronized (this) {
+            libVLC = this.libVLC;
+            // keeps the instance alive should the player be disposed while the media is built
+            if (libVLC == null || generation != mediaGeneration.get() || !libVLC.retain())
+                return;
+        }
+        Closeable descriptor = null;
+        try {
+            Media media;
+            try {
+                descriptor = openDescriptor(url, isAssetUrl);
+                media = createMedia(libVLC, url, descriptor, hwAcc);
+            } catch (IOException e) {
+                log(e.getMessage());
+                if (generation == mediaGeneration.get()) {
+                    handler.post(new Runnable() {
+                        @Override
+                        public void run() {
+                            mediaEventSink.success(mediaEventEncoder.error());
+                        }
+                    });
+                }
+                return;
             }
-            if (options != null) {
-                for (String option : options)
-                    media.addOption(option);
+            if (parse)
+                media.parse(IMedia.Parse.ParseNetwork);
+            //
+            // unknown values are left at 0 when the media is not parsed
+            final long duration = Math.max(0, media.getDuration());
+            int width = 0;
+            int height = 0;
+            int audioTracksCount = 0;
+            int spuTracksCount = 0;
+            int videoTracksCount = 0;
+            int trackCount = media.getTrackCount();
+            for (int i = 0; i < trackCount; i++) {
+                IMedia.Track track = media.getTrack(i);
+                if (track == null) continue;
+                switch (track.type) {
+                    case IMedia.Track.Type.Audio:
+                        audioTracksCount++;
+                        break;
+                    case IMedia.Track.Type.Text:
+                        spuTracksCount++;
+                        break;
+                    case IMedia.Track.Type.Video:
+                        if (videoTracksCount++ == 0 && track instanceof IMedia.VideoTrack) {
+                            width = ((IMedia.VideoTrack) track).width;
+                            height = ((IMedia.VideoTrack) track).height;
+                        }
+                        break;
+                    default:
+                        break;
+                }
             }
-            mediaPlayer.setMedia(media);
-            media.release();
             //
-            if (autoPlay) {
-                mediaPlayer.play();
+            synchronized (this) {
+                final MediaPlayer player = mediaPlayer;
+                if (player == null || generation != mediaGeneration.get()) {
+                    media.release();
+                    return;
+                }
+                if (player.isPlaying()) {
+                    player.stop();
+                }
+                player.setMedia(media);
+                media.release();
+                // the previous media is no longer read once replaced
+                closeDescriptor(mediaDescriptor.getAndSet(descriptor));
+                descriptor = null;
+                final int preparedWidth = width;
+                final int preparedHeight = height;
+                final int preparedAudioTracksCount = audioTracksCount;
+                final int preparedSpuTracksCount = spuTracksCount;
+                final int preparedVideoTracksCount = videoTracksCount;
+                // the encoders are only used on the main thread, the event is posted ahead of the
+                // ones playback will trigger
+                handler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        mediaEventSink.success(mediaEventEncoder.prepared(
+                                duration,
+                                preparedWidth,
+                                preparedHeight,
+                                preparedAudioTracksCount,
+                                preparedSpuTracksCount,
+                                preparedVideoTracksCount
+                        ));
+                    }
+                });
+                if (autoPlay) {
+                    player.play();
+                }
+            }
+        } finally {
+            // left over when the media was superseded or could not be built
+            closeDescriptor(descriptor);
+            libVLC.release();
+        }
+    }
+
+    // runs right away on the calling thread once the preparer is shut down, which only a
+    // background command racing the disposal can come across
+    private void runOnMediaPreparer(Runnable task) {
+        synchronized (mediaPreparerLock) {
+            if (!isMediaPreparerShutdown) {
+                if (mediaPreparer == null) {
+                    mediaPreparer = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                        @Override
+                        public Thread newThread(Runnable runnable) {
+                            return new Thread(runnable, "VlcMediaPreparer");
+                        }
+                    });
+                }
+                mediaPreparer.execute(task);
+                return;
+            }
+        }
+        task.run();
+    }
+
+    // the last task runs once the ones already queued are done
+    private void shutdownMediaPreparer(Runnable lastTask) {
+        runOnMediaPreparer(lastTask);
+        synchronized (mediaPreparerLock) {
+            isMediaPreparerShutdown = true;
+            if (mediaPreparer != null) {
+                mediaPreparer.shutdown();
+                mediaPreparer = null;
             }
+        }
+    }
+
+    /**
+     * Opens the next media on a standby player sharing this player's LibVLC, so it is already
+     * demuxed and buffered when {@link #commitNext} swaps it onto the view. It is opened paused
+     * and muted, without a surface. Replaces a next media that was not committed.
+     */
+    synchronized void prepareNext(String url, boolean isAssetUrl, boolean autoPlay, long hwAcc) throws IOException {
+        if (isDisposed || mediaPlayer == null) return;
+
+        releaseNextMedia();
+        Closeable descriptor = openDescriptor(url, isAssetUrl);
+        Media media = createMedia(libVLC, url, descriptor, hwAcc);
+        media.addOption(":start-paused");
+        MediaPlayer next = libVLCPool.acquireMediaPlayer(libVLC);
+        next.setMedia(media);
+        media.release();
+        next.setVolume(0);
+        next.play();
+        nextMedia.set(new NextMedia(next, descriptor, autoPlay));
+    }
+
+    /**
+     * Swaps the prepared next media onto the view, in place of the current one, and completes
+     * {@code result} once its first frame is out, or its playback started for a media without
+     * video. The current player is stopped and recycled off the main thread. Must be called on
+     * the main thread, it does not wait for a command in flight on the background queue.
+     */
+    void commitNext(Messages.Result<Messages.CommitNextResultMessage> result) {
+        long start = System.nanoTime();
+        final NextMedia next = isDisposed || mediaPlayer == null ? null : nextMedia.getAndSet(null);
+        if (next == null) {
+            result.error(new Messages.FlutterError("no_next_media", "No next media was prepared", null));
+            return;
+        }
+        // a commit still waiting for its first frame is superseded
+        completeCommit(false);
+        // supersedes a media still being prepared
+        mediaGeneration.incrementAndGet();
+        positionUpdateLimiter.cancel();
+
+        final MediaPlayer previous = mediaPlayer;
+        previous.setEventListener(null);
+        previous.getVLCVout().detachViews();
+        retireMediaPlayer(previous, mediaDescriptor.getAndSet(next.descriptor));
+
+        mediaPlayer = next.player;
+        setupVlcMediaPlayer();
+        // read once the player is swapped, see setVolume
+        mediaPlayer.setVolume(volume);
+        pendingCommit = new PendingCommit(result, start, System.nanoTime() - start);
+        handler.postDelayed(pendingCommit, NEXT_MEDIA_FIRST_FRAME_TIMEOUT_MS);
+        if (next.autoPlay) {
+            mediaPlayer.play();
+        } else {
+            // a paused input need not render a frame into the new surface, so the switch is done
+            // as soon as the player is attached
+            completeCommit(true);
+        }
+    }
+
+    void cancelNext() {
+        releaseNextMedia();
+    }
+
+    private void releaseNextMedia() {
+        NextMedia next = nextMedia.getAndSet(null);
+        if (next == null) return;
+
+        next.player.setEventListener(null);
+        // it was muted while on standby, it must not go back to the pool that way
+        next.player.setVolume(LibVLCPool.DEFAULT_VOLUME);
+        retireMediaPlayer(next.player, next.descriptor);
+    }
+
+    /**
+     * Stops a player that is no longer attached to the view and hands it back to the pool, off
+     * the main thread since stopping blocks until its threads are joined. A command still using
+     * the player is let return first. The descriptor its media is read from is closed once it is
+     * stopped.
+     */
+    private void retireMediaPlayer(final MediaPlayer retired, @Nullable final Closeable descriptor) {
+        final LibVLC libVLC = this.libVLC;
+        // keeps the instance alive should the player be disposed in the meantime
+        if (libVLC == null || !libVLC.retain()) {
+            retired.release();
+            closeDescriptor(descriptor);
+            return;
+        }
+        runOnMediaPreparer(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    // waits out a command that read the player before it was swapped
+                    synchronized (FlutterVlcPlayer.this) {
+                    }
+                    retired.stop();
+                    closeDescriptor(descriptor);
+                    libVLCPool.recycleMediaPlayer(libVLC, retired);
+                } finally {
+                    libVLC.release();
+                }
+            }
+        });
+    }
+
+    private void completeCommit(boolean success) {
+        if (pendingCommit == null) return;
+
+        PendingCommit commit = pendingCommit;
+        pendingCommit = null;
+        handler.removeCallbacks(commit);
+        var message = new Messages.CommitNextResultMessage();
+        message.setSwapMicros(commit.swapNanos / NANOS_PER_MICRO);
+        message.setFirstFrameMicros((System.nanoTime() - commit.startNanos) / NANOS_PER_MICRO);
+        message.setSuccess(success);
+        commit.result.success(message);
+    }
+
+    private static final class NextMedia {
+        final MediaPlayer player;
+        @Nullable
+        final Closeable descriptor;
+        final boolean autoPlay;
+
+        NextMedia(MediaPlayer player, @Nullable Closeable descriptor, boolean autoPlay) {
+            this.player = player;
+            this.descriptor = descriptor;
+            this.autoPlay = autoPlay;
+        }
+    }
+
+    private final class PendingCommit implements Runnable {
+        final Messages.Result<Messages.CommitNextResultMessage> result;
+        final long startNanos;
+        final long swapNanos;
+
+        PendingCommit(Messages.Result<Messages.CommitNextResultMessage> result, long startNanos, long swapNanos) {
+            this.result = result;
+            this.startNanos = startNanos;
+            this.swapNanos = swapNanos;
+        }
+
+        // the first frame never came out
+        @Override
+        public void run() {
+            if (pendingCommit == this)
+                completeCommit(false);
+        }
+    }
+
+    /**
+     * Opens the descriptor an asset or content:// media is read from, null for any other url. The
+     * caller owns it, and closes it once no player reads the media anymore.
+     */
+    @Nullable
+    private Closeable openDescriptor(String url, boolean isAssetUrl) throws IOException {
+        if (isAssetUrl)
+            return context.getAssets().openFd(url);
+        if (!url.startsWith("content://"))
+            return null;
+        ParcelFileDescriptor descriptor = context.getContentResolver().openFileDescriptor(Uri.parse(url), "r");
+        if (descriptor == null)
+            throw new IOException("Cannot open " + url);
+        return descriptor;
+    }
+
+    private void closeDescriptor(@Nullable Closeable descriptor) {
+        if (descriptor == null)
+            return;
+        try {
+            descriptor.close();
         } catch (IOException e) {
             log(e.getMessage());
         }
     }
 
-    void setLooping(boolean value) {
-        if (mediaPlayer != null) {
-            if (mediaPlayer.getMedia() != null)
-                mediaPlayer.getMedia().addOption(value ? "--loop" : "--no-loop");
+    private Media createMedia(LibVLC libVLC, String url, @Nullable Closeable descriptor, long hwAcc) {
+        Media media;
+        if (descriptor instanceof AssetFileDescriptor)
+            media = new Media(libVLC, (AssetFileDescriptor) descriptor);
+        else if (descriptor instanceof ParcelFileDescriptor)
+            media = new Media(libVLC, ((ParcelFileDescriptor) descriptor).getFileDescriptor());
+        else
+            media = new Media(libVLC, Uri.parse(url));
+        final HwAcc hwAccValue = HwAcc.values()[(int) hwAcc];
+        switch (hwAccValue) {
+            case DISABLED:
+                media.setHWDecoderEnabled(false, false);
+                break;
+            case DECODING:
+            case FULL:
+                media.setHWDecoderEnabled(true, true);
+                break;
+        }
+        if (hwAccValue == HwAcc.DECODING) {
+            media.addOption(":no-mediacodec-dr");
+            media.addOption(":no-omxil-dr");
+        }
+        List<String> options = this.options;
+        if (options != null) {
+            for (String option : options)
+                media.addOption(option);
         }
+        return media;
     }
 
-    void setVolume(long value) {
-        if (mediaPlayer == null) return;
+    synchronized void setLooping(boolean value) {
+        final MediaPlayer player = mediaPlayer;
+        if (player != null) {
+            if (player.getMedia() != null)
+                player.getMedia().addOption(value ? "--loop" : "--no-loop");
+        }
+    }
 
-        long bracketedValue = Math.max(0, Math.min(100, value));
-        mediaPlayer.setVolume((int) bracketedValue);
+    synchronized void setVolume(long value) {
+        // recorded before the player is read, so a player committed meanwhile gets it either way
+        int bracketedValue = (int) Math.max(0, Math.min(100, value));
+        volume = bracketedValue;
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return;
+
+        player.setVolume(bracketedValue);
     }
 
     int getVolume() {
@@ -330,10 +938,21 @@ final class FlutterVlcPlayer implements PlatformView {
         return mediaPlayer.getVolume();
     }
 
-    void setPlaybackSpeed(double value) {
-        if (mediaPlayer == null) return;
+    synchronized void setPlaybackSpeed(double value) {
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return;
+
+        player.setRate((float) value);
+        // the event state is only touched on the main thread
+        handler.post(new Runnable() {
+            @Override
+            public void run() {
+                if (mediaPlayer == null) return;
 
-        mediaPlayer.setRate((float) value);
+                mediaProperties.refreshRate(mediaPlayer);
+                sendPositionAnchor(mediaPlayer.getTime());
+            }
+        });
     }
 
     float getPlaybackSpeed() {
@@ -342,10 +961,17 @@ final class FlutterVlcPlayer implements PlatformView {
         return mediaPlayer.getRate();
     }
 
-    void seekTo(long location) {
-        if (mediaPlayer == null) return;
+    synchronized void seekTo(final long location) {
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return;
 
-        mediaPlayer.setTime(location);
+        player.setTime(location);
+        handler.post(new Runnable() {
+            @Override
+            public void run() {
+                sendPositionAnchor(location);
+            }
+        });
     }
 
     long getPosition() {
@@ -366,23 +992,17 @@ final class FlutterVlcPlayer implements PlatformView {
         return mediaPlayer.getSpuTracksCount();
     }
 
-    HashMap<Integer, String> getSpuTracks() {
-        if (mediaPlayer == null) return new HashMap<Integer, String>();
+    Map<Long, String> getSpuTracks() {
+        if (mediaPlayer == null) return new HashMap<Long, String>();
 
-        MediaPlayer.TrackDescription[] spuTracks = mediaPlayer.getSpuTracks();
-        HashMap<Integer, String> subtitles = new HashMap<>();
-        if (spuTracks != null)
-            for (MediaPlayer.TrackDescription trackDescription : spuTracks) {
-                if (trackDescription.id >= 0)
-                    subtitles.put(trackDescription.id, trackDescription.name);
-            }
-        return subtitles;
+        return trackTable.getSpuTracks(mediaPlayer);
     }
 
-    void setSpuTrack(int index) {
-        if (mediaPlayer == null) return;
+    synchronized void setSpuTrack(int index) {
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return;
 
-        mediaPlayer.setSpuTrack(index);
+        player.setSpuTrack(index);
     }
 
     int getSpuTrack() {
@@ -391,10 +1011,11 @@ final class FlutterVlcPlayer implements PlatformView {
         return mediaPlayer.getSpuTrack();
     }
 
-    void setSpuDelay(long delay) {
-        if (mediaPlayer == null) return;
+    synchronized void setSpuDelay(long delay) {
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return;
 
-        mediaPlayer.setSpuDelay(delay);
+        player.setSpuDelay(delay);
     }
 
     long getSpuDelay() {
@@ -403,10 +1024,11 @@ final class FlutterVlcPlayer implements PlatformView {
         return mediaPlayer.getSpuDelay();
     }
 
-    void addSubtitleTrack(String url, boolean isSelected) {
-        if (mediaPlayer == null) return;
+    synchronized void addSubtitleTrack(String url, boolean isSelected) {
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return;
 
-        mediaPlayer.addSlave(Media.Slave.Type.Subtitle, Uri.parse(url), isSelected);
+        player.addSlave(Media.Slave.Type.Subtitle, Uri.parse(url), isSelected);
     }
 
     int getAudioTracksCount() {
@@ -415,23 +1037,17 @@ final class FlutterVlcPlayer implements PlatformView {
         return mediaPlayer.getAudioTracksCount();
     }
 
-    HashMap<Integer, String> getAudioTracks() {
-        if (mediaPlayer == null) return new HashMap<Integer, String>();
+    Map<Long, String> getAudioTracks() {
+        if (mediaPlayer == null) return new HashMap<Long, String>();
 
-        MediaPlayer.TrackDescription[] audioTracks = mediaPlayer.getAudioTracks();
-        HashMap<Integer, String> audios = new HashMap<>();
-        if (audioTracks != null)
-            for (MediaPlayer.TrackDescription trackDescription : audioTracks) {
-                if (trackDescription.id >= 0)
-                    audios.put(trackDescription.id, trackDescription.name);
-            }
-        return audios;
+        return trackTable.getAudioTracks(mediaPlayer);
     }
 
-    void setAudioTrack(int index) {
-        if (mediaPlayer == null) return;
+    synchronized void setAudioTrack(int index) {
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return;
 
-        mediaPlayer.setAudioTrack(index);
+        player.setAudioTrack(index);
     }
 
     int getAudioTrack() {
@@ -440,10 +1056,11 @@ final class FlutterVlcPlayer implements PlatformView {
         return mediaPlayer.getAudioTrack();
     }
 
-    void setAudioDelay(long delay) {
-        if (mediaPlayer == null) return;
+    synchronized void setAudioDelay(long delay) {
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return;
 
-        mediaPlayer.setAudioDelay(delay);
+        player.setAudioDelay(delay);
     }
 
     long getAudioDelay() {
@@ -452,10 +1069,11 @@ final class FlutterVlcPlayer implements PlatformView {
         return mediaPlayer.getAudioDelay();
     }
 
-    void addAudioTrack(String url, boolean isSelected) {
-        if (mediaPlayer == null) return;
+    synchronized void addAudioTrack(String url, boolean isSelected) {
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return;
 
-        mediaPlayer.addSlave(Media.Slave.Type.Audio, Uri.parse(url), isSelected);
+        player.addSlave(Media.Slave.Type.Audio, Uri.parse(url), isSelected);
     }
 
     int getVideoTracksCount() {
@@ -464,23 +1082,23 @@ final class FlutterVlcPlayer implements PlatformView {
         return mediaPlayer.getVideoTracksCount();
     }
 
-    HashMap<Integer, String> getVideoTracks() {
-        if (mediaPlayer == null) return new HashMap<Integer, String>();
+    Map<Long, String> getVideoTracks() {
+        if (mediaPlayer == null) return new HashMap<Long, String>();
 
-        MediaPlayer.TrackDescription[] videoTracks = mediaPlayer.getVideoTracks();
-        HashMap<Integer, String> videos = new HashMap<>();
-        if (videoTracks != null)
-            for (MediaPlayer.TrackDescription trackDescription : videoTracks) {
-                if (trackDescription.id >= 0)
-                    videos.put(trackDescription.id, trackDescription.name);
-            }
-        return videos;
+        return trackTable.getVideoTracks(mediaPlayer);
     }
 
-    void setVideoTrack(int index) {
-        if (mediaPlayer == null) return;
+    synchronized void setVideoTrack(int index) {
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return;
 
-        mediaPlayer.setVideoTrack(index);
+        player.setVideoTrack(index);
+    }
+
+    List<Messages.TrackMessage> getAllTracks() {
+        if (mediaPlayer == null) return new ArrayList<Messages.TrackMessage>();
+
+        return trackTable.getAllTracks(mediaPlayer);
     }
 
     int getVideoTrack() {
@@ -489,10 +1107,11 @@ final class FlutterVlcPlayer implements PlatformView {
         return mediaPlayer.getVideoTrack();
     }
 
-    void setVideoScale(float scale) {
-        if (mediaPlayer == null) return;
+    synchronized void setVideoScale(float scale) {
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return;
 
-        mediaPlayer.setScale(scale);
+        player.setScale(scale);
     }
 
     float getVideoScale() {
@@ -501,10 +1120,11 @@ final class FlutterVlcPlayer implements PlatformView {
         return mediaPlayer.getScale();
     }
 
-    void setVideoAspectRatio(String aspectRatio) {
-        if (mediaPlayer == null) return;
+    synchronized void setVideoAspectRatio(String aspectRatio) {
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return;
 
-        mediaPlayer.setAspectRatio(aspectRatio);
+        player.setAspectRatio(aspectRatio);
     }
 
     String getVideoAspectRatio() {
@@ -513,6 +1133,30 @@ final class FlutterVlcPlayer implements PlatformView {
         return mediaPlayer.getAspectRatio();
     }
 
+    /**
+     * Assembles the values of the individual getters in a single message, so a caller needs only
+     * one round trip to refresh all of them.
+     */
+    Messages.PlayerStateMessage getState(long playerId) {
+        var state = new Messages.PlayerStateMessage();
+        state.setPlayerId(playerId);
+        state.setIsPlaying(isPlaying());
+        state.setIsSeekable(isSeekable());
+        state.setPosition(getPosition());
+        state.setDuration(getDuration());
+        state.setVolume((long) getVolume());
+        state.setPlaybackSpeed((double) getPlaybackSpeed());
+        state.setAudioTrack((long) getAudioTrack());
+        state.setAudioDelay(getAudioDelay());
+        state.setSpuTrack((long) getSpuTrack());
+        state.setSpuDelay(getSpuDelay());
+        state.setVideoTrack((long) getVideoTrack());
+        state.setVideoScale((double) getVideoScale());
+        String videoAspectRatio = getVideoAspectRatio();
+        state.setVideoAspectRatio(videoAspectRatio != null ? videoAspectRatio : "");
+        return state;
+    }
+
     void startRendererScanning(String rendererService) {
         if (libVLC == null) return;
 
@@ -633,7 +1277,7 @@ final class FlutterVlcPlayer implements PlatformView {
     String getSnapshot() {
         if (textureView == null) return null;
 
-        Bitmap bitmap = textureView.getBitmap();
+        Bitmap bitmap = getTextureBitmap(0, 0);
         if (bitmap == null) return null;
 
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
@@ -641,13 +1285,201 @@ final class FlutterVlcPlayer implements PlatformView {
         return Base64.encodeToString(outputStream.toByteArray(), Base64.NO_WRAP);
     }
 
-    Boolean startRecording(String directory) {
-        return mediaPlayer.record(directory);
+    /**
+     * Returns the current frame encoded in the given format, scaled down to fit within
+     * {@code maxWidth} x {@code maxHeight} when they are positive.
+     */
+    @Nullable
+    byte[] getSnapshotBytes(SnapshotFormat format, int quality, int maxWidth, int maxHeight) {
+        if (textureView == null) return null;
+
+        Bitmap bitmap = getTextureBitmap(maxWidth, maxHeight);
+        if (bitmap == null) return null;
+
+        try {
+            // about the size of a high quality JPEG, so the buffer rarely has to grow
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bitmap.getWidth() * bitmap.getHeight() / 4);
+            bitmap.compress(getCompressFormat(format), Math.max(0, Math.min(100, quality)), outputStream);
+            return outputStream.toByteArray();
+        } finally {
+            bitmap.recycle();
+        }
+    }
+
+    /**
+     * Encodes the current frame like {@link #getSnapshotBytes} straight into the file at
+     * {@code path}, replacing it. Returns false if there is no frame to take.
+     */
+    boolean writeSnapshot(SnapshotFormat format, int quality, int maxWidth, int maxHeight, String path) throws IOException {
+        if (textureView == null) return false;
+
+        Bitmap bitmap = getTextureBitmap(maxWidth, maxHeight);
+        if (bitmap == null) return false;
+
+        File file = new File(path);
+        try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(file))) {
+            if (!bitmap.compress(getCompressFormat(format), Math.max(0, Math.min(100, quality)), outputStream))
+                throw new IOException("Could not encode the snapshot");
+            return true;
+        } catch (IOException e) {
+            // leave no partial file behind
+            file.delete();
+            throw e;
+        } finally {
+            bitmap.recycle();
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    static Bitmap.CompressFormat getCompressFormat(SnapshotFormat format) {
+        switch (format) {
+            case PNG:
+                return Bitmap.CompressFormat.PNG;
+            case WEBP:
+                return Build.VERSION.SDK_INT >= Build.VERSION_CODES.R ? Bitmap.CompressFormat.WEBP_LOSSY : Bitmap.CompressFormat.WEBP;
+            case JPEG:
+            default:
+                return Bitmap.CompressFormat.JPEG;
+        }
+    }
+
+    synchronized Boolean startRecording(String directory) {
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return false;
+        return player.record(directory);
+    }
+
+    synchronized Boolean stopRecording() {
+        final MediaPlayer player = mediaPlayer;
+        if (player == null) return true;
+        return player.record(null);
+    }
+
+    /**
+     * Reads the texture view's bitmap on the main thread, where the view lives, so the caller can
+     * encode it on its own thread. A positive {@code maxWidth} or {@code maxHeight} has the view
+     * render straight into a smaller bitmap, keeping the aspect ratio, instead of scaling a full
+     * size copy afterwards.
+     */
+    @Nullable
+    private Bitmap getTextureBitmap(final int maxWidth, final int maxHeight) {
+        if (Looper.myLooper() == Looper.getMainLooper())
+            return readTextureBitmap(maxWidth, maxHeight);
+
+        FutureTask<Bitmap> task = new FutureTask<>(new Callable<Bitmap>() {
+            @Override
+            public Bitmap call() {
+                return readTextureBitmap(maxWidth, maxHeight);
+            }
+        });
+        handler.post(task);
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            log(e.getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    @Nullable
+    private Bitmap readTextureBitmap(int maxWidth, int maxHeight) {
+        if (isDisposed) return null;
+
+        int width = textureView.getWidth();
+        int height = textureView.getHeight();
+        float scale = getSnapshotScale(width, height, maxWidth, maxHeight);
+        if (scale >= 1)
+            return textureView.getBitmap();
+        return textureView.getBitmap(Math.max(1, Math.round(width * scale)), Math.max(1, Math.round(height * scale)));
+    }
+
+    /**
+     * Draws the current frame into a bitmap from {@code pool}, sized to fit within
+     * {@code maxWidth} x {@code maxHeight} when they are positive, for the caller to release back
+     * once encoded. Must be called on the main thread. Returns null if there is no frame.
+     */
+    @Nullable
+    Bitmap readSnapshot(BitmapPool pool, int maxWidth, int maxHeight) {
+        if (isDisposed || textureView == null || !textureView.isAvailable()) return null;
+
+        int width = textureView.getWidth();
+        int height = textureView.getHeight();
+        if (width <= 0 || height <= 0) return null;
+
+        float scale = Math.min(1, getSnapshotScale(width, height, maxWidth, maxHeight));
+        Bitmap bitmap = pool.acquire(Math.max(1, Math.round(width * scale)), Math.max(1, Math.round(height * scale)));
+        // the view scales the frame into the bitmap's size
+        return textureView.getBitmap(bitmap);
+    }
+
+    /**
+     * Draws the current frame into {@code reuse} if it already has the size fitting within
+     * {@code maxWidth} x {@code maxHeight}, otherwise into a new bitmap, recycling {@code reuse}.
+     * Must be called on the main thread. Returns null if there is no frame.
+     */
+    @Nullable
+    Bitmap readFrame(@Nullable Bitmap reuse, int maxWidth, int maxHeight) {
+        if (isDisposed || textureView == null || !textureView.isAvailable()) return null;
+
+        int width = textureView.getWidth();
+        int height = textureView.getHeight();
+        if (width <= 0 || height <= 0) return null;
+
+        float scale = Math.min(1, getSnapshotScale(width, height, maxWidth, maxHeight));
+        int frameWidth = Math.max(1, Math.round(width * scale));
+        int frameHeight = Math.max(1, Math.round(height * scale));
+        if (reuse == null || reuse.getWidth() != frameWidth || reuse.getHeight() != frameHeight) {
+            if (reuse != null)
+                reuse.recycle();
+            reuse = Bitmap.createBitmap(frameWidth, frameHeight, Bitmap.Config.ARGB_8888);
+        }
+        return textureView.getBitmap(reuse);
+    }
+
+    /**
+     * Starts sending sampled frames on the player's frame channel, or applies the new settings if
+     * already started. Must be called on the main thread.
+     */
+    void startFrameTap(double fps, FrameFormat format, int quality, int maxWidth, int maxHeight, int bufferCount) {
+        if (isDisposed) return;
+        if (frameTap == null)
+            frameTap = new FrameTap(binaryMessenger, viewId, this);
+        frameTap.start(fps, format, quality, maxWidth, maxHeight, bufferCount);
+    }
+
+    void stopFrameTap() {
+        if (frameTap == null) return;
+        frameTap.stop();
+        frameTap = null;
+    }
+
+    /**
+     * Starts sending motion events on the player's motion channel, or applies the new settings if
+     * already started. Must be called on the main thread.
+     */
+    void startMotionDetection(double fps, int width, int height, double threshold, int pixelThreshold, double cpuBudget) {
+        if (isDisposed) return;
+        if (motionDetector == null)
+            motionDetector = new MotionDetector(binaryMessenger, viewId, this);
+        motionDetector.start(fps, width, height, threshold, pixelThreshold, cpuBudget);
+    }
+
+    void stopMotionDetection() {
+        if (motionDetector == null) return;
+        motionDetector.stop();
+        motionDetector = null;
     }
 
-    Boolean stopRecording() {
-        if (mediaPlayer == null) return true;
-        return mediaPlayer.record(null);
+    private static float getSnapshotScale(int width, int height, int maxWidth, int maxHeight) {
+        float scale = 1;
+        if (maxWidth > 0 && width > maxWidth)
+            scale = Math.min(scale, (float) maxWidth / width);
+        if (maxHeight > 0 && height > maxHeight)
+            scale = Math.min(scale, (float) maxHeight / height);
+        return scale;
     }
 
     private void log(String message) {
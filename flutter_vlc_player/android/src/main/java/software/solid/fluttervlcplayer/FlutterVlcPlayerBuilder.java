@@ -1,58 +1,203 @@
 package software.solid.fluttervlcplayer;
 
 import android.content.Context;
-import android.util.LongSparseArray;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import io.flutter.plugin.common.BinaryMessenger;
 import io.flutter.view.TextureRegistry;
 import software.solid.fluttervlcplayer.Enums.DataSourceType;
+import software.solid.fluttervlcplayer.Enums.FrameFormat;
 import software.solid.fluttervlcplayer.Enums.HwAcc;
-
+import software.solid.fluttervlcplayer.Enums.PlayerCommandType;
+import software.solid.fluttervlcplayer.Enums.SnapshotFormat;
+
+/**
+ * Handles the {@link Messages.VlcPlayerApi} calls. Creation and the playback commands are received
+ * on a serial background task queue, so acquiring a LibVLC or a blocking command does not stall
+ * the platform thread, while disposal and the getters stay on the platform thread. The players
+ * are looked up from both threads.
+ */
 public class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
 
-    private final LongSparseArray<FlutterVlcPlayer> vlcPlayers = new LongSparseArray<>();
-    private FlutterVlcPlayerFactory.KeyForAssetFn keyForAsset;
-    private FlutterVlcPlayerFactory.KeyForAssetAndPackageName keyForAssetAndPackageName;
+    static final int DEFAULT_MAX_IDLE_MEDIA_PLAYERS = 4;
+    static final int DEFAULT_MEDIA_PLAYER_IDLE_TIMEOUT_MS = 30000;
+    static final QueuingEventSink.OverflowPolicy DEFAULT_EVENT_OVERFLOW_POLICY = QueuingEventSink.OverflowPolicy.COALESCE;
+    static final String THUMBNAIL_CACHE_DIRECTORY = "flutter_vlc_player_thumbnails";
+
+    private final ConcurrentLongMap<FlutterVlcPlayer> vlcPlayers = new ConcurrentLongMap<>();
+    private final LibVLCPool libVLCPool = new LibVLCPool(DEFAULT_MAX_IDLE_MEDIA_PLAYERS, DEFAULT_MEDIA_PLAYER_IDLE_TIMEOUT_MS);
+    private int eventQueueCapacity = QueuingEventSink.DEFAULT_CAPACITY;
+    private QueuingEventSink.OverflowPolicy eventOverflowPolicy = DEFAULT_EVENT_OVERFLOW_POLICY;
+    private boolean batchedEvents = false;
+    private MediaEventBatcher mediaEventBatcher;
+    // also read from the background task queue
+    private volatile ApiMetrics apiMetrics;
+    private final SnapshotPipeline snapshotPipeline = new SnapshotPipeline();
+    private Context applicationContext;
+    private int thumbnailWorkers = ThumbnailExtractor.DEFAULT_WORKERS;
+    private long thumbnailCacheBytes = ThumbnailCache.DEFAULT_MAX_BYTES;
+    private volatile ThumbnailCache thumbnailCache;
+    private ThumbnailExtractor thumbnailExtractor;
+    private volatile FlutterVlcPlayerFactory.KeyForAssetFn keyForAsset;
+    private volatile FlutterVlcPlayerFactory.KeyForAssetAndPackageName keyForAssetAndPackageName;
 
     void startListening(BinaryMessenger messenger) {
-        Messages.VlcPlayerApi.setUp(messenger, this);
+        // registered even when not batching, the Dart side always listens to it
+        mediaEventBatcher = new MediaEventBatcher(messenger, eventQueueCapacity, eventOverflowPolicy);
+        if (applicationContext != null) {
+            if (thumbnailCache == null && thumbnailCacheBytes > 0)
+                thumbnailCache = new ThumbnailCache(new File(applicationContext.getCacheDir(), THUMBNAIL_CACHE_DIRECTORY), thumbnailCacheBytes, ThumbnailCache.DEFAULT_MEMORY_MAX_BYTES);
+            thumbnailExtractor = new ThumbnailExtractor(applicationContext, messenger, libVLCPool, thumbnailWorkers, thumbnailCache);
+        }
+        // set up last, the background task queue may receive calls right away. The calls are only
+        // timed when asked for, the proxy costs a reflective call each
+        Messages.VlcPlayerApi.setUp(messenger, apiMetrics != null ? apiMetrics.instrument(this) : this);
     }
 
     void stopListening(BinaryMessenger messenger) {
 //        disposeAllPlayers();
         Messages.VlcPlayerApi.setUp(messenger, null);
+        libVLCPool.cancelPrewarms();
+        snapshotPipeline.shutdown();
+        if (thumbnailExtractor != null) {
+            thumbnailExtractor.dispose();
+            thumbnailExtractor = null;
+        }
+        if (mediaEventBatcher != null) {
+            mediaEventBatcher.dispose();
+            mediaEventBatcher = null;
+        }
+    }
+
+    void prewarm(Context context, boolean withMediaPlayer) {
+        // players created without options pick up the pre-warmed instance
+        libVLCPool.prewarm(context, new ArrayList<>(), withMediaPlayer);
     }
 
     FlutterVlcPlayer build(int viewId, Context context, BinaryMessenger binaryMessenger, TextureRegistry textureRegistry, FlutterVlcPlayerFactory.KeyForAssetFn keyForAsset, FlutterVlcPlayerFactory.KeyForAssetAndPackageName keyForAssetAndPackageName) {
         this.keyForAsset = keyForAsset;
         this.keyForAssetAndPackageName = keyForAssetAndPackageName;
         // only create view for player and attach channel events
-        FlutterVlcPlayer vlcPlayer = new FlutterVlcPlayer(viewId, context, binaryMessenger, textureRegistry);
-        vlcPlayers.append(viewId, vlcPlayer);
+        FlutterVlcPlayer vlcPlayer = new FlutterVlcPlayer(viewId, context, binaryMessenger, textureRegistry, libVLCPool, eventQueueCapacity, eventOverflowPolicy, batchedEvents ? mediaEventBatcher : null);
+        vlcPlayers.put(viewId, vlcPlayer);
         return vlcPlayer;
     }
 
+    void setMediaPlayerPoolLimits(int maxIdle, long idleTimeoutMs) {
+        libVLCPool.setMediaPlayerPoolLimits(maxIdle, idleTimeoutMs);
+    }
+
+    /**
+     * Sets the size and overflow policy of the media event queue of players built from now on.
+     */
+    void setEventQueueLimits(int capacity, QueuingEventSink.OverflowPolicy overflowPolicy) {
+        eventQueueCapacity = capacity;
+        eventOverflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Sends the media events of players built from now on once per frame, together in a single
+     * message.
+     */
+    void setBatchedEvents(boolean batchedEvents) {
+        this.batchedEvents = batchedEvents;
+    }
+
+    void setApplicationContext(Context applicationContext) {
+        this.applicationContext = applicationContext;
+    }
+
+    /**
+     * Sets how many files the thumbnail extractor processes in parallel. Must be set before
+     * {@link #startListening(BinaryMessenger)}.
+     */
+    void setThumbnailWorkers(int thumbnailWorkers) {
+        this.thumbnailWorkers = thumbnailWorkers;
+    }
+
+    /**
+     * Sets the disk budget of the thumbnail cache, 0 to disable it. Must be set before
+     * {@link #startListening(BinaryMessenger)}.
+     */
+    void setThumbnailCacheSize(long maxBytes) {
+        this.thumbnailCacheBytes = maxBytes;
+    }
+
+    /**
+     * Records the latency of every API call in per-method and per-player histograms. Must be set
+     * before {@link #startListening(BinaryMessenger)}.
+     */
+    void setApiMetricsEnabled(boolean enabled) {
+        apiMetrics = enabled ? new ApiMetrics() : null;
+    }
+
+    /**
+     * Returns the number of media events dropped so far by the queues of the live players.
+     */
+    long getDroppedMediaEventCount() {
+        long count = 0;
+        for (FlutterVlcPlayer player : vlcPlayers.values()) {
+            count += player.getDroppedMediaEventCount();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of distinct LibVLC instances currently shared by the players.
+     */
+    int getLibVLCInstanceCount() {
+        return libVLCPool.getInstanceCount();
+    }
+
+    /**
+     * Returns the number of players currently holding a pooled LibVLC instance.
+     */
+    int getLibVLCReferenceCount() {
+        return libVLCPool.getReferenceCount();
+    }
+
+    /**
+     * Returns the number of detached media players kept idle for reuse.
+     */
+    int getIdleMediaPlayerCount() {
+        return libVLCPool.getIdleMediaPlayerCount();
+    }
+
+    /**
+     * Returns how long the pre-warmed LibVLC sat ready before the first player picked it up, in milliseconds.
+     */
+    long getPrewarmReadyToCreateMs() {
+        return libVLCPool.getPrewarmReadyToCreateMs();
+    }
+
+    /**
+     * Returns how long the first player creation waited on the pre-warm to complete, in milliseconds.
+     */
+    long getPrewarmWaitMs() {
+        return libVLCPool.getPrewarmWaitMs();
+    }
+
     private void disposeAllPlayers() {
-        for (int i = 0; i < vlcPlayers.size(); i++) {
-            vlcPlayers.valueAt(i).dispose();
+        for (FlutterVlcPlayer player : vlcPlayers.clear()) {
+            player.dispose();
         }
-        vlcPlayers.clear();
     }
 
     private FlutterVlcPlayer getPlayer(@NonNull Long playerId) {
-        if (vlcPlayers.get(playerId) == null) {
+        FlutterVlcPlayer player = vlcPlayers.get(playerId);
+        if (player == null) {
             throw new Messages.FlutterError("player_not_found", "Player with id " + playerId + " not found", null);
         }
 
-        return vlcPlayers.get(playerId);
+        return player;
     }
 
     @Override
@@ -67,7 +212,13 @@ public class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
         ArrayList<String> options = new ArrayList<>();
         if (!arg.getOptions().isEmpty())
             options.addAll(arg.getOptions());
-        player.initialize(options);
+        Long maxPositionUpdatesPerSecond = arg.getMaxPositionUpdatesPerSecond();
+        player.initialize(
+                options,
+                Boolean.TRUE.equals(arg.getBinaryEvents()),
+                maxPositionUpdatesPerSecond == null ? 0 : maxPositionUpdatesPerSecond,
+                Boolean.TRUE.equals(arg.getPositionAnchors())
+        );
 
         var mediaMessage = new Messages.SetMediaMessage();
         mediaMessage.setPlayerId(arg.getPlayerId());
@@ -83,16 +234,73 @@ public class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
     @Override
     public void dispose(@NonNull Long playerId) {
         FlutterVlcPlayer player = getPlayer(playerId);
-        player.dispose();
+        // commands queued after this point no longer find the player
         vlcPlayers.remove(playerId);
+        player.dispose();
     }
 
     @Override
     public void setStreamUrl(@NonNull Messages.SetMediaMessage arg) {
         var player = getPlayer(arg.getPlayerId());
+        String mediaUrl = getMediaUrl(arg);
+        boolean isAssetUrl = arg.getType() == DataSourceType.ASSET.ordinal();
 
+        if (arg.getHwAcc() == null) {
+            arg.setHwAcc((long) HwAcc.AUTOMATIC.ordinal());
+        }
+
+        player.setStreamUrl(mediaUrl, isAssetUrl, arg.getAutoPlay(), arg.getHwAcc());
+    }
+
+    @Override
+    public void setStreamUrlAsync(@NonNull Messages.SetMediaMessage arg, @NonNull Boolean parse) {
+        var player = getPlayer(arg.getPlayerId());
+        String mediaUrl = getMediaUrl(arg);
+        boolean isAssetUrl = arg.getType() == DataSourceType.ASSET.ordinal();
+
+        if (arg.getHwAcc() == null) {
+            arg.setHwAcc((long) HwAcc.AUTOMATIC.ordinal());
+        }
+
+        player.setStreamUrlAsync(mediaUrl, isAssetUrl, arg.getAutoPlay(), arg.getHwAcc(), parse);
+    }
+
+    @Override
+    public void prepareNext(@NonNull Messages.SetMediaMessage arg) {
+        var player = getPlayer(arg.getPlayerId());
+        String mediaUrl = getMediaUrl(arg);
+        boolean isAssetUrl = arg.getType() == DataSourceType.ASSET.ordinal();
+
+        if (arg.getHwAcc() == null) {
+            arg.setHwAcc((long) HwAcc.AUTOMATIC.ordinal());
+        }
+
+        try {
+            player.prepareNext(mediaUrl, isAssetUrl, arg.getAutoPlay(), arg.getHwAcc());
+        } catch (IOException e) {
+            throw new Messages.FlutterError("next_media_failed", e.getMessage(), null);
+        }
+    }
+
+    @Override
+    public void commitNext(@NonNull Long playerId, @NonNull Messages.Result<Messages.CommitNextResultMessage> result) {
+        FlutterVlcPlayer player = vlcPlayers.get(playerId);
+        if (player == null) {
+            result.error(new Messages.FlutterError("player_not_found", "Player with id " + playerId + " not found", null));
+            return;
+        }
+        player.commitNext(result);
+    }
+
+    @Override
+    public void cancelNext(@NonNull Long playerId) {
+        FlutterVlcPlayer player = vlcPlayers.get(playerId);
+        if (player != null)
+            player.cancelNext();
+    }
+
+    private String getMediaUrl(@NonNull Messages.SetMediaMessage arg) {
         String mediaUrl;
-        boolean isAssetUrl;
         if (arg.getType() == DataSourceType.ASSET.ordinal()) {
             String assetLookupKey;
             if (arg.getPackageName() != null)
@@ -100,17 +308,10 @@ public class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
             else
                 assetLookupKey = keyForAsset.get(arg.getUri());
             mediaUrl = assetLookupKey;
-            isAssetUrl = true;
         } else {
             mediaUrl = arg.getUri();
-            isAssetUrl = false;
         }
-
-        if (arg.getHwAcc() == null) {
-            arg.setHwAcc((long) HwAcc.AUTOMATIC.ordinal());
-        }
-
-        player.setStreamUrl(mediaUrl, isAssetUrl, arg.getAutoPlay(), arg.getHwAcc());
+        return mediaUrl;
     }
 
     @Override
@@ -197,6 +398,105 @@ public class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
         return getPlayer(playerId).getSnapshot();
     }
 
+    @Nullable
+    @Override
+    public byte[] takeSnapshotBytes(@NonNull Messages.SnapshotMessage msg) {
+        var player = getPlayer(msg.getPlayerId());
+        return player.getSnapshotBytes(
+                SnapshotFormat.values()[msg.getFormat().intValue()],
+                msg.getQuality().intValue(),
+                msg.getMaxWidth() == null ? 0 : msg.getMaxWidth().intValue(),
+                msg.getMaxHeight() == null ? 0 : msg.getMaxHeight().intValue()
+        );
+    }
+
+    @Override
+    public void captureSnapshot(@NonNull Messages.SnapshotMessage msg, @NonNull Messages.Result<Messages.SnapshotResultMessage> result) {
+        FlutterVlcPlayer player = vlcPlayers.get(msg.getPlayerId());
+        if (player == null) {
+            result.error(new Messages.FlutterError("player_not_found", "Player with id " + msg.getPlayerId() + " not found", null));
+            return;
+        }
+        snapshotPipeline.capture(
+                player,
+                msg.getPlayerId(),
+                SnapshotFormat.values()[msg.getFormat().intValue()],
+                msg.getQuality().intValue(),
+                msg.getMaxWidth() == null ? 0 : msg.getMaxWidth().intValue(),
+                msg.getMaxHeight() == null ? 0 : msg.getMaxHeight().intValue(),
+                result
+        );
+    }
+
+    @Override
+    public void startFrameTap(@NonNull Messages.FrameTapMessage msg) {
+        var player = getPlayer(msg.getPlayerId());
+        if (!isValidFrameRate(msg.getFps()))
+            throw new Messages.FlutterError("invalid_argument", "The frame rate must be positive and finite", null);
+        player.startFrameTap(
+                msg.getFps(),
+                FrameFormat.values()[msg.getFormat().intValue()],
+                msg.getQuality().intValue(),
+                msg.getMaxWidth() == null ? 0 : msg.getMaxWidth().intValue(),
+                msg.getMaxHeight() == null ? 0 : msg.getMaxHeight().intValue(),
+                msg.getBufferCount().intValue()
+        );
+    }
+
+    // NaN fails the comparison as well
+    private static boolean isValidFrameRate(double fps) {
+        return fps > 0 && !Double.isInfinite(fps);
+    }
+
+    @Override
+    public void stopFrameTap(@NonNull Long playerId) {
+        FlutterVlcPlayer player = vlcPlayers.get(playerId);
+        if (player != null)
+            player.stopFrameTap();
+    }
+
+    @Override
+    public void startMotionDetection(@NonNull Messages.MotionDetectionMessage msg) {
+        var player = getPlayer(msg.getPlayerId());
+        if (!isValidFrameRate(msg.getFps()))
+            throw new Messages.FlutterError("invalid_argument", "The frame rate must be positive and finite", null);
+        // NaN fails the comparison
+        if (!(msg.getCpuBudget() > 0))
+            throw new Messages.FlutterError("invalid_argument", "The CPU budget must be positive", null);
+        player.startMotionDetection(
+                msg.getFps(),
+                msg.getWidth().intValue(),
+                msg.getHeight().intValue(),
+                msg.getThreshold(),
+                msg.getPixelThreshold().intValue(),
+                msg.getCpuBudget()
+        );
+    }
+
+    @Override
+    public void stopMotionDetection(@NonNull Long playerId) {
+        FlutterVlcPlayer player = vlcPlayers.get(playerId);
+        if (player != null)
+            player.stopMotionDetection();
+    }
+
+    @NonNull
+    @Override
+    public Boolean takeSnapshotToFile(@NonNull Messages.SnapshotMessage msg, @NonNull String path) {
+        var player = getPlayer(msg.getPlayerId());
+        try {
+            return player.writeSnapshot(
+                    SnapshotFormat.values()[msg.getFormat().intValue()],
+                    msg.getQuality().intValue(),
+                    msg.getMaxWidth() == null ? 0 : msg.getMaxWidth().intValue(),
+                    msg.getMaxHeight() == null ? 0 : msg.getMaxHeight().intValue(),
+                    path
+            );
+        } catch (IOException e) {
+            throw new Messages.FlutterError("snapshot_failed", e.getMessage(), null);
+        }
+    }
+
     // Subtitles
 
     @NonNull
@@ -208,14 +508,7 @@ public class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
     @NonNull
     @Override
     public Map<Long, String> getSpuTracks(@NonNull Long playerId) {
-        Map<Integer, String> tracks = getPlayer(playerId).getSpuTracks();
-
-        Map<Long, String> convertedTracks = new HashMap<>();
-        for (Map.Entry<Integer, String> entry : tracks.entrySet()) {
-            convertedTracks.put(entry.getKey().longValue(), entry.getValue());
-        }
-
-        return convertedTracks;
+        return getPlayer(playerId).getSpuTracks();
     }
 
     @NonNull
@@ -259,14 +552,7 @@ public class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
     @NonNull
     @Override
     public Map<Long, String> getAudioTracks(@NonNull Long playerId) {
-        Map<Integer, String> tracks = getPlayer(playerId).getAudioTracks();
-
-        Map<Long, String> convertedTracks = new HashMap<>();
-        for (Map.Entry<Integer, String> entry : tracks.entrySet()) {
-            convertedTracks.put(entry.getKey().longValue(), entry.getValue());
-        }
-
-        return convertedTracks;
+        return getPlayer(playerId).getAudioTracks();
     }
 
     @Override
@@ -311,14 +597,7 @@ public class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
     @NonNull
     @Override
     public Map<Long, String> getVideoTracks(@NonNull Long playerId) {
-        Map<Integer, String> tracks = getPlayer(playerId).getVideoTracks();
-
-        Map<Long, String> convertedTracks = new HashMap<>();
-        for (Map.Entry<Integer, String> entry : tracks.entrySet()) {
-            convertedTracks.put(entry.getKey().longValue(), entry.getValue());
-        }
-
-        return convertedTracks;
+        return getPlayer(playerId).getVideoTracks();
     }
 
     @Override
@@ -333,6 +612,12 @@ public class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
         return (long) getPlayer(playerId).getVideoTrack();
     }
 
+    @NonNull
+    @Override
+    public List<Messages.TrackMessage> getAllTracks(@NonNull Long playerId) {
+        return getPlayer(playerId).getAllTracks();
+    }
+
     // Video properties
 
 
@@ -409,4 +694,178 @@ public class FlutterVlcPlayerBuilder implements Messages.VlcPlayerApi {
         var player = getPlayer(playerId);
         return player.stopRecording();
     }
+
+    @NonNull
+    @Override
+    public Messages.PlayerStateMessage getPlayerState(@NonNull Long playerId) {
+        return getPlayer(playerId).getState(playerId);
+    }
+
+    @NonNull
+    @Override
+    public List<Messages.PlayerStateMessage> getPlayersState(@NonNull List<Long> playerIds) {
+        List<Messages.PlayerStateMessage> states = new ArrayList<>(playerIds.size());
+        for (Long playerId : playerIds) {
+            // players disposed meanwhile are left out instead of failing the whole call
+            FlutterVlcPlayer player = vlcPlayers.get(playerId);
+            if (player != null)
+                states.add(player.getState(playerId));
+        }
+        return states;
+    }
+
+    @Override
+    public void resyncMediaEvents(@NonNull Long playerId) {
+        var player = getPlayer(playerId);
+        player.resyncMediaEvents();
+    }
+
+    @NonNull
+    @Override
+    public Long extractThumbnails(@NonNull Messages.ThumbnailRequestMessage msg) {
+        if (thumbnailExtractor == null)
+            throw new Messages.FlutterError("thumbnails_unavailable", "The thumbnail extractor is not running", null);
+        return thumbnailExtractor.extract(
+                msg.getUri(),
+                msg.getCacheTag(),
+                msg.getTimestamps(),
+                SnapshotFormat.values()[msg.getFormat().intValue()],
+                msg.getQuality().intValue(),
+                msg.getMaxWidth() == null ? 0 : msg.getMaxWidth().intValue(),
+                msg.getMaxHeight() == null ? 0 : msg.getMaxHeight().intValue()
+        );
+    }
+
+    @NonNull
+    @Override
+    public Long generateSpriteSheet(@NonNull Messages.SpriteSheetRequestMessage msg) {
+        if (thumbnailExtractor == null)
+            throw new Messages.FlutterError("thumbnails_unavailable", "The thumbnail extractor is not running", null);
+        if (msg.getTileWidth() <= 0 || msg.getTileHeight() <= 0 || msg.getColumns() <= 0)
+            throw new Messages.FlutterError("invalid_argument", "The tile size and columns must be positive", null);
+        if (msg.getTileHeight() > ThumbnailExtractor.MAX_SPRITE_PAGE_SIZE
+                || msg.getTileWidth() * msg.getColumns() > ThumbnailExtractor.MAX_SPRITE_PAGE_SIZE)
+            throw new Messages.FlutterError("invalid_argument", "A row of tiles must fit in " + ThumbnailExtractor.MAX_SPRITE_PAGE_SIZE + " pixels", null);
+        return thumbnailExtractor.generateSpriteSheet(
+                msg.getUri(),
+                msg.getPath(),
+                msg.getIntervalMs(),
+                msg.getTileWidth().intValue(),
+                msg.getTileHeight().intValue(),
+                msg.getColumns().intValue(),
+                SnapshotFormat.values()[msg.getFormat().intValue()],
+                msg.getQuality().intValue()
+        );
+    }
+
+    @Override
+    public void cancelThumbnails(@NonNull Long requestId) {
+        if (thumbnailExtractor != null)
+            thumbnailExtractor.cancel(requestId);
+    }
+
+    @Override
+    public void clearThumbnailCache() {
+        if (thumbnailCache != null)
+            thumbnailCache.clear();
+    }
+
+    @NonNull
+    @Override
+    public List<Messages.ApiMethodMetrics> getApiMetrics() {
+        if (apiMetrics == null)
+            return new ArrayList<>();
+        return apiMetrics.getMetrics();
+    }
+
+    @Override
+    public void resetApiMetrics() {
+        if (apiMetrics != null)
+            apiMetrics.reset();
+    }
+
+    @NonNull
+    @Override
+    public List<Messages.PlayerCommandResult> executeBatch(@NonNull List<Messages.PlayerCommand> commands) {
+        List<Messages.PlayerCommandResult> results = new ArrayList<>(commands.size());
+        for (Messages.PlayerCommand command : commands) {
+            var result = new Messages.PlayerCommandResult();
+            try {
+                executeCommand(command);
+                result.setSuccess(true);
+            } catch (Messages.FlutterError e) {
+                result.setSuccess(false);
+                result.setError(e.code + ": " + e.getMessage());
+            } catch (RuntimeException e) {
+                // a failing command must not keep the rest of the batch from running
+                result.setSuccess(false);
+                result.setError(e.toString());
+            }
+            results.add(result);
+        }
+        return results;
+    }
+
+    private void executeCommand(@NonNull Messages.PlayerCommand command) {
+        Long playerId = command.getPlayerId();
+        PlayerCommandType[] types = PlayerCommandType.values();
+        if (command.getType() < 0 || command.getType() >= types.length)
+            throw new Messages.FlutterError("invalid_command", "Unknown command type " + command.getType(), null);
+        switch (types[command.getType().intValue()]) {
+            case SET_STREAM_URL:
+                Messages.SetMediaMessage media = requireArgument(command, command.getMedia());
+                media.setPlayerId(playerId);
+                setStreamUrl(media);
+                break;
+            case PLAY:
+                play(playerId);
+                break;
+            case PAUSE:
+                pause(playerId);
+                break;
+            case STOP:
+                stop(playerId);
+                break;
+            case SEEK_TO:
+                seekTo(playerId, requireArgument(command, command.getIntValue()));
+                break;
+            case SET_LOOPING:
+                setLooping(playerId, requireArgument(command, command.getBoolValue()));
+                break;
+            case SET_VOLUME:
+                setVolume(playerId, requireArgument(command, command.getIntValue()));
+                break;
+            case SET_PLAYBACK_SPEED:
+                setPlaybackSpeed(playerId, requireArgument(command, command.getDoubleValue()));
+                break;
+            case SET_AUDIO_TRACK:
+                setAudioTrack(playerId, requireArgument(command, command.getIntValue()));
+                break;
+            case SET_AUDIO_DELAY:
+                setAudioDelay(playerId, requireArgument(command, command.getIntValue()));
+                break;
+            case SET_SPU_TRACK:
+                setSpuTrack(playerId, requireArgument(command, command.getIntValue()));
+                break;
+            case SET_SPU_DELAY:
+                setSpuDelay(playerId, requireArgument(command, command.getIntValue()));
+                break;
+            case SET_VIDEO_TRACK:
+                setVideoTrack(playerId, requireArgument(command, command.getIntValue()));
+                break;
+            case SET_VIDEO_SCALE:
+                setVideoScale(playerId, requireArgument(command, command.getDoubleValue()));
+                break;
+            case SET_VIDEO_ASPECT_RATIO:
+                setVideoAspectRatio(playerId, requireArgument(command, command.getStringValue()));
+                break;
+        }
+    }
+
+    @NonNull
+    private static <T> T requireArgument(@NonNull Messages.PlayerCommand command, @Nullable T value) {
+        if (value == null)
+            throw new Messages.FlutterError("invalid_command", "Missing argument for command type " + command.getType(), null);
+        return value;
+    }
 }
@@ -44,6 +44,38 @@ public class FlutterVlcPlayerFactory extends PlatformViewFactory {
         return flutterVlcPlayerBuilder.build(viewId, context, messenger, textureRegistry, keyForAsset, keyForAssetAndPackageName);
     }
 
+    public void prewarm(Context context, boolean withMediaPlayer) {
+        flutterVlcPlayerBuilder.prewarm(context, withMediaPlayer);
+    }
+
+    public void setMediaPlayerPoolLimits(int maxIdle, long idleTimeoutMs) {
+        flutterVlcPlayerBuilder.setMediaPlayerPoolLimits(maxIdle, idleTimeoutMs);
+    }
+
+    void setEventQueueLimits(int capacity, QueuingEventSink.OverflowPolicy overflowPolicy) {
+        flutterVlcPlayerBuilder.setEventQueueLimits(capacity, overflowPolicy);
+    }
+
+    public void setBatchedEvents(boolean batchedEvents) {
+        flutterVlcPlayerBuilder.setBatchedEvents(batchedEvents);
+    }
+
+    void setApplicationContext(Context applicationContext) {
+        flutterVlcPlayerBuilder.setApplicationContext(applicationContext);
+    }
+
+    public void setThumbnailWorkers(int thumbnailWorkers) {
+        flutterVlcPlayerBuilder.setThumbnailWorkers(thumbnailWorkers);
+    }
+
+    public void setThumbnailCacheSize(long maxBytes) {
+        flutterVlcPlayerBuilder.setThumbnailCacheSize(maxBytes);
+    }
+
+    public void setApiMetricsEnabled(boolean enabled) {
+        flutterVlcPlayerBuilder.setApiMetricsEnabled(enabled);
+    }
+
     public void startListening() {
         flutterVlcPlayerBuilder.startListening(messenger);
     }
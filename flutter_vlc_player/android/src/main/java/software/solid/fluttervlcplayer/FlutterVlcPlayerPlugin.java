@@ -1,10 +1,15 @@
 package software.solid.fluttervlcplayer;
 
+import android.content.Context;
+import android.content.pm.PackageManager;
 import android.os.Build;
+import android.os.Bundle;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.RequiresApi;
 
+import java.util.Locale;
+
 import io.flutter.FlutterInjector;
 import io.flutter.embedding.engine.plugins.FlutterPlugin;
 import io.flutter.embedding.engine.plugins.activity.ActivityAware;
@@ -16,6 +21,16 @@ public class FlutterVlcPlayerPlugin implements FlutterPlugin, ActivityAware {
     private FlutterPluginBinding flutterPluginBinding;
 
     private static final String VIEW_TYPE = "flutter_video_plugin/getVideoView";
+    private static final String PREWARM_META_DATA = "software.solid.fluttervlcplayer.PREWARM";
+    private static final String PREWARM_MEDIA_PLAYER_META_DATA = "software.solid.fluttervlcplayer.PREWARM_MEDIA_PLAYER";
+    private static final String MEDIA_PLAYER_POOL_MAX_IDLE_META_DATA = "software.solid.fluttervlcplayer.MEDIA_PLAYER_POOL_MAX_IDLE";
+    private static final String MEDIA_PLAYER_POOL_IDLE_TIMEOUT_META_DATA = "software.solid.fluttervlcplayer.MEDIA_PLAYER_POOL_IDLE_TIMEOUT_MS";
+    private static final String BATCHED_EVENTS_META_DATA = "software.solid.fluttervlcplayer.BATCHED_EVENTS";
+    private static final String EVENT_QUEUE_CAPACITY_META_DATA = "software.solid.fluttervlcplayer.EVENT_QUEUE_CAPACITY";
+    private static final String EVENT_QUEUE_OVERFLOW_META_DATA = "software.solid.fluttervlcplayer.EVENT_QUEUE_OVERFLOW";
+    private static final String API_METRICS_META_DATA = "software.solid.fluttervlcplayer.API_METRICS";
+    private static final String THUMBNAIL_WORKERS_META_DATA = "software.solid.fluttervlcplayer.THUMBNAIL_WORKERS";
+    private static final String THUMBNAIL_CACHE_BYTES_META_DATA = "software.solid.fluttervlcplayer.THUMBNAIL_CACHE_BYTES";
 
     public FlutterVlcPlayerPlugin() {
     }
@@ -42,6 +57,8 @@ public class FlutterVlcPlayerPlugin implements FlutterPlugin, ActivityAware {
                             flutterVlcPlayerFactory
                     );
             //
+            flutterVlcPlayerFactory.setApplicationContext(flutterPluginBinding.getApplicationContext());
+            applyMetaData(flutterPluginBinding.getApplicationContext());
         }
         startListening();
     }
@@ -74,6 +91,45 @@ public class FlutterVlcPlayerPlugin implements FlutterPlugin, ActivityAware {
 
     // extra methods
 
+    private static void applyMetaData(Context context) {
+        Bundle metaData = null;
+        try {
+            metaData = context.getPackageManager()
+                    .getApplicationInfo(context.getPackageName(), PackageManager.GET_META_DATA)
+                    .metaData;
+        } catch (PackageManager.NameNotFoundException ignored) {
+        }
+        if (metaData == null)
+            return;
+        //
+        if (metaData.containsKey(MEDIA_PLAYER_POOL_MAX_IDLE_META_DATA) || metaData.containsKey(MEDIA_PLAYER_POOL_IDLE_TIMEOUT_META_DATA)) {
+            flutterVlcPlayerFactory.setMediaPlayerPoolLimits(
+                    metaData.getInt(MEDIA_PLAYER_POOL_MAX_IDLE_META_DATA, FlutterVlcPlayerBuilder.DEFAULT_MAX_IDLE_MEDIA_PLAYERS),
+                    metaData.getInt(MEDIA_PLAYER_POOL_IDLE_TIMEOUT_META_DATA, FlutterVlcPlayerBuilder.DEFAULT_MEDIA_PLAYER_IDLE_TIMEOUT_MS)
+            );
+        }
+        if (metaData.containsKey(EVENT_QUEUE_CAPACITY_META_DATA) || metaData.containsKey(EVENT_QUEUE_OVERFLOW_META_DATA)) {
+            QueuingEventSink.OverflowPolicy overflowPolicy = FlutterVlcPlayerBuilder.DEFAULT_EVENT_OVERFLOW_POLICY;
+            String overflow = metaData.getString(EVENT_QUEUE_OVERFLOW_META_DATA);
+            if (overflow != null) {
+                try {
+                    overflowPolicy = QueuingEventSink.OverflowPolicy.valueOf(overflow.trim().toUpperCase(Locale.ROOT));
+                } catch (IllegalArgumentException ignored) {
+                }
+            }
+            flutterVlcPlayerFactory.setEventQueueLimits(
+                    metaData.getInt(EVENT_QUEUE_CAPACITY_META_DATA, QueuingEventSink.DEFAULT_CAPACITY),
+                    overflowPolicy
+            );
+        }
+        flutterVlcPlayerFactory.setBatchedEvents(metaData.getBoolean(BATCHED_EVENTS_META_DATA, false));
+        flutterVlcPlayerFactory.setApiMetricsEnabled(metaData.getBoolean(API_METRICS_META_DATA, false));
+        flutterVlcPlayerFactory.setThumbnailWorkers(metaData.getInt(THUMBNAIL_WORKERS_META_DATA, ThumbnailExtractor.DEFAULT_WORKERS));
+        flutterVlcPlayerFactory.setThumbnailCacheSize(metaData.getInt(THUMBNAIL_CACHE_BYTES_META_DATA, (int) ThumbnailCache.DEFAULT_MAX_BYTES));
+        if (metaData.getBoolean(PREWARM_META_DATA, false))
+            flutterVlcPlayerFactory.prewarm(context, metaData.getBoolean(PREWARM_MEDIA_PLAYER_META_DATA, false));
+    }
+
     private static void startListening() {
         if (flutterVlcPlayerFactory != null)
             flutterVlcPlayerFactory.startListening();
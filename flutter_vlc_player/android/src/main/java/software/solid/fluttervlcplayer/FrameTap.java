@@ -0,0 +1,201 @@
+package software.solid.fluttervlcplayer;
+
+import android.graphics.Bitmap;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.EventChannel;
+import software.solid.fluttervlcplayer.Enums.FrameFormat;
+
+/**
+ * Samples the frames of a player at a fixed rate, for on-device analysis, and sends them on an
+ * event channel of their own.
+ *
+ * <p>The frames are drawn into a ring of reusable bitmaps and pixel buffers, then converted on a
+ * background thread, so a running tap only allocates the encoded bytes of JPEG frames. A frame
+ * that finds every buffer still being converted or sent is dropped instead of queued. Each frame
+ * carries the number of frames dropped so far, so the receiver can tell when it falls behind.
+ *
+ * <p>This class is not thread-safe. All calls must be done on the main thread.
+ */
+final class FrameTap {
+
+    static final String CHANNEL_PREFIX = "flutter_video_plugin/getFrames_";
+    static final int DEFAULT_BUFFERS = 3;
+    // each sample reads the texture back on the main thread, at most once per 60 Hz frame
+    static final long MIN_INTERVAL_MS = 16;
+    static final long MAX_INTERVAL_MS = 60000;
+
+    private static final class Slot {
+        Bitmap bitmap;
+        byte[] pixels;
+        final ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        final int generation;
+
+        Slot(int generation) {
+            this.generation = generation;
+        }
+    }
+
+    private final FlutterVlcPlayer player;
+    private final EventChannel eventChannel;
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final ArrayDeque<Slot> free = new ArrayDeque<>();
+    private final Runnable tick = new Runnable() {
+        @Override
+        public void run() {
+            handler.postDelayed(this, intervalMs);
+            capture();
+        }
+    };
+    private final ExecutorService converter = Executors.newSingleThreadExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable runnable) {
+            return new Thread(runnable, "VlcFrameTap");
+        }
+    });
+    //
+    private EventChannel.EventSink eventSink;
+    private long intervalMs;
+    private FrameFormat format;
+    private int quality;
+    private int maxWidth;
+    private int maxHeight;
+    // bumped on every start, so the slots of a previous ring are not reused
+    private int generation = 0;
+    private long sequence = 0;
+    private long droppedFrames = 0;
+    private boolean isStopped = false;
+
+    FrameTap(BinaryMessenger binaryMessenger, long viewId, FlutterVlcPlayer player) {
+        this.player = player;
+        eventChannel = new EventChannel(binaryMessenger, CHANNEL_PREFIX + viewId);
+        eventChannel.setStreamHandler(
+                new EventChannel.StreamHandler() {
+                    @Override
+                    public void onListen(Object o, EventChannel.EventSink sink) {
+                        eventSink = sink;
+                    }
+
+                    @Override
+                    public void onCancel(Object o) {
+                        eventSink = null;
+                    }
+                });
+    }
+
+    /**
+     * Starts sampling {@code fps} frames per second, or applies the new settings if already
+     * started. {@code fps} must be positive and finite, the interval it gives is clamped between
+     * {@link #MIN_INTERVAL_MS} and {@link #MAX_INTERVAL_MS}. The frames are scaled to fit within
+     * {@code maxWidth} x {@code maxHeight} when they are positive.
+     */
+    void start(double fps, FrameFormat format, int quality, int maxWidth, int maxHeight, int bufferCount) {
+        this.intervalMs = Math.max(MIN_INTERVAL_MS, Math.min(MAX_INTERVAL_MS, Math.round(1000 / fps)));
+        this.format = format;
+        this.quality = Math.max(0, Math.min(100, quality));
+        this.maxWidth = maxWidth;
+        this.maxHeight = maxHeight;
+        generation++;
+        recycleFree();
+        for (int i = 0; i < Math.max(1, bufferCount); i++)
+            free.add(new Slot(generation));
+        handler.removeCallbacks(tick);
+        handler.post(tick);
+    }
+
+    void stop() {
+        isStopped = true;
+        handler.removeCallbacks(tick);
+        eventChannel.setStreamHandler(null);
+        eventSink = null;
+        converter.shutdown();
+        recycleFree();
+    }
+
+    private void capture() {
+        // nobody to send the frames to, they are not counted as dropped
+        if (eventSink == null)
+            return;
+        final Slot slot = free.poll();
+        if (slot == null) {
+            droppedFrames++;
+            return;
+        }
+        final long timestampMicros = SystemClock.elapsedRealtimeNanos() / 1000;
+        Bitmap bitmap = player.readFrame(slot.bitmap, maxWidth, maxHeight);
+        if (bitmap == null) {
+            free.add(slot);
+            return;
+        }
+        slot.bitmap = bitmap;
+        final long frameSequence = sequence++;
+        final FrameFormat frameFormat = format;
+        final int frameQuality = quality;
+        converter.execute(new Runnable() {
+            @Override
+            public void run() {
+                final byte[] bytes = convert(slot, frameFormat, frameQuality);
+                handler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        deliver(slot, bytes, frameFormat, frameSequence, timestampMicros);
+                    }
+                });
+            }
+        });
+    }
+
+    private static byte[] convert(Slot slot, FrameFormat format, int quality) {
+        Bitmap bitmap = slot.bitmap;
+        if (format == FrameFormat.JPEG) {
+            slot.jpeg.reset();
+            bitmap.compress(Bitmap.CompressFormat.JPEG, quality, slot.jpeg);
+            return slot.jpeg.toByteArray();
+        }
+        // the texture bitmaps are ARGB_8888, stored as RGBA bytes
+        int size = bitmap.getWidth() * bitmap.getHeight() * 4;
+        if (slot.pixels == null || slot.pixels.length != size)
+            slot.pixels = new byte[size];
+        bitmap.copyPixelsToBuffer(ByteBuffer.wrap(slot.pixels));
+        return slot.pixels;
+    }
+
+    private void deliver(Slot slot, byte[] bytes, FrameFormat format, long frameSequence, long timestampMicros) {
+        if (isStopped || slot.generation != generation) {
+            slot.bitmap.recycle();
+            return;
+        }
+        if (eventSink != null) {
+            HashMap<String, Object> event = new HashMap<>();
+            event.put("sequence", frameSequence);
+            event.put("timestampMicros", timestampMicros);
+            event.put("width", slot.bitmap.getWidth());
+            event.put("height", slot.bitmap.getHeight());
+            event.put("format", format.ordinal());
+            event.put("bytes", bytes);
+            event.put("droppedFrames", droppedFrames);
+            // the channel encodes the event right away, so the pixel buffer can be reused
+            eventSink.success(event);
+        }
+        free.add(slot);
+    }
+
+    private void recycleFree() {
+        for (Slot slot : free) {
+            if (slot.bitmap != null)
+                slot.bitmap.recycle();
+        }
+        free.clear();
+    }
+}
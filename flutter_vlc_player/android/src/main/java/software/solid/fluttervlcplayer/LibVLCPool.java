@@ -0,0 +1,388 @@
+package software.solid.fluttervlcplayer;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.text.TextUtils;
+import android.util.Log;
+
+import org.videolan.libvlc.LibVLC;
+import org.videolan.libvlc.MediaPlayer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * A reference counted pool of {@link LibVLC} instances keyed by their normalized option set.
+ *
+ * <p>Players created with the same options share one instance, so the libvlc modules are loaded
+ * and initialized only once. An instance is released when the last player holding it is disposed.
+ *
+ * <p>An instance can be pre-warmed on a background thread with {@link #prewarm}, so the native
+ * library loading and plugin scanning are already done when the first player is created.
+ *
+ * <p>Each instance also keeps a bounded set of idle, detached {@link MediaPlayer}s returned by
+ * disposed players, so new players can borrow one instead of building it from scratch. Idle
+ * players are evicted once they exceed the max-idle count or the idle timeout, and an instance
+ * without players is kept alive only as long as it has idle media players left.
+ *
+ * <p>This class is thread-safe.
+ */
+final class LibVLCPool {
+
+    // libvlc's own default, a new media player starts with it
+    static final int DEFAULT_VOLUME = 100;
+
+    private final String TAG = this.getClass().getSimpleName();
+    private final boolean debug = false;
+    //
+    private final Map<String, Entry> entriesByKey = new HashMap<>();
+    private final Map<LibVLC, Entry> entriesByInstance = new IdentityHashMap<>();
+    private int referenceCount = 0;
+    //
+    private final Map<String, FutureTask<Entry>> prewarmsByKey = new HashMap<>();
+    private long prewarmReadyToCreateMs = -1;
+    private long prewarmWaitMs = -1;
+    //
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable evictIdleMediaPlayers = this::evictIdleMediaPlayers;
+    private int maxIdleMediaPlayers;
+    private long mediaPlayerIdleTimeoutMs;
+    private int idleMediaPlayerCount = 0;
+
+    LibVLCPool(int maxIdleMediaPlayers, long mediaPlayerIdleTimeoutMs) {
+        this.maxIdleMediaPlayers = maxIdleMediaPlayers;
+        this.mediaPlayerIdleTimeoutMs = mediaPlayerIdleTimeoutMs;
+    }
+
+    /**
+     * Starts creating the instance for the given options on a background thread, optionally with
+     * a {@link MediaPlayer} attached to it. The first {@link #acquire} with the same options picks
+     * it up, or waits for it if it is still in progress.
+     */
+    synchronized void prewarm(Context context, List<String> options, boolean withMediaPlayer) {
+        final String key = keyFor(options);
+        if (entriesByKey.containsKey(key) || prewarmsByKey.containsKey(key))
+            return;
+        //
+        final Context applicationContext = context.getApplicationContext();
+        final ArrayList<String> libVLCOptions = new ArrayList<>(options);
+        FutureTask<Entry> prewarm = new FutureTask<>(() -> {
+            LibVLC libVLC = new LibVLC(applicationContext, libVLCOptions);
+            Entry entry = new Entry(key, libVLC);
+            if (withMediaPlayer)
+                entry.prewarmedMediaPlayer = new MediaPlayer(libVLC);
+            entry.readyAt = SystemClock.elapsedRealtime();
+            log("prewarm ready [" + key + "]");
+            return entry;
+        });
+        prewarmsByKey.put(key, prewarm);
+        Thread thread = new Thread(prewarm, "LibVLCPrewarm");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    LibVLC acquire(Context context, List<String> options) {
+        String key = keyFor(options);
+        FutureTask<Entry> prewarm;
+        synchronized (this) {
+            Entry entry = entriesByKey.get(key);
+            if (entry != null)
+                return reference(entry);
+            prewarm = prewarmsByKey.remove(key);
+        }
+        //
+        Entry prewarmed = null;
+        if (prewarm != null) {
+            // wait outside the lock so the rest of the pool stays usable meanwhile
+            long waitStart = SystemClock.elapsedRealtime();
+            prewarmed = awaitPrewarm(prewarm);
+            if (prewarmed != null) {
+                long now = SystemClock.elapsedRealtime();
+                synchronized (this) {
+                    prewarmWaitMs = now - waitStart;
+                    prewarmReadyToCreateMs = now - prewarmed.readyAt;
+                }
+                log("prewarm used [" + key + "] ready to create " + prewarmReadyToCreateMs + "ms, waited " + prewarmWaitMs + "ms");
+            }
+        }
+        //
+        synchronized (this) {
+            Entry entry = entriesByKey.get(key);
+            if (entry != null) {
+                // another player got here first while we were waiting
+                if (prewarmed != null)
+                    prewarmed.release();
+                return reference(entry);
+            }
+            if (prewarmed != null) {
+                entry = prewarmed;
+            } else {
+                // the instance outlives the player that created it, so it must not hold on to its context
+                entry = new Entry(key, new LibVLC(context.getApplicationContext(), new ArrayList<>(options)));
+            }
+            entriesByKey.put(key, entry);
+            entriesByInstance.put(entry.libVLC, entry);
+            return reference(entry);
+        }
+    }
+
+    /**
+     * Hands out a media player for the given instance: the pre-warmed one if it is still unused,
+     * then the most recently recycled idle one, otherwise a new one.
+     */
+    synchronized MediaPlayer acquireMediaPlayer(LibVLC libVLC) {
+        Entry entry = entriesByInstance.get(libVLC);
+        if (entry != null) {
+            if (entry.prewarmedMediaPlayer != null) {
+                MediaPlayer mediaPlayer = entry.prewarmedMediaPlayer;
+                entry.prewarmedMediaPlayer = null;
+                return mediaPlayer;
+            }
+            IdleMediaPlayer idle = entry.idleMediaPlayers.pollLast();
+            if (idle != null) {
+                idleMediaPlayerCount--;
+                log("reuse media player [" + entry.key + "] " + this);
+                return idle.mediaPlayer;
+            }
+        }
+        return new MediaPlayer(libVLC);
+    }
+
+    /**
+     * Takes back a stopped media player whose views and event listener are already detached.
+     * It is reset and kept idle for reuse, or released if the pool does not keep idle players.
+     */
+    synchronized void recycleMediaPlayer(LibVLC libVLC, MediaPlayer mediaPlayer) {
+        Entry entry = entriesByInstance.get(libVLC);
+        if (entry == null || maxIdleMediaPlayers == 0) {
+            mediaPlayer.release();
+            return;
+        }
+        //
+        mediaPlayer.setMedia(null);
+        mediaPlayer.setRenderer(null);
+        mediaPlayer.setRate(1.0f);
+        mediaPlayer.setScale(0);
+        mediaPlayer.setAspectRatio(null);
+        // kept by the native player across media, the next owner must not inherit them
+        mediaPlayer.setVolume(DEFAULT_VOLUME);
+        mediaPlayer.setAudioDelay(0);
+        mediaPlayer.setSpuDelay(0);
+        mediaPlayer.setVideoTrackEnabled(true);
+        entry.idleMediaPlayers.addLast(new IdleMediaPlayer(mediaPlayer, SystemClock.elapsedRealtime()));
+        idleMediaPlayerCount++;
+        while (idleMediaPlayerCount > maxIdleMediaPlayers)
+            evictOldestIdleMediaPlayer();
+        scheduleIdleEviction();
+        log("recycle media player [" + entry.key + "] " + this);
+    }
+
+    synchronized void setMediaPlayerPoolLimits(int maxIdle, long idleTimeoutMs) {
+        maxIdleMediaPlayers = Math.max(0, maxIdle);
+        mediaPlayerIdleTimeoutMs = Math.max(0, idleTimeoutMs);
+        while (idleMediaPlayerCount > maxIdleMediaPlayers)
+            evictOldestIdleMediaPlayer();
+        scheduleIdleEviction();
+    }
+
+    synchronized void release(LibVLC libVLC) {
+        Entry entry = entriesByInstance.get(libVLC);
+        if (entry == null) {
+            // not owned by the pool
+            libVLC.release();
+            return;
+        }
+        entry.references--;
+        referenceCount--;
+        releaseIfUnused(entry);
+        log("release [" + entry.key + "] " + this);
+    }
+
+    /**
+     * Drops pre-warmed instances that were never picked up by a player. Pre-warms still in
+     * progress are released on their own thread once they complete.
+     */
+    void cancelPrewarms() {
+        final ArrayList<FutureTask<Entry>> prewarms;
+        synchronized (this) {
+            if (prewarmsByKey.isEmpty())
+                return;
+            prewarms = new ArrayList<>(prewarmsByKey.values());
+            prewarmsByKey.clear();
+        }
+        Thread thread = new Thread(() -> {
+            for (FutureTask<Entry> prewarm : prewarms) {
+                Entry entry = awaitPrewarm(prewarm);
+                if (entry != null)
+                    entry.release();
+            }
+        }, "LibVLCPrewarmCancel");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    synchronized int getInstanceCount() {
+        return entriesByKey.size();
+    }
+
+    synchronized int getReferenceCount() {
+        return referenceCount;
+    }
+
+    synchronized int getIdleMediaPlayerCount() {
+        return idleMediaPlayerCount;
+    }
+
+    /**
+     * Milliseconds the pre-warmed instance sat ready before a player picked it up (0 if the
+     * player had to wait for it), or -1 if no pre-warmed instance was used yet.
+     */
+    synchronized long getPrewarmReadyToCreateMs() {
+        return prewarmReadyToCreateMs;
+    }
+
+    /**
+     * Milliseconds the player creation was blocked waiting on the pre-warm, or -1 if no
+     * pre-warmed instance was used yet.
+     */
+    synchronized long getPrewarmWaitMs() {
+        return prewarmWaitMs;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "LibVLCPool{instances=" + entriesByKey.size() + ", references=" + referenceCount + ", idleMediaPlayers=" + idleMediaPlayerCount + "}";
+    }
+
+    // libvlc ignores option order and duplicates, so the key is the sorted set of trimmed options
+    static String keyFor(List<String> options) {
+        TreeSet<String> normalized = new TreeSet<>();
+        if (options != null) {
+            for (String option : options) {
+                if (option == null) continue;
+                String trimmed = option.trim();
+                if (!trimmed.isEmpty())
+                    normalized.add(trimmed);
+            }
+        }
+        return TextUtils.join(" ", normalized);
+    }
+
+    private Entry awaitPrewarm(FutureTask<Entry> prewarm) {
+        try {
+            return prewarm.get();
+        } catch (ExecutionException e) {
+            log("prewarm failed: " + e.getCause());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private synchronized void evictIdleMediaPlayers() {
+        long now = SystemClock.elapsedRealtime();
+        for (Entry entry : new ArrayList<>(entriesByKey.values())) {
+            while (!entry.idleMediaPlayers.isEmpty() && now - entry.idleMediaPlayers.peekFirst().idleSince >= mediaPlayerIdleTimeoutMs) {
+                entry.idleMediaPlayers.pollFirst().mediaPlayer.release();
+                idleMediaPlayerCount--;
+            }
+            releaseIfUnused(entry);
+        }
+        scheduleIdleEviction();
+        log("evict idle media players " + this);
+    }
+
+    private void evictOldestIdleMediaPlayer() {
+        Entry oldest = null;
+        for (Entry entry : entriesByKey.values()) {
+            IdleMediaPlayer idle = entry.idleMediaPlayers.peekFirst();
+            if (idle != null && (oldest == null || idle.idleSince < oldest.idleMediaPlayers.peekFirst().idleSince))
+                oldest = entry;
+        }
+        if (oldest == null)
+            return;
+        oldest.idleMediaPlayers.pollFirst().mediaPlayer.release();
+        idleMediaPlayerCount--;
+        releaseIfUnused(oldest);
+    }
+
+    private void scheduleIdleEviction() {
+        handler.removeCallbacks(evictIdleMediaPlayers);
+        long oldestIdleSince = Long.MAX_VALUE;
+        for (Entry entry : entriesByKey.values()) {
+            IdleMediaPlayer idle = entry.idleMediaPlayers.peekFirst();
+            if (idle != null)
+                oldestIdleSince = Math.min(oldestIdleSince, idle.idleSince);
+        }
+        if (oldestIdleSince == Long.MAX_VALUE)
+            return;
+        long delay = oldestIdleSince + mediaPlayerIdleTimeoutMs - SystemClock.elapsedRealtime();
+        handler.postDelayed(evictIdleMediaPlayers, Math.max(0, delay));
+    }
+
+    // an instance without players stays alive while it still has idle media players to hand out
+    private void releaseIfUnused(Entry entry) {
+        if (entry.references > 0 || !entry.idleMediaPlayers.isEmpty())
+            return;
+        if (entriesByKey.get(entry.key) != entry)
+            return;
+        entriesByKey.remove(entry.key);
+        entriesByInstance.remove(entry.libVLC);
+        entry.release();
+    }
+
+    private LibVLC reference(Entry entry) {
+        entry.references++;
+        referenceCount++;
+        log("acquire [" + entry.key + "] " + this);
+        return entry.libVLC;
+    }
+
+    private void log(String message) {
+        if (debug) {
+            Log.d(TAG, message);
+        }
+    }
+
+    private static final class Entry {
+        final String key;
+        final LibVLC libVLC;
+        int references = 0;
+        MediaPlayer prewarmedMediaPlayer;
+        long readyAt;
+        final ArrayDeque<IdleMediaPlayer> idleMediaPlayers = new ArrayDeque<>();
+
+        Entry(String key, LibVLC libVLC) {
+            this.key = key;
+            this.libVLC = libVLC;
+        }
+
+        void release() {
+            if (prewarmedMediaPlayer != null) {
+                prewarmedMediaPlayer.release();
+                prewarmedMediaPlayer = null;
+            }
+            libVLC.release();
+        }
+    }
+
+    private static final class IdleMediaPlayer {
+        final MediaPlayer mediaPlayer;
+        final long idleSince;
+
+        IdleMediaPlayer(MediaPlayer mediaPlayer, long idleSince) {
+            this.mediaPlayer = mediaPlayer;
+            this.idleSince = idleSince;
+        }
+    }
+}
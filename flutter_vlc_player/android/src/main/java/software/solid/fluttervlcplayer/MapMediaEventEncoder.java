@@ -0,0 +1,114 @@
+package software.solid.fluttervlcplayer;
+
+import java.util.HashMap;
+
+/**
+ * Encodes media events as string keyed maps, the original event channel format.
+ */
+final class MapMediaEventEncoder implements MediaEventEncoder {
+
+    @Override
+    public Object opening() {
+        return event("opening");
+    }
+
+    @Override
+    public Object paused() {
+        return event("paused");
+    }
+
+    @Override
+    public Object stopped() {
+        return event("stopped");
+    }
+
+    @Override
+    public Object playing(int width, int height, float speed, long duration, int audioTracksCount, int activeAudioTrack, int spuTracksCount, int activeSpuTrack) {
+        HashMap<String, Object> eventObject = event("playing");
+        eventObject.put("height", height);
+        eventObject.put("width", width);
+        eventObject.put("speed", speed);
+        eventObject.put("duration", duration);
+        eventObject.put("audioTracksCount", audioTracksCount);
+        eventObject.put("activeAudioTrack", activeAudioTrack);
+        eventObject.put("spuTracksCount", spuTracksCount);
+        eventObject.put("activeSpuTrack", activeSpuTrack);
+        return eventObject;
+    }
+
+    @Override
+    public Object ended(long position) {
+        HashMap<String, Object> eventObject = event("ended");
+        eventObject.put("position", position);
+        return eventObject;
+    }
+
+    @Override
+    public Object timeChanged(int changedFields, int width, int height, float speed, long position, long duration, float buffer, int audioTracksCount, int activeAudioTrack, int spuTracksCount, int activeSpuTrack, boolean isPlaying) {
+        HashMap<String, Object> eventObject = event("timeChanged");
+        if ((changedFields & MediaEventDeltaTracker.SIZE) != 0) {
+            eventObject.put("height", height);
+            eventObject.put("width", width);
+        }
+        if ((changedFields & MediaEventDeltaTracker.SPEED) != 0)
+            eventObject.put("speed", speed);
+        if ((changedFields & MediaEventDeltaTracker.POSITION) != 0)
+            eventObject.put("position", position);
+        if ((changedFields & MediaEventDeltaTracker.DURATION) != 0)
+            eventObject.put("duration", duration);
+        if ((changedFields & MediaEventDeltaTracker.BUFFER) != 0)
+            eventObject.put("buffer", buffer);
+        if ((changedFields & MediaEventDeltaTracker.AUDIO_TRACKS_COUNT) != 0)
+            eventObject.put("audioTracksCount", audioTracksCount);
+        if ((changedFields & MediaEventDeltaTracker.ACTIVE_AUDIO_TRACK) != 0)
+            eventObject.put("activeAudioTrack", activeAudioTrack);
+        if ((changedFields & MediaEventDeltaTracker.SPU_TRACKS_COUNT) != 0)
+            eventObject.put("spuTracksCount", spuTracksCount);
+        if ((changedFields & MediaEventDeltaTracker.ACTIVE_SPU_TRACK) != 0)
+            eventObject.put("activeSpuTrack", activeSpuTrack);
+        if ((changedFields & MediaEventDeltaTracker.IS_PLAYING) != 0)
+            eventObject.put("isPlaying", isPlaying);
+        return eventObject;
+    }
+
+    @Override
+    public Object error() {
+        return event("error");
+    }
+
+    @Override
+    public Object positionAnchor(long position, float speed, long timestampMicros, boolean isPlaying) {
+        HashMap<String, Object> eventObject = event("positionAnchor");
+        eventObject.put("position", position);
+        eventObject.put("speed", speed);
+        eventObject.put("timestamp", timestampMicros);
+        eventObject.put("isPlaying", isPlaying);
+        return eventObject;
+    }
+
+    @Override
+    public Object recording(boolean isRecording, String recordPath) {
+        HashMap<String, Object> eventObject = event("recording");
+        eventObject.put("isRecording", isRecording);
+        eventObject.put("recordPath", recordPath);
+        return eventObject;
+    }
+
+    @Override
+    public Object prepared(long duration, int width, int height, int audioTracksCount, int spuTracksCount, int videoTracksCount) {
+        HashMap<String, Object> eventObject = event("prepared");
+        eventObject.put("duration", duration);
+        eventObject.put("height", height);
+        eventObject.put("width", width);
+        eventObject.put("audioTracksCount", audioTracksCount);
+        eventObject.put("spuTracksCount", spuTracksCount);
+        eventObject.put("videoTracksCount", videoTracksCount);
+        return eventObject;
+    }
+
+    private static HashMap<String, Object> event(String name) {
+        HashMap<String, Object> eventObject = new HashMap<>();
+        eventObject.put("event", name);
+        return eventObject;
+    }
+}
@@ -0,0 +1,158 @@
+package software.solid.fluttervlcplayer;
+
+import android.view.Choreographer;
+
+import java.util.ArrayList;
+
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.EventChannel;
+
+/**
+ * Collects the media events of all players and sends them once per frame as a single message on
+ * a shared event channel.
+ *
+ * <p>The message is a flat list of {@code [viewId, event, viewId, event, ...]} in the order the
+ * events were sent, so the order of the events of each player is kept. Errors and end of stream
+ * are not batched, they flush the pending events and go to the player's own channel.
+ *
+ * <p>The pending events are bounded like the per-player queues: past the capacity the overflow
+ * policy drops the oldest or the newest event, and the player whose event was dropped is told so
+ * it can resync. Events sent before the channel is listened to are kept, within the same bound,
+ * since the players' channels are usually listened to first. Events pending when the listener
+ * cancels, or sent once the batcher is disposed, are dropped. The players' encoders hand out a new array per event in batched mode,
+ * so byte array events are kept as they are.
+ *
+ * <p>This class is not thread-safe. All calls must be done on the main thread, which is where
+ * {@link QueuingEventSink} delivers its events.
+ */
+final class MediaEventBatcher {
+
+    static final String CHANNEL_NAME = "flutter_video_plugin/getBatchedVideoEvents";
+
+    private final EventChannel eventChannel;
+    private final int capacity;
+    private final QueuingEventSink.OverflowPolicy overflowPolicy;
+    private final Choreographer.FrameCallback flushOnFrame = new Choreographer.FrameCallback() {
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            flushScheduled = false;
+            flush();
+        }
+    };
+    //
+    private EventChannel.EventSink delegate;
+    private final ArrayList<Object> pending = new ArrayList<>();
+    // the drop callback of the player of each pending event, in the same order
+    private final ArrayList<Runnable> pendingOnDropped = new ArrayList<>();
+    private boolean flushScheduled = false;
+    // the players keep their sinks, they must not add to a batch nobody sends anymore
+    private boolean isDisposed = false;
+
+    MediaEventBatcher(BinaryMessenger binaryMessenger, int capacity, QueuingEventSink.OverflowPolicy overflowPolicy) {
+        this.capacity = Math.max(1, capacity);
+        this.overflowPolicy = overflowPolicy;
+        eventChannel = new EventChannel(binaryMessenger, CHANNEL_NAME);
+        eventChannel.setStreamHandler(
+                new EventChannel.StreamHandler() {
+                    @Override
+                    public void onListen(Object o, EventChannel.EventSink sink) {
+                        delegate = sink;
+                        scheduleFlush();
+                    }
+
+                    @Override
+                    public void onCancel(Object o) {
+                        delegate = null;
+                        dropPending();
+                    }
+                });
+    }
+
+    void dispose() {
+        eventChannel.setStreamHandler(null);
+        if (flushScheduled)
+            Choreographer.getInstance().removeFrameCallback(flushOnFrame);
+        flushScheduled = false;
+        delegate = null;
+        isDisposed = true;
+        dropPending();
+    }
+
+    /**
+     * Returns a sink that adds the events of the given player to the batch, to be used as the
+     * delegate of the player's event queue in place of its own channel. {@code onEventsDropped}
+     * is run when one of its events is dropped.
+     */
+    EventChannel.EventSink sinkFor(long viewId, EventChannel.EventSink playerSink, Runnable onEventsDropped) {
+        return new PlayerSink(viewId, playerSink, onEventsDropped);
+    }
+
+    private final class PlayerSink implements EventChannel.EventSink {
+        final long viewId;
+        final EventChannel.EventSink playerSink;
+        final Runnable onEventsDropped;
+
+        PlayerSink(long viewId, EventChannel.EventSink playerSink, Runnable onEventsDropped) {
+            this.viewId = viewId;
+            this.playerSink = playerSink;
+            this.onEventsDropped = onEventsDropped;
+        }
+
+        @Override
+        public void success(Object event) {
+            if (isDisposed) {
+                onEventsDropped.run();
+                return;
+            }
+            if (pending.size() / 2 == capacity) {
+                if (overflowPolicy == QueuingEventSink.OverflowPolicy.DROP_NEWEST) {
+                    onEventsDropped.run();
+                    return;
+                }
+                // the events are not typed here, coalescing falls back to dropping the oldest
+                pending.remove(0);
+                pending.remove(0);
+                pendingOnDropped.remove(0).run();
+            }
+            pending.add(viewId);
+            pending.add(event);
+            pendingOnDropped.add(onEventsDropped);
+            scheduleFlush();
+        }
+
+        @Override
+        public void error(String code, String message, Object details) {
+            flush();
+            playerSink.error(code, message, details);
+        }
+
+        @Override
+        public void endOfStream() {
+            flush();
+            playerSink.endOfStream();
+        }
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduled || delegate == null || pending.isEmpty())
+            return;
+        flushScheduled = true;
+        Choreographer.getInstance().postFrameCallback(flushOnFrame);
+    }
+
+    private void flush() {
+        if (delegate == null || pending.isEmpty())
+            return;
+        // the channel encodes the list right away, so it can be reused for the next batch
+        delegate.success(pending);
+        pending.clear();
+        pendingOnDropped.clear();
+    }
+
+    private void dropPending() {
+        for (Runnable onEventsDropped : pendingOnDropped)
+            onEventsDropped.run();
+        pending.clear();
+        pendingOnDropped.clear();
+    }
+}
@@ -0,0 +1,93 @@
+package software.solid.fluttervlcplayer;
+
+/**
+ * Remembers the last values sent to Dart for a player, so time changed events only need to carry
+ * the fields that changed since.
+ *
+ * <p>The first time update after creation, subscription or {@link #resync()} reports every field.
+ *
+ * <p>This class is not thread-safe. All calls must be done on the player event thread.
+ */
+final class MediaEventDeltaTracker {
+
+    static final int SIZE = 1;
+    static final int SPEED = 1 << 1;
+    static final int POSITION = 1 << 2;
+    static final int DURATION = 1 << 3;
+    static final int BUFFER = 1 << 4;
+    static final int AUDIO_TRACKS_COUNT = 1 << 5;
+    static final int ACTIVE_AUDIO_TRACK = 1 << 6;
+    static final int SPU_TRACKS_COUNT = 1 << 7;
+    static final int ACTIVE_SPU_TRACK = 1 << 8;
+    static final int IS_PLAYING = 1 << 9;
+    static final int ALL = (1 << 10) - 1;
+
+    private boolean resync = true;
+    private int width;
+    private int height;
+    private float speed;
+    private long position;
+    private long duration;
+    private float buffer;
+    private int audioTracksCount;
+    private int activeAudioTrack;
+    private int spuTracksCount;
+    private int activeSpuTrack;
+    private boolean isPlaying;
+
+    /**
+     * Makes the next time update a full snapshot.
+     */
+    void resync() {
+        resync = true;
+    }
+
+    /**
+     * Records the values carried by a playing event, which the Dart side applies as a whole.
+     */
+    void playing(int width, int height, float speed, long duration, int audioTracksCount, int activeAudioTrack, int spuTracksCount, int activeSpuTrack) {
+        this.width = width;
+        this.height = height;
+        this.speed = speed;
+        this.duration = duration;
+        this.audioTracksCount = audioTracksCount;
+        this.activeAudioTrack = activeAudioTrack;
+        this.spuTracksCount = spuTracksCount;
+        this.activeSpuTrack = activeSpuTrack;
+        this.isPlaying = true;
+    }
+
+    /**
+     * Records the values of a time update and returns the mask of fields that must be sent.
+     */
+    int timeChanged(int width, int height, float speed, long position, long duration, float buffer, int audioTracksCount, int activeAudioTrack, int spuTracksCount, int activeSpuTrack, boolean isPlaying) {
+        int changed = 0;
+        if (resync) {
+            changed = ALL;
+            resync = false;
+        } else {
+            if (width != this.width || height != this.height) changed |= SIZE;
+            if (speed != this.speed) changed |= SPEED;
+            if (position != this.position) changed |= POSITION;
+            if (duration != this.duration) changed |= DURATION;
+            if (buffer != this.buffer) changed |= BUFFER;
+            if (audioTracksCount != this.audioTracksCount) changed |= AUDIO_TRACKS_COUNT;
+            if (activeAudioTrack != this.activeAudioTrack) changed |= ACTIVE_AUDIO_TRACK;
+            if (spuTracksCount != this.spuTracksCount) changed |= SPU_TRACKS_COUNT;
+            if (activeSpuTrack != this.activeSpuTrack) changed |= ACTIVE_SPU_TRACK;
+            if (isPlaying != this.isPlaying) changed |= IS_PLAYING;
+        }
+        this.width = width;
+        this.height = height;
+        this.speed = speed;
+        this.position = position;
+        this.duration = duration;
+        this.buffer = buffer;
+        this.audioTracksCount = audioTracksCount;
+        this.activeAudioTrack = activeAudioTrack;
+        this.spuTracksCount = spuTracksCount;
+        this.activeSpuTrack = activeSpuTrack;
+        this.isPlaying = isPlaying;
+        return changed;
+    }
+}
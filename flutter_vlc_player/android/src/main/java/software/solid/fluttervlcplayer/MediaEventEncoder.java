@@ -0,0 +1,34 @@
+package software.solid.fluttervlcplayer;
+
+/**
+ * Builds the objects sent over the media event channel for each player event.
+ */
+interface MediaEventEncoder {
+
+    Object opening();
+
+    Object paused();
+
+    Object stopped();
+
+    Object playing(int width, int height, float speed, long duration, int audioTracksCount, int activeAudioTrack, int spuTracksCount, int activeSpuTrack);
+
+    Object ended(long position);
+
+    /**
+     * Encodes a time update carrying only the fields set in {@code changedFields}, a mask of
+     * {@link MediaEventDeltaTracker} field bits.
+     */
+    Object timeChanged(int changedFields, int width, int height, float speed, long position, long duration, float buffer, int audioTracksCount, int activeAudioTrack, int spuTracksCount, int activeSpuTrack, boolean isPlaying);
+
+    Object error();
+
+    Object positionAnchor(long position, float speed, long timestampMicros, boolean isPlaying);
+
+    Object recording(boolean isRecording, String recordPath);
+
+    /**
+     * Encodes the values read from a media prepared off the main thread, before it starts playing.
+     */
+    Object prepared(long duration, int width, int height, int audioTracksCount, int spuTracksCount, int videoTracksCount);
+}
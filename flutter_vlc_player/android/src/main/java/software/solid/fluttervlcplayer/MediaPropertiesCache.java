@@ -0,0 +1,73 @@
+package software.solid.fluttervlcplayer;
+
+import org.videolan.libvlc.Media;
+import org.videolan.libvlc.MediaPlayer;
+
+/**
+ * Caches the media properties reported with every time update, so a tick does not need a burst
+ * of JNI calls for values that rarely change.
+ *
+ * <p>Each group of values is refreshed from the player only when an event says it may have
+ * changed: video size on Vout, tracks on ES events, length on LengthChanged and rate when it is
+ * set. The playing flag follows the player state events.
+ *
+ * <p>This class is not thread-safe. All calls must be done on the player event thread.
+ */
+final class MediaPropertiesCache {
+
+    int width = 0;
+    int height = 0;
+    float rate = 1f;
+    long length = 0;
+    int audioTracksCount = 0;
+    int audioTrack = -1;
+    int spuTracksCount = 0;
+    int spuTrack = -1;
+    boolean isPlaying = false;
+
+    void reset() {
+        width = 0;
+        height = 0;
+        rate = 1f;
+        length = 0;
+        audioTracksCount = 0;
+        audioTrack = -1;
+        spuTracksCount = 0;
+        spuTrack = -1;
+        isPlaying = false;
+    }
+
+    void refreshAll(MediaPlayer mediaPlayer) {
+        refreshVideoSize(mediaPlayer);
+        refreshTracks(mediaPlayer);
+        refreshLength(mediaPlayer);
+        refreshRate(mediaPlayer);
+    }
+
+    void refreshVideoSize(MediaPlayer mediaPlayer) {
+        // Current video track is only available when the media is playing
+        Media.VideoTrack currentVideoTrack = mediaPlayer.getCurrentVideoTrack();
+        if (currentVideoTrack != null) {
+            width = currentVideoTrack.width;
+            height = currentVideoTrack.height;
+        } else {
+            width = 0;
+            height = 0;
+        }
+    }
+
+    void refreshTracks(MediaPlayer mediaPlayer) {
+        audioTracksCount = mediaPlayer.getAudioTracksCount();
+        audioTrack = mediaPlayer.getAudioTrack();
+        spuTracksCount = mediaPlayer.getSpuTracksCount();
+        spuTrack = mediaPlayer.getSpuTrack();
+    }
+
+    void refreshLength(MediaPlayer mediaPlayer) {
+        length = mediaPlayer.getLength();
+    }
+
+    void refreshRate(MediaPlayer mediaPlayer) {
+        rate = mediaPlayer.getRate();
+    }
+}
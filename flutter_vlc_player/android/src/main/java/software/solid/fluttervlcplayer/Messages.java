@@ -154,6 +154,36 @@ public class Messages {
       this.options = setterArg;
     }
 
+    private @Nullable Boolean binaryEvents;
+
+    public @Nullable Boolean getBinaryEvents() {
+      return binaryEvents;
+    }
+
+    public void setBinaryEvents(@Nullable Boolean setterArg) {
+      this.binaryEvents = setterArg;
+    }
+
+    private @Nullable Long maxPositionUpdatesPerSecond;
+
+    public @Nullable Long getMaxPositionUpdatesPerSecond() {
+      return maxPositionUpdatesPerSecond;
+    }
+
+    public void setMaxPositionUpdatesPerSecond(@Nullable Long setterArg) {
+      this.maxPositionUpdatesPerSecond = setterArg;
+    }
+
+    private @Nullable Boolean positionAnchors;
+
+    public @Nullable Boolean getPositionAnchors() {
+      return positionAnchors;
+    }
+
+    public void setPositionAnchors(@Nullable Boolean setterArg) {
+      this.positionAnchors = setterArg;
+    }
+
     /** Constructor is non-public to enforce null safety; use Builder. */
     CreateMessage() {}
 
@@ -162,12 +192,12 @@ public class Messages {
       if (this == o) { return true; }
       if (o == null || getClass() != o.getClass()) { return false; }
       CreateMessage that = (CreateMessage) o;
-      return playerId.equals(that.playerId) && uri.equals(that.uri) && type.equals(that.type) && Objects.equals(packageName, that.packageName) && autoPlay.equals(that.autoPlay) && Objects.equals(hwAcc, that.hwAcc) && options.equals(that.options);
+      return playerId.equals(that.playerId) && uri.equals(that.uri) && type.equals(that.type) && Objects.equals(packageName, that.packageName) && autoPlay.equals(that.autoPlay) && Objects.equals(hwAcc, that.hwAcc) && options.equals(that.options) && Objects.equals(binaryEvents, that.binaryEvents) && Objects.equals(maxPositionUpdatesPerSecond, that.maxPositionUpdatesPerSecond) && Objects.equals(positionAnchors, that.positionAnchors);
     }
 
     @Override
     public int hashCode() {
-      return Objects.hash(playerId, uri, type, packageName, autoPlay, hwAcc, options);
+      return Objects.hash(playerId, uri, type, packageName, autoPlay, hwAcc, options, binaryEvents, maxPositionUpdatesPerSecond, positionAnchors);
     }
 
     public static final class Builder {
@@ -228,6 +258,30 @@ public class Messages {
         return this;
       }
 
+      private @Nullable Boolean binaryEvents;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setBinaryEvents(@Nullable Boolean setterArg) {
+        this.binaryEvents = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxPositionUpdatesPerSecond;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMaxPositionUpdatesPerSecond(@Nullable Long setterArg) {
+        this.maxPositionUpdatesPerSecond = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean positionAnchors;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setPositionAnchors(@Nullable Boolean setterArg) {
+        this.positionAnchors = setterArg;
+        return this;
+      }
+
       public @NonNull CreateMessage build() {
         CreateMessage pigeonReturn = new CreateMessage();
         pigeonReturn.setPlayerId(playerId);
@@ -237,13 +291,16 @@ public class Messages {
         pigeonReturn.setAutoPlay(autoPlay);
         pigeonReturn.setHwAcc(hwAcc);
         pigeonReturn.setOptions(options);
+        pigeonReturn.setBinaryEvents(binaryEvents);
+        pigeonReturn.setMaxPositionUpdatesPerSecond(maxPositionUpdatesPerSecond);
+        pigeonReturn.setPositionAnchors(positionAnchors);
         return pigeonReturn;
       }
     }
 
     @NonNull
     ArrayList<Object> toList() {
-      ArrayList<Object> toListResult = new ArrayList<>(7);
+      ArrayList<Object> toListResult = new ArrayList<>(10);
       toListResult.add(playerId);
       toListResult.add(uri);
       toListResult.add(type);
@@ -251,6 +308,9 @@ public class Messages {
       toListResult.add(autoPlay);
       toListResult.add(hwAcc);
       toListResult.add(options);
+      toListResult.add(binaryEvents);
+      toListResult.add(maxPositionUpdatesPerSecond);
+      toListResult.add(positionAnchors);
       return toListResult;
     }
 
@@ -270,6 +330,12 @@ public class Messages {
       pigeonResult.setHwAcc((Long) hwAcc);
       Object options = pigeonVar_list.get(6);
       pigeonResult.setOptions((List<String>) options);
+      Object binaryEvents = pigeonVar_list.get(7);
+      pigeonResult.setBinaryEvents((Boolean) binaryEvents);
+      Object maxPositionUpdatesPerSecond = pigeonVar_list.get(8);
+      pigeonResult.setMaxPositionUpdatesPerSecond((Long) maxPositionUpdatesPerSecond);
+      Object positionAnchors = pigeonVar_list.get(9);
+      pigeonResult.setPositionAnchors((Boolean) positionAnchors);
       return pigeonResult;
     }
   }
@@ -820,193 +886,3259 @@ public class Messages {
     }
   }
 
-  private static class PigeonCodec extends StandardMessageCodec {
-    public static final PigeonCodec INSTANCE = new PigeonCodec();
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class PlayerCommand {
+    private @NonNull Long playerId;
 
-    private PigeonCodec() {}
+    public @NonNull Long getPlayerId() {
+      return playerId;
+    }
 
-    @Override
-    protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
-      switch (type) {
-        case (byte) 129:
-          return CreateMessage.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 130:
-          return SetMediaMessage.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 131:
-          return SpuTracksMessage.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 132:
-          return AddSubtitleMessage.fromList((ArrayList<Object>) readValue(buffer));
-        case (byte) 133:
-          return AddAudioMessage.fromList((ArrayList<Object>) readValue(buffer));
-        default:
-          return super.readValueOfType(type, buffer);
+    public void setPlayerId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"playerId\" is null.");
       }
+      this.playerId = setterArg;
     }
 
-    @Override
-    protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
-      if (value instanceof CreateMessage) {
-        stream.write(129);
-        writeValue(stream, ((CreateMessage) value).toList());
-      } else if (value instanceof SetMediaMessage) {
-        stream.write(130);
-        writeValue(stream, ((SetMediaMessage) value).toList());
-      } else if (value instanceof SpuTracksMessage) {
-        stream.write(131);
-        writeValue(stream, ((SpuTracksMessage) value).toList());
-      } else if (value instanceof AddSubtitleMessage) {
-        stream.write(132);
-        writeValue(stream, ((AddSubtitleMessage) value).toList());
-      } else if (value instanceof AddAudioMessage) {
-        stream.write(133);
-        writeValue(stream, ((AddAudioMessage) value).toList());
-      } else {
-        super.writeValue(stream, value);
+    private @NonNull Long type;
+
+    public @NonNull Long getType() {
+      return type;
+    }
+
+    public void setType(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"type\" is null.");
       }
+      this.type = setterArg;
     }
-  }
 
-  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
-  public interface VlcPlayerApi {
+    private @Nullable Long intValue;
 
-    void initialize();
+    public @Nullable Long getIntValue() {
+      return intValue;
+    }
 
-    void create(@NonNull CreateMessage msg);
+    public void setIntValue(@Nullable Long setterArg) {
+      this.intValue = setterArg;
+    }
 
-    void dispose(@NonNull Long playerId);
+    private @Nullable Double doubleValue;
 
-    void setStreamUrl(@NonNull SetMediaMessage msg);
+    public @Nullable Double getDoubleValue() {
+      return doubleValue;
+    }
 
-    void play(@NonNull Long playerId);
+    public void setDoubleValue(@Nullable Double setterArg) {
+      this.doubleValue = setterArg;
+    }
 
-    void pause(@NonNull Long playerId);
+    private @Nullable Boolean boolValue;
 
-    void stop(@NonNull Long playerId);
+    public @Nullable Boolean getBoolValue() {
+      return boolValue;
+    }
 
-    @NonNull 
-    Boolean isPlaying(@NonNull Long playerId);
+    public void setBoolValue(@Nullable Boolean setterArg) {
+      this.boolValue = setterArg;
+    }
 
-    @NonNull 
-    Boolean isSeekable(@NonNull Long playerId);
+    private @Nullable String stringValue;
 
-    void setLooping(@NonNull Long playerId, @NonNull Boolean isLooping);
+    public @Nullable String getStringValue() {
+      return stringValue;
+    }
 
-    void seekTo(@NonNull Long playerId, @NonNull Long position);
+    public void setStringValue(@Nullable String setterArg) {
+      this.stringValue = setterArg;
+    }
 
-    @NonNull 
-    Long position(@NonNull Long playerId);
+    private @Nullable SetMediaMessage media;
 
-    @NonNull 
-    Long duration(@NonNull Long playerId);
+    public @Nullable SetMediaMessage getMedia() {
+      return media;
+    }
 
-    void setVolume(@NonNull Long playerId, @NonNull Long volume);
+    public void setMedia(@Nullable SetMediaMessage setterArg) {
+      this.media = setterArg;
+    }
 
-    @NonNull 
-    Long getVolume(@NonNull Long playerId);
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlayerCommand() {}
 
-    void setPlaybackSpeed(@NonNull Long playerId, @NonNull Double speed);
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      PlayerCommand that = (PlayerCommand) o;
+      return playerId.equals(that.playerId) && type.equals(that.type) && Objects.equals(intValue, that.intValue) && Objects.equals(doubleValue, that.doubleValue) && Objects.equals(boolValue, that.boolValue) && Objects.equals(stringValue, that.stringValue) && Objects.equals(media, that.media);
+    }
 
-    @NonNull 
-    Double getPlaybackSpeed(@NonNull Long playerId);
+    @Override
+    public int hashCode() {
+      return Objects.hash(playerId, type, intValue, doubleValue, boolValue, stringValue, media);
+    }
 
-    @Nullable 
-    String takeSnapshot(@NonNull Long playerId);
+    public static final class Builder {
 
-    @NonNull 
-    Long getSpuTracksCount(@NonNull Long playerId);
+      private @Nullable Long playerId;
 
-    @NonNull 
-    Map<Long, String> getSpuTracks(@NonNull Long playerId);
+      @CanIgnoreReturnValue
+      public @NonNull Builder setPlayerId(@NonNull Long setterArg) {
+        this.playerId = setterArg;
+        return this;
+      }
 
-    void setSpuTrack(@NonNull Long playerId, @NonNull Long spuTrackNumber);
+      private @Nullable Long type;
 
-    @NonNull 
-    Long getSpuTrack(@NonNull Long playerId);
+      @CanIgnoreReturnValue
+      public @NonNull Builder setType(@NonNull Long setterArg) {
+        this.type = setterArg;
+        return this;
+      }
 
-    void setSpuDelay(@NonNull Long playerId, @NonNull Long delay);
+      private @Nullable Long intValue;
 
-    @NonNull 
-    Long getSpuDelay(@NonNull Long playerId);
+      @CanIgnoreReturnValue
+      public @NonNull Builder setIntValue(@Nullable Long setterArg) {
+        this.intValue = setterArg;
+        return this;
+      }
 
-    void addSubtitleTrack(@NonNull AddSubtitleMessage msg);
+      private @Nullable Double doubleValue;
 
-    @NonNull 
-    Long getAudioTracksCount(@NonNull Long playerId);
+      @CanIgnoreReturnValue
+      public @NonNull Builder setDoubleValue(@Nullable Double setterArg) {
+        this.doubleValue = setterArg;
+        return this;
+      }
 
-    @NonNull 
-    Map<Long, String> getAudioTracks(@NonNull Long playerId);
+      private @Nullable Boolean boolValue;
 
-    void setAudioTrack(@NonNull Long playerId, @NonNull Long audioTrackNumber);
+      @CanIgnoreReturnValue
+      public @NonNull Builder setBoolValue(@Nullable Boolean setterArg) {
+        this.boolValue = setterArg;
+        return this;
+      }
 
-    @NonNull 
-    Long getAudioTrack(@NonNull Long playerId);
+      private @Nullable String stringValue;
 
-    void setAudioDelay(@NonNull Long playerId, @NonNull Long delay);
+      @CanIgnoreReturnValue
+      public @NonNull Builder setStringValue(@Nullable String setterArg) {
+        this.stringValue = setterArg;
+        return this;
+      }
 
-    @NonNull 
-    Long getAudioDelay(@NonNull Long playerId);
+      private @Nullable SetMediaMessage media;
 
-    void addAudioTrack(@NonNull AddAudioMessage msg);
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMedia(@Nullable SetMediaMessage setterArg) {
+        this.media = setterArg;
+        return this;
+      }
 
-    @NonNull 
-    Long getVideoTracksCount(@NonNull Long playerId);
+      public @NonNull PlayerCommand build() {
+        PlayerCommand pigeonReturn = new PlayerCommand();
+        pigeonReturn.setPlayerId(playerId);
+        pigeonReturn.setType(type);
+        pigeonReturn.setIntValue(intValue);
+        pigeonReturn.setDoubleValue(doubleValue);
+        pigeonReturn.setBoolValue(boolValue);
+        pigeonReturn.setStringValue(stringValue);
+        pigeonReturn.setMedia(media);
+        return pigeonReturn;
+      }
+    }
 
-    @NonNull 
-    Map<Long, String> getVideoTracks(@NonNull Long playerId);
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(7);
+      toListResult.add(playerId);
+      toListResult.add(type);
+      toListResult.add(intValue);
+      toListResult.add(doubleValue);
+      toListResult.add(boolValue);
+      toListResult.add(stringValue);
+      toListResult.add(media);
+      return toListResult;
+    }
 
-    void setVideoTrack(@NonNull Long playerId, @NonNull Long videoTrackNumber);
+    static @NonNull PlayerCommand fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      PlayerCommand pigeonResult = new PlayerCommand();
+      Object playerId = pigeonVar_list.get(0);
+      pigeonResult.setPlayerId((Long) playerId);
+      Object type = pigeonVar_list.get(1);
+      pigeonResult.setType((Long) type);
+      Object intValue = pigeonVar_list.get(2);
+      pigeonResult.setIntValue((Long) intValue);
+      Object doubleValue = pigeonVar_list.get(3);
+      pigeonResult.setDoubleValue((Double) doubleValue);
+      Object boolValue = pigeonVar_list.get(4);
+      pigeonResult.setBoolValue((Boolean) boolValue);
+      Object stringValue = pigeonVar_list.get(5);
+      pigeonResult.setStringValue((String) stringValue);
+      Object media = pigeonVar_list.get(6);
+      pigeonResult.setMedia((SetMediaMessage) media);
+      return pigeonResult;
+    }
+  }
 
-    @NonNull 
-    Long getVideoTrack(@NonNull Long playerId);
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class PlayerCommandResult {
+    private @NonNull Boolean success;
 
-    void setVideoScale(@NonNull Long playerId, @NonNull Double scale);
+    public @NonNull Boolean getSuccess() {
+      return success;
+    }
 
-    @NonNull 
-    Double getVideoScale(@NonNull Long playerId);
+    public void setSuccess(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"success\" is null.");
+      }
+      this.success = setterArg;
+    }
 
-    void setVideoAspectRatio(@NonNull Long playerId, @NonNull String aspectRatio);
+    private @Nullable String error;
 
-    @NonNull 
-    String getVideoAspectRatio(@NonNull Long playerId);
+    public @Nullable String getError() {
+      return error;
+    }
 
-    @NonNull 
-    List<String> getAvailableRendererServices(@NonNull Long playerId);
+    public void setError(@Nullable String setterArg) {
+      this.error = setterArg;
+    }
 
-    void startRendererScanning(@NonNull Long playerId, @NonNull String rendererService);
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlayerCommandResult() {}
 
-    void stopRendererScanning(@NonNull Long playerId);
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      PlayerCommandResult that = (PlayerCommandResult) o;
+      return success.equals(that.success) && Objects.equals(error, that.error);
+    }
 
-    @NonNull 
-    Map<String, String> getRendererDevices(@NonNull Long playerId);
+    @Override
+    public int hashCode() {
+      return Objects.hash(success, error);
+    }
 
-    void castToRenderer(@NonNull Long playerId, @NonNull String rendererId);
+    public static final class Builder {
 
-    @NonNull 
-    Boolean startRecording(@NonNull Long playerId, @NonNull String saveDirectory);
+      private @Nullable Boolean success;
 
-    @NonNull 
-    Boolean stopRecording(@NonNull Long playerId);
+      @CanIgnoreReturnValue
+      public @NonNull Builder setSuccess(@NonNull Boolean setterArg) {
+        this.success = setterArg;
+        return this;
+      }
 
-    /** The codec used by VlcPlayerApi. */
-    static @NonNull MessageCodec<Object> getCodec() {
-      return PigeonCodec.INSTANCE;
+      private @Nullable String error;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setError(@Nullable String setterArg) {
+        this.error = setterArg;
+        return this;
+      }
+
+      public @NonNull PlayerCommandResult build() {
+        PlayerCommandResult pigeonReturn = new PlayerCommandResult();
+        pigeonReturn.setSuccess(success);
+        pigeonReturn.setError(error);
+        return pigeonReturn;
+      }
     }
-    /**Sets up an instance of `VlcPlayerApi` to handle messages through the `binaryMessenger`. */
-    static void setUp(@NonNull BinaryMessenger binaryMessenger, @Nullable VlcPlayerApi api) {
-      setUp(binaryMessenger, "", api);
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(2);
+      toListResult.add(success);
+      toListResult.add(error);
+      return toListResult;
     }
-    static void setUp(@NonNull BinaryMessenger binaryMessenger, @NonNull String messageChannelSuffix, @Nullable VlcPlayerApi api) {
-      messageChannelSuffix = messageChannelSuffix.isEmpty() ? "" : "." + messageChannelSuffix;
+
+    static @NonNull PlayerCommandResult fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      PlayerCommandResult pigeonResult = new PlayerCommandResult();
+      Object success = pigeonVar_list.get(0);
+      pigeonResult.setSuccess((Boolean) success);
+      Object error = pigeonVar_list.get(1);
+      pigeonResult.setError((String) error);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class SnapshotMessage {
+    private @NonNull Long playerId;
+
+    public @NonNull Long getPlayerId() {
+      return playerId;
+    }
+
+    public void setPlayerId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"playerId\" is null.");
+      }
+      this.playerId = setterArg;
+    }
+
+    private @NonNull Long format;
+
+    public @NonNull Long getFormat() {
+      return format;
+    }
+
+    public void setFormat(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"format\" is null.");
+      }
+      this.format = setterArg;
+    }
+
+    private @NonNull Long quality;
+
+    public @NonNull Long getQuality() {
+      return quality;
+    }
+
+    public void setQuality(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"quality\" is null.");
+      }
+      this.quality = setterArg;
+    }
+
+    private @Nullable Long maxWidth;
+
+    public @Nullable Long getMaxWidth() {
+      return maxWidth;
+    }
+
+    public void setMaxWidth(@Nullable Long setterArg) {
+      this.maxWidth = setterArg;
+    }
+
+    private @Nullable Long maxHeight;
+
+    public @Nullable Long getMaxHeight() {
+      return maxHeight;
+    }
+
+    public void setMaxHeight(@Nullable Long setterArg) {
+      this.maxHeight = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    SnapshotMessage() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      SnapshotMessage that = (SnapshotMessage) o;
+      return playerId.equals(that.playerId) && format.equals(that.format) && quality.equals(that.quality) && Objects.equals(maxWidth, that.maxWidth) && Objects.equals(maxHeight, that.maxHeight);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(playerId, format, quality, maxWidth, maxHeight);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long playerId;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setPlayerId(@NonNull Long setterArg) {
+        this.playerId = setterArg;
+        return this;
+      }
+
+      private @Nullable Long format;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setFormat(@NonNull Long setterArg) {
+        this.format = setterArg;
+        return this;
+      }
+
+      private @Nullable Long quality;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setQuality(@NonNull Long setterArg) {
+        this.quality = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxWidth;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMaxWidth(@Nullable Long setterArg) {
+        this.maxWidth = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxHeight;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMaxHeight(@Nullable Long setterArg) {
+        this.maxHeight = setterArg;
+        return this;
+      }
+
+      public @NonNull SnapshotMessage build() {
+        SnapshotMessage pigeonReturn = new SnapshotMessage();
+        pigeonReturn.setPlayerId(playerId);
+        pigeonReturn.setFormat(format);
+        pigeonReturn.setQuality(quality);
+        pigeonReturn.setMaxWidth(maxWidth);
+        pigeonReturn.setMaxHeight(maxHeight);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(5);
+      toListResult.add(playerId);
+      toListResult.add(format);
+      toListResult.add(quality);
+      toListResult.add(maxWidth);
+      toListResult.add(maxHeight);
+      return toListResult;
+    }
+
+    static @NonNull SnapshotMessage fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      SnapshotMessage pigeonResult = new SnapshotMessage();
+      Object playerId = pigeonVar_list.get(0);
+      pigeonResult.setPlayerId((Long) playerId);
+      Object format = pigeonVar_list.get(1);
+      pigeonResult.setFormat((Long) format);
+      Object quality = pigeonVar_list.get(2);
+      pigeonResult.setQuality((Long) quality);
+      Object maxWidth = pigeonVar_list.get(3);
+      pigeonResult.setMaxWidth((Long) maxWidth);
+      Object maxHeight = pigeonVar_list.get(4);
+      pigeonResult.setMaxHeight((Long) maxHeight);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class SnapshotResultMessage {
+    private @Nullable byte[] bytes;
+
+    public @Nullable byte[] getBytes() {
+      return bytes;
+    }
+
+    public void setBytes(@Nullable byte[] setterArg) {
+      this.bytes = setterArg;
+    }
+
+    private @NonNull Long width;
+
+    public @NonNull Long getWidth() {
+      return width;
+    }
+
+    public void setWidth(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"width\" is null.");
+      }
+      this.width = setterArg;
+    }
+
+    private @NonNull Long height;
+
+    public @NonNull Long getHeight() {
+      return height;
+    }
+
+    public void setHeight(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"height\" is null.");
+      }
+      this.height = setterArg;
+    }
+
+    private @NonNull Long readMicros;
+
+    public @NonNull Long getReadMicros() {
+      return readMicros;
+    }
+
+    public void setReadMicros(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"readMicros\" is null.");
+      }
+      this.readMicros = setterArg;
+    }
+
+    private @NonNull Long encodeMicros;
+
+    public @NonNull Long getEncodeMicros() {
+      return encodeMicros;
+    }
+
+    public void setEncodeMicros(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"encodeMicros\" is null.");
+      }
+      this.encodeMicros = setterArg;
+    }
+
+    private @NonNull Long totalMicros;
+
+    public @NonNull Long getTotalMicros() {
+      return totalMicros;
+    }
+
+    public void setTotalMicros(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"totalMicros\" is null.");
+      }
+      this.totalMicros = setterArg;
+    }
+
+    private @NonNull Boolean coalesced;
+
+    public @NonNull Boolean getCoalesced() {
+      return coalesced;
+    }
+
+    public void setCoalesced(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"coalesced\" is null.");
+      }
+      this.coalesced = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    SnapshotResultMessage() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      SnapshotResultMessage that = (SnapshotResultMessage) o;
+      return Arrays.equals(bytes, that.bytes) && width.equals(that.width) && height.equals(that.height) && readMicros.equals(that.readMicros) && encodeMicros.equals(that.encodeMicros) && totalMicros.equals(that.totalMicros) && coalesced.equals(that.coalesced);
+    }
+
+    @Override
+    public int hashCode() {
+      int pigeonVar_result = Objects.hash(width, height, readMicros, encodeMicros, totalMicros, coalesced);
+      pigeonVar_result = 31 * pigeonVar_result + Arrays.hashCode(bytes);
+      return pigeonVar_result;
+    }
+
+    public static final class Builder {
+
+      private @Nullable byte[] bytes;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setBytes(@Nullable byte[] setterArg) {
+        this.bytes = setterArg;
+        return this;
+      }
+
+      private @Nullable Long width;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setWidth(@NonNull Long setterArg) {
+        this.width = setterArg;
+        return this;
+      }
+
+      private @Nullable Long height;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setHeight(@NonNull Long setterArg) {
+        this.height = setterArg;
+        return this;
+      }
+
+      private @Nullable Long readMicros;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setReadMicros(@NonNull Long setterArg) {
+        this.readMicros = setterArg;
+        return this;
+      }
+
+      private @Nullable Long encodeMicros;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setEncodeMicros(@NonNull Long setterArg) {
+        this.encodeMicros = setterArg;
+        return this;
+      }
+
+      private @Nullable Long totalMicros;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setTotalMicros(@NonNull Long setterArg) {
+        this.totalMicros = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean coalesced;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setCoalesced(@NonNull Boolean setterArg) {
+        this.coalesced = setterArg;
+        return this;
+      }
+
+      public @NonNull SnapshotResultMessage build() {
+        SnapshotResultMessage pigeonReturn = new SnapshotResultMessage();
+        pigeonReturn.setBytes(bytes);
+        pigeonReturn.setWidth(width);
+        pigeonReturn.setHeight(height);
+        pigeonReturn.setReadMicros(readMicros);
+        pigeonReturn.setEncodeMicros(encodeMicros);
+        pigeonReturn.setTotalMicros(totalMicros);
+        pigeonReturn.setCoalesced(coalesced);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(7);
+      toListResult.add(bytes);
+      toListResult.add(width);
+      toListResult.add(height);
+      toListResult.add(readMicros);
+      toListResult.add(encodeMicros);
+      toListResult.add(totalMicros);
+      toListResult.add(coalesced);
+      return toListResult;
+    }
+
+    static @NonNull SnapshotResultMessage fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      SnapshotResultMessage pigeonResult = new SnapshotResultMessage();
+      Object bytes = pigeonVar_list.get(0);
+      pigeonResult.setBytes((byte[]) bytes);
+      Object width = pigeonVar_list.get(1);
+      pigeonResult.setWidth((Long) width);
+      Object height = pigeonVar_list.get(2);
+      pigeonResult.setHeight((Long) height);
+      Object readMicros = pigeonVar_list.get(3);
+      pigeonResult.setReadMicros((Long) readMicros);
+      Object encodeMicros = pigeonVar_list.get(4);
+      pigeonResult.setEncodeMicros((Long) encodeMicros);
+      Object totalMicros = pigeonVar_list.get(5);
+      pigeonResult.setTotalMicros((Long) totalMicros);
+      Object coalesced = pigeonVar_list.get(6);
+      pigeonResult.setCoalesced((Boolean) coalesced);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class FrameTapMessage {
+    private @NonNull Long playerId;
+
+    public @NonNull Long getPlayerId() {
+      return playerId;
+    }
+
+    public void setPlayerId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"playerId\" is null.");
+      }
+      this.playerId = setterArg;
+    }
+
+    private @NonNull Double fps;
+
+    public @NonNull Double getFps() {
+      return fps;
+    }
+
+    public void setFps(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"fps\" is null.");
+      }
+      this.fps = setterArg;
+    }
+
+    private @NonNull Long format;
+
+    public @NonNull Long getFormat() {
+      return format;
+    }
+
+    public void setFormat(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"format\" is null.");
+      }
+      this.format = setterArg;
+    }
+
+    private @NonNull Long quality;
+
+    public @NonNull Long getQuality() {
+      return quality;
+    }
+
+    public void setQuality(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"quality\" is null.");
+      }
+      this.quality = setterArg;
+    }
+
+    private @Nullable Long maxWidth;
+
+    public @Nullable Long getMaxWidth() {
+      return maxWidth;
+    }
+
+    public void setMaxWidth(@Nullable Long setterArg) {
+      this.maxWidth = setterArg;
+    }
+
+    private @Nullable Long maxHeight;
+
+    public @Nullable Long getMaxHeight() {
+      return maxHeight;
+    }
+
+    public void setMaxHeight(@Nullable Long setterArg) {
+      this.maxHeight = setterArg;
+    }
+
+    private @NonNull Long bufferCount;
+
+    public @NonNull Long getBufferCount() {
+      return bufferCount;
+    }
+
+    public void setBufferCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"bufferCount\" is null.");
+      }
+      this.bufferCount = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    FrameTapMessage() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      FrameTapMessage that = (FrameTapMessage) o;
+      return playerId.equals(that.playerId) && fps.equals(that.fps) && format.equals(that.format) && quality.equals(that.quality) && Objects.equals(maxWidth, that.maxWidth) && Objects.equals(maxHeight, that.maxHeight) && bufferCount.equals(that.bufferCount);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(playerId, fps, format, quality, maxWidth, maxHeight, bufferCount);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long playerId;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setPlayerId(@NonNull Long setterArg) {
+        this.playerId = setterArg;
+        return this;
+      }
+
+      private @Nullable Double fps;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setFps(@NonNull Double setterArg) {
+        this.fps = setterArg;
+        return this;
+      }
+
+      private @Nullable Long format;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setFormat(@NonNull Long setterArg) {
+        this.format = setterArg;
+        return this;
+      }
+
+      private @Nullable Long quality;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setQuality(@NonNull Long setterArg) {
+        this.quality = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxWidth;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMaxWidth(@Nullable Long setterArg) {
+        this.maxWidth = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxHeight;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMaxHeight(@Nullable Long setterArg) {
+        this.maxHeight = setterArg;
+        return this;
+      }
+
+      private @Nullable Long bufferCount;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setBufferCount(@NonNull Long setterArg) {
+        this.bufferCount = setterArg;
+        return this;
+      }
+
+      public @NonNull FrameTapMessage build() {
+        FrameTapMessage pigeonReturn = new FrameTapMessage();
+        pigeonReturn.setPlayerId(playerId);
+        pigeonReturn.setFps(fps);
+        pigeonReturn.setFormat(format);
+        pigeonReturn.setQuality(quality);
+        pigeonReturn.setMaxWidth(maxWidth);
+        pigeonReturn.setMaxHeight(maxHeight);
+        pigeonReturn.setBufferCount(bufferCount);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(7);
+      toListResult.add(playerId);
+      toListResult.add(fps);
+      toListResult.add(format);
+      toListResult.add(quality);
+      toListResult.add(maxWidth);
+      toListResult.add(maxHeight);
+      toListResult.add(bufferCount);
+      return toListResult;
+    }
+
+    static @NonNull FrameTapMessage fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      FrameTapMessage pigeonResult = new FrameTapMessage();
+      Object playerId = pigeonVar_list.get(0);
+      pigeonResult.setPlayerId((Long) playerId);
+      Object fps = pigeonVar_list.get(1);
+      pigeonResult.setFps((Double) fps);
+      Object format = pigeonVar_list.get(2);
+      pigeonResult.setFormat((Long) format);
+      Object quality = pigeonVar_list.get(3);
+      pigeonResult.setQuality((Long) quality);
+      Object maxWidth = pigeonVar_list.get(4);
+      pigeonResult.setMaxWidth((Long) maxWidth);
+      Object maxHeight = pigeonVar_list.get(5);
+      pigeonResult.setMaxHeight((Long) maxHeight);
+      Object bufferCount = pigeonVar_list.get(6);
+      pigeonResult.setBufferCount((Long) bufferCount);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class MotionDetectionMessage {
+    private @NonNull Long playerId;
+
+    public @NonNull Long getPlayerId() {
+      return playerId;
+    }
+
+    public void setPlayerId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"playerId\" is null.");
+      }
+      this.playerId = setterArg;
+    }
+
+    private @NonNull Double fps;
+
+    public @NonNull Double getFps() {
+      return fps;
+    }
+
+    public void setFps(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"fps\" is null.");
+      }
+      this.fps = setterArg;
+    }
+
+    private @NonNull Long width;
+
+    public @NonNull Long getWidth() {
+      return width;
+    }
+
+    public void setWidth(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"width\" is null.");
+      }
+      this.width = setterArg;
+    }
+
+    private @NonNull Long height;
+
+    public @NonNull Long getHeight() {
+      return height;
+    }
+
+    public void setHeight(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"height\" is null.");
+      }
+      this.height = setterArg;
+    }
+
+    private @NonNull Double threshold;
+
+    public @NonNull Double getThreshold() {
+      return threshold;
+    }
+
+    public void setThreshold(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"threshold\" is null.");
+      }
+      this.threshold = setterArg;
+    }
+
+    private @NonNull Long pixelThreshold;
+
+    public @NonNull Long getPixelThreshold() {
+      return pixelThreshold;
+    }
+
+    public void setPixelThreshold(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"pixelThreshold\" is null.");
+      }
+      this.pixelThreshold = setterArg;
+    }
+
+    private @NonNull Double cpuBudget;
+
+    public @NonNull Double getCpuBudget() {
+      return cpuBudget;
+    }
+
+    public void setCpuBudget(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"cpuBudget\" is null.");
+      }
+      this.cpuBudget = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    MotionDetectionMessage() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      MotionDetectionMessage that = (MotionDetectionMessage) o;
+      return playerId.equals(that.playerId) && fps.equals(that.fps) && width.equals(that.width) && height.equals(that.height) && threshold.equals(that.threshold) && pixelThreshold.equals(that.pixelThreshold) && cpuBudget.equals(that.cpuBudget);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(playerId, fps, width, height, threshold, pixelThreshold, cpuBudget);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long playerId;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setPlayerId(@NonNull Long setterArg) {
+        this.playerId = setterArg;
+        return this;
+      }
+
+      private @Nullable Double fps;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setFps(@NonNull Double setterArg) {
+        this.fps = setterArg;
+        return this;
+      }
+
+      private @Nullable Long width;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setWidth(@NonNull Long setterArg) {
+        this.width = setterArg;
+        return this;
+      }
+
+      private @Nullable Long height;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setHeight(@NonNull Long setterArg) {
+        this.height = setterArg;
+        return this;
+      }
+
+      private @Nullable Double threshold;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setThreshold(@NonNull Double setterArg) {
+        this.threshold = setterArg;
+        return this;
+      }
+
+      private @Nullable Long pixelThreshold;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setPixelThreshold(@NonNull Long setterArg) {
+        this.pixelThreshold = setterArg;
+        return this;
+      }
+
+      private @Nullable Double cpuBudget;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setCpuBudget(@NonNull Double setterArg) {
+        this.cpuBudget = setterArg;
+        return this;
+      }
+
+      public @NonNull MotionDetectionMessage build() {
+        MotionDetectionMessage pigeonReturn = new MotionDetectionMessage();
+        pigeonReturn.setPlayerId(playerId);
+        pigeonReturn.setFps(fps);
+        pigeonReturn.setWidth(width);
+        pigeonReturn.setHeight(height);
+        pigeonReturn.setThreshold(threshold);
+        pigeonReturn.setPixelThreshold(pixelThreshold);
+        pigeonReturn.setCpuBudget(cpuBudget);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(7);
+      toListResult.add(playerId);
+      toListResult.add(fps);
+      toListResult.add(width);
+      toListResult.add(height);
+      toListResult.add(threshold);
+      toListResult.add(pixelThreshold);
+      toListResult.add(cpuBudget);
+      return toListResult;
+    }
+
+    static @NonNull MotionDetectionMessage fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      MotionDetectionMessage pigeonResult = new MotionDetectionMessage();
+      Object playerId = pigeonVar_list.get(0);
+      pigeonResult.setPlayerId((Long) playerId);
+      Object fps = pigeonVar_list.get(1);
+      pigeonResult.setFps((Double) fps);
+      Object width = pigeonVar_list.get(2);
+      pigeonResult.setWidth((Long) width);
+      Object height = pigeonVar_list.get(3);
+      pigeonResult.setHeight((Long) height);
+      Object threshold = pigeonVar_list.get(4);
+      pigeonResult.setThreshold((Double) threshold);
+      Object pixelThreshold = pigeonVar_list.get(5);
+      pigeonResult.setPixelThreshold((Long) pixelThreshold);
+      Object cpuBudget = pigeonVar_list.get(6);
+      pigeonResult.setCpuBudget((Double) cpuBudget);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class CommitNextResultMessage {
+    private @NonNull Boolean success;
+
+    public @NonNull Boolean getSuccess() {
+      return success;
+    }
+
+    public void setSuccess(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"success\" is null.");
+      }
+      this.success = setterArg;
+    }
+
+    private @NonNull Long swapMicros;
+
+    public @NonNull Long getSwapMicros() {
+      return swapMicros;
+    }
+
+    public void setSwapMicros(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"swapMicros\" is null.");
+      }
+      this.swapMicros = setterArg;
+    }
+
+    private @NonNull Long firstFrameMicros;
+
+    public @NonNull Long getFirstFrameMicros() {
+      return firstFrameMicros;
+    }
+
+    public void setFirstFrameMicros(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"firstFrameMicros\" is null.");
+      }
+      this.firstFrameMicros = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    CommitNextResultMessage() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      CommitNextResultMessage that = (CommitNextResultMessage) o;
+      return success.equals(that.success) && swapMicros.equals(that.swapMicros) && firstFrameMicros.equals(that.firstFrameMicros);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(success, swapMicros, firstFrameMicros);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Boolean success;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setSuccess(@NonNull Boolean setterArg) {
+        this.success = setterArg;
+        return this;
+      }
+
+      private @Nullable Long swapMicros;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setSwapMicros(@NonNull Long setterArg) {
+        this.swapMicros = setterArg;
+        return this;
+      }
+
+      private @Nullable Long firstFrameMicros;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setFirstFrameMicros(@NonNull Long setterArg) {
+        this.firstFrameMicros = setterArg;
+        return this;
+      }
+
+      public @NonNull CommitNextResultMessage build() {
+        CommitNextResultMessage pigeonReturn = new CommitNextResultMessage();
+        pigeonReturn.setSuccess(success);
+        pigeonReturn.setSwapMicros(swapMicros);
+        pigeonReturn.setFirstFrameMicros(firstFrameMicros);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(3);
+      toListResult.add(success);
+      toListResult.add(swapMicros);
+      toListResult.add(firstFrameMicros);
+      return toListResult;
+    }
+
+    static @NonNull CommitNextResultMessage fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      CommitNextResultMessage pigeonResult = new CommitNextResultMessage();
+      Object success = pigeonVar_list.get(0);
+      pigeonResult.setSuccess((Boolean) success);
+      Object swapMicros = pigeonVar_list.get(1);
+      pigeonResult.setSwapMicros((Long) swapMicros);
+      Object firstFrameMicros = pigeonVar_list.get(2);
+      pigeonResult.setFirstFrameMicros((Long) firstFrameMicros);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class PlayerStateMessage {
+    private @NonNull Long playerId;
+
+    public @NonNull Long getPlayerId() {
+      return playerId;
+    }
+
+    public void setPlayerId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"playerId\" is null.");
+      }
+      this.playerId = setterArg;
+    }
+
+    private @NonNull Boolean isPlaying;
+
+    public @NonNull Boolean getIsPlaying() {
+      return isPlaying;
+    }
+
+    public void setIsPlaying(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"isPlaying\" is null.");
+      }
+      this.isPlaying = setterArg;
+    }
+
+    private @NonNull Boolean isSeekable;
+
+    public @NonNull Boolean getIsSeekable() {
+      return isSeekable;
+    }
+
+    public void setIsSeekable(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"isSeekable\" is null.");
+      }
+      this.isSeekable = setterArg;
+    }
+
+    private @NonNull Long position;
+
+    public @NonNull Long getPosition() {
+      return position;
+    }
+
+    public void setPosition(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"position\" is null.");
+      }
+      this.position = setterArg;
+    }
+
+    private @NonNull Long duration;
+
+    public @NonNull Long getDuration() {
+      return duration;
+    }
+
+    public void setDuration(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"duration\" is null.");
+      }
+      this.duration = setterArg;
+    }
+
+    private @NonNull Long volume;
+
+    public @NonNull Long getVolume() {
+      return volume;
+    }
+
+    public void setVolume(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"volume\" is null.");
+      }
+      this.volume = setterArg;
+    }
+
+    private @NonNull Double playbackSpeed;
+
+    public @NonNull Double getPlaybackSpeed() {
+      return playbackSpeed;
+    }
+
+    public void setPlaybackSpeed(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"playbackSpeed\" is null.");
+      }
+      this.playbackSpeed = setterArg;
+    }
+
+    private @NonNull Long audioTrack;
+
+    public @NonNull Long getAudioTrack() {
+      return audioTrack;
+    }
+
+    public void setAudioTrack(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"audioTrack\" is null.");
+      }
+      this.audioTrack = setterArg;
+    }
+
+    private @NonNull Long audioDelay;
+
+    public @NonNull Long getAudioDelay() {
+      return audioDelay;
+    }
+
+    public void setAudioDelay(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"audioDelay\" is null.");
+      }
+      this.audioDelay = setterArg;
+    }
+
+    private @NonNull Long spuTrack;
+
+    public @NonNull Long getSpuTrack() {
+      return spuTrack;
+    }
+
+    public void setSpuTrack(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"spuTrack\" is null.");
+      }
+      this.spuTrack = setterArg;
+    }
+
+    private @NonNull Long spuDelay;
+
+    public @NonNull Long getSpuDelay() {
+      return spuDelay;
+    }
+
+    public void setSpuDelay(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"spuDelay\" is null.");
+      }
+      this.spuDelay = setterArg;
+    }
+
+    private @NonNull Long videoTrack;
+
+    public @NonNull Long getVideoTrack() {
+      return videoTrack;
+    }
+
+    public void setVideoTrack(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"videoTrack\" is null.");
+      }
+      this.videoTrack = setterArg;
+    }
+
+    private @NonNull Double videoScale;
+
+    public @NonNull Double getVideoScale() {
+      return videoScale;
+    }
+
+    public void setVideoScale(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"videoScale\" is null.");
+      }
+      this.videoScale = setterArg;
+    }
+
+    private @NonNull String videoAspectRatio;
+
+    public @NonNull String getVideoAspectRatio() {
+      return videoAspectRatio;
+    }
+
+    public void setVideoAspectRatio(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"videoAspectRatio\" is null.");
+      }
+      this.videoAspectRatio = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    PlayerStateMessage() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      PlayerStateMessage that = (PlayerStateMessage) o;
+      return playerId.equals(that.playerId) && isPlaying.equals(that.isPlaying) && isSeekable.equals(that.isSeekable) && position.equals(that.position) && duration.equals(that.duration) && volume.equals(that.volume) && playbackSpeed.equals(that.playbackSpeed) && audioTrack.equals(that.audioTrack) && audioDelay.equals(that.audioDelay) && spuTrack.equals(that.spuTrack) && spuDelay.equals(that.spuDelay) && videoTrack.equals(that.videoTrack) && videoScale.equals(that.videoScale) && videoAspectRatio.equals(that.videoAspectRatio);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(playerId, isPlaying, isSeekable, position, duration, volume, playbackSpeed, audioTrack, audioDelay, spuTrack, spuDelay, videoTrack, videoScale, videoAspectRatio);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long playerId;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setPlayerId(@NonNull Long setterArg) {
+        this.playerId = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean isPlaying;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setIsPlaying(@NonNull Boolean setterArg) {
+        this.isPlaying = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean isSeekable;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setIsSeekable(@NonNull Boolean setterArg) {
+        this.isSeekable = setterArg;
+        return this;
+      }
+
+      private @Nullable Long position;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setPosition(@NonNull Long setterArg) {
+        this.position = setterArg;
+        return this;
+      }
+
+      private @Nullable Long duration;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setDuration(@NonNull Long setterArg) {
+        this.duration = setterArg;
+        return this;
+      }
+
+      private @Nullable Long volume;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setVolume(@NonNull Long setterArg) {
+        this.volume = setterArg;
+        return this;
+      }
+
+      private @Nullable Double playbackSpeed;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setPlaybackSpeed(@NonNull Double setterArg) {
+        this.playbackSpeed = setterArg;
+        return this;
+      }
+
+      private @Nullable Long audioTrack;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setAudioTrack(@NonNull Long setterArg) {
+        this.audioTrack = setterArg;
+        return this;
+      }
+
+      private @Nullable Long audioDelay;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setAudioDelay(@NonNull Long setterArg) {
+        this.audioDelay = setterArg;
+        return this;
+      }
+
+      private @Nullable Long spuTrack;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setSpuTrack(@NonNull Long setterArg) {
+        this.spuTrack = setterArg;
+        return this;
+      }
+
+      private @Nullable Long spuDelay;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setSpuDelay(@NonNull Long setterArg) {
+        this.spuDelay = setterArg;
+        return this;
+      }
+
+      private @Nullable Long videoTrack;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setVideoTrack(@NonNull Long setterArg) {
+        this.videoTrack = setterArg;
+        return this;
+      }
+
+      private @Nullable Double videoScale;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setVideoScale(@NonNull Double setterArg) {
+        this.videoScale = setterArg;
+        return this;
+      }
+
+      private @Nullable String videoAspectRatio;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setVideoAspectRatio(@NonNull String setterArg) {
+        this.videoAspectRatio = setterArg;
+        return this;
+      }
+
+      public @NonNull PlayerStateMessage build() {
+        PlayerStateMessage pigeonReturn = new PlayerStateMessage();
+        pigeonReturn.setPlayerId(playerId);
+        pigeonReturn.setIsPlaying(isPlaying);
+        pigeonReturn.setIsSeekable(isSeekable);
+        pigeonReturn.setPosition(position);
+        pigeonReturn.setDuration(duration);
+        pigeonReturn.setVolume(volume);
+        pigeonReturn.setPlaybackSpeed(playbackSpeed);
+        pigeonReturn.setAudioTrack(audioTrack);
+        pigeonReturn.setAudioDelay(audioDelay);
+        pigeonReturn.setSpuTrack(spuTrack);
+        pigeonReturn.setSpuDelay(spuDelay);
+        pigeonReturn.setVideoTrack(videoTrack);
+        pigeonReturn.setVideoScale(videoScale);
+        pigeonReturn.setVideoAspectRatio(videoAspectRatio);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(14);
+      toListResult.add(playerId);
+      toListResult.add(isPlaying);
+      toListResult.add(isSeekable);
+      toListResult.add(position);
+      toListResult.add(duration);
+      toListResult.add(volume);
+      toListResult.add(playbackSpeed);
+      toListResult.add(audioTrack);
+      toListResult.add(audioDelay);
+      toListResult.add(spuTrack);
+      toListResult.add(spuDelay);
+      toListResult.add(videoTrack);
+      toListResult.add(videoScale);
+      toListResult.add(videoAspectRatio);
+      return toListResult;
+    }
+
+    static @NonNull PlayerStateMessage fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      PlayerStateMessage pigeonResult = new PlayerStateMessage();
+      Object playerId = pigeonVar_list.get(0);
+      pigeonResult.setPlayerId((Long) playerId);
+      Object isPlaying = pigeonVar_list.get(1);
+      pigeonResult.setIsPlaying((Boolean) isPlaying);
+      Object isSeekable = pigeonVar_list.get(2);
+      pigeonResult.setIsSeekable((Boolean) isSeekable);
+      Object position = pigeonVar_list.get(3);
+      pigeonResult.setPosition((Long) position);
+      Object duration = pigeonVar_list.get(4);
+      pigeonResult.setDuration((Long) duration);
+      Object volume = pigeonVar_list.get(5);
+      pigeonResult.setVolume((Long) volume);
+      Object playbackSpeed = pigeonVar_list.get(6);
+      pigeonResult.setPlaybackSpeed((Double) playbackSpeed);
+      Object audioTrack = pigeonVar_list.get(7);
+      pigeonResult.setAudioTrack((Long) audioTrack);
+      Object audioDelay = pigeonVar_list.get(8);
+      pigeonResult.setAudioDelay((Long) audioDelay);
+      Object spuTrack = pigeonVar_list.get(9);
+      pigeonResult.setSpuTrack((Long) spuTrack);
+      Object spuDelay = pigeonVar_list.get(10);
+      pigeonResult.setSpuDelay((Long) spuDelay);
+      Object videoTrack = pigeonVar_list.get(11);
+      pigeonResult.setVideoTrack((Long) videoTrack);
+      Object videoScale = pigeonVar_list.get(12);
+      pigeonResult.setVideoScale((Double) videoScale);
+      Object videoAspectRatio = pigeonVar_list.get(13);
+      pigeonResult.setVideoAspectRatio((String) videoAspectRatio);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class TrackMessage {
+    private @NonNull Long type;
+
+    public @NonNull Long getType() {
+      return type;
+    }
+
+    public void setType(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"type\" is null.");
+      }
+      this.type = setterArg;
+    }
+
+    private @NonNull Long id;
+
+    public @NonNull Long getId() {
+      return id;
+    }
+
+    public void setId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"id\" is null.");
+      }
+      this.id = setterArg;
+    }
+
+    private @NonNull String name;
+
+    public @NonNull String getName() {
+      return name;
+    }
+
+    public void setName(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"name\" is null.");
+      }
+      this.name = setterArg;
+    }
+
+    private @Nullable String codec;
+
+    public @Nullable String getCodec() {
+      return codec;
+    }
+
+    public void setCodec(@Nullable String setterArg) {
+      this.codec = setterArg;
+    }
+
+    private @Nullable String language;
+
+    public @Nullable String getLanguage() {
+      return language;
+    }
+
+    public void setLanguage(@Nullable String setterArg) {
+      this.language = setterArg;
+    }
+
+    private @Nullable Long width;
+
+    public @Nullable Long getWidth() {
+      return width;
+    }
+
+    public void setWidth(@Nullable Long setterArg) {
+      this.width = setterArg;
+    }
+
+    private @Nullable Long height;
+
+    public @Nullable Long getHeight() {
+      return height;
+    }
+
+    public void setHeight(@Nullable Long setterArg) {
+      this.height = setterArg;
+    }
+
+    private @NonNull Boolean isSelected;
+
+    public @NonNull Boolean getIsSelected() {
+      return isSelected;
+    }
+
+    public void setIsSelected(@NonNull Boolean setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"isSelected\" is null.");
+      }
+      this.isSelected = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    TrackMessage() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      TrackMessage that = (TrackMessage) o;
+      return type.equals(that.type) && id.equals(that.id) && name.equals(that.name) && Objects.equals(codec, that.codec) && Objects.equals(language, that.language) && Objects.equals(width, that.width) && Objects.equals(height, that.height) && isSelected.equals(that.isSelected);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(type, id, name, codec, language, width, height, isSelected);
+    }
+
+    public static final class Builder {
+
+      private @Nullable Long type;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setType(@NonNull Long setterArg) {
+        this.type = setterArg;
+        return this;
+      }
+
+      private @Nullable Long id;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setId(@NonNull Long setterArg) {
+        this.id = setterArg;
+        return this;
+      }
+
+      private @Nullable String name;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setName(@NonNull String setterArg) {
+        this.name = setterArg;
+        return this;
+      }
+
+      private @Nullable String codec;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setCodec(@Nullable String setterArg) {
+        this.codec = setterArg;
+        return this;
+      }
+
+      private @Nullable String language;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setLanguage(@Nullable String setterArg) {
+        this.language = setterArg;
+        return this;
+      }
+
+      private @Nullable Long width;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setWidth(@Nullable Long setterArg) {
+        this.width = setterArg;
+        return this;
+      }
+
+      private @Nullable Long height;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setHeight(@Nullable Long setterArg) {
+        this.height = setterArg;
+        return this;
+      }
+
+      private @Nullable Boolean isSelected;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setIsSelected(@NonNull Boolean setterArg) {
+        this.isSelected = setterArg;
+        return this;
+      }
+
+      public @NonNull TrackMessage build() {
+        TrackMessage pigeonReturn = new TrackMessage();
+        pigeonReturn.setType(type);
+        pigeonReturn.setId(id);
+        pigeonReturn.setName(name);
+        pigeonReturn.setCodec(codec);
+        pigeonReturn.setLanguage(language);
+        pigeonReturn.setWidth(width);
+        pigeonReturn.setHeight(height);
+        pigeonReturn.setIsSelected(isSelected);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(8);
+      toListResult.add(type);
+      toListResult.add(id);
+      toListResult.add(name);
+      toListResult.add(codec);
+      toListResult.add(language);
+      toListResult.add(width);
+      toListResult.add(height);
+      toListResult.add(isSelected);
+      return toListResult;
+    }
+
+    static @NonNull TrackMessage fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      TrackMessage pigeonResult = new TrackMessage();
+      Object type = pigeonVar_list.get(0);
+      pigeonResult.setType((Long) type);
+      Object id = pigeonVar_list.get(1);
+      pigeonResult.setId((Long) id);
+      Object name = pigeonVar_list.get(2);
+      pigeonResult.setName((String) name);
+      Object codec = pigeonVar_list.get(3);
+      pigeonResult.setCodec((String) codec);
+      Object language = pigeonVar_list.get(4);
+      pigeonResult.setLanguage((String) language);
+      Object width = pigeonVar_list.get(5);
+      pigeonResult.setWidth((Long) width);
+      Object height = pigeonVar_list.get(6);
+      pigeonResult.setHeight((Long) height);
+      Object isSelected = pigeonVar_list.get(7);
+      pigeonResult.setIsSelected((Boolean) isSelected);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class ThumbnailRequestMessage {
+    private @NonNull String uri;
+
+    public @NonNull String getUri() {
+      return uri;
+    }
+
+    public void setUri(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"uri\" is null.");
+      }
+      this.uri = setterArg;
+    }
+
+    private @Nullable String cacheTag;
+
+    public @Nullable String getCacheTag() {
+      return cacheTag;
+    }
+
+    public void setCacheTag(@Nullable String setterArg) {
+      this.cacheTag = setterArg;
+    }
+
+    private @NonNull List<Long> timestamps;
+
+    public @NonNull List<Long> getTimestamps() {
+      return timestamps;
+    }
+
+    public void setTimestamps(@NonNull List<Long> setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"timestamps\" is null.");
+      }
+      this.timestamps = setterArg;
+    }
+
+    private @NonNull Long format;
+
+    public @NonNull Long getFormat() {
+      return format;
+    }
+
+    public void setFormat(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"format\" is null.");
+      }
+      this.format = setterArg;
+    }
+
+    private @NonNull Long quality;
+
+    public @NonNull Long getQuality() {
+      return quality;
+    }
+
+    public void setQuality(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"quality\" is null.");
+      }
+      this.quality = setterArg;
+    }
+
+    private @Nullable Long maxWidth;
+
+    public @Nullable Long getMaxWidth() {
+      return maxWidth;
+    }
+
+    public void setMaxWidth(@Nullable Long setterArg) {
+      this.maxWidth = setterArg;
+    }
+
+    private @Nullable Long maxHeight;
+
+    public @Nullable Long getMaxHeight() {
+      return maxHeight;
+    }
+
+    public void setMaxHeight(@Nullable Long setterArg) {
+      this.maxHeight = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    ThumbnailRequestMessage() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      ThumbnailRequestMessage that = (ThumbnailRequestMessage) o;
+      return uri.equals(that.uri) && Objects.equals(cacheTag, that.cacheTag) && timestamps.equals(that.timestamps) && format.equals(that.format) && quality.equals(that.quality) && Objects.equals(maxWidth, that.maxWidth) && Objects.equals(maxHeight, that.maxHeight);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(uri, cacheTag, timestamps, format, quality, maxWidth, maxHeight);
+    }
+
+    public static final class Builder {
+
+      private @Nullable String uri;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setUri(@NonNull String setterArg) {
+        this.uri = setterArg;
+        return this;
+      }
+
+      private @Nullable String cacheTag;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setCacheTag(@Nullable String setterArg) {
+        this.cacheTag = setterArg;
+        return this;
+      }
+
+      private @Nullable List<Long> timestamps;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setTimestamps(@NonNull List<Long> setterArg) {
+        this.timestamps = setterArg;
+        return this;
+      }
+
+      private @Nullable Long format;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setFormat(@NonNull Long setterArg) {
+        this.format = setterArg;
+        return this;
+      }
+
+      private @Nullable Long quality;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setQuality(@NonNull Long setterArg) {
+        this.quality = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxWidth;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMaxWidth(@Nullable Long setterArg) {
+        this.maxWidth = setterArg;
+        return this;
+      }
+
+      private @Nullable Long maxHeight;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMaxHeight(@Nullable Long setterArg) {
+        this.maxHeight = setterArg;
+        return this;
+      }
+
+      public @NonNull ThumbnailRequestMessage build() {
+        ThumbnailRequestMessage pigeonReturn = new ThumbnailRequestMessage();
+        pigeonReturn.setUri(uri);
+        pigeonReturn.setCacheTag(cacheTag);
+        pigeonReturn.setTimestamps(timestamps);
+        pigeonReturn.setFormat(format);
+        pigeonReturn.setQuality(quality);
+        pigeonReturn.setMaxWidth(maxWidth);
+        pigeonReturn.setMaxHeight(maxHeight);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(7);
+      toListResult.add(uri);
+      toListResult.add(cacheTag);
+      toListResult.add(timestamps);
+      toListResult.add(format);
+      toListResult.add(quality);
+      toListResult.add(maxWidth);
+      toListResult.add(maxHeight);
+      return toListResult;
+    }
+
+    static @NonNull ThumbnailRequestMessage fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      ThumbnailRequestMessage pigeonResult = new ThumbnailRequestMessage();
+      Object uri = pigeonVar_list.get(0);
+      pigeonResult.setUri((String) uri);
+      Object cacheTag = pigeonVar_list.get(1);
+      pigeonResult.setCacheTag((String) cacheTag);
+      Object timestamps = pigeonVar_list.get(2);
+      pigeonResult.setTimestamps((List<Long>) timestamps);
+      Object format = pigeonVar_list.get(3);
+      pigeonResult.setFormat((Long) format);
+      Object quality = pigeonVar_list.get(4);
+      pigeonResult.setQuality((Long) quality);
+      Object maxWidth = pigeonVar_list.get(5);
+      pigeonResult.setMaxWidth((Long) maxWidth);
+      Object maxHeight = pigeonVar_list.get(6);
+      pigeonResult.setMaxHeight((Long) maxHeight);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class SpriteSheetRequestMessage {
+    private @NonNull String uri;
+
+    public @NonNull String getUri() {
+      return uri;
+    }
+
+    public void setUri(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"uri\" is null.");
+      }
+      this.uri = setterArg;
+    }
+
+    private @NonNull String path;
+
+    public @NonNull String getPath() {
+      return path;
+    }
+
+    public void setPath(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"path\" is null.");
+      }
+      this.path = setterArg;
+    }
+
+    private @NonNull Long intervalMs;
+
+    public @NonNull Long getIntervalMs() {
+      return intervalMs;
+    }
+
+    public void setIntervalMs(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"intervalMs\" is null.");
+      }
+      this.intervalMs = setterArg;
+    }
+
+    private @NonNull Long tileWidth;
+
+    public @NonNull Long getTileWidth() {
+      return tileWidth;
+    }
+
+    public void setTileWidth(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"tileWidth\" is null.");
+      }
+      this.tileWidth = setterArg;
+    }
+
+    private @NonNull Long tileHeight;
+
+    public @NonNull Long getTileHeight() {
+      return tileHeight;
+    }
+
+    public void setTileHeight(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"tileHeight\" is null.");
+      }
+      this.tileHeight = setterArg;
+    }
+
+    private @NonNull Long columns;
+
+    public @NonNull Long getColumns() {
+      return columns;
+    }
+
+    public void setColumns(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"columns\" is null.");
+      }
+      this.columns = setterArg;
+    }
+
+    private @NonNull Long format;
+
+    public @NonNull Long getFormat() {
+      return format;
+    }
+
+    public void setFormat(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"format\" is null.");
+      }
+      this.format = setterArg;
+    }
+
+    private @NonNull Long quality;
+
+    public @NonNull Long getQuality() {
+      return quality;
+    }
+
+    public void setQuality(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"quality\" is null.");
+      }
+      this.quality = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    SpriteSheetRequestMessage() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      SpriteSheetRequestMessage that = (SpriteSheetRequestMessage) o;
+      return uri.equals(that.uri) && path.equals(that.path) && intervalMs.equals(that.intervalMs) && tileWidth.equals(that.tileWidth) && tileHeight.equals(that.tileHeight) && columns.equals(that.columns) && format.equals(that.format) && quality.equals(that.quality);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(uri, path, intervalMs, tileWidth, tileHeight, columns, format, quality);
+    }
+
+    public static final class Builder {
+
+      private @Nullable String uri;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setUri(@NonNull String setterArg) {
+        this.uri = setterArg;
+        return this;
+      }
+
+      private @Nullable String path;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setPath(@NonNull String setterArg) {
+        this.path = setterArg;
+        return this;
+      }
+
+      private @Nullable Long intervalMs;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setIntervalMs(@NonNull Long setterArg) {
+        this.intervalMs = setterArg;
+        return this;
+      }
+
+      private @Nullable Long tileWidth;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setTileWidth(@NonNull Long setterArg) {
+        this.tileWidth = setterArg;
+        return this;
+      }
+
+      private @Nullable Long tileHeight;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setTileHeight(@NonNull Long setterArg) {
+        this.tileHeight = setterArg;
+        return this;
+      }
+
+      private @Nullable Long columns;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setColumns(@NonNull Long setterArg) {
+        this.columns = setterArg;
+        return this;
+      }
+
+      private @Nullable Long format;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setFormat(@NonNull Long setterArg) {
+        this.format = setterArg;
+        return this;
+      }
+
+      private @Nullable Long quality;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setQuality(@NonNull Long setterArg) {
+        this.quality = setterArg;
+        return this;
+      }
+
+      public @NonNull SpriteSheetRequestMessage build() {
+        SpriteSheetRequestMessage pigeonReturn = new SpriteSheetRequestMessage();
+        pigeonReturn.setUri(uri);
+        pigeonReturn.setPath(path);
+        pigeonReturn.setIntervalMs(intervalMs);
+        pigeonReturn.setTileWidth(tileWidth);
+        pigeonReturn.setTileHeight(tileHeight);
+        pigeonReturn.setColumns(columns);
+        pigeonReturn.setFormat(format);
+        pigeonReturn.setQuality(quality);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(8);
+      toListResult.add(uri);
+      toListResult.add(path);
+      toListResult.add(intervalMs);
+      toListResult.add(tileWidth);
+      toListResult.add(tileHeight);
+      toListResult.add(columns);
+      toListResult.add(format);
+      toListResult.add(quality);
+      return toListResult;
+    }
+
+    static @NonNull SpriteSheetRequestMessage fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      SpriteSheetRequestMessage pigeonResult = new SpriteSheetRequestMessage();
+      Object uri = pigeonVar_list.get(0);
+      pigeonResult.setUri((String) uri);
+      Object path = pigeonVar_list.get(1);
+      pigeonResult.setPath((String) path);
+      Object intervalMs = pigeonVar_list.get(2);
+      pigeonResult.setIntervalMs((Long) intervalMs);
+      Object tileWidth = pigeonVar_list.get(3);
+      pigeonResult.setTileWidth((Long) tileWidth);
+      Object tileHeight = pigeonVar_list.get(4);
+      pigeonResult.setTileHeight((Long) tileHeight);
+      Object columns = pigeonVar_list.get(5);
+      pigeonResult.setColumns((Long) columns);
+      Object format = pigeonVar_list.get(6);
+      pigeonResult.setFormat((Long) format);
+      Object quality = pigeonVar_list.get(7);
+      pigeonResult.setQuality((Long) quality);
+      return pigeonResult;
+    }
+  }
+
+  /** Generated class from Pigeon that represents data sent in messages. */
+  public static final class ApiMethodMetrics {
+    private @NonNull String method;
+
+    public @NonNull String getMethod() {
+      return method;
+    }
+
+    public void setMethod(@NonNull String setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"method\" is null.");
+      }
+      this.method = setterArg;
+    }
+
+    private @NonNull Long playerId;
+
+    public @NonNull Long getPlayerId() {
+      return playerId;
+    }
+
+    public void setPlayerId(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"playerId\" is null.");
+      }
+      this.playerId = setterArg;
+    }
+
+    private @NonNull Long count;
+
+    public @NonNull Long getCount() {
+      return count;
+    }
+
+    public void setCount(@NonNull Long setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"count\" is null.");
+      }
+      this.count = setterArg;
+    }
+
+    private @NonNull Double meanMicros;
+
+    public @NonNull Double getMeanMicros() {
+      return meanMicros;
+    }
+
+    public void setMeanMicros(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"meanMicros\" is null.");
+      }
+      this.meanMicros = setterArg;
+    }
+
+    private @NonNull Double p50Micros;
+
+    public @NonNull Double getP50Micros() {
+      return p50Micros;
+    }
+
+    public void setP50Micros(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"p50Micros\" is null.");
+      }
+      this.p50Micros = setterArg;
+    }
+
+    private @NonNull Double p90Micros;
+
+    public @NonNull Double getP90Micros() {
+      return p90Micros;
+    }
+
+    public void setP90Micros(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"p90Micros\" is null.");
+      }
+      this.p90Micros = setterArg;
+    }
+
+    private @NonNull Double p99Micros;
+
+    public @NonNull Double getP99Micros() {
+      return p99Micros;
+    }
+
+    public void setP99Micros(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"p99Micros\" is null.");
+      }
+      this.p99Micros = setterArg;
+    }
+
+    private @NonNull Double maxMicros;
+
+    public @NonNull Double getMaxMicros() {
+      return maxMicros;
+    }
+
+    public void setMaxMicros(@NonNull Double setterArg) {
+      if (setterArg == null) {
+        throw new IllegalStateException("Nonnull field \"maxMicros\" is null.");
+      }
+      this.maxMicros = setterArg;
+    }
+
+    /** Constructor is non-public to enforce null safety; use Builder. */
+    ApiMethodMetrics() {}
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) { return true; }
+      if (o == null || getClass() != o.getClass()) { return false; }
+      ApiMethodMetrics that = (ApiMethodMetrics) o;
+      return method.equals(that.method) && playerId.equals(that.playerId) && count.equals(that.count) && meanMicros.equals(that.meanMicros) && p50Micros.equals(that.p50Micros) && p90Micros.equals(that.p90Micros) && p99Micros.equals(that.p99Micros) && maxMicros.equals(that.maxMicros);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(method, playerId, count, meanMicros, p50Micros, p90Micros, p99Micros, maxMicros);
+    }
+
+    public static final class Builder {
+
+      private @Nullable String method;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMethod(@NonNull String setterArg) {
+        this.method = setterArg;
+        return this;
+      }
+
+      private @Nullable Long playerId;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setPlayerId(@NonNull Long setterArg) {
+        this.playerId = setterArg;
+        return this;
+      }
+
+      private @Nullable Long count;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setCount(@NonNull Long setterArg) {
+        this.count = setterArg;
+        return this;
+      }
+
+      private @Nullable Double meanMicros;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMeanMicros(@NonNull Double setterArg) {
+        this.meanMicros = setterArg;
+        return this;
+      }
+
+      private @Nullable Double p50Micros;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setP50Micros(@NonNull Double setterArg) {
+        this.p50Micros = setterArg;
+        return this;
+      }
+
+      private @Nullable Double p90Micros;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setP90Micros(@NonNull Double setterArg) {
+        this.p90Micros = setterArg;
+        return this;
+      }
+
+      private @Nullable Double p99Micros;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setP99Micros(@NonNull Double setterArg) {
+        this.p99Micros = setterArg;
+        return this;
+      }
+
+      private @Nullable Double maxMicros;
+
+      @CanIgnoreReturnValue
+      public @NonNull Builder setMaxMicros(@NonNull Double setterArg) {
+        this.maxMicros = setterArg;
+        return this;
+      }
+
+      public @NonNull ApiMethodMetrics build() {
+        ApiMethodMetrics pigeonReturn = new ApiMethodMetrics();
+        pigeonReturn.setMethod(method);
+        pigeonReturn.setPlayerId(playerId);
+        pigeonReturn.setCount(count);
+        pigeonReturn.setMeanMicros(meanMicros);
+        pigeonReturn.setP50Micros(p50Micros);
+        pigeonReturn.setP90Micros(p90Micros);
+        pigeonReturn.setP99Micros(p99Micros);
+        pigeonReturn.setMaxMicros(maxMicros);
+        return pigeonReturn;
+      }
+    }
+
+    @NonNull
+    ArrayList<Object> toList() {
+      ArrayList<Object> toListResult = new ArrayList<>(8);
+      toListResult.add(method);
+      toListResult.add(playerId);
+      toListResult.add(count);
+      toListResult.add(meanMicros);
+      toListResult.add(p50Micros);
+      toListResult.add(p90Micros);
+      toListResult.add(p99Micros);
+      toListResult.add(maxMicros);
+      return toListResult;
+    }
+
+    static @NonNull ApiMethodMetrics fromList(@NonNull ArrayList<Object> pigeonVar_list) {
+      ApiMethodMetrics pigeonResult = new ApiMethodMetrics();
+      Object method = pigeonVar_list.get(0);
+      pigeonResult.setMethod((String) method);
+      Object playerId = pigeonVar_list.get(1);
+      pigeonResult.setPlayerId((Long) playerId);
+      Object count = pigeonVar_list.get(2);
+      pigeonResult.setCount((Long) count);
+      Object meanMicros = pigeonVar_list.get(3);
+      pigeonResult.setMeanMicros((Double) meanMicros);
+      Object p50Micros = pigeonVar_list.get(4);
+      pigeonResult.setP50Micros((Double) p50Micros);
+      Object p90Micros = pigeonVar_list.get(5);
+      pigeonResult.setP90Micros((Double) p90Micros);
+      Object p99Micros = pigeonVar_list.get(6);
+      pigeonResult.setP99Micros((Double) p99Micros);
+      Object maxMicros = pigeonVar_list.get(7);
+      pigeonResult.setMaxMicros((Double) maxMicros);
+      return pigeonResult;
+    }
+  }
+
+  private static class PigeonCodec extends StandardMessageCodec {
+    public static final PigeonCodec INSTANCE = new PigeonCodec();
+
+    private PigeonCodec() {}
+
+    @Override
+    protected Object readValueOfType(byte type, @NonNull ByteBuffer buffer) {
+      switch (type) {
+        case (byte) 129:
+          return CreateMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 130:
+          return SetMediaMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 131:
+          return SpuTracksMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 132:
+          return AddSubtitleMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 133:
+          return AddAudioMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 134:
+          return PlayerCommand.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 135:
+          return PlayerCommandResult.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 136:
+          return SnapshotMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 137:
+          return SnapshotResultMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 138:
+          return FrameTapMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 139:
+          return MotionDetectionMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 140:
+          return CommitNextResultMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 141:
+          return PlayerStateMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 142:
+          return TrackMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 143:
+          return ThumbnailRequestMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 144:
+          return SpriteSheetRequestMessage.fromList((ArrayList<Object>) readValue(buffer));
+        case (byte) 145:
+          return ApiMethodMetrics.fromList((ArrayList<Object>) readValue(buffer));
+        default:
+          return super.readValueOfType(type, buffer);
+      }
+    }
+
+    @Override
+    protected void writeValue(@NonNull ByteArrayOutputStream stream, Object value) {
+      if (value instanceof CreateMessage) {
+        stream.write(129);
+        writeValue(stream, ((CreateMessage) value).toList());
+      } else if (value instanceof SetMediaMessage) {
+        stream.write(130);
+        writeValue(stream, ((SetMediaMessage) value).toList());
+      } else if (value instanceof SpuTracksMessage) {
+        stream.write(131);
+        writeValue(stream, ((SpuTracksMessage) value).toList());
+      } else if (value instanceof AddSubtitleMessage) {
+        stream.write(132);
+        writeValue(stream, ((AddSubtitleMessage) value).toList());
+      } else if (value instanceof AddAudioMessage) {
+        stream.write(133);
+        writeValue(stream, ((AddAudioMessage) value).toList());
+      } else if (value instanceof PlayerCommand) {
+        stream.write(134);
+        writeValue(stream, ((PlayerCommand) value).toList());
+      } else if (value instanceof PlayerCommandResult) {
+        stream.write(135);
+        writeValue(stream, ((PlayerCommandResult) value).toList());
+      } else if (value instanceof SnapshotMessage) {
+        stream.write(136);
+        writeValue(stream, ((SnapshotMessage) value).toList());
+      } else if (value instanceof SnapshotResultMessage) {
+        stream.write(137);
+        writeValue(stream, ((SnapshotResultMessage) value).toList());
+      } else if (value instanceof FrameTapMessage) {
+        stream.write(138);
+        writeValue(stream, ((FrameTapMessage) value).toList());
+      } else if (value instanceof MotionDetectionMessage) {
+        stream.write(139);
+        writeValue(stream, ((MotionDetectionMessage) value).toList());
+      } else if (value instanceof CommitNextResultMessage) {
+        stream.write(140);
+        writeValue(stream, ((CommitNextResultMessage) value).toList());
+      } else if (value instanceof PlayerStateMessage) {
+        stream.write(141);
+        writeValue(stream, ((PlayerStateMessage) value).toList());
+      } else if (value instanceof TrackMessage) {
+        stream.write(142);
+        writeValue(stream, ((TrackMessage) value).toList());
+      } else if (value instanceof ThumbnailRequestMessage) {
+        stream.write(143);
+        writeValue(stream, ((ThumbnailRequestMessage) value).toList());
+      } else if (value instanceof SpriteSheetRequestMessage) {
+        stream.write(144);
+        writeValue(stream, ((SpriteSheetRequestMessage) value).toList());
+      } else if (value instanceof ApiMethodMetrics) {
+        stream.write(145);
+        writeValue(stream, ((ApiMethodMetrics) value).toList());
+      } else {
+        super.writeValue(stream, value);
+      }
+    }
+  }
+
+
+  /** Asynchronous error handling return type for non-nullable API method returns. */
+  public interface Result<T> {
+    /** Success case callback method for handling returns. */
+    void success(@NonNull T result);
+
+    /** Failure case callback method for handling errors. */
+    void error(@NonNull Throwable error);
+  }
+  /** Asynchronous error handling return type for nullable API method returns. */
+  public interface NullableResult<T> {
+    /** Success case callback method for handling returns. */
+    void success(@Nullable T result);
+
+    /** Failure case callback method for handling errors. */
+    void error(@NonNull Throwable error);
+  }
+  /** Asynchronous error handling return type for void API method returns. */
+  public interface VoidResult {
+    /** Success case callback method for handling returns. */
+    void success();
+
+    /** Failure case callback method for handling errors. */
+    void error(@NonNull Throwable error);
+  }
+  /** Generated interface from Pigeon that represents a handler of messages from Flutter. */
+  public interface VlcPlayerApi {
+
+    void initialize();
+
+    void create(@NonNull CreateMessage msg);
+
+    void dispose(@NonNull Long playerId);
+
+    void setStreamUrl(@NonNull SetMediaMessage msg);
+
+    void setStreamUrlAsync(@NonNull SetMediaMessage msg, @NonNull Boolean parse);
+
+    void prepareNext(@NonNull SetMediaMessage msg);
+
+    void commitNext(@NonNull Long playerId, @NonNull Result<CommitNextResultMessage> result);
+
+    void cancelNext(@NonNull Long playerId);
+
+    void play(@NonNull Long playerId);
+
+    void pause(@NonNull Long playerId);
+
+    void stop(@NonNull Long playerId);
+
+    @NonNull 
+    Boolean isPlaying(@NonNull Long playerId);
+
+    @NonNull 
+    Boolean isSeekable(@NonNull Long playerId);
+
+    void setLooping(@NonNull Long playerId, @NonNull Boolean isLooping);
+
+    void seekTo(@NonNull Long playerId, @NonNull Long position);
+
+    @NonNull 
+    Long position(@NonNull Long playerId);
+
+    @NonNull 
+    Long duration(@NonNull Long playerId);
+
+    void setVolume(@NonNull Long playerId, @NonNull Long volume);
+
+    @NonNull 
+    Long getVolume(@NonNull Long playerId);
+
+    void setPlaybackSpeed(@NonNull Long playerId, @NonNull Double speed);
+
+    @NonNull 
+    Double getPlaybackSpeed(@NonNull Long playerId);
+
+    @Nullable 
+    String takeSnapshot(@NonNull Long playerId);
+
+    @Nullable 
+    byte[] takeSnapshotBytes(@NonNull SnapshotMessage msg);
+
+    @NonNull 
+    Boolean takeSnapshotToFile(@NonNull SnapshotMessage msg, @NonNull String path);
+
+    void captureSnapshot(@NonNull SnapshotMessage msg, @NonNull Result<SnapshotResultMessage> result);
+
+    void startFrameTap(@NonNull FrameTapMessage msg);
+
+    void stopFrameTap(@NonNull Long playerId);
+
+    void startMotionDetection(@NonNull MotionDetectionMessage msg);
+
+    void stopMotionDetection(@NonNull Long playerId);
+
+    @NonNull 
+    Long getSpuTracksCount(@NonNull Long playerId);
+
+    @NonNull 
+    Map<Long, String> getSpuTracks(@NonNull Long playerId);
+
+    void setSpuTrack(@NonNull Long playerId, @NonNull Long spuTrackNumber);
+
+    @NonNull 
+    Long getSpuTrack(@NonNull Long playerId);
+
+    void setSpuDelay(@NonNull Long playerId, @NonNull Long delay);
+
+    @NonNull 
+    Long getSpuDelay(@NonNull Long playerId);
+
+    void addSubtitleTrack(@NonNull AddSubtitleMessage msg);
+
+    @NonNull 
+    Long getAudioTracksCount(@NonNull Long playerId);
+
+    @NonNull 
+    Map<Long, String> getAudioTracks(@NonNull Long playerId);
+
+    void setAudioTrack(@NonNull Long playerId, @NonNull Long audioTrackNumber);
+
+    @NonNull 
+    Long getAudioTrack(@NonNull Long playerId);
+
+    void setAudioDelay(@NonNull Long playerId, @NonNull Long delay);
+
+    @NonNull 
+    Long getAudioDelay(@NonNull Long playerId);
+
+    void addAudioTrack(@NonNull AddAudioMessage msg);
+
+    @NonNull 
+    Long getVideoTracksCount(@NonNull Long playerId);
+
+    @NonNull 
+    Map<Long, String> getVideoTracks(@NonNull Long playerId);
+
+    void setVideoTrack(@NonNull Long playerId, @NonNull Long videoTrackNumber);
+
+    @NonNull 
+    Long getVideoTrack(@NonNull Long playerId);
+
+    void setVideoScale(@NonNull Long playerId, @NonNull Double scale);
+
+    @NonNull 
+    Double getVideoScale(@NonNull Long playerId);
+
+    void setVideoAspectRatio(@NonNull Long playerId, @NonNull String aspectRatio);
+
+    @NonNull 
+    String getVideoAspectRatio(@NonNull Long playerId);
+
+    @NonNull 
+    List<TrackMessage> getAllTracks(@NonNull Long playerId);
+
+    @NonNull 
+    List<String> getAvailableRendererServices(@NonNull Long playerId);
+
+    void startRendererScanning(@NonNull Long playerId, @NonNull String rendererService);
+
+    void stopRendererScanning(@NonNull Long playerId);
+
+    @NonNull 
+    Map<String, String> getRendererDevices(@NonNull Long playerId);
+
+    void castToRenderer(@NonNull Long playerId, @NonNull String rendererId);
+
+    @NonNull 
+    Boolean startRecording(@NonNull Long playerId, @NonNull String saveDirectory);
+
+    @NonNull 
+    Boolean stopRecording(@NonNull Long playerId);
+
+    @NonNull 
+    PlayerStateMessage getPlayerState(@NonNull Long playerId);
+
+    @NonNull 
+    List<PlayerStateMessage> getPlayersState(@NonNull List<Long> playerIds);
+
+    void resyncMediaEvents(@NonNull Long playerId);
+
+    @NonNull 
+    Long extractThumbnails(@NonNull ThumbnailRequestMessage msg);
+
+    @NonNull 
+    Long generateSpriteSheet(@NonNull SpriteSheetRequestMessage msg);
+
+    void cancelThumbnails(@NonNull Long requestId);
+
+    void clearThumbnailCache();
+
+    @NonNull 
+    List<ApiMethodMetrics> getApiMetrics();
+
+    void resetApiMetrics();
+
+    @NonNull 
+    List<PlayerCommandResult> executeBatch(@NonNull List<PlayerCommand> commands);
+
+    /** The codec used by VlcPlayerApi. */
+    static @NonNull MessageCodec<Object> getCodec() {
+      return PigeonCodec.INSTANCE;
+    }
+    /**Sets up an instance of `VlcPlayerApi` to handle messages through the `binaryMessenger`. */
+    static void setUp(@NonNull BinaryMessenger binaryMessenger, @Nullable VlcPlayerApi api) {
+      setUp(binaryMessenger, "", api);
+    }
+    static void setUp(@NonNull BinaryMessenger binaryMessenger, @NonNull String messageChannelSuffix, @Nullable VlcPlayerApi api) {
+      messageChannelSuffix = messageChannelSuffix.isEmpty() ? "" : "." + messageChannelSuffix;
+      BinaryMessenger.TaskQueue taskQueue = binaryMessenger.makeBackgroundTaskQueue();
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.initialize" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                try {
+                  api.initialize();
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.create" + messageChannelSuffix, getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                CreateMessage msgArg = (CreateMessage) args.get(0);
+                try {
+                  api.create(msgArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.dispose" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                try {
+                  api.dispose(playerIdArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setStreamUrl" + messageChannelSuffix, getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                SetMediaMessage msgArg = (SetMediaMessage) args.get(0);
+                try {
+                  api.setStreamUrl(msgArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setStreamUrlAsync" + messageChannelSuffix, getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                SetMediaMessage msgArg = (SetMediaMessage) args.get(0);
+                Boolean parseArg = (Boolean) args.get(1);
+                try {
+                  api.setStreamUrlAsync(msgArg, parseArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.prepareNext" + messageChannelSuffix, getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                SetMediaMessage msgArg = (SetMediaMessage) args.get(0);
+                try {
+                  api.prepareNext(msgArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.commitNext" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                Result<CommitNextResultMessage> resultCallback =
+                    new Result<CommitNextResultMessage>() {
+                      public void success(CommitNextResultMessage result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.commitNext(playerIdArg, resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.cancelNext" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                try {
+                  api.cancelNext(playerIdArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.play" + messageChannelSuffix, getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                try {
+                  api.play(playerIdArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.pause" + messageChannelSuffix, getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                try {
+                  api.pause(playerIdArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.stop" + messageChannelSuffix, getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                try {
+                  api.stop(playerIdArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.isPlaying" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                try {
+                  Boolean output = api.isPlaying(playerIdArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.isSeekable" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                try {
+                  Boolean output = api.isSeekable(playerIdArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setLooping" + messageChannelSuffix, getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                Boolean isLoopingArg = (Boolean) args.get(1);
+                try {
+                  api.setLooping(playerIdArg, isLoopingArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.seekTo" + messageChannelSuffix, getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                Long positionArg = (Long) args.get(1);
+                try {
+                  api.seekTo(playerIdArg, positionArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.position" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                try {
+                  Long output = api.position(playerIdArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.duration" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                try {
+                  Long output = api.duration(playerIdArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVolume" + messageChannelSuffix, getCodec(), taskQueue);
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                Long volumeArg = (Long) args.get(1);
+                try {
+                  api.setVolume(playerIdArg, volumeArg);
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVolume" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                try {
+                  Long output = api.getVolume(playerIdArg);
+                  wrapped.add(0, output);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.initialize" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setPlaybackSpeed" + messageChannelSuffix, getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                Long playerIdArg = (Long) args.get(0);
+                Double speedArg = (Double) args.get(1);
                 try {
-                  api.initialize();
+                  api.setPlaybackSpeed(playerIdArg, speedArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1021,16 +4153,16 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.create" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getPlaybackSpeed" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                CreateMessage msgArg = (CreateMessage) args.get(0);
+                Long playerIdArg = (Long) args.get(0);
                 try {
-                  api.create(msgArg);
-                  wrapped.add(0, null);
+                  Double output = api.getPlaybackSpeed(playerIdArg);
+                  wrapped.add(0, output);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1044,7 +4176,7 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.dispose" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.takeSnapshot" + messageChannelSuffix, getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1052,8 +4184,8 @@ public class Messages {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
                 try {
-                  api.dispose(playerIdArg);
-                  wrapped.add(0, null);
+                  String output = api.takeSnapshot(playerIdArg);
+                  wrapped.add(0, output);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1067,16 +4199,16 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setStreamUrl" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.takeSnapshotBytes" + messageChannelSuffix, getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                SetMediaMessage msgArg = (SetMediaMessage) args.get(0);
+                SnapshotMessage msgArg = (SnapshotMessage) args.get(0);
                 try {
-                  api.setStreamUrl(msgArg);
-                  wrapped.add(0, null);
+                  byte[] output = api.takeSnapshotBytes(msgArg);
+                  wrapped.add(0, output);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1090,16 +4222,17 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.play" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.takeSnapshotToFile" + messageChannelSuffix, getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                Long playerIdArg = (Long) args.get(0);
+                SnapshotMessage msgArg = (SnapshotMessage) args.get(0);
+                String pathArg = (String) args.get(1);
                 try {
-                  api.play(playerIdArg);
-                  wrapped.add(0, null);
+                  Boolean output = api.takeSnapshotToFile(msgArg, pathArg);
+                  wrapped.add(0, output);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1113,15 +4246,44 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.pause" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.captureSnapshot" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                Long playerIdArg = (Long) args.get(0);
+                SnapshotMessage msgArg = (SnapshotMessage) args.get(0);
+                Result<SnapshotResultMessage> resultCallback =
+                    new Result<SnapshotResultMessage>() {
+                      public void success(SnapshotResultMessage result) {
+                        wrapped.add(0, result);
+                        reply.reply(wrapped);
+                      }
+
+                      public void error(Throwable error) {
+                        ArrayList<Object> wrappedError = wrapError(error);
+                        reply.reply(wrappedError);
+                      }
+                    };
+
+                api.captureSnapshot(msgArg, resultCallback);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.startFrameTap" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                ArrayList<Object> args = (ArrayList<Object>) message;
+                FrameTapMessage msgArg = (FrameTapMessage) args.get(0);
                 try {
-                  api.pause(playerIdArg);
+                  api.startFrameTap(msgArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1136,7 +4298,7 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.stop" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.stopFrameTap" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1144,7 +4306,7 @@ public class Messages {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
                 try {
-                  api.stop(playerIdArg);
+                  api.stopFrameTap(playerIdArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1159,16 +4321,16 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.isPlaying" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.startMotionDetection" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                Long playerIdArg = (Long) args.get(0);
+                MotionDetectionMessage msgArg = (MotionDetectionMessage) args.get(0);
                 try {
-                  Boolean output = api.isPlaying(playerIdArg);
-                  wrapped.add(0, output);
+                  api.startMotionDetection(msgArg);
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1182,7 +4344,7 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.isSeekable" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.stopMotionDetection" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1190,8 +4352,8 @@ public class Messages {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
                 try {
-                  Boolean output = api.isSeekable(playerIdArg);
-                  wrapped.add(0, output);
+                  api.stopMotionDetection(playerIdArg);
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1205,17 +4367,16 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setLooping" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getSpuTracksCount" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
-                Boolean isLoopingArg = (Boolean) args.get(1);
                 try {
-                  api.setLooping(playerIdArg, isLoopingArg);
-                  wrapped.add(0, null);
+                  Long output = api.getSpuTracksCount(playerIdArg);
+                  wrapped.add(0, output);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1229,17 +4390,16 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.seekTo" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getSpuTracks" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
-                Long positionArg = (Long) args.get(1);
                 try {
-                  api.seekTo(playerIdArg, positionArg);
-                  wrapped.add(0, null);
+                  Map<Long, String> output = api.getSpuTracks(playerIdArg);
+                  wrapped.add(0, output);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1253,16 +4413,17 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.position" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setSpuTrack" + messageChannelSuffix, getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
+                Long spuTrackNumberArg = (Long) args.get(1);
                 try {
-                  Long output = api.position(playerIdArg);
-                  wrapped.add(0, output);
+                  api.setSpuTrack(playerIdArg, spuTrackNumberArg);
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1276,7 +4437,7 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.duration" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getSpuTrack" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1284,7 +4445,7 @@ public class Messages {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
                 try {
-                  Long output = api.duration(playerIdArg);
+                  Long output = api.getSpuTrack(playerIdArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -1299,16 +4460,16 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVolume" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setSpuDelay" + messageChannelSuffix, getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
-                Long volumeArg = (Long) args.get(1);
+                Long delayArg = (Long) args.get(1);
                 try {
-                  api.setVolume(playerIdArg, volumeArg);
+                  api.setSpuDelay(playerIdArg, delayArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1323,7 +4484,7 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVolume" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getSpuDelay" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1331,7 +4492,7 @@ public class Messages {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
                 try {
-                  Long output = api.getVolume(playerIdArg);
+                  Long output = api.getSpuDelay(playerIdArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -1346,16 +4507,15 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setPlaybackSpeed" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.addSubtitleTrack" + messageChannelSuffix, getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                Long playerIdArg = (Long) args.get(0);
-                Double speedArg = (Double) args.get(1);
+                AddSubtitleMessage msgArg = (AddSubtitleMessage) args.get(0);
                 try {
-                  api.setPlaybackSpeed(playerIdArg, speedArg);
+                  api.addSubtitleTrack(msgArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1370,7 +4530,7 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getPlaybackSpeed" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getAudioTracksCount" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1378,7 +4538,7 @@ public class Messages {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
                 try {
-                  Double output = api.getPlaybackSpeed(playerIdArg);
+                  Long output = api.getAudioTracksCount(playerIdArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -1393,7 +4553,7 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.takeSnapshot" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getAudioTracks" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1401,7 +4561,7 @@ public class Messages {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
                 try {
-                  String output = api.takeSnapshot(playerIdArg);
+                  Map<Long, String> output = api.getAudioTracks(playerIdArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -1416,16 +4576,17 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getSpuTracksCount" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setAudioTrack" + messageChannelSuffix, getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
+                Long audioTrackNumberArg = (Long) args.get(1);
                 try {
-                  Long output = api.getSpuTracksCount(playerIdArg);
-                  wrapped.add(0, output);
+                  api.setAudioTrack(playerIdArg, audioTrackNumberArg);
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1439,7 +4600,7 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getSpuTracks" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getAudioTrack" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1447,7 +4608,7 @@ public class Messages {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
                 try {
-                  Map<Long, String> output = api.getSpuTracks(playerIdArg);
+                  Long output = api.getAudioTrack(playerIdArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -1462,16 +4623,16 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setSpuTrack" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setAudioDelay" + messageChannelSuffix, getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
-                Long spuTrackNumberArg = (Long) args.get(1);
+                Long delayArg = (Long) args.get(1);
                 try {
-                  api.setSpuTrack(playerIdArg, spuTrackNumberArg);
+                  api.setAudioDelay(playerIdArg, delayArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1486,7 +4647,7 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getSpuTrack" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getAudioDelay" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1494,7 +4655,7 @@ public class Messages {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
                 try {
-                  Long output = api.getSpuTrack(playerIdArg);
+                  Long output = api.getAudioDelay(playerIdArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -1509,16 +4670,15 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setSpuDelay" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.addAudioTrack" + messageChannelSuffix, getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                Long playerIdArg = (Long) args.get(0);
-                Long delayArg = (Long) args.get(1);
+                AddAudioMessage msgArg = (AddAudioMessage) args.get(0);
                 try {
-                  api.setSpuDelay(playerIdArg, delayArg);
+                  api.addAudioTrack(msgArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1533,7 +4693,7 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getSpuDelay" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVideoTracksCount" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1541,7 +4701,7 @@ public class Messages {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
                 try {
-                  Long output = api.getSpuDelay(playerIdArg);
+                  Long output = api.getVideoTracksCount(playerIdArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -1556,16 +4716,16 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.addSubtitleTrack" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVideoTracks" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                AddSubtitleMessage msgArg = (AddSubtitleMessage) args.get(0);
+                Long playerIdArg = (Long) args.get(0);
                 try {
-                  api.addSubtitleTrack(msgArg);
-                  wrapped.add(0, null);
+                  Map<Long, String> output = api.getVideoTracks(playerIdArg);
+                  wrapped.add(0, output);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1579,16 +4739,17 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getAudioTracksCount" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVideoTrack" + messageChannelSuffix, getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
+                Long videoTrackNumberArg = (Long) args.get(1);
                 try {
-                  Long output = api.getAudioTracksCount(playerIdArg);
-                  wrapped.add(0, output);
+                  api.setVideoTrack(playerIdArg, videoTrackNumberArg);
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1602,7 +4763,7 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getAudioTracks" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVideoTrack" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1610,7 +4771,7 @@ public class Messages {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
                 try {
-                  Map<Long, String> output = api.getAudioTracks(playerIdArg);
+                  Long output = api.getVideoTrack(playerIdArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -1625,16 +4786,16 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setAudioTrack" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVideoScale" + messageChannelSuffix, getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
-                Long audioTrackNumberArg = (Long) args.get(1);
+                Double scaleArg = (Double) args.get(1);
                 try {
-                  api.setAudioTrack(playerIdArg, audioTrackNumberArg);
+                  api.setVideoScale(playerIdArg, scaleArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1649,7 +4810,7 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getAudioTrack" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVideoScale" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1657,7 +4818,7 @@ public class Messages {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
                 try {
-                  Long output = api.getAudioTrack(playerIdArg);
+                  Double output = api.getVideoScale(playerIdArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -1672,16 +4833,16 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setAudioDelay" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVideoAspectRatio" + messageChannelSuffix, getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
-                Long delayArg = (Long) args.get(1);
+                String aspectRatioArg = (String) args.get(1);
                 try {
-                  api.setAudioDelay(playerIdArg, delayArg);
+                  api.setVideoAspectRatio(playerIdArg, aspectRatioArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1696,7 +4857,7 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getAudioDelay" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVideoAspectRatio" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1704,7 +4865,7 @@ public class Messages {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
                 try {
-                  Long output = api.getAudioDelay(playerIdArg);
+                  String output = api.getVideoAspectRatio(playerIdArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -1719,16 +4880,16 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.addAudioTrack" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getAllTracks" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                AddAudioMessage msgArg = (AddAudioMessage) args.get(0);
+                Long playerIdArg = (Long) args.get(0);
                 try {
-                  api.addAudioTrack(msgArg);
-                  wrapped.add(0, null);
+                  List<TrackMessage> output = api.getAllTracks(playerIdArg);
+                  wrapped.add(0, output);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1742,7 +4903,7 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVideoTracksCount" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getAvailableRendererServices" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1750,7 +4911,7 @@ public class Messages {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
                 try {
-                  Long output = api.getVideoTracksCount(playerIdArg);
+                  List<String> output = api.getAvailableRendererServices(playerIdArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -1765,16 +4926,17 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVideoTracks" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.startRendererScanning" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
+                String rendererServiceArg = (String) args.get(1);
                 try {
-                  Map<Long, String> output = api.getVideoTracks(playerIdArg);
-                  wrapped.add(0, output);
+                  api.startRendererScanning(playerIdArg, rendererServiceArg);
+                  wrapped.add(0, null);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1788,16 +4950,15 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVideoTrack" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.stopRendererScanning" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
-                Long videoTrackNumberArg = (Long) args.get(1);
                 try {
-                  api.setVideoTrack(playerIdArg, videoTrackNumberArg);
+                  api.stopRendererScanning(playerIdArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1812,7 +4973,7 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVideoTrack" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getRendererDevices" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1820,7 +4981,7 @@ public class Messages {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
                 try {
-                  Long output = api.getVideoTrack(playerIdArg);
+                  Map<String, String> output = api.getRendererDevices(playerIdArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -1835,16 +4996,16 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVideoScale" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.castToRenderer" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
-                Double scaleArg = (Double) args.get(1);
+                String rendererIdArg = (String) args.get(1);
                 try {
-                  api.setVideoScale(playerIdArg, scaleArg);
+                  api.castToRenderer(playerIdArg, rendererIdArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1859,15 +5020,16 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVideoScale" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.startRecording" + messageChannelSuffix, getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
+                String saveDirectoryArg = (String) args.get(1);
                 try {
-                  Double output = api.getVideoScale(playerIdArg);
+                  Boolean output = api.startRecording(playerIdArg, saveDirectoryArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -1882,17 +5044,16 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVideoAspectRatio" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.stopRecording" + messageChannelSuffix, getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
-                String aspectRatioArg = (String) args.get(1);
                 try {
-                  api.setVideoAspectRatio(playerIdArg, aspectRatioArg);
-                  wrapped.add(0, null);
+                  Boolean output = api.stopRecording(playerIdArg);
+                  wrapped.add(0, output);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1906,7 +5067,7 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getVideoAspectRatio" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getPlayerState" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
@@ -1914,7 +5075,7 @@ public class Messages {
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
                 try {
-                  String output = api.getVideoAspectRatio(playerIdArg);
+                  PlayerStateMessage output = api.getPlayerState(playerIdArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -1929,15 +5090,15 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getAvailableRendererServices" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getPlayersState" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                Long playerIdArg = (Long) args.get(0);
+                List<Long> playerIdsArg = (List<Long>) args.get(0);
                 try {
-                  List<String> output = api.getAvailableRendererServices(playerIdArg);
+                  List<PlayerStateMessage> output = api.getPlayersState(playerIdsArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -1952,16 +5113,15 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.startRendererScanning" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.resyncMediaEvents" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
                 Long playerIdArg = (Long) args.get(0);
-                String rendererServiceArg = (String) args.get(1);
                 try {
-                  api.startRendererScanning(playerIdArg, rendererServiceArg);
+                  api.resyncMediaEvents(playerIdArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -1976,16 +5136,16 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.stopRendererScanning" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.extractThumbnails" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                Long playerIdArg = (Long) args.get(0);
+                ThumbnailRequestMessage msgArg = (ThumbnailRequestMessage) args.get(0);
                 try {
-                  api.stopRendererScanning(playerIdArg);
-                  wrapped.add(0, null);
+                  Long output = api.extractThumbnails(msgArg);
+                  wrapped.add(0, output);
                 }
  catch (Throwable exception) {
                   wrapped = wrapError(exception);
@@ -1999,15 +5159,15 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getRendererDevices" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.generateSpriteSheet" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                Long playerIdArg = (Long) args.get(0);
+                SpriteSheetRequestMessage msgArg = (SpriteSheetRequestMessage) args.get(0);
                 try {
-                  Map<String, String> output = api.getRendererDevices(playerIdArg);
+                  Long output = api.generateSpriteSheet(msgArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -2022,16 +5182,15 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.castToRenderer" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.cancelThumbnails" + messageChannelSuffix, getCodec());
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                Long playerIdArg = (Long) args.get(0);
-                String rendererIdArg = (String) args.get(1);
+                Long requestIdArg = (Long) args.get(0);
                 try {
-                  api.castToRenderer(playerIdArg, rendererIdArg);
+                  api.cancelThumbnails(requestIdArg);
                   wrapped.add(0, null);
                 }
  catch (Throwable exception) {
@@ -2046,16 +5205,34 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.startRecording" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.clearThumbnailCache" + messageChannelSuffix, getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
-                ArrayList<Object> args = (ArrayList<Object>) message;
-                Long playerIdArg = (Long) args.get(0);
-                String saveDirectoryArg = (String) args.get(1);
                 try {
-                  Boolean output = api.startRecording(playerIdArg, saveDirectoryArg);
+                  api.clearThumbnailCache();
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getApiMetrics" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                try {
+                  List<ApiMethodMetrics> output = api.getApiMetrics();
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
@@ -2070,15 +5247,36 @@ public class Messages {
       {
         BasicMessageChannel<Object> channel =
             new BasicMessageChannel<>(
-                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.stopRecording" + messageChannelSuffix, getCodec());
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.resetApiMetrics" + messageChannelSuffix, getCodec());
+        if (api != null) {
+          channel.setMessageHandler(
+              (message, reply) -> {
+                ArrayList<Object> wrapped = new ArrayList<>();
+                try {
+                  api.resetApiMetrics();
+                  wrapped.add(0, null);
+                }
+ catch (Throwable exception) {
+                  wrapped = wrapError(exception);
+                }
+                reply.reply(wrapped);
+              });
+        } else {
+          channel.setMessageHandler(null);
+        }
+      }
+      {
+        BasicMessageChannel<Object> channel =
+            new BasicMessageChannel<>(
+                binaryMessenger, "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.executeBatch" + messageChannelSuffix, getCodec(), taskQueue);
         if (api != null) {
           channel.setMessageHandler(
               (message, reply) -> {
                 ArrayList<Object> wrapped = new ArrayList<>();
                 ArrayList<Object> args = (ArrayList<Object>) message;
-                Long playerIdArg = (Long) args.get(0);
+                List<PlayerCommand> commandsArg = (List<PlayerCommand>) args.get(0);
                 try {
-                  Boolean output = api.stopRecording(playerIdArg);
+                  List<PlayerCommandResult> output = api.executeBatch(commandsArg);
                   wrapped.add(0, output);
                 }
  catch (Throwable exception) {
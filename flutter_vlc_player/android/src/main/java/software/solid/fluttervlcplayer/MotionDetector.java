@@ -0,0 +1,179 @@
+package software.solid.fluttervlcplayer;
+
+import android.graphics.Bitmap;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+
+import java.util.HashMap;
+
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.EventChannel;
+
+/**
+ * Detects motion in a player's video natively, so the receiver only wakes up when something
+ * changes, and sends {@code motion} events on an event channel of their own.
+ *
+ * <p>The frames are sampled into a tiny bitmap fitting within 64 x 36 by default, and converted to
+ * luma. A pixel whose luma differs from the previous sample by more than the pixel threshold has
+ * changed, and a sample whose share of changed pixels reaches the score threshold is reported with
+ * the bounding box of the changed pixels. The sample and luma arrays are reused, so a running
+ * detector does not allocate.
+ *
+ * <p>The sampling runs on the main thread, where the view lives. Its cost is measured and the
+ * sampling interval is stretched so it stays within the given share of the main thread's time.
+ *
+ * <p>This class is not thread-safe. All calls must be done on the main thread.
+ */
+final class MotionDetector {
+
+    static final String CHANNEL_PREFIX = "flutter_video_plugin/getMotionEvents_";
+    static final int DEFAULT_WIDTH = 64;
+    static final int DEFAULT_HEIGHT = 36;
+    // the sampling runs on the main thread, at most once per 60 Hz frame
+    static final long MIN_INTERVAL_MS = 16;
+    static final long MAX_INTERVAL_MS = 60000;
+
+    private static final long NANOS_PER_MILLI = 1000000;
+
+    private final FlutterVlcPlayer player;
+    private final EventChannel eventChannel;
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable tick = new Runnable() {
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+            sample();
+            long costNanos = System.nanoTime() - start;
+            // the time the sample took must not exceed the budget share of the next interval
+            long budgetMs = (long) (costNanos / cpuBudget / NANOS_PER_MILLI);
+            handler.postDelayed(this, Math.max(intervalMs, budgetMs));
+        }
+    };
+    //
+    private EventChannel.EventSink eventSink;
+    private long intervalMs;
+    private int width;
+    private int height;
+    private double threshold;
+    private int pixelThreshold;
+    private double cpuBudget;
+    //
+    private Bitmap bitmap;
+    private int[] pixels;
+    private int[] luma;
+    private int[] previousLuma;
+    private boolean hasPrevious = false;
+
+    MotionDetector(BinaryMessenger binaryMessenger, long viewId, FlutterVlcPlayer player) {
+        this.player = player;
+        eventChannel = new EventChannel(binaryMessenger, CHANNEL_PREFIX + viewId);
+        eventChannel.setStreamHandler(
+                new EventChannel.StreamHandler() {
+                    @Override
+                    public void onListen(Object o, EventChannel.EventSink sink) {
+                        eventSink = sink;
+                    }
+
+                    @Override
+                    public void onCancel(Object o) {
+                        eventSink = null;
+                    }
+                });
+    }
+
+    /**
+     * Starts sampling {@code fps} frames per second, or applies the new settings if already
+     * started. {@code threshold} is the share of changed pixels, from 0 to 1, that counts as
+     * motion, and {@code cpuBudget} the share of the main thread's time the sampling may take.
+     * {@code fps} must be positive and finite, the interval it gives is clamped between
+     * {@link #MIN_INTERVAL_MS} and {@link #MAX_INTERVAL_MS}.
+     */
+    void start(double fps, int width, int height, double threshold, int pixelThreshold, double cpuBudget) {
+        this.intervalMs = Math.max(MIN_INTERVAL_MS, Math.min(MAX_INTERVAL_MS, Math.round(1000 / fps)));
+        this.width = width > 0 ? width : DEFAULT_WIDTH;
+        this.height = height > 0 ? height : DEFAULT_HEIGHT;
+        this.threshold = threshold;
+        this.pixelThreshold = pixelThreshold;
+        this.cpuBudget = Math.max(0.001, Math.min(1, cpuBudget));
+        hasPrevious = false;
+        handler.removeCallbacks(tick);
+        handler.post(tick);
+    }
+
+    void stop() {
+        handler.removeCallbacks(tick);
+        eventChannel.setStreamHandler(null);
+        eventSink = null;
+        if (bitmap != null) {
+            bitmap.recycle();
+            bitmap = null;
+        }
+    }
+
+    private void sample() {
+        if (eventSink == null) {
+            // the next listener compares against a fresh sample
+            hasPrevious = false;
+            return;
+        }
+        Bitmap frame = player.readFrame(bitmap, width, height);
+        if (frame == null)
+            return;
+        bitmap = frame;
+        int frameWidth = frame.getWidth();
+        int frameHeight = frame.getHeight();
+        int size = frameWidth * frameHeight;
+        if (pixels == null || pixels.length != size) {
+            pixels = new int[size];
+            luma = new int[size];
+            previousLuma = new int[size];
+            hasPrevious = false;
+        }
+        frame.getPixels(pixels, 0, frameWidth, 0, 0, frameWidth, frameHeight);
+        for (int i = 0; i < size; i++) {
+            int color = pixels[i];
+            // BT.601 weights in 8 bit fixed point
+            luma[i] = (77 * ((color >> 16) & 0xff) + 150 * ((color >> 8) & 0xff) + 29 * (color & 0xff)) >> 8;
+        }
+        if (hasPrevious)
+            compare(frameWidth, frameHeight);
+        int[] swap = previousLuma;
+        previousLuma = luma;
+        luma = swap;
+        hasPrevious = true;
+    }
+
+    private void compare(int frameWidth, int frameHeight) {
+        int changed = 0;
+        int left = frameWidth;
+        int top = frameHeight;
+        int right = -1;
+        int bottom = -1;
+        for (int y = 0, i = 0; y < frameHeight; y++) {
+            for (int x = 0; x < frameWidth; x++, i++) {
+                if (Math.abs(luma[i] - previousLuma[i]) <= pixelThreshold)
+                    continue;
+                changed++;
+                if (x < left) left = x;
+                if (x > right) right = x;
+                if (y < top) top = y;
+                if (y > bottom) bottom = y;
+            }
+        }
+        double score = (double) changed / (frameWidth * frameHeight);
+        if (changed == 0 || score < threshold)
+            return;
+
+        HashMap<String, Object> event = new HashMap<>();
+        event.put("event", "motion");
+        event.put("timestampMicros", SystemClock.elapsedRealtimeNanos() / 1000);
+        event.put("score", score);
+        // relative to the frame, so the region does not depend on the sampling size
+        event.put("left", (double) left / frameWidth);
+        event.put("top", (double) top / frameHeight);
+        event.put("right", (double) (right + 1) / frameWidth);
+        event.put("bottom", (double) (bottom + 1) / frameHeight);
+        eventSink.success(event);
+    }
+}
@@ -0,0 +1,60 @@
+package software.solid.fluttervlcplayer;
+
+import android.os.SystemClock;
+
+/**
+ * The last position anchor sent for a player: a media time, the rate it advances at and the
+ * monotonic time it was taken at. The receiver extrapolates the position from it until the next
+ * anchor, so anchors only need to be sent on discontinuities or when the player drifts away from
+ * the extrapolated position.
+ *
+ * <p>This class is not thread-safe. All calls must be done on the player event thread.
+ */
+final class PositionAnchor {
+
+    static final long DRIFT_THRESHOLD_MS = 200;
+
+    private boolean isSet = false;
+    private long mediaTime;
+    private float rate;
+    private long timestampMicros;
+    private boolean isPlaying;
+
+    /**
+     * Records a new anchor taken now and returns its timestamp, in microseconds of
+     * {@link SystemClock#elapsedRealtimeNanos()}.
+     */
+    long set(long mediaTime, float rate, boolean isPlaying) {
+        this.isSet = true;
+        this.mediaTime = mediaTime;
+        this.rate = rate;
+        this.isPlaying = isPlaying;
+        this.timestampMicros = nowMicros();
+        return timestampMicros;
+    }
+
+    void reset() {
+        isSet = false;
+    }
+
+    /**
+     * Returns true if the given media time is further than {@link #DRIFT_THRESHOLD_MS} away from
+     * the position extrapolated from this anchor, or if there is no anchor yet.
+     */
+    boolean hasDrifted(long mediaTime) {
+        if (!isSet)
+            return true;
+        long expected = this.mediaTime;
+        if (isPlaying)
+            expected += (long) ((nowMicros() - timestampMicros) / 1000 * rate);
+        return Math.abs(mediaTime - expected) > DRIFT_THRESHOLD_MS;
+    }
+
+    boolean isPlaying() {
+        return isSet && isPlaying;
+    }
+
+    private static long nowMicros() {
+        return SystemClock.elapsedRealtimeNanos() / 1000;
+    }
+}
@@ -0,0 +1,73 @@
+package software.solid.fluttervlcplayer;
+
+import android.os.Handler;
+import android.os.SystemClock;
+
+/**
+ * Caps how often position updates are sent for a player.
+ *
+ * <p>Updates submitted within the minimum interval of the previous one are coalesced: only one
+ * delivery is scheduled for the end of the interval and the sender reads the latest state when it
+ * runs. A limit of zero or less disables the cap and every update is sent right away.
+ *
+ * <p>This class is not thread-safe. All calls must be done on the thread of the given handler.
+ */
+final class PositionUpdateLimiter {
+
+    private final Handler handler;
+    private final Runnable sender;
+    private final Runnable sendPending = new Runnable() {
+        @Override
+        public void run() {
+            pending = false;
+            send();
+        }
+    };
+    //
+    private long minIntervalMs = 0;
+    private long lastSentAt = 0;
+    private boolean pending = false;
+
+    PositionUpdateLimiter(Handler handler, Runnable sender) {
+        this.handler = handler;
+        this.sender = sender;
+    }
+
+    void setMaxUpdatesPerSecond(long maxUpdatesPerSecond) {
+        minIntervalMs = maxUpdatesPerSecond > 0 ? Math.max(1, 1000 / maxUpdatesPerSecond) : 0;
+    }
+
+    void submit() {
+        if (pending)
+            return;
+        long elapsed = SystemClock.uptimeMillis() - lastSentAt;
+        if (minIntervalMs <= 0 || elapsed >= minIntervalMs) {
+            send();
+            return;
+        }
+        pending = true;
+        handler.postDelayed(sendPending, minIntervalMs - elapsed);
+    }
+
+    /**
+     * Sends the coalesced update now, if there is one, so it is not delivered after a state
+     * transition that follows it.
+     */
+    void flush() {
+        if (!pending)
+            return;
+        handler.removeCallbacks(sendPending);
+        pending = false;
+        send();
+    }
+
+    void cancel() {
+        handler.removeCallbacks(sendPending);
+        pending = false;
+    }
+
+    private void send() {
+        lastSentAt = SystemClock.uptimeMillis();
+        sender.run();
+    }
+}
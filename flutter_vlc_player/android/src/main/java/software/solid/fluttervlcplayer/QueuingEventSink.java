@@ -1,6 +1,7 @@
 package software.solid.fluttervlcplayer;
 
-import java.util.ArrayList;
+import android.os.Handler;
+import android.os.Looper;
 
 import io.flutter.plugin.common.EventChannel;
 
@@ -10,60 +11,255 @@ import io.flutter.plugin.common.EventChannel;
  * <p>It delivers messages immediately when downstream is available, but it queues messages before
  * the delegate event sink is set with setDelegate.
  *
- * <p>This class is not thread-safe. All calls must be done on the same thread or synchronized
- * externally.
+ * <p>Events can be sent from any thread and are always delivered to the delegate on the main
+ * thread, in the order they were sent. The queue is a bounded ring buffer: when it is full the
+ * {@link OverflowPolicy} decides which event is dropped, and dropped events are counted.
+ *
+ * <p>Byte array events are copied when they have to be queued, since senders may reuse the array
+ * for their next event, unless the sender hands out a new array per event. Delivered events are
+ * encoded by the delegate right away and are not copied.
  */
 final class QueuingEventSink implements EventChannel.EventSink {
-    private EventChannel.EventSink delegate;
-    private final ArrayList<Object> eventQueue = new ArrayList<>();
+
+    enum OverflowPolicy {
+        /**
+         * Drops the oldest queued event to make room for the new one.
+         */
+        DROP_OLDEST,
+        /**
+         * Drops the new event and keeps the queued ones.
+         */
+        DROP_NEWEST,
+        /**
+         * Drops the oldest queued event of the same coalescing type as the new one, so the latest
+         * one wins. Falls back to {@link #DROP_OLDEST} when there is none.
+         */
+        COALESCE
+    }
+
+    static final int DEFAULT_CAPACITY = 256;
+    static final int NOT_COALESCED = 0;
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable drain = new Runnable() {
+        @Override
+        public void run() {
+            maybeFlush();
+        }
+    };
+    //
+    private final Object lock = new Object();
+    private final Object[] eventQueue;
+    private final int[] coalescingTypes;
+    private final OverflowPolicy overflowPolicy;
+    private final boolean copyByteArrays;
+    private int head = 0;
+    private int size = 0;
+    private boolean drainScheduled = false;
     private boolean done = false;
+    private long droppedCount = 0;
+    //
+    private volatile EventChannel.EventSink delegate;
+    private volatile Runnable onEventsDropped;
+
+    QueuingEventSink() {
+        this(DEFAULT_CAPACITY, OverflowPolicy.DROP_OLDEST);
+    }
+
+    QueuingEventSink(int capacity, OverflowPolicy overflowPolicy) {
+        this(capacity, overflowPolicy, true);
+    }
+
+    QueuingEventSink(int capacity, OverflowPolicy overflowPolicy, boolean copyByteArrays) {
+        this.eventQueue = new Object[Math.max(1, capacity)];
+        this.coalescingTypes = new int[eventQueue.length];
+        this.overflowPolicy = overflowPolicy;
+        this.copyByteArrays = copyByteArrays;
+    }
+
+    int getCapacity() {
+        return eventQueue.length;
+    }
+
+    OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
 
     public void setDelegate(EventChannel.EventSink delegate) {
         this.delegate = delegate;
         maybeFlush();
     }
 
+    /**
+     * Sets a callback run on the sending thread whenever an event has been dropped, so the sender
+     * can restore state the receiver would have derived from it.
+     */
+    void setOnEventsDropped(Runnable onEventsDropped) {
+        this.onEventsDropped = onEventsDropped;
+    }
+
+    /**
+     * Returns the number of events dropped because the queue was full.
+     */
+    long getDroppedCount() {
+        synchronized (lock) {
+            return droppedCount;
+        }
+    }
+
     @Override
     public void endOfStream() {
-        enqueue(new EndOfStreamEvent());
-        maybeFlush();
-        done = true;
+        enqueue(new EndOfStreamEvent(), NOT_COALESCED);
+        synchronized (lock) {
+            done = true;
+        }
     }
 
     @Override
     public void error(String code, String message, Object details) {
-        enqueue(new ErrorEvent(code, message, details));
-        maybeFlush();
+        enqueue(new ErrorEvent(code, message, details), NOT_COALESCED);
     }
 
     @Override
     public void success(Object event) {
-        enqueue(event);
-        maybeFlush();
+        enqueue(event, NOT_COALESCED);
     }
 
-    private void enqueue(Object event) {
-        if (done) {
+    /**
+     * Sends an event that the {@link OverflowPolicy#COALESCE} policy may drop in favour of a later
+     * event with the same {@code coalescingType}.
+     */
+    void success(Object event, int coalescingType) {
+        enqueue(event, coalescingType);
+    }
+
+    private void enqueue(Object event, int coalescingType) {
+        boolean onMainThread = Looper.myLooper() == Looper.getMainLooper();
+        EventChannel.EventSink delegate = this.delegate;
+        boolean deliverNow = false;
+        boolean dropped = false;
+        synchronized (lock) {
+            if (done) {
+                return;
+            }
+            if (onMainThread && delegate != null && size == 0) {
+                // nothing queued to keep in order with, and no drain can run meanwhile
+                deliverNow = true;
+            } else {
+                if (copyByteArrays && event instanceof byte[]) {
+                    event = ((byte[]) event).clone();
+                }
+                if (size == eventQueue.length) {
+                    dropped = true;
+                    droppedCount++;
+                }
+                if (!dropped || makeRoom(coalescingType)) {
+                    int tail = (head + size) % eventQueue.length;
+                    eventQueue[tail] = event;
+                    coalescingTypes[tail] = coalescingType;
+                    size++;
+                }
+            }
+        }
+        if (deliverNow) {
+            deliver(delegate, event);
             return;
         }
-        eventQueue.add(event);
+        if (dropped) {
+            Runnable onEventsDropped = this.onEventsDropped;
+            if (onEventsDropped != null)
+                onEventsDropped.run();
+        }
+        if (onMainThread) {
+            maybeFlush();
+        } else {
+            scheduleDrain();
+        }
+    }
+
+    /**
+     * Frees one slot according to the overflow policy, returns false if the new event has to be
+     * dropped instead. Must be called with the lock held on a full queue.
+     */
+    private boolean makeRoom(int coalescingType) {
+        switch (overflowPolicy) {
+            case DROP_NEWEST:
+                return false;
+
+            case COALESCE:
+                if (coalescingType != NOT_COALESCED) {
+                    for (int i = 0; i < size; i++) {
+                        if (coalescingTypes[(head + i) % eventQueue.length] == coalescingType) {
+                            removeAt(i);
+                            return true;
+                        }
+                    }
+                }
+                removeAt(0);
+                return true;
+
+            case DROP_OLDEST:
+            default:
+                removeAt(0);
+                return true;
+        }
+    }
+
+    /**
+     * Removes the queued event at {@code index} from the head, shifting the older ones up.
+     */
+    private void removeAt(int index) {
+        for (int i = index; i > 0; i--) {
+            int to = (head + i) % eventQueue.length;
+            int from = (head + i - 1) % eventQueue.length;
+            eventQueue[to] = eventQueue[from];
+            coalescingTypes[to] = coalescingTypes[from];
+        }
+        eventQueue[head] = null;
+        head = (head + 1) % eventQueue.length;
+        size--;
+    }
+
+    private void scheduleDrain() {
+        synchronized (lock) {
+            if (drainScheduled || delegate == null)
+                return;
+            drainScheduled = true;
+        }
+        handler.post(drain);
     }
 
     private void maybeFlush() {
+        synchronized (lock) {
+            drainScheduled = false;
+        }
+        EventChannel.EventSink delegate = this.delegate;
         if (delegate == null) {
             return;
         }
-        for (Object event : eventQueue) {
-            if (event instanceof EndOfStreamEvent) {
-                delegate.endOfStream();
-            } else if (event instanceof ErrorEvent) {
-                ErrorEvent errorEvent = (ErrorEvent) event;
-                delegate.error(errorEvent.code, errorEvent.message, errorEvent.details);
-            } else {
-                delegate.success(event);
+        while (true) {
+            Object event;
+            synchronized (lock) {
+                if (size == 0)
+                    return;
+                event = eventQueue[head];
+                eventQueue[head] = null;
+                head = (head + 1) % eventQueue.length;
+                size--;
             }
+            deliver(delegate, event);
+        }
+    }
+
+    private static void deliver(EventChannel.EventSink delegate, Object event) {
+        if (event instanceof EndOfStreamEvent) {
+            delegate.endOfStream();
+        } else if (event instanceof ErrorEvent) {
+            ErrorEvent errorEvent = (ErrorEvent) event;
+            delegate.error(errorEvent.code, errorEvent.message, errorEvent.details);
+        } else {
+            delegate.success(event);
         }
-        eventQueue.clear();
     }
 
     private static class EndOfStreamEvent {
@@ -80,4 +276,4 @@ final class QueuingEventSink implements EventChannel.EventSink {
             this.details = details;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,130 @@
+package software.solid.fluttervlcplayer;
+
+import android.graphics.Bitmap;
+import android.os.Handler;
+import android.os.Looper;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import software.solid.fluttervlcplayer.Enums.SnapshotFormat;
+
+/**
+ * Takes snapshots for tile previews and the like without a full size allocation per snapshot.
+ *
+ * <p>The frame is drawn on the main thread into a pooled bitmap already sized to the requested
+ * maximum dimensions, then encoded on a background thread. A request for a player that has an
+ * identical snapshot in flight gets that snapshot instead of starting another one.
+ *
+ * <p>{@link #capture} must be called on the main thread, where the results are also delivered.
+ */
+final class SnapshotPipeline {
+
+    private static final long NANOS_PER_MICRO = 1000;
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final BitmapPool bitmapPool = new BitmapPool(BitmapPool.DEFAULT_MAX_BYTES);
+    private final HashMap<String, ArrayList<Waiter>> inFlight = new HashMap<>();
+    private ExecutorService encoder;
+
+    void capture(FlutterVlcPlayer player, long playerId, final SnapshotFormat format, final int quality, int maxWidth, int maxHeight, Messages.Result<Messages.SnapshotResultMessage> result) {
+        long requestedAt = System.nanoTime();
+        final String key = playerId + ":" + format + ":" + quality + ":" + maxWidth + "x" + maxHeight;
+        ArrayList<Waiter> waiting = inFlight.get(key);
+        if (waiting != null) {
+            waiting.add(new Waiter(result, requestedAt, true));
+            return;
+        }
+
+        final Bitmap bitmap = player.readSnapshot(bitmapPool, maxWidth, maxHeight);
+        final long readNanos = System.nanoTime() - requestedAt;
+        if (bitmap == null) {
+            result.success(toMessage(null, 0, 0, readNanos, 0, readNanos, false));
+            return;
+        }
+
+        final ArrayList<Waiter> waiters = new ArrayList<>();
+        waiters.add(new Waiter(result, requestedAt, false));
+        inFlight.put(key, waiters);
+        if (encoder == null) {
+            encoder = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    return new Thread(runnable, "VlcSnapshotEncoder");
+                }
+            });
+        }
+        encoder.execute(new Runnable() {
+            @Override
+            public void run() {
+                final int width = bitmap.getWidth();
+                final int height = bitmap.getHeight();
+                long encodeStart = System.nanoTime();
+                byte[] bytes = null;
+                Throwable error = null;
+                try {
+                    ByteArrayOutputStream outputStream = new ByteArrayOutputStream(width * height / 4);
+                    bitmap.compress(FlutterVlcPlayer.getCompressFormat(format), Math.max(0, Math.min(100, quality)), outputStream);
+                    bytes = outputStream.toByteArray();
+                } catch (Throwable e) {
+                    error = e;
+                } finally {
+                    bitmapPool.release(bitmap);
+                }
+                final long encodeNanos = System.nanoTime() - encodeStart;
+                final byte[] encoded = bytes;
+                final Throwable encodeError = error;
+                handler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        inFlight.remove(key);
+                        long now = System.nanoTime();
+                        for (Waiter waiter : waiters) {
+                            if (encodeError != null) {
+                                waiter.result.error(encodeError);
+                            } else {
+                                waiter.result.success(toMessage(encoded, width, height, readNanos, encodeNanos, now - waiter.requestedAt, waiter.coalesced));
+                            }
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    void shutdown() {
+        if (encoder != null) {
+            encoder.shutdown();
+            encoder = null;
+        }
+        bitmapPool.clear();
+    }
+
+    private static Messages.SnapshotResultMessage toMessage(byte[] bytes, int width, int height, long readNanos, long encodeNanos, long totalNanos, boolean coalesced) {
+        var message = new Messages.SnapshotResultMessage();
+        message.setBytes(bytes);
+        message.setWidth((long) width);
+        message.setHeight((long) height);
+        message.setReadMicros(readNanos / NANOS_PER_MICRO);
+        message.setEncodeMicros(encodeNanos / NANOS_PER_MICRO);
+        message.setTotalMicros(totalNanos / NANOS_PER_MICRO);
+        message.setCoalesced(coalesced);
+        return message;
+    }
+
+    private static final class Waiter {
+        final Messages.Result<Messages.SnapshotResultMessage> result;
+        final long requestedAt;
+        final boolean coalesced;
+
+        Waiter(Messages.Result<Messages.SnapshotResultMessage> result, long requestedAt, boolean coalesced) {
+            this.result = result;
+            this.requestedAt = requestedAt;
+            this.coalesced = coalesced;
+        }
+    }
+}
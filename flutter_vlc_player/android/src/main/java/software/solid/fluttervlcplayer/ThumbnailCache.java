@@ -0,0 +1,237 @@
+package software.solid.fluttervlcplayer;
+
+import android.graphics.BitmapFactory;
+import android.util.LruCache;
+
+import androidx.annotation.Nullable;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A persistent cache of encoded thumbnails, so frames extracted once are not decoded again after
+ * the app restarts.
+ *
+ * <p>Entries are files named after a hash of their key, in a directory of their own. An in-memory
+ * index in access order tracks their sizes, and the least recently used entries are deleted once
+ * the directory exceeds its byte budget. The index is rebuilt from the files on first use, ordered
+ * by their modification time, which is bumped on every hit. Files are written to a temporary file
+ * of their own first and renamed into place, so neither a crash nor a concurrent write of the
+ * same key leaves a truncated entry behind.
+ *
+ * <p>A small memory tier in front keeps the most recently used thumbnails ready to send. Lookups
+ * only read the cache, they never touch libvlc.
+ *
+ * <p>This class is thread-safe.
+ */
+final class ThumbnailCache {
+
+    static final long DEFAULT_MAX_BYTES = 64 * 1024 * 1024;
+    static final int DEFAULT_MEMORY_MAX_BYTES = 4 * 1024 * 1024;
+
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    static final class Entry {
+        final byte[] bytes;
+        final int width;
+        final int height;
+
+        Entry(byte[] bytes, int width, int height) {
+            this.bytes = bytes;
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    // a new instance per write, so a reader can tell whether the entry it read was replaced
+    private static final class DiskEntry {
+        final long size;
+
+        DiskEntry(long size) {
+            this.size = size;
+        }
+    }
+
+    private final File directory;
+    private final long maxBytes;
+    private final LruCache<String, Entry> memory;
+    private final LinkedHashMap<String, DiskEntry> index = new LinkedHashMap<>(16, 0.75f, true);
+    private long size = 0;
+    private boolean loaded = false;
+
+    ThumbnailCache(File directory, long maxBytes, int memoryMaxBytes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.memory = new LruCache<String, Entry>(Math.max(1, memoryMaxBytes)) {
+            @Override
+            protected int sizeOf(String key, Entry entry) {
+                return entry.bytes.length;
+            }
+        };
+    }
+
+    /**
+     * Returns the key of a frame. {@code version} tells apart the revisions of the media at the
+     * same uri, like its size and modification time or an ETag.
+     */
+    static String keyFor(String uri, String version, long time, int format, int quality, int maxWidth, int maxHeight) {
+        String key = uri + '\n' + version + '\n' + time + '\n' + format + '\n' + quality + '\n' + maxWidth + 'x' + maxHeight;
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(key.getBytes(UTF_8));
+            StringBuilder name = new StringBuilder(digest.length * 2);
+            for (byte b : digest)
+                name.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            return name.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // every platform has SHA-1
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Nullable
+    Entry get(String key) {
+        Entry entry = memory.get(key);
+        if (entry != null) {
+            synchronized (this) {
+                // keeps the disk entry from being the next one evicted
+                index.get(key);
+            }
+            return entry;
+        }
+        DiskEntry diskEntry;
+        synchronized (this) {
+            load();
+            diskEntry = index.get(key);
+            if (diskEntry == null)
+                return null;
+        }
+        File file = new File(directory, key);
+        byte[] bytes;
+        try {
+            bytes = readFile(file);
+        } catch (IOException e) {
+            // trimmed meanwhile, or broken, unless it was written again since
+            remove(key, diskEntry);
+            return null;
+        }
+        file.setLastModified(System.currentTimeMillis());
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inJustDecodeBounds = true;
+        BitmapFactory.decodeByteArray(bytes, 0, bytes.length, options);
+        entry = new Entry(bytes, options.outWidth, options.outHeight);
+        memory.put(key, entry);
+        return entry;
+    }
+
+    void put(String key, byte[] bytes, int width, int height) {
+        memory.put(key, new Entry(bytes, width, height));
+        File file = new File(directory, key);
+        File temp = null;
+        synchronized (this) {
+            load();
+        }
+        try {
+            temp = File.createTempFile(key, TEMP_SUFFIX, directory);
+            try (OutputStream outputStream = new FileOutputStream(temp)) {
+                outputStream.write(bytes);
+            }
+            if (!temp.renameTo(file))
+                throw new IOException("Could not move " + temp + " to " + file);
+        } catch (IOException e) {
+            if (temp != null)
+                temp.delete();
+            return;
+        }
+        synchronized (this) {
+            DiskEntry previous = index.put(key, new DiskEntry(bytes.length));
+            size += bytes.length - (previous == null ? 0 : previous.size);
+            trim();
+        }
+    }
+
+    synchronized void clear() {
+        memory.evictAll();
+        load();
+        for (String key : index.keySet())
+            new File(directory, key).delete();
+        index.clear();
+        size = 0;
+    }
+
+    private synchronized void remove(String key, DiskEntry diskEntry) {
+        if (index.get(key) != diskEntry)
+            return;
+        memory.remove(key);
+        index.remove(key);
+        size -= diskEntry.size;
+        new File(directory, key).delete();
+    }
+
+    /**
+     * Rebuilds the index from the files, least recently used first, and drops the temporary
+     * files of writes that never completed.
+     */
+    private void load() {
+        if (loaded)
+            return;
+        loaded = true;
+        directory.mkdirs();
+        File[] files = directory.listFiles();
+        if (files == null)
+            return;
+        Arrays.sort(files, new Comparator<File>() {
+            @Override
+            public int compare(File a, File b) {
+                return Long.compare(a.lastModified(), b.lastModified());
+            }
+        });
+        for (File file : files) {
+            if (file.getName().endsWith(TEMP_SUFFIX)) {
+                file.delete();
+                continue;
+            }
+            long length = file.length();
+            index.put(file.getName(), new DiskEntry(length));
+            size += length;
+        }
+        trim();
+    }
+
+    private void trim() {
+        Iterator<Map.Entry<String, DiskEntry>> iterator = index.entrySet().iterator();
+        while (size > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, DiskEntry> eldest = iterator.next();
+            new File(directory, eldest.getKey()).delete();
+            memory.remove(eldest.getKey());
+            size -= eldest.getValue().size;
+            iterator.remove();
+        }
+    }
+
+    private static byte[] readFile(File file) throws IOException {
+        try (InputStream inputStream = new FileInputStream(file)) {
+            byte[] bytes = new byte[(int) file.length()];
+            int offset = 0;
+            while (offset < bytes.length) {
+                int read = inputStream.read(bytes, offset, bytes.length - offset);
+                if (read < 0)
+                    throw new IOException("Unexpected end of " + file);
+                offset += read;
+            }
+            return bytes;
+        }
+    }
+}
@@ -0,0 +1,654 @@
+package software.solid.fluttervlcplayer;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.PixelFormat;
+import android.graphics.Rect;
+import android.media.Image;
+import android.media.ImageReader;
+import android.net.Uri;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
+import android.os.ParcelFileDescriptor;
+import android.util.Log;
+
+import androidx.annotation.Nullable;
+
+import org.videolan.libvlc.LibVLC;
+import org.videolan.libvlc.Media;
+import org.videolan.libvlc.MediaPlayer;
+import org.videolan.libvlc.interfaces.IMedia;
+import org.videolan.libvlc.interfaces.IVLCVout;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.flutter.plugin.common.BinaryMessenger;
+import io.flutter.plugin.common.EventChannel;
+import software.solid.fluttervlcplayer.Enums.SnapshotFormat;
+
+/**
+ * Extracts thumbnails from a media at given timestamps without a view.
+ *
+ * <p>Each request is decoded by an off-screen media player borrowed from the {@link LibVLCPool},
+ * whose video output is an {@link ImageReader} surface. Requests run on a bounded pool of worker
+ * threads, so several files are processed in parallel while the rest wait their turn.
+ *
+ * <p>Frames found in the {@link ThumbnailCache} are sent right away, without opening the media.
+ * The others follow in timestamp order once decoded, and are added to the cache.
+ *
+ * <p>It also generates sprite sheets for seek bar previews: tiles of the frames at a regular
+ * interval, written to files of bounded size as they are decoded.
+ *
+ * <p>The thumbnails and sprite sheet updates are sent on a shared event channel as maps tagged
+ * with the request id, followed by a {@code done} event once the request is complete or
+ * cancelled.
+ */
+final class ThumbnailExtractor {
+
+    static final String CHANNEL_NAME = "flutter_video_plugin/getThumbnails";
+    static final int DEFAULT_WORKERS = 2;
+    static final int DEFAULT_MAX_SIZE = 320;
+    static final int MAX_SPRITE_TILES = 1000;
+    // a page of 2048 x 2048 ARGB pixels takes 16 MB
+    static final int MAX_SPRITE_PAGE_SIZE = 2048;
+
+    private static final long FRAME_TIMEOUT_MS = 5000;
+    // frames decoded this much before the timestamp are close enough
+    private static final long SEEK_TOLERANCE_MS = 100;
+
+    private final String TAG = this.getClass().getSimpleName();
+    private final boolean debug = false;
+    //
+    private final Context context;
+    private final LibVLCPool libVLCPool;
+    @Nullable
+    private final ThumbnailCache cache;
+    private final EventChannel eventChannel;
+    private final ExecutorService workers;
+    private final HandlerThread frameThread;
+    private final Handler frameHandler;
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final AtomicLong nextRequestId = new AtomicLong(1);
+    // the queued and running requests, mapped to whether they were cancelled
+    private final ConcurrentHashMap<Long, Boolean> requests = new ConcurrentHashMap<>();
+    //
+    private EventChannel.EventSink eventSink;
+
+    ThumbnailExtractor(Context context, BinaryMessenger binaryMessenger, LibVLCPool libVLCPool, int workerCount, @Nullable ThumbnailCache cache) {
+        this.context = context.getApplicationContext();
+        this.libVLCPool = libVLCPool;
+        this.cache = cache;
+        final AtomicInteger workerNumber = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(Math.max(1, workerCount), new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                return new Thread(runnable, "VlcThumbnailWorker-" + workerNumber.incrementAndGet());
+            }
+        });
+        frameThread = new HandlerThread("VlcThumbnailFrames");
+        frameThread.start();
+        frameHandler = new Handler(frameThread.getLooper());
+        //
+        eventChannel = new EventChannel(binaryMessenger, CHANNEL_NAME);
+        eventChannel.setStreamHandler(
+                new EventChannel.StreamHandler() {
+                    @Override
+                    public void onListen(Object o, EventChannel.EventSink sink) {
+                        eventSink = sink;
+                    }
+
+                    @Override
+                    public void onCancel(Object o) {
+                        eventSink = null;
+                    }
+                });
+    }
+
+    void dispose() {
+        workers.shutdownNow();
+        frameThread.quitSafely();
+        eventChannel.setStreamHandler(null);
+        eventSink = null;
+    }
+
+    /**
+     * Queues the extraction of the frames at the given timestamps, in milliseconds, and returns
+     * the id its events are tagged with. The frames are scaled to fit within
+     * {@code maxWidth} x {@code maxHeight} when they are positive, or {@link #DEFAULT_MAX_SIZE}.
+     * {@code cacheTag}, like an ETag, tells apart the revisions of a remote media in the cache.
+     */
+    long extract(final String uri, @Nullable final String cacheTag, final List<Long> timestamps, final SnapshotFormat format, final int quality, final int maxWidth, final int maxHeight) {
+        final long requestId = nextRequestId.getAndIncrement();
+        submit(requestId, new Job() {
+            @Override
+            public void run() throws Exception {
+                extractFrames(requestId, uri, cacheTag, timestamps, format, quality,
+                        maxWidth > 0 ? maxWidth : DEFAULT_MAX_SIZE,
+                        maxHeight > 0 ? maxHeight : DEFAULT_MAX_SIZE);
+            }
+        });
+        return requestId;
+    }
+
+    /**
+     * Queues the generation of a sprite sheet of the frames every {@code intervalMs}, each fitted
+     * in a {@code tileWidth} x {@code tileHeight} tile, {@code columns} tiles per row. The sheet
+     * is split into pages of at most {@link #MAX_SPRITE_PAGE_SIZE} pixels a side, the first
+     * written to {@code path} and the next ones next to it, see {@link #spritePagePath}. Each
+     * page is written once full, so the first tiles can be shown while the next ones are
+     * decoded. The row must fit in a page. Returns the id its events are tagged with.
+     */
+    long generateSpriteSheet(final String uri, final String path, final long intervalMs, final int tileWidth, final int tileHeight, final int columns, final SnapshotFormat format, final int quality) {
+        final long requestId = nextRequestId.getAndIncrement();
+        submit(requestId, new Job() {
+            @Override
+            public void run() throws Exception {
+                generateSprites(requestId, uri, path, Math.max(1, intervalMs), Math.max(1, tileWidth), Math.max(1, tileHeight), Math.max(1, columns), format, quality);
+            }
+        });
+        return requestId;
+    }
+
+    private interface Job {
+        void run() throws Exception;
+    }
+
+    private void submit(final long requestId, final Job job) {
+        requests.put(requestId, false);
+        workers.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    job.run();
+                } catch (Exception e) {
+                    log(e.getMessage());
+                    sendError(requestId, -1, -1, e.getMessage());
+                } finally {
+                    requests.remove(requestId);
+                    sendDone(requestId);
+                }
+            }
+        });
+    }
+
+    /**
+     * Stops the request after the thumbnail in progress, or skips it if it has not started yet.
+     */
+    void cancel(long requestId) {
+        // a finished request is no longer there to mark
+        requests.replace(requestId, true);
+    }
+
+    private boolean isCancelled(long requestId) {
+        return Boolean.TRUE.equals(requests.get(requestId));
+    }
+
+    private void extractFrames(long requestId, String uri, @Nullable String cacheTag, List<Long> timestamps, SnapshotFormat format, int quality, int maxWidth, int maxHeight) throws IOException, InterruptedException {
+        if (timestamps.isEmpty() || isCancelled(requestId))
+            return;
+        // seek forward only, the results still carry the index of their timestamp in the request
+        Integer[] order = new Integer[timestamps.size()];
+        for (int i = 0; i < order.length; i++)
+            order[i] = i;
+        final List<Long> times = timestamps;
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return Long.compare(times.get(a), times.get(b));
+            }
+        });
+
+        String[] cacheKeys = new String[timestamps.size()];
+        if (cache != null) {
+            String version = getMediaVersion(uri, cacheTag);
+            ArrayList<Integer> misses = new ArrayList<>();
+            for (int index : order) {
+                long time = Math.max(0, timestamps.get(index));
+                cacheKeys[index] = ThumbnailCache.keyFor(uri, version, time, format.ordinal(), quality, maxWidth, maxHeight);
+                ThumbnailCache.Entry entry = cache.get(cacheKeys[index]);
+                if (entry != null)
+                    sendThumbnail(requestId, index, time, entry.bytes, entry.width, entry.height);
+                else
+                    misses.add(index);
+            }
+            if (misses.isEmpty())
+                return;
+            order = misses.toArray(new Integer[0]);
+        }
+
+        final String[] keys = cacheKeys;
+        LibVLC libVLC = libVLCPool.acquire(context, new ArrayList<String>());
+        ParcelFileDescriptor descriptor = null;
+        Media media = null;
+        try {
+            descriptor = openDescriptor(uri);
+            media = createMedia(libVLC, uri, descriptor);
+            // the display size is only known once parsed, the reader must match its aspect ratio,
+            // a network media is only parsed when asked to
+            media.parse(IMedia.Parse.ParseNetwork);
+            decodeFrames(requestId, libVLC, media, getThumbnailSize(media, maxWidth, maxHeight), timestamps, order, new FrameConsumer() {
+                @Override
+                public void onFrame(int index, long time, @Nullable Bitmap bitmap) throws IOException {
+                    if (bitmap == null) {
+                        sendError(requestId, index, time, "No frame decoded at " + time + "ms");
+                        return;
+                    }
+                    ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bitmap.getWidth() * bitmap.getHeight() / 4);
+                    bitmap.compress(FlutterVlcPlayer.getCompressFormat(format), Math.max(0, Math.min(100, quality)), outputStream);
+                    byte[] bytes = outputStream.toByteArray();
+                    sendThumbnail(requestId, index, time, bytes, bitmap.getWidth(), bitmap.getHeight());
+                    if (cache != null)
+                        cache.put(keys[index], bytes, bitmap.getWidth(), bitmap.getHeight());
+                }
+            });
+        } finally {
+            if (media != null)
+                media.release();
+            closeDescriptor(descriptor);
+            libVLCPool.release(libVLC);
+        }
+    }
+
+    private void generateSprites(final long requestId, String uri, final String path, long intervalMs, final int tileWidth, final int tileHeight, final int columns, final SnapshotFormat format, final int quality) throws IOException, InterruptedException {
+        if (isCancelled(requestId))
+            return;
+        LibVLC libVLC = libVLCPool.acquire(context, new ArrayList<String>());
+        ParcelFileDescriptor descriptor = null;
+        Media media = null;
+        SpritePageWriter writer = null;
+        try {
+            descriptor = openDescriptor(uri);
+            media = createMedia(libVLC, uri, descriptor);
+            // the tiles are small, decoding accuracy is traded for speed
+            media.addOption(":avcodec-skiploopfilter=4");
+            media.addOption(":avcodec-fast");
+            media.parse(IMedia.Parse.ParseNetwork);
+            long duration = media.getDuration();
+            if (duration <= 0)
+                throw new IOException("The duration of " + uri + " is unknown once parsed, a live stream cannot be split into tiles");
+
+            int count = (int) Math.min(MAX_SPRITE_TILES, (duration - 1) / intervalMs + 1);
+            List<Long> timestamps = new ArrayList<>(count);
+            Integer[] order = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                timestamps.add(i * intervalMs);
+                order[i] = i;
+            }
+            writer = new SpritePageWriter(requestId, path, count, tileWidth, tileHeight, columns, format, quality);
+            decodeFrames(requestId, libVLC, media, getThumbnailSize(media, tileWidth, tileHeight), timestamps, order, writer);
+        } finally {
+            if (writer != null)
+                writer.recycle();
+            if (media != null)
+                media.release();
+            closeDescriptor(descriptor);
+            libVLCPool.release(libVLC);
+        }
+    }
+
+    /**
+     * Returns the file of the given page of the sprite sheet at {@code path}: the path itself for
+     * the first page, with the page number appended to the file name for the next ones.
+     */
+    static String spritePagePath(String path, int page) {
+        if (page == 0)
+            return path;
+        int separator = path.lastIndexOf(File.separatorChar);
+        int extension = path.lastIndexOf('.');
+        if (extension <= separator)
+            return path + "-" + page;
+        return path.substring(0, extension) + "-" + page + path.substring(extension);
+    }
+
+    /**
+     * Draws the frames into pages of at most {@link #MAX_SPRITE_PAGE_SIZE} pixels a side, each
+     * written once it is full, so the memory and the encoding work stay bounded by the page size.
+     */
+    private final class SpritePageWriter implements FrameConsumer {
+        private final long requestId;
+        private final String path;
+        private final int count;
+        private final int tileWidth;
+        private final int tileHeight;
+        private final int columns;
+        private final int tilesPerPage;
+        private final SnapshotFormat format;
+        private final int quality;
+        private final Paint paint = new Paint(Paint.FILTER_BITMAP_FLAG);
+        // time, left, top, width and height of each tile drawn in the current page
+        private final ArrayList<Long> tiles = new ArrayList<>();
+        private Bitmap page;
+        private Canvas canvas;
+
+        SpritePageWriter(long requestId, String path, int count, int tileWidth, int tileHeight, int columns, SnapshotFormat format, int quality) {
+            this.requestId = requestId;
+            this.path = path;
+            this.count = count;
+            this.tileWidth = tileWidth;
+            this.tileHeight = tileHeight;
+            this.columns = columns;
+            this.tilesPerPage = Math.max(1, MAX_SPRITE_PAGE_SIZE / tileHeight) * columns;
+            this.format = format;
+            this.quality = quality;
+        }
+
+        @Override
+        public void onFrame(int index, long time, @Nullable Bitmap bitmap) throws IOException {
+            int pageIndex = index / tilesPerPage;
+            int tile = index % tilesPerPage;
+            if (page == null) {
+                int pageTiles = Math.min(tilesPerPage, count - pageIndex * tilesPerPage);
+                int rows = (pageTiles + columns - 1) / columns;
+                page = Bitmap.createBitmap(columns * tileWidth, rows * tileHeight, Bitmap.Config.ARGB_8888);
+                canvas = new Canvas(page);
+            }
+            if (bitmap != null) {
+                // centered in its tile, keeping its aspect ratio
+                float scale = Math.min((float) tileWidth / bitmap.getWidth(), (float) tileHeight / bitmap.getHeight());
+                int width = Math.max(1, Math.round(bitmap.getWidth() * scale));
+                int height = Math.max(1, Math.round(bitmap.getHeight() * scale));
+                int left = (tile % columns) * tileWidth + (tileWidth - width) / 2;
+                int top = (tile / columns) * tileHeight + (tileHeight - height) / 2;
+                canvas.drawBitmap(bitmap, null, new Rect(left, top, left + width, top + height), paint);
+                tiles.addAll(Arrays.asList(time, (long) left, (long) top, (long) width, (long) height));
+            } else {
+                sendError(requestId, index, time, "No frame decoded at " + time + "ms");
+            }
+            if (tile == tilesPerPage - 1 || index == count - 1) {
+                String pagePath = spritePagePath(path, pageIndex);
+                writeBitmap(page, format, quality, new File(pagePath));
+                sendSprites(requestId, pagePath, count, tiles);
+                tiles.clear();
+                recycle();
+            }
+        }
+
+        void recycle() {
+            if (page != null)
+                page.recycle();
+            page = null;
+            canvas = null;
+        }
+    }
+
+    /**
+     * Encodes the bitmap to a temporary file renamed over {@code file}, so readers never see a
+     * partly written image.
+     */
+    private static void writeBitmap(Bitmap bitmap, SnapshotFormat format, int quality, File file) throws IOException {
+        File temp = new File(file.getPath() + ".tmp");
+        try {
+            try (OutputStream outputStream = new FileOutputStream(temp)) {
+                if (!bitmap.compress(FlutterVlcPlayer.getCompressFormat(format), Math.max(0, Math.min(100, quality)), outputStream))
+                    throw new IOException("Could not encode " + file);
+            }
+            if (!temp.renameTo(file))
+                throw new IOException("Could not move " + temp + " to " + file);
+        } finally {
+            temp.delete();
+        }
+    }
+
+    private interface FrameConsumer {
+        /**
+         * Receives the frame of the timestamp at {@code index}, or null if none was decoded in
+         * time. The bitmap is recycled once this returns.
+         */
+        void onFrame(int index, long time, @Nullable Bitmap bitmap) throws IOException;
+    }
+
+    /**
+     * Plays the parsed media into an off-screen reader of the given size and hands the frames
+     * at the timestamps to {@code consumer}, visiting the timestamps in the given order. Stops
+     * early when the request is cancelled.
+     */
+    private void decodeFrames(long requestId, LibVLC libVLC, Media media, int[] size, List<Long> timestamps, Integer[] order, FrameConsumer consumer) throws IOException, InterruptedException {
+        MediaPlayer mediaPlayer = null;
+        ImageReader reader = null;
+        try {
+            long firstTime = Math.max(0, timestamps.get(order[0]));
+            media.addOption(":start-time=" + (firstTime / 1000.0));
+
+            final Semaphore frames = new Semaphore(0);
+            reader = ImageReader.newInstance(size[0], size[1], PixelFormat.RGBA_8888, 2);
+            reader.setOnImageAvailableListener(new ImageReader.OnImageAvailableListener() {
+                @Override
+                public void onImageAvailable(ImageReader imageReader) {
+                    frames.release();
+                }
+            }, frameHandler);
+
+            mediaPlayer = libVLCPool.acquireMediaPlayer(libVLC);
+            IVLCVout vout = mediaPlayer.getVLCVout();
+            vout.setVideoSurface(reader.getSurface(), null);
+            vout.setWindowSize(size[0], size[1]);
+            vout.attachViews();
+            mediaPlayer.setMedia(media);
+            mediaPlayer.play();
+
+            for (int i = 0; i < order.length; i++) {
+                if (isCancelled(requestId))
+                    return;
+                int index = order[i];
+                long time = Math.max(0, timestamps.get(index));
+                if (i > 0)
+                    mediaPlayer.setTime(time);
+                Bitmap bitmap = awaitFrame(mediaPlayer, reader, frames, time);
+                try {
+                    consumer.onFrame(index, time, bitmap);
+                } finally {
+                    if (bitmap != null)
+                        bitmap.recycle();
+                }
+            }
+        } finally {
+            if (mediaPlayer != null) {
+                mediaPlayer.stop();
+                mediaPlayer.getVLCVout().detachViews();
+                libVLCPool.recycleMediaPlayer(libVLC, mediaPlayer);
+            }
+            if (reader != null)
+                reader.close();
+        }
+    }
+
+    /**
+     * Waits for the first frame decoded at or after {@code time}, skipping the frames still in
+     * flight from before the seek. Returns null if none comes in time.
+     */
+    private Bitmap awaitFrame(MediaPlayer mediaPlayer, ImageReader reader, Semaphore frames, long time) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + FRAME_TIMEOUT_MS;
+        while (true) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0 || !frames.tryAcquire(remaining, TimeUnit.MILLISECONDS))
+                return null;
+            frames.drainPermits();
+            Image image = reader.acquireLatestImage();
+            if (image == null)
+                continue;
+            try {
+                if (mediaPlayer.getTime() >= time - SEEK_TOLERANCE_MS)
+                    return toBitmap(image);
+            } finally {
+                image.close();
+            }
+        }
+    }
+
+    private static Bitmap toBitmap(Image image) {
+        Image.Plane plane = image.getPlanes()[0];
+        ByteBuffer buffer = plane.getBuffer();
+        int width = image.getWidth();
+        int height = image.getHeight();
+        // rows may be padded, copy them whole and crop the padding off afterwards
+        int paddedWidth = plane.getRowStride() / plane.getPixelStride();
+        Bitmap padded = Bitmap.createBitmap(paddedWidth, height, Bitmap.Config.ARGB_8888);
+        padded.copyPixelsFromBuffer(buffer);
+        if (paddedWidth == width)
+            return padded;
+        Bitmap bitmap = Bitmap.createBitmap(padded, 0, 0, width, height);
+        padded.recycle();
+        return bitmap;
+    }
+
+    /**
+     * Returns what tells apart the revisions of the media at {@code uri}: the tag when given, else
+     * the size and modification time of a local file, the size of a content uri, or nothing.
+     */
+    private String getMediaVersion(String uri, @Nullable String cacheTag) {
+        if (cacheTag != null)
+            return cacheTag;
+        Uri parsed = Uri.parse(uri);
+        String scheme = parsed.getScheme();
+        if ("content".equals(scheme)) {
+            try (ParcelFileDescriptor descriptor = context.getContentResolver().openFileDescriptor(parsed, "r")) {
+                return descriptor == null ? "" : String.valueOf(descriptor.getStatSize());
+            } catch (IOException | SecurityException e) {
+                return "";
+            }
+        }
+        if (scheme == null || "file".equals(scheme)) {
+            File file = new File(scheme == null ? uri : parsed.getPath());
+            return file.length() + "-" + file.lastModified();
+        }
+        return "";
+    }
+
+    /**
+     * Opens the descriptor a content uri is read from, or returns null for any other uri. It must
+     * stay open until the media built on it is released.
+     */
+    @Nullable
+    private ParcelFileDescriptor openDescriptor(String uri) throws IOException {
+        if (!uri.startsWith("content://"))
+            return null;
+        ParcelFileDescriptor descriptor = context.getContentResolver().openFileDescriptor(Uri.parse(uri), "r");
+        if (descriptor == null)
+            throw new IOException("Cannot open " + uri);
+        return descriptor;
+    }
+
+    private void closeDescriptor(@Nullable ParcelFileDescriptor descriptor) {
+        if (descriptor == null)
+            return;
+        try {
+            descriptor.close();
+        } catch (IOException e) {
+            log(e.getMessage());
+        }
+    }
+
+    private Media createMedia(LibVLC libVLC, String uri, @Nullable ParcelFileDescriptor descriptor) {
+        Media media;
+        if (descriptor != null)
+            media = new Media(libVLC, descriptor.getFileDescriptor());
+        else
+            media = new Media(libVLC, Uri.parse(uri));
+        // decoded in software, so the display output converts the frames to RGBA for the reader
+        media.setHWDecoderEnabled(false, false);
+        media.addOption(":no-audio");
+        media.addOption(":no-spu");
+        return media;
+    }
+
+    /**
+     * Fits the display size of the parsed video track within the given bounds, or returns the
+     * bounds as is when the media has no known video size.
+     */
+    private static int[] getThumbnailSize(Media media, int maxWidth, int maxHeight) {
+        for (int i = 0; i < media.getTrackCount(); i++) {
+            IMedia.Track track = media.getTrack(i);
+            if (!(track instanceof IMedia.VideoTrack))
+                continue;
+            IMedia.VideoTrack videoTrack = (IMedia.VideoTrack) track;
+            float width = videoTrack.width;
+            float height = videoTrack.height;
+            if (width <= 0 || height <= 0)
+                break;
+            if (videoTrack.sarNum > 0 && videoTrack.sarDen > 0)
+                width = width * videoTrack.sarNum / videoTrack.sarDen;
+            float scale = Math.min(1, Math.min(maxWidth / width, maxHeight / height));
+            return new int[]{Math.max(1, Math.round(width * scale)), Math.max(1, Math.round(height * scale))};
+        }
+        return new int[]{maxWidth, maxHeight};
+    }
+
+    private void sendThumbnail(long requestId, int index, long time, byte[] bytes, int width, int height) {
+        HashMap<String, Object> event = new HashMap<>();
+        event.put("event", "thumbnail");
+        event.put("requestId", requestId);
+        event.put("index", index);
+        event.put("time", time);
+        event.put("bytes", bytes);
+        event.put("width", width);
+        event.put("height", height);
+        send(event);
+    }
+
+    private void sendError(long requestId, int index, long time, String message) {
+        HashMap<String, Object> event = new HashMap<>();
+        event.put("event", "error");
+        event.put("requestId", requestId);
+        event.put("index", index);
+        event.put("time", time);
+        event.put("message", message);
+        send(event);
+    }
+
+    private void sendSprites(long requestId, String path, int tileCount, List<Long> tiles) {
+        long[] rects = new long[tiles.size()];
+        for (int i = 0; i < rects.length; i++)
+            rects[i] = tiles.get(i);
+        HashMap<String, Object> event = new HashMap<>();
+        event.put("event", "sprites");
+        event.put("requestId", requestId);
+        event.put("path", path);
+        event.put("tileCount", tileCount);
+        event.put("tiles", rects);
+        send(event);
+    }
+
+    private void sendDone(long requestId) {
+        HashMap<String, Object> event = new HashMap<>();
+        event.put("event", "done");
+        event.put("requestId", requestId);
+        send(event);
+    }
+
+    private void send(final HashMap<String, Object> event) {
+        handler.post(new Runnable() {
+            @Override
+            public void run() {
+                if (eventSink != null)
+                    eventSink.success(event);
+            }
+        });
+    }
+
+    private void log(String message) {
+        if (debug) {
+            Log.d(TAG, message);
+        }
+    }
+}
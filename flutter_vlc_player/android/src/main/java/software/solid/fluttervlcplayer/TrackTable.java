@@ -0,0 +1,110 @@
+package software.solid.fluttervlcplayer;
+
+import org.videolan.libvlc.MediaPlayer;
+import org.videolan.libvlc.interfaces.IMedia;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import software.solid.fluttervlcplayer.Enums.TrackType;
+
+/**
+ * The audio, video and subtitle tracks of the current media, read from the player only after its
+ * elementary streams changed instead of on every query.
+ *
+ * <p>The returned lists and maps are owned by the table and are replaced on the next rebuild, so
+ * callers must not modify them.
+ *
+ * <p>This class is not thread-safe. All calls must be done on the main thread, which is where the
+ * player events are delivered.
+ */
+final class TrackTable {
+
+    private boolean stale = true;
+    private List<Messages.TrackMessage> allTracks = new ArrayList<>();
+    private Map<Long, String> audioTracks = new HashMap<>();
+    private Map<Long, String> spuTracks = new HashMap<>();
+    private Map<Long, String> videoTracks = new HashMap<>();
+
+    /**
+     * Marks the table for a rebuild on the next query, to be called when a stream is added,
+     * deleted or selected, or when the media changes.
+     */
+    void invalidate() {
+        stale = true;
+    }
+
+    List<Messages.TrackMessage> getAllTracks(MediaPlayer mediaPlayer) {
+        refresh(mediaPlayer);
+        return allTracks;
+    }
+
+    Map<Long, String> getAudioTracks(MediaPlayer mediaPlayer) {
+        refresh(mediaPlayer);
+        return audioTracks;
+    }
+
+    Map<Long, String> getSpuTracks(MediaPlayer mediaPlayer) {
+        refresh(mediaPlayer);
+        return spuTracks;
+    }
+
+    Map<Long, String> getVideoTracks(MediaPlayer mediaPlayer) {
+        refresh(mediaPlayer);
+        return videoTracks;
+    }
+
+    private void refresh(MediaPlayer mediaPlayer) {
+        if (!stale) return;
+
+        stale = false;
+        allTracks = new ArrayList<>();
+        audioTracks = new HashMap<>();
+        spuTracks = new HashMap<>();
+        videoTracks = new HashMap<>();
+        // the player only names the tracks, the codec details come from the media
+        HashMap<Integer, IMedia.Track> details = new HashMap<>();
+        IMedia media = mediaPlayer.getMedia();
+        if (media != null) {
+            int trackCount = media.getTrackCount();
+            for (int i = 0; i < trackCount; i++) {
+                IMedia.Track track = media.getTrack(i);
+                if (track != null)
+                    details.put(track.id, track);
+            }
+            media.release();
+        }
+        addTracks(TrackType.AUDIO, mediaPlayer.getAudioTracks(), mediaPlayer.getAudioTrack(), audioTracks, details);
+        addTracks(TrackType.VIDEO, mediaPlayer.getVideoTracks(), mediaPlayer.getVideoTrack(), videoTracks, details);
+        addTracks(TrackType.SPU, mediaPlayer.getSpuTracks(), mediaPlayer.getSpuTrack(), spuTracks, details);
+    }
+
+    private void addTracks(TrackType type, MediaPlayer.TrackDescription[] descriptions, int selectedId, Map<Long, String> names, Map<Integer, IMedia.Track> details) {
+        if (descriptions == null) return;
+
+        for (MediaPlayer.TrackDescription description : descriptions) {
+            // negative ids are the "disable" entries
+            if (description.id < 0) continue;
+
+            names.put((long) description.id, description.name);
+            //
+            var track = new Messages.TrackMessage();
+            track.setType((long) type.ordinal());
+            track.setId((long) description.id);
+            track.setName(description.name != null ? description.name : "");
+            track.setIsSelected(description.id == selectedId);
+            IMedia.Track detail = details.get(description.id);
+            if (detail != null) {
+                track.setCodec(detail.codec);
+                track.setLanguage(detail.language);
+                if (detail instanceof IMedia.VideoTrack) {
+                    track.setWidth((long) ((IMedia.VideoTrack) detail).width);
+                    track.setHeight((long) ((IMedia.VideoTrack) detail).height);
+                }
+            }
+            allTracks.add(track);
+        }
+    }
+}
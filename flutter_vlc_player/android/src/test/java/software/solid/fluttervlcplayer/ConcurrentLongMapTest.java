@@ -0,0 +1,46 @@
+package software.solid.fluttervlcplayer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+class ConcurrentLongMapTest {
+
+    @Test
+    void matchesHashMapOnRandomOperations() {
+        Random random = new Random(42);
+        ConcurrentLongMap<Long> map = new ConcurrentLongMap<>();
+        HashMap<Long, Long> expected = new HashMap<>();
+        for (int i = 0; i < 100000; i++) {
+            // a small key range so keys are often reused, plus ids far apart to collide in the table
+            long key = random.nextInt(4) == 0 ? random.nextLong() : random.nextInt(64);
+            switch (random.nextInt(3)) {
+                case 0:
+                    long value = random.nextLong();
+                    assertEquals(expected.put(key, value), map.put(key, value));
+                    break;
+                case 1:
+                    assertEquals(expected.remove(key), map.remove(key));
+                    break;
+                default:
+                    assertEquals(expected.get(key), map.get(key));
+                    break;
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        assertEquals(sorted(new ArrayList<>(expected.values())), sorted(map.values()));
+        assertEquals(sorted(new ArrayList<>(expected.values())), sorted(map.clear()));
+        assertEquals(0, map.size());
+    }
+
+    private static List<Long> sorted(List<Long> values) {
+        Collections.sort(values);
+        return values;
+    }
+}
@@ -137,6 +137,9 @@ struct CreateMessage: Hashable {
   var autoPlay: Bool
   var hwAcc: Int64? = nil
   var options: [String]
+  var binaryEvents: Bool? = nil
+  var maxPositionUpdatesPerSecond: Int64? = nil
+  var positionAnchors: Bool? = nil
 
 
   // swift-format-ignore: AlwaysUseLowerCamelCase
@@ -148,6 +151,9 @@ struct CreateMessage: Hashable {
     let autoPlay = pigeonVar_list[4] as! Bool
     let hwAcc: Int64? = nilOrValue(pigeonVar_list[5])
     let options = pigeonVar_list[6] as! [String]
+    let binaryEvents: Bool? = nilOrValue(pigeonVar_list[7])
+    let maxPositionUpdatesPerSecond: Int64? = nilOrValue(pigeonVar_list[8])
+    let positionAnchors: Bool? = nilOrValue(pigeonVar_list[9])
 
     return CreateMessage(
       playerId: playerId,
@@ -156,7 +162,10 @@ struct CreateMessage: Hashable {
       packageName: packageName,
       autoPlay: autoPlay,
       hwAcc: hwAcc,
-      options: options
+      options: options,
+      binaryEvents: binaryEvents,
+      maxPositionUpdatesPerSecond: maxPositionUpdatesPerSecond,
+      positionAnchors: positionAnchors
     )
   }
   func toList() -> [Any?] {
@@ -168,6 +177,9 @@ struct CreateMessage: Hashable {
       autoPlay,
       hwAcc,
       options,
+      binaryEvents,
+      maxPositionUpdatesPerSecond,
+      positionAnchors,
     ]
   }
   static func == (lhs: CreateMessage, rhs: CreateMessage) -> Bool {
@@ -325,6 +337,590 @@ struct AddAudioMessage: Hashable {
   }
 }
 
+/// Generated class from Pigeon that represents data sent in messages.
+struct PlayerCommand: Hashable {
+  var playerId: Int64
+  var type: Int64
+  var intValue: Int64? = nil
+  var doubleValue: Double? = nil
+  var boolValue: Bool? = nil
+  var stringValue: String? = nil
+  var media: SetMediaMessage? = nil
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> PlayerCommand? {
+    let playerId = pigeonVar_list[0] as! Int64
+    let type = pigeonVar_list[1] as! Int64
+    let intValue: Int64? = nilOrValue(pigeonVar_list[2])
+    let doubleValue: Double? = nilOrValue(pigeonVar_list[3])
+    let boolValue: Bool? = nilOrValue(pigeonVar_list[4])
+    let stringValue: String? = nilOrValue(pigeonVar_list[5])
+    let media: SetMediaMessage? = nilOrValue(pigeonVar_list[6])
+
+    return PlayerCommand(
+      playerId: playerId,
+      type: type,
+      intValue: intValue,
+      doubleValue: doubleValue,
+      boolValue: boolValue,
+      stringValue: stringValue,
+      media: media
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      playerId,
+      type,
+      intValue,
+      doubleValue,
+      boolValue,
+      stringValue,
+      media,
+    ]
+  }
+  static func == (lhs: PlayerCommand, rhs: PlayerCommand) -> Bool {
+    return deepEqualsMessages(lhs.toList(), rhs.toList())  }
+  func hash(into hasher: inout Hasher) {
+    deepHashMessages(value: toList(), hasher: &hasher)
+  }
+}
+
+/// Generated class from Pigeon that represents data sent in messages.
+struct PlayerCommandResult: Hashable {
+  var success: Bool
+  var error: String? = nil
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> PlayerCommandResult? {
+    let success = pigeonVar_list[0] as! Bool
+    let error: String? = nilOrValue(pigeonVar_list[1])
+
+    return PlayerCommandResult(
+      success: success,
+      error: error
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      success,
+      error,
+    ]
+  }
+  static func == (lhs: PlayerCommandResult, rhs: PlayerCommandResult) -> Bool {
+    return deepEqualsMessages(lhs.toList(), rhs.toList())  }
+  func hash(into hasher: inout Hasher) {
+    deepHashMessages(value: toList(), hasher: &hasher)
+  }
+}
+
+/// Generated class from Pigeon that represents data sent in messages.
+struct SnapshotMessage: Hashable {
+  var playerId: Int64
+  var format: Int64
+  var quality: Int64
+  var maxWidth: Int64? = nil
+  var maxHeight: Int64? = nil
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> SnapshotMessage? {
+    let playerId = pigeonVar_list[0] as! Int64
+    let format = pigeonVar_list[1] as! Int64
+    let quality = pigeonVar_list[2] as! Int64
+    let maxWidth: Int64? = nilOrValue(pigeonVar_list[3])
+    let maxHeight: Int64? = nilOrValue(pigeonVar_list[4])
+
+    return SnapshotMessage(
+      playerId: playerId,
+      format: format,
+      quality: quality,
+      maxWidth: maxWidth,
+      maxHeight: maxHeight
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      playerId,
+      format,
+      quality,
+      maxWidth,
+      maxHeight,
+    ]
+  }
+  static func == (lhs: SnapshotMessage, rhs: SnapshotMessage) -> Bool {
+    return deepEqualsMessages(lhs.toList(), rhs.toList())  }
+  func hash(into hasher: inout Hasher) {
+    deepHashMessages(value: toList(), hasher: &hasher)
+  }
+}
+
+/// Generated class from Pigeon that represents data sent in messages.
+struct SnapshotResultMessage: Hashable {
+  var bytes: FlutterStandardTypedData? = nil
+  var width: Int64
+  var height: Int64
+  var readMicros: Int64
+  var encodeMicros: Int64
+  var totalMicros: Int64
+  var coalesced: Bool
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> SnapshotResultMessage? {
+    let bytes: FlutterStandardTypedData? = nilOrValue(pigeonVar_list[0])
+    let width = pigeonVar_list[1] as! Int64
+    let height = pigeonVar_list[2] as! Int64
+    let readMicros = pigeonVar_list[3] as! Int64
+    let encodeMicros = pigeonVar_list[4] as! Int64
+    let totalMicros = pigeonVar_list[5] as! Int64
+    let coalesced = pigeonVar_list[6] as! Bool
+
+    return SnapshotResultMessage(
+      bytes: bytes,
+      width: width,
+      height: height,
+      readMicros: readMicros,
+      encodeMicros: encodeMicros,
+      totalMicros: totalMicros,
+      coalesced: coalesced
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      bytes,
+      width,
+      height,
+      readMicros,
+      encodeMicros,
+      totalMicros,
+      coalesced,
+    ]
+  }
+  static func == (lhs: SnapshotResultMessage, rhs: SnapshotResultMessage) -> Bool {
+    return deepEqualsMessages(lhs.toList(), rhs.toList())  }
+  func hash(into hasher: inout Hasher) {
+    deepHashMessages(value: toList(), hasher: &hasher)
+  }
+}
+
+/// Generated class from Pigeon that represents data sent in messages.
+struct FrameTapMessage: Hashable {
+  var playerId: Int64
+  var fps: Double
+  var format: Int64
+  var quality: Int64
+  var maxWidth: Int64? = nil
+  var maxHeight: Int64? = nil
+  var bufferCount: Int64
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> FrameTapMessage? {
+    let playerId = pigeonVar_list[0] as! Int64
+    let fps = pigeonVar_list[1] as! Double
+    let format = pigeonVar_list[2] as! Int64
+    let quality = pigeonVar_list[3] as! Int64
+    let maxWidth: Int64? = nilOrValue(pigeonVar_list[4])
+    let maxHeight: Int64? = nilOrValue(pigeonVar_list[5])
+    let bufferCount = pigeonVar_list[6] as! Int64
+
+    return FrameTapMessage(
+      playerId: playerId,
+      fps: fps,
+      format: format,
+      quality: quality,
+      maxWidth: maxWidth,
+      maxHeight: maxHeight,
+      bufferCount: bufferCount
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      playerId,
+      fps,
+      format,
+      quality,
+      maxWidth,
+      maxHeight,
+      bufferCount,
+    ]
+  }
+  static func == (lhs: FrameTapMessage, rhs: FrameTapMessage) -> Bool {
+    return deepEqualsMessages(lhs.toList(), rhs.toList())  }
+  func hash(into hasher: inout Hasher) {
+    deepHashMessages(value: toList(), hasher: &hasher)
+  }
+}
+
+/// Generated class from Pigeon that represents data sent in messages.
+struct MotionDetectionMessage: Hashable {
+  var playerId: Int64
+  var fps: Double
+  var width: Int64
+  var height: Int64
+  var threshold: Double
+  var pixelThreshold: Int64
+  var cpuBudget: Double
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> MotionDetectionMessage? {
+    let playerId = pigeonVar_list[0] as! Int64
+    let fps = pigeonVar_list[1] as! Double
+    let width = pigeonVar_list[2] as! Int64
+    let height = pigeonVar_list[3] as! Int64
+    let threshold = pigeonVar_list[4] as! Double
+    let pixelThreshold = pigeonVar_list[5] as! Int64
+    let cpuBudget = pigeonVar_list[6] as! Double
+
+    return MotionDetectionMessage(
+      playerId: playerId,
+      fps: fps,
+      width: width,
+      height: height,
+      threshold: threshold,
+      pixelThreshold: pixelThreshold,
+      cpuBudget: cpuBudget
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      playerId,
+      fps,
+      width,
+      height,
+      threshold,
+      pixelThreshold,
+      cpuBudget,
+    ]
+  }
+  static func == (lhs: MotionDetectionMessage, rhs: MotionDetectionMessage) -> Bool {
+    return deepEqualsMessages(lhs.toList(), rhs.toList())  }
+  func hash(into hasher: inout Hasher) {
+    deepHashMessages(value: toList(), hasher: &hasher)
+  }
+}
+
+/// Generated class from Pigeon that represents data sent in messages.
+struct CommitNextResultMessage: Hashable {
+  var success: Bool
+  var swapMicros: Int64
+  var firstFrameMicros: Int64
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> CommitNextResultMessage? {
+    let success = pigeonVar_list[0] as! Bool
+    let swapMicros = pigeonVar_list[1] as! Int64
+    let firstFrameMicros = pigeonVar_list[2] as! Int64
+
+    return CommitNextResultMessage(
+      success: success,
+      swapMicros: swapMicros,
+      firstFrameMicros: firstFrameMicros
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      success,
+      swapMicros,
+      firstFrameMicros,
+    ]
+  }
+  static func == (lhs: CommitNextResultMessage, rhs: CommitNextResultMessage) -> Bool {
+    return deepEqualsMessages(lhs.toList(), rhs.toList())  }
+  func hash(into hasher: inout Hasher) {
+    deepHashMessages(value: toList(), hasher: &hasher)
+  }
+}
+
+/// Generated class from Pigeon that represents data sent in messages.
+struct PlayerStateMessage: Hashable {
+  var playerId: Int64
+  var isPlaying: Bool
+  var isSeekable: Bool
+  var position: Int64
+  var duration: Int64
+  var volume: Int64
+  var playbackSpeed: Double
+  var audioTrack: Int64
+  var audioDelay: Int64
+  var spuTrack: Int64
+  var spuDelay: Int64
+  var videoTrack: Int64
+  var videoScale: Double
+  var videoAspectRatio: String
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> PlayerStateMessage? {
+    let playerId = pigeonVar_list[0] as! Int64
+    let isPlaying = pigeonVar_list[1] as! Bool
+    let isSeekable = pigeonVar_list[2] as! Bool
+    let position = pigeonVar_list[3] as! Int64
+    let duration = pigeonVar_list[4] as! Int64
+    let volume = pigeonVar_list[5] as! Int64
+    let playbackSpeed = pigeonVar_list[6] as! Double
+    let audioTrack = pigeonVar_list[7] as! Int64
+    let audioDelay = pigeonVar_list[8] as! Int64
+    let spuTrack = pigeonVar_list[9] as! Int64
+    let spuDelay = pigeonVar_list[10] as! Int64
+    let videoTrack = pigeonVar_list[11] as! Int64
+    let videoScale = pigeonVar_list[12] as! Double
+    let videoAspectRatio = pigeonVar_list[13] as! String
+
+    return PlayerStateMessage(
+      playerId: playerId,
+      isPlaying: isPlaying,
+      isSeekable: isSeekable,
+      position: position,
+      duration: duration,
+      volume: volume,
+      playbackSpeed: playbackSpeed,
+      audioTrack: audioTrack,
+      audioDelay: audioDelay,
+      spuTrack: spuTrack,
+      spuDelay: spuDelay,
+      videoTrack: videoTrack,
+      videoScale: videoScale,
+      videoAspectRatio: videoAspectRatio
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      playerId,
+      isPlaying,
+      isSeekable,
+      position,
+      duration,
+      volume,
+      playbackSpeed,
+      audioTrack,
+      audioDelay,
+      spuTrack,
+      spuDelay,
+      videoTrack,
+      videoScale,
+      videoAspectRatio,
+    ]
+  }
+  static func == (lhs: PlayerStateMessage, rhs: PlayerStateMessage) -> Bool {
+    return deepEqualsMessages(lhs.toList(), rhs.toList())  }
+  func hash(into hasher: inout Hasher) {
+    deepHashMessages(value: toList(), hasher: &hasher)
+  }
+}
+
+/// Generated class from Pigeon that represents data sent in messages.
+struct TrackMessage: Hashable {
+  var type: Int64
+  var id: Int64
+  var name: String
+  var codec: String? = nil
+  var language: String? = nil
+  var width: Int64? = nil
+  var height: Int64? = nil
+  var isSelected: Bool
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> TrackMessage? {
+    let type = pigeonVar_list[0] as! Int64
+    let id = pigeonVar_list[1] as! Int64
+    let name = pigeonVar_list[2] as! String
+    let codec: String? = nilOrValue(pigeonVar_list[3])
+    let language: String? = nilOrValue(pigeonVar_list[4])
+    let width: Int64? = nilOrValue(pigeonVar_list[5])
+    let height: Int64? = nilOrValue(pigeonVar_list[6])
+    let isSelected = pigeonVar_list[7] as! Bool
+
+    return TrackMessage(
+      type: type,
+      id: id,
+      name: name,
+      codec: codec,
+      language: language,
+      width: width,
+      height: height,
+      isSelected: isSelected
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      type,
+      id,
+      name,
+      codec,
+      language,
+      width,
+      height,
+      isSelected,
+    ]
+  }
+  static func == (lhs: TrackMessage, rhs: TrackMessage) -> Bool {
+    return deepEqualsMessages(lhs.toList(), rhs.toList())  }
+  func hash(into hasher: inout Hasher) {
+    deepHashMessages(value: toList(), hasher: &hasher)
+  }
+}
+
+/// Generated class from Pigeon that represents data sent in messages.
+struct ThumbnailRequestMessage: Hashable {
+  var uri: String
+  var cacheTag: String? = nil
+  var timestamps: [Int64]
+  var format: Int64
+  var quality: Int64
+  var maxWidth: Int64? = nil
+  var maxHeight: Int64? = nil
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> ThumbnailRequestMessage? {
+    let uri = pigeonVar_list[0] as! String
+    let cacheTag: String? = nilOrValue(pigeonVar_list[1])
+    let timestamps = pigeonVar_list[2] as! [Int64]
+    let format = pigeonVar_list[3] as! Int64
+    let quality = pigeonVar_list[4] as! Int64
+    let maxWidth: Int64? = nilOrValue(pigeonVar_list[5])
+    let maxHeight: Int64? = nilOrValue(pigeonVar_list[6])
+
+    return ThumbnailRequestMessage(
+      uri: uri,
+      cacheTag: cacheTag,
+      timestamps: timestamps,
+      format: format,
+      quality: quality,
+      maxWidth: maxWidth,
+      maxHeight: maxHeight
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      uri,
+      cacheTag,
+      timestamps,
+      format,
+      quality,
+      maxWidth,
+      maxHeight,
+    ]
+  }
+  static func == (lhs: ThumbnailRequestMessage, rhs: ThumbnailRequestMessage) -> Bool {
+    return deepEqualsMessages(lhs.toList(), rhs.toList())  }
+  func hash(into hasher: inout Hasher) {
+    deepHashMessages(value: toList(), hasher: &hasher)
+  }
+}
+
+/// Generated class from Pigeon that represents data sent in messages.
+struct SpriteSheetRequestMessage: Hashable {
+  var uri: String
+  var path: String
+  var intervalMs: Int64
+  var tileWidth: Int64
+  var tileHeight: Int64
+  var columns: Int64
+  var format: Int64
+  var quality: Int64
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> SpriteSheetRequestMessage? {
+    let uri = pigeonVar_list[0] as! String
+    let path = pigeonVar_list[1] as! String
+    let intervalMs = pigeonVar_list[2] as! Int64
+    let tileWidth = pigeonVar_list[3] as! Int64
+    let tileHeight = pigeonVar_list[4] as! Int64
+    let columns = pigeonVar_list[5] as! Int64
+    let format = pigeonVar_list[6] as! Int64
+    let quality = pigeonVar_list[7] as! Int64
+
+    return SpriteSheetRequestMessage(
+      uri: uri,
+      path: path,
+      intervalMs: intervalMs,
+      tileWidth: tileWidth,
+      tileHeight: tileHeight,
+      columns: columns,
+      format: format,
+      quality: quality
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      uri,
+      path,
+      intervalMs,
+      tileWidth,
+      tileHeight,
+      columns,
+      format,
+      quality,
+    ]
+  }
+  static func == (lhs: SpriteSheetRequestMessage, rhs: SpriteSheetRequestMessage) -> Bool {
+    return deepEqualsMessages(lhs.toList(), rhs.toList())  }
+  func hash(into hasher: inout Hasher) {
+    deepHashMessages(value: toList(), hasher: &hasher)
+  }
+}
+
+/// Generated class from Pigeon that represents data sent in messages.
+struct ApiMethodMetrics: Hashable {
+  var method: String
+  var playerId: Int64
+  var count: Int64
+  var meanMicros: Double
+  var p50Micros: Double
+  var p90Micros: Double
+  var p99Micros: Double
+  var maxMicros: Double
+
+
+  // swift-format-ignore: AlwaysUseLowerCamelCase
+  static func fromList(_ pigeonVar_list: [Any?]) -> ApiMethodMetrics? {
+    let method = pigeonVar_list[0] as! String
+    let playerId = pigeonVar_list[1] as! Int64
+    let count = pigeonVar_list[2] as! Int64
+    let meanMicros = pigeonVar_list[3] as! Double
+    let p50Micros = pigeonVar_list[4] as! Double
+    let p90Micros = pigeonVar_list[5] as! Double
+    let p99Micros = pigeonVar_list[6] as! Double
+    let maxMicros = pigeonVar_list[7] as! Double
+
+    return ApiMethodMetrics(
+      method: method,
+      playerId: playerId,
+      count: count,
+      meanMicros: meanMicros,
+      p50Micros: p50Micros,
+      p90Micros: p90Micros,
+      p99Micros: p99Micros,
+      maxMicros: maxMicros
+    )
+  }
+  func toList() -> [Any?] {
+    return [
+      method,
+      playerId,
+      count,
+      meanMicros,
+      p50Micros,
+      p90Micros,
+      p99Micros,
+      maxMicros,
+    ]
+  }
+  static func == (lhs: ApiMethodMetrics, rhs: ApiMethodMetrics) -> Bool {
+    return deepEqualsMessages(lhs.toList(), rhs.toList())  }
+  func hash(into hasher: inout Hasher) {
+    deepHashMessages(value: toList(), hasher: &hasher)
+  }
+}
+
 private class MessagesPigeonCodecReader: FlutterStandardReader {
   override func readValue(ofType type: UInt8) -> Any? {
     switch type {
@@ -338,6 +934,30 @@ private class MessagesPigeonCodecReader: FlutterStandardReader {
       return AddSubtitleMessage.fromList(self.readValue() as! [Any?])
     case 133:
       return AddAudioMessage.fromList(self.readValue() as! [Any?])
+    case 134:
+      return PlayerCommand.fromList(self.readValue() as! [Any?])
+    case 135:
+      return PlayerCommandResult.fromList(self.readValue() as! [Any?])
+    case 136:
+      return SnapshotMessage.fromList(self.readValue() as! [Any?])
+    case 137:
+      return SnapshotResultMessage.fromList(self.readValue() as! [Any?])
+    case 138:
+      return FrameTapMessage.fromList(self.readValue() as! [Any?])
+    case 139:
+      return MotionDetectionMessage.fromList(self.readValue() as! [Any?])
+    case 140:
+      return CommitNextResultMessage.fromList(self.readValue() as! [Any?])
+    case 141:
+      return PlayerStateMessage.fromList(self.readValue() as! [Any?])
+    case 142:
+      return TrackMessage.fromList(self.readValue() as! [Any?])
+    case 143:
+      return ThumbnailRequestMessage.fromList(self.readValue() as! [Any?])
+    case 144:
+      return SpriteSheetRequestMessage.fromList(self.readValue() as! [Any?])
+    case 145:
+      return ApiMethodMetrics.fromList(self.readValue() as! [Any?])
     default:
       return super.readValue(ofType: type)
     }
@@ -361,6 +981,42 @@ private class MessagesPigeonCodecWriter: FlutterStandardWriter {
     } else if let value = value as? AddAudioMessage {
       super.writeByte(133)
       super.writeValue(value.toList())
+    } else if let value = value as? PlayerCommand {
+      super.writeByte(134)
+      super.writeValue(value.toList())
+    } else if let value = value as? PlayerCommandResult {
+      super.writeByte(135)
+      super.writeValue(value.toList())
+    } else if let value = value as? SnapshotMessage {
+      super.writeByte(136)
+      super.writeValue(value.toList())
+    } else if let value = value as? SnapshotResultMessage {
+      super.writeByte(137)
+      super.writeValue(value.toList())
+    } else if let value = value as? FrameTapMessage {
+      super.writeByte(138)
+      super.writeValue(value.toList())
+    } else if let value = value as? MotionDetectionMessage {
+      super.writeByte(139)
+      super.writeValue(value.toList())
+    } else if let value = value as? CommitNextResultMessage {
+      super.writeByte(140)
+      super.writeValue(value.toList())
+    } else if let value = value as? PlayerStateMessage {
+      super.writeByte(141)
+      super.writeValue(value.toList())
+    } else if let value = value as? TrackMessage {
+      super.writeByte(142)
+      super.writeValue(value.toList())
+    } else if let value = value as? ThumbnailRequestMessage {
+      super.writeByte(143)
+      super.writeValue(value.toList())
+    } else if let value = value as? SpriteSheetRequestMessage {
+      super.writeByte(144)
+      super.writeValue(value.toList())
+    } else if let value = value as? ApiMethodMetrics {
+      super.writeByte(145)
+      super.writeValue(value.toList())
     } else {
       super.writeValue(value)
     }
@@ -387,6 +1043,10 @@ protocol VlcPlayerApi {
   func create(msg: CreateMessage) throws
   func dispose(playerId: Int64) throws
   func setStreamUrl(msg: SetMediaMessage) throws
+  func setStreamUrlAsync(msg: SetMediaMessage, parse: Bool) throws
+  func prepareNext(msg: SetMediaMessage) throws
+  func commitNext(playerId: Int64, completion: @escaping (Result<CommitNextResultMessage, Error>) -> Void)
+  func cancelNext(playerId: Int64) throws
   func play(playerId: Int64) throws
   func pause(playerId: Int64) throws
   func stop(playerId: Int64) throws
@@ -401,6 +1061,13 @@ protocol VlcPlayerApi {
   func setPlaybackSpeed(playerId: Int64, speed: Double) throws
   func getPlaybackSpeed(playerId: Int64) throws -> Double
   func takeSnapshot(playerId: Int64) throws -> String?
+  func takeSnapshotBytes(msg: SnapshotMessage) throws -> FlutterStandardTypedData?
+  func takeSnapshotToFile(msg: SnapshotMessage, path: String) throws -> Bool
+  func captureSnapshot(msg: SnapshotMessage, completion: @escaping (Result<SnapshotResultMessage, Error>) -> Void)
+  func startFrameTap(msg: FrameTapMessage) throws
+  func stopFrameTap(playerId: Int64) throws
+  func startMotionDetection(msg: MotionDetectionMessage) throws
+  func stopMotionDetection(playerId: Int64) throws
   func getSpuTracksCount(playerId: Int64) throws -> Int64
   func getSpuTracks(playerId: Int64) throws -> [Int64: String]
   func setSpuTrack(playerId: Int64, spuTrackNumber: Int64) throws
@@ -423,6 +1090,7 @@ protocol VlcPlayerApi {
   func getVideoScale(playerId: Int64) throws -> Double
   func setVideoAspectRatio(playerId: Int64, aspectRatio: String) throws
   func getVideoAspectRatio(playerId: Int64) throws -> String
+  func getAllTracks(playerId: Int64) throws -> [TrackMessage]
   func getAvailableRendererServices(playerId: Int64) throws -> [String]
   func startRendererScanning(playerId: Int64, rendererService: String) throws
   func stopRendererScanning(playerId: Int64) throws
@@ -430,6 +1098,16 @@ protocol VlcPlayerApi {
   func castToRenderer(playerId: Int64, rendererId: String) throws
   func startRecording(playerId: Int64, saveDirectory: String) throws -> Bool
   func stopRecording(playerId: Int64) throws -> Bool
+  func getPlayerState(playerId: Int64) throws -> PlayerStateMessage
+  func getPlayersState(playerIds: [Int64]) throws -> [PlayerStateMessage]
+  func resyncMediaEvents(playerId: Int64) throws
+  func extractThumbnails(msg: ThumbnailRequestMessage) throws -> Int64
+  func generateSpriteSheet(msg: SpriteSheetRequestMessage) throws -> Int64
+  func cancelThumbnails(requestId: Int64) throws
+  func clearThumbnailCache() throws
+  func getApiMetrics() throws -> [ApiMethodMetrics]
+  func resetApiMetrics() throws
+  func executeBatch(commands: [PlayerCommand]) throws -> [PlayerCommandResult]
 }
 
 /// Generated setup class from Pigeon to handle messages through the `binaryMessenger`.
@@ -438,6 +1116,11 @@ class VlcPlayerApiSetup {
   /// Sets up an instance of `VlcPlayerApi` to handle messages through the `binaryMessenger`.
   static func setUp(binaryMessenger: FlutterBinaryMessenger, api: VlcPlayerApi?, messageChannelSuffix: String = "") {
     let channelSuffix = messageChannelSuffix.count > 0 ? ".\(messageChannelSuffix)" : ""
+    #if os(iOS)
+      let taskQueue = binaryMessenger.makeBackgroundTaskQueue?()
+    #else
+      let taskQueue: FlutterTaskQueue? = nil
+    #endif
     let initializeChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.initialize\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
       initializeChannel.setMessageHandler { _, reply in
@@ -451,7 +1134,9 @@ class VlcPlayerApiSetup {
     } else {
       initializeChannel.setMessageHandler(nil)
     }
-    let createChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.create\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    let createChannel = taskQueue == nil
+      ? FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.create\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+      : FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.create\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec, taskQueue: taskQueue)
     if let api = api {
       createChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -481,7 +1166,9 @@ class VlcPlayerApiSetup {
     } else {
       disposeChannel.setMessageHandler(nil)
     }
-    let setStreamUrlChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setStreamUrl\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    let setStreamUrlChannel = taskQueue == nil
+      ? FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setStreamUrl\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+      : FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setStreamUrl\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec, taskQueue: taskQueue)
     if let api = api {
       setStreamUrlChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -496,7 +1183,76 @@ class VlcPlayerApiSetup {
     } else {
       setStreamUrlChannel.setMessageHandler(nil)
     }
-    let playChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.play\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    let setStreamUrlAsyncChannel = taskQueue == nil
+      ? FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setStreamUrlAsync\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+      : FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setStreamUrlAsync\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec, taskQueue: taskQueue)
+    if let api = api {
+      setStreamUrlAsyncChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let msgArg = args[0] as! SetMediaMessage
+        let parseArg = args[1] as! Bool
+        do {
+          try api.setStreamUrlAsync(msg: msgArg, parse: parseArg)
+          reply(wrapResult(nil))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      setStreamUrlAsyncChannel.setMessageHandler(nil)
+    }
+    let prepareNextChannel = taskQueue == nil
+      ? FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.prepareNext\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+      : FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.prepareNext\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec, taskQueue: taskQueue)
+    if let api = api {
+      prepareNextChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let msgArg = args[0] as! SetMediaMessage
+        do {
+          try api.prepareNext(msg: msgArg)
+          reply(wrapResult(nil))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      prepareNextChannel.setMessageHandler(nil)
+    }
+    let commitNextChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.commitNext\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      commitNextChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let playerIdArg = args[0] as! Int64
+        api.commitNext(playerId: playerIdArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      commitNextChannel.setMessageHandler(nil)
+    }
+    let cancelNextChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.cancelNext\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      cancelNextChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let playerIdArg = args[0] as! Int64
+        do {
+          try api.cancelNext(playerId: playerIdArg)
+          reply(wrapResult(nil))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      cancelNextChannel.setMessageHandler(nil)
+    }
+    let playChannel = taskQueue == nil
+      ? FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.play\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+      : FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.play\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec, taskQueue: taskQueue)
     if let api = api {
       playChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -511,7 +1267,9 @@ class VlcPlayerApiSetup {
     } else {
       playChannel.setMessageHandler(nil)
     }
-    let pauseChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.pause\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    let pauseChannel = taskQueue == nil
+      ? FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.pause\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+      : FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.pause\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec, taskQueue: taskQueue)
     if let api = api {
       pauseChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -526,7 +1284,9 @@ class VlcPlayerApiSetup {
     } else {
       pauseChannel.setMessageHandler(nil)
     }
-    let stopChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.stop\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    let stopChannel = taskQueue == nil
+      ? FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.stop\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+      : FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.stop\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec, taskQueue: taskQueue)
     if let api = api {
       stopChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -571,7 +1331,9 @@ class VlcPlayerApiSetup {
     } else {
       isSeekableChannel.setMessageHandler(nil)
     }
-    let setLoopingChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setLooping\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    let setLoopingChannel = taskQueue == nil
+      ? FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setLooping\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+      : FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setLooping\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec, taskQueue: taskQueue)
     if let api = api {
       setLoopingChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -587,7 +1349,9 @@ class VlcPlayerApiSetup {
     } else {
       setLoopingChannel.setMessageHandler(nil)
     }
-    let seekToChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.seekTo\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    let seekToChannel = taskQueue == nil
+      ? FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.seekTo\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+      : FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.seekTo\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec, taskQueue: taskQueue)
     if let api = api {
       seekToChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -633,7 +1397,9 @@ class VlcPlayerApiSetup {
     } else {
       durationChannel.setMessageHandler(nil)
     }
-    let setVolumeChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVolume\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    let setVolumeChannel = taskQueue == nil
+      ? FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVolume\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+      : FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVolume\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec, taskQueue: taskQueue)
     if let api = api {
       setVolumeChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -664,7 +1430,9 @@ class VlcPlayerApiSetup {
     } else {
       getVolumeChannel.setMessageHandler(nil)
     }
-    let setPlaybackSpeedChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setPlaybackSpeed\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    let setPlaybackSpeedChannel = taskQueue == nil
+      ? FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setPlaybackSpeed\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+      : FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setPlaybackSpeed\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec, taskQueue: taskQueue)
     if let api = api {
       setPlaybackSpeedChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -695,7 +1463,9 @@ class VlcPlayerApiSetup {
     } else {
       getPlaybackSpeedChannel.setMessageHandler(nil)
     }
-    let takeSnapshotChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.takeSnapshot\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    let takeSnapshotChannel = taskQueue == nil
+      ? FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.takeSnapshot\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+      : FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.takeSnapshot\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec, taskQueue: taskQueue)
     if let api = api {
       takeSnapshotChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -710,6 +1480,118 @@ class VlcPlayerApiSetup {
     } else {
       takeSnapshotChannel.setMessageHandler(nil)
     }
+    let takeSnapshotBytesChannel = taskQueue == nil
+      ? FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.takeSnapshotBytes\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+      : FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.takeSnapshotBytes\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec, taskQueue: taskQueue)
+    if let api = api {
+      takeSnapshotBytesChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let msgArg = args[0] as! SnapshotMessage
+        do {
+          let result = try api.takeSnapshotBytes(msg: msgArg)
+          reply(wrapResult(result))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      takeSnapshotBytesChannel.setMessageHandler(nil)
+    }
+    let takeSnapshotToFileChannel = taskQueue == nil
+      ? FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.takeSnapshotToFile\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+      : FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.takeSnapshotToFile\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec, taskQueue: taskQueue)
+    if let api = api {
+      takeSnapshotToFileChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let msgArg = args[0] as! SnapshotMessage
+        let pathArg = args[1] as! String
+        do {
+          let result = try api.takeSnapshotToFile(msg: msgArg, path: pathArg)
+          reply(wrapResult(result))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      takeSnapshotToFileChannel.setMessageHandler(nil)
+    }
+    let captureSnapshotChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.captureSnapshot\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      captureSnapshotChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let msgArg = args[0] as! SnapshotMessage
+        api.captureSnapshot(msg: msgArg) { result in
+          switch result {
+          case .success(let res):
+            reply(wrapResult(res))
+          case .failure(let error):
+            reply(wrapError(error))
+          }
+        }
+      }
+    } else {
+      captureSnapshotChannel.setMessageHandler(nil)
+    }
+    let startFrameTapChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.startFrameTap\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      startFrameTapChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let msgArg = args[0] as! FrameTapMessage
+        do {
+          try api.startFrameTap(msg: msgArg)
+          reply(wrapResult(nil))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      startFrameTapChannel.setMessageHandler(nil)
+    }
+    let stopFrameTapChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.stopFrameTap\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      stopFrameTapChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let playerIdArg = args[0] as! Int64
+        do {
+          try api.stopFrameTap(playerId: playerIdArg)
+          reply(wrapResult(nil))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      stopFrameTapChannel.setMessageHandler(nil)
+    }
+    let startMotionDetectionChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.startMotionDetection\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      startMotionDetectionChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let msgArg = args[0] as! MotionDetectionMessage
+        do {
+          try api.startMotionDetection(msg: msgArg)
+          reply(wrapResult(nil))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      startMotionDetectionChannel.setMessageHandler(nil)
+    }
+    let stopMotionDetectionChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.stopMotionDetection\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      stopMotionDetectionChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let playerIdArg = args[0] as! Int64
+        do {
+          try api.stopMotionDetection(playerId: playerIdArg)
+          reply(wrapResult(nil))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      stopMotionDetectionChannel.setMessageHandler(nil)
+    }
     let getSpuTracksCountChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getSpuTracksCount\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
       getSpuTracksCountChannel.setMessageHandler { message, reply in
@@ -740,7 +1622,9 @@ class VlcPlayerApiSetup {
     } else {
       getSpuTracksChannel.setMessageHandler(nil)
     }
-    let setSpuTrackChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setSpuTrack\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    let setSpuTrackChannel = taskQueue == nil
+      ? FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setSpuTrack\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+      : FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setSpuTrack\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec, taskQueue: taskQueue)
     if let api = api {
       setSpuTrackChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -771,7 +1655,9 @@ class VlcPlayerApiSetup {
     } else {
       getSpuTrackChannel.setMessageHandler(nil)
     }
-    let setSpuDelayChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setSpuDelay\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    let setSpuDelayChannel = taskQueue == nil
+      ? FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setSpuDelay\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+      : FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setSpuDelay\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec, taskQueue: taskQueue)
     if let api = api {
       setSpuDelayChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -802,7 +1688,9 @@ class VlcPlayerApiSetup {
     } else {
       getSpuDelayChannel.setMessageHandler(nil)
     }
-    let addSubtitleTrackChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.addSubtitleTrack\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    let addSubtitleTrackChannel = taskQueue == nil
+      ? FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.addSubtitleTrack\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+      : FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.addSubtitleTrack\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec, taskQueue: taskQueue)
     if let api = api {
       addSubtitleTrackChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -847,7 +1735,9 @@ class VlcPlayerApiSetup {
     } else {
       getAudioTracksChannel.setMessageHandler(nil)
     }
-    let setAudioTrackChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setAudioTrack\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    let setAudioTrackChannel = taskQueue == nil
+      ? FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setAudioTrack\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+      : FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setAudioTrack\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec, taskQueue: taskQueue)
     if let api = api {
       setAudioTrackChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -878,7 +1768,9 @@ class VlcPlayerApiSetup {
     } else {
       getAudioTrackChannel.setMessageHandler(nil)
     }
-    let setAudioDelayChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setAudioDelay\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    let setAudioDelayChannel = taskQueue == nil
+      ? FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setAudioDelay\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+      : FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setAudioDelay\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec, taskQueue: taskQueue)
     if let api = api {
       setAudioDelayChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -909,7 +1801,9 @@ class VlcPlayerApiSetup {
     } else {
       getAudioDelayChannel.setMessageHandler(nil)
     }
-    let addAudioTrackChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.addAudioTrack\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    let addAudioTrackChannel = taskQueue == nil
+      ? FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.addAudioTrack\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+      : FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.addAudioTrack\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec, taskQueue: taskQueue)
     if let api = api {
       addAudioTrackChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -954,7 +1848,9 @@ class VlcPlayerApiSetup {
     } else {
       getVideoTracksChannel.setMessageHandler(nil)
     }
-    let setVideoTrackChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVideoTrack\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    let setVideoTrackChannel = taskQueue == nil
+      ? FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVideoTrack\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+      : FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVideoTrack\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec, taskQueue: taskQueue)
     if let api = api {
       setVideoTrackChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -985,7 +1881,9 @@ class VlcPlayerApiSetup {
     } else {
       getVideoTrackChannel.setMessageHandler(nil)
     }
-    let setVideoScaleChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVideoScale\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    let setVideoScaleChannel = taskQueue == nil
+      ? FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVideoScale\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+      : FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVideoScale\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec, taskQueue: taskQueue)
     if let api = api {
       setVideoScaleChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -1016,7 +1914,9 @@ class VlcPlayerApiSetup {
     } else {
       getVideoScaleChannel.setMessageHandler(nil)
     }
-    let setVideoAspectRatioChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVideoAspectRatio\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    let setVideoAspectRatioChannel = taskQueue == nil
+      ? FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVideoAspectRatio\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+      : FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.setVideoAspectRatio\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec, taskQueue: taskQueue)
     if let api = api {
       setVideoAspectRatioChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -1047,6 +1947,21 @@ class VlcPlayerApiSetup {
     } else {
       getVideoAspectRatioChannel.setMessageHandler(nil)
     }
+    let getAllTracksChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getAllTracks\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      getAllTracksChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let playerIdArg = args[0] as! Int64
+        do {
+          let result = try api.getAllTracks(playerId: playerIdArg)
+          reply(wrapResult(result))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      getAllTracksChannel.setMessageHandler(nil)
+    }
     let getAvailableRendererServicesChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getAvailableRendererServices\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
     if let api = api {
       getAvailableRendererServicesChannel.setMessageHandler { message, reply in
@@ -1124,7 +2039,9 @@ class VlcPlayerApiSetup {
     } else {
       castToRendererChannel.setMessageHandler(nil)
     }
-    let startRecordingChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.startRecording\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    let startRecordingChannel = taskQueue == nil
+      ? FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.startRecording\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+      : FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.startRecording\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec, taskQueue: taskQueue)
     if let api = api {
       startRecordingChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -1140,7 +2057,9 @@ class VlcPlayerApiSetup {
     } else {
       startRecordingChannel.setMessageHandler(nil)
     }
-    let stopRecordingChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.stopRecording\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    let stopRecordingChannel = taskQueue == nil
+      ? FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.stopRecording\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+      : FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.stopRecording\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec, taskQueue: taskQueue)
     if let api = api {
       stopRecordingChannel.setMessageHandler { message, reply in
         let args = message as! [Any?]
@@ -1155,5 +2074,153 @@ class VlcPlayerApiSetup {
     } else {
       stopRecordingChannel.setMessageHandler(nil)
     }
+    let getPlayerStateChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getPlayerState\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      getPlayerStateChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let playerIdArg = args[0] as! Int64
+        do {
+          let result = try api.getPlayerState(playerId: playerIdArg)
+          reply(wrapResult(result))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      getPlayerStateChannel.setMessageHandler(nil)
+    }
+    let getPlayersStateChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getPlayersState\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      getPlayersStateChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let playerIdsArg = args[0] as! [Int64]
+        do {
+          let result = try api.getPlayersState(playerIds: playerIdsArg)
+          reply(wrapResult(result))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      getPlayersStateChannel.setMessageHandler(nil)
+    }
+    let resyncMediaEventsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.resyncMediaEvents\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      resyncMediaEventsChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let playerIdArg = args[0] as! Int64
+        do {
+          try api.resyncMediaEvents(playerId: playerIdArg)
+          reply(wrapResult(nil))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      resyncMediaEventsChannel.setMessageHandler(nil)
+    }
+    let extractThumbnailsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.extractThumbnails\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      extractThumbnailsChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let msgArg = args[0] as! ThumbnailRequestMessage
+        do {
+          let result = try api.extractThumbnails(msg: msgArg)
+          reply(wrapResult(result))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      extractThumbnailsChannel.setMessageHandler(nil)
+    }
+    let generateSpriteSheetChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.generateSpriteSheet\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      generateSpriteSheetChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let msgArg = args[0] as! SpriteSheetRequestMessage
+        do {
+          let result = try api.generateSpriteSheet(msg: msgArg)
+          reply(wrapResult(result))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      generateSpriteSheetChannel.setMessageHandler(nil)
+    }
+    let cancelThumbnailsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.cancelThumbnails\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      cancelThumbnailsChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let requestIdArg = args[0] as! Int64
+        do {
+          try api.cancelThumbnails(requestId: requestIdArg)
+          reply(wrapResult(nil))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      cancelThumbnailsChannel.setMessageHandler(nil)
+    }
+    let clearThumbnailCacheChannel = taskQueue == nil
+      ? FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.clearThumbnailCache\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+      : FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.clearThumbnailCache\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec, taskQueue: taskQueue)
+    if let api = api {
+      clearThumbnailCacheChannel.setMessageHandler { _, reply in
+        do {
+          try api.clearThumbnailCache()
+          reply(wrapResult(nil))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      clearThumbnailCacheChannel.setMessageHandler(nil)
+    }
+    let getApiMetricsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.getApiMetrics\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      getApiMetricsChannel.setMessageHandler { _, reply in
+        do {
+          let result = try api.getApiMetrics()
+          reply(wrapResult(result))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      getApiMetricsChannel.setMessageHandler(nil)
+    }
+    let resetApiMetricsChannel = FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.resetApiMetrics\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+    if let api = api {
+      resetApiMetricsChannel.setMessageHandler { _, reply in
+        do {
+          try api.resetApiMetrics()
+          reply(wrapResult(nil))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      resetApiMetricsChannel.setMessageHandler(nil)
+    }
+    let executeBatchChannel = taskQueue == nil
+      ? FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.executeBatch\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec)
+      : FlutterBasicMessageChannel(name: "dev.flutter.pigeon.flutter_vlc_player_platform_interface.VlcPlayerApi.executeBatch\(channelSuffix)", binaryMessenger: binaryMessenger, codec: codec, taskQueue: taskQueue)
+    if let api = api {
+      executeBatchChannel.setMessageHandler { message, reply in
+        let args = message as! [Any?]
+        let commandsArg = args[0] as! [PlayerCommand]
+        do {
+          let result = try api.executeBatch(commands: commandsArg)
+          reply(wrapResult(result))
+        } catch {
+          reply(wrapError(error))
+        }
+      }
+    } else {
+      executeBatchChannel.setMessageHandler(nil)
+    }
   }
 }
@@ -3,7 +3,22 @@ import Foundation
 import VLCKit
 
 public class VLCViewBuilder: NSObject, VlcPlayerApi {
-    var players = [Int: VLCViewController]()
+    // creation and the playback commands are received on a background task queue, disposal on
+    // the main thread
+    private let playersLock = NSLock()
+    private var _players = [Int: VLCViewController]()
+    var players: [Int: VLCViewController] {
+        get {
+            playersLock.lock()
+            defer { playersLock.unlock() }
+            return _players
+        }
+        set {
+            playersLock.lock()
+            defer { playersLock.unlock() }
+            _players = newValue
+        }
+    }
     private var registrar: FlutterPluginRegistrar
     private var messenger: FlutterBinaryMessenger
     private var options: [String]
@@ -118,7 +133,42 @@ public class VLCViewBuilder: NSObject, VlcPlayerApi {
     
     func setStreamUrl(msg: SetMediaMessage) throws {
         let player = try getPlayer(id: msg.playerId)
+        let (mediaUrl, isAssetUrl) = mediaUrl(msg: msg)
+        
+        player.setMediaPlayerUrl(
+            uri: mediaUrl,
+            isAssetUrl: isAssetUrl,
+            autoPlay: msg.autoPlay,
+            hwAcc: msg.hwAcc?.int ?? HWAccellerationType.HW_ACCELERATION_AUTOMATIC.rawValue,
+            options: options
+        )
+    }
+    
+    func setStreamUrlAsync(msg: SetMediaMessage, parse: Bool) throws {
+        let player = try getPlayer(id: msg.playerId)
+        let (mediaUrl, isAssetUrl) = mediaUrl(msg: msg)
         
+        player.setMediaPlayerUrlAsync(
+            uri: mediaUrl,
+            isAssetUrl: isAssetUrl,
+            autoPlay: msg.autoPlay,
+            hwAcc: msg.hwAcc?.int ?? HWAccellerationType.HW_ACCELERATION_AUTOMATIC.rawValue,
+            options: options
+        )
+    }
+    
+    func prepareNext(msg: SetMediaMessage) throws {
+        throw PigeonError(code: "unsupported", message: "Next media preparation is only available on Android", details: nil)
+    }
+    
+    func commitNext(playerId: Int64, completion: @escaping (Result<CommitNextResultMessage, Error>) -> Void) {
+        completion(.failure(PigeonError(code: "unsupported", message: "Next media preparation is only available on Android", details: nil)))
+    }
+    
+    func cancelNext(playerId: Int64) throws {
+    }
+    
+    private func mediaUrl(msg: SetMediaMessage) -> (String, Bool) {
         var isAssetUrl = false
         var mediaUrl = ""
         
@@ -136,13 +186,7 @@ public class VLCViewBuilder: NSObject, VlcPlayerApi {
             isAssetUrl = false
         }
         
-        player.setMediaPlayerUrl(
-            uri: mediaUrl,
-            isAssetUrl: isAssetUrl,
-            autoPlay: msg.autoPlay,
-            hwAcc: msg.hwAcc?.int ?? HWAccellerationType.HW_ACCELERATION_AUTOMATIC.rawValue,
-            options: options
-        )
+        return (mediaUrl, isAssetUrl)
     }
     
     func play(playerId: Int64) throws {
@@ -220,6 +264,70 @@ public class VLCViewBuilder: NSObject, VlcPlayerApi {
         return try getPlayer(id: playerId).takeSnapshot()
     }
     
+    func takeSnapshotBytes(msg: SnapshotMessage) throws -> FlutterStandardTypedData? {
+        let player = try getPlayer(id: msg.playerId)
+        
+        guard let data = player.takeSnapshotBytes(
+            format: msg.format.int,
+            quality: msg.quality.int,
+            maxWidth: msg.maxWidth?.int,
+            maxHeight: msg.maxHeight?.int
+        ) else {
+            return nil
+        }
+        return FlutterStandardTypedData(bytes: data)
+    }
+    
+    func captureSnapshot(msg: SnapshotMessage, completion: @escaping (Result<SnapshotResultMessage, Error>) -> Void) {
+        do {
+            // snapshots are not pooled nor coalesced on iOS, UIKit allocates the image anyway
+            try getPlayer(id: msg.playerId).captureSnapshot(
+                format: msg.format.int,
+                quality: msg.quality.int,
+                maxWidth: msg.maxWidth?.int,
+                maxHeight: msg.maxHeight?.int
+            ) { result in
+                completion(.success(result))
+            }
+        } catch {
+            completion(.failure(error))
+        }
+    }
+    
+    func takeSnapshotToFile(msg: SnapshotMessage, path: String) throws -> Bool {
+        let player = try getPlayer(id: msg.playerId)
+        
+        do {
+            return try player.writeSnapshot(
+                format: msg.format.int,
+                quality: msg.quality.int,
+                maxWidth: msg.maxWidth?.int,
+                maxHeight: msg.maxHeight?.int,
+                path: path
+            )
+        } catch {
+            throw PigeonError(code: "snapshot_failed", message: error.localizedDescription, details: nil)
+        }
+    }
+    
+    // MARK: - Frame Tap
+    
+    func startFrameTap(msg: FrameTapMessage) throws {
+        throw PigeonError(code: "unsupported", message: "The frame tap is only available on Android", details: nil)
+    }
+    
+    func stopFrameTap(playerId: Int64) throws {
+    }
+    
+    // MARK: - Motion Detection
+    
+    func startMotionDetection(msg: MotionDetectionMessage) throws {
+        throw PigeonError(code: "unsupported", message: "Motion detection is only available on Android", details: nil)
+    }
+    
+    func stopMotionDetection(playerId: Int64) throws {
+    }
+    
     // MARK: - Subtitle Tracks
     
     func getSpuTracksCount(playerId: Int64) throws -> Int64 {
@@ -312,6 +420,10 @@ public class VLCViewBuilder: NSObject, VlcPlayerApi {
         return try getPlayer(id: playerId).videoTrack.int64
     }
     
+    func getAllTracks(playerId: Int64) throws -> [TrackMessage] {
+        return try getPlayer(id: playerId).allTracks
+    }
+    
     // MARK: - Video properties
     
     func setVideoScale(playerId: Int64, scale: Double) throws {
@@ -375,6 +487,125 @@ public class VLCViewBuilder: NSObject, VlcPlayerApi {
         
         return player.stopRecording()
     }
+    
+    // MARK: - State
+    
+    func getPlayerState(playerId: Int64) throws -> PlayerStateMessage {
+        return try getPlayer(id: playerId).state(playerId: playerId)
+    }
+    
+    func getPlayersState(playerIds: [Int64]) throws -> [PlayerStateMessage] {
+        // players disposed meanwhile are left out instead of failing the whole call
+        return playerIds.compactMap { playerId in
+            players[playerId.int]?.state(playerId: playerId)
+        }
+    }
+    
+    // MARK: - Events
+    
+    func resyncMediaEvents(playerId: Int64) throws {
+        // media events are always sent in full on iOS, there is nothing to resync
+        _ = try getPlayer(id: playerId)
+    }
+    
+    // MARK: - Thumbnails
+    
+    func extractThumbnails(msg: ThumbnailRequestMessage) throws -> Int64 {
+        throw PigeonError(code: "unsupported", message: "Thumbnail extraction is only available on Android", details: nil)
+    }
+    
+    func generateSpriteSheet(msg: SpriteSheetRequestMessage) throws -> Int64 {
+        throw PigeonError(code: "unsupported", message: "Sprite sheet generation is only available on Android", details: nil)
+    }
+    
+    func cancelThumbnails(requestId: Int64) throws {
+    }
+    
+    func clearThumbnailCache() throws {
+    }
+    
+    // MARK: - Metrics
+    
+    func getApiMetrics() throws -> [ApiMethodMetrics] {
+        // API latency is only recorded on Android
+        return []
+    }
+    
+    func resetApiMetrics() throws {
+    }
+    
+    // MARK: - Batch
+    
+    func executeBatch(commands: [PlayerCommand]) throws -> [PlayerCommandResult] {
+        print("🔧 [VLC API] executeBatch() called with \(commands.count) commands")
+        
+        return commands.map { command in
+            do {
+                try executeCommand(command)
+                return PlayerCommandResult(success: true, error: nil)
+            } catch let error as PigeonError {
+                return PlayerCommandResult(success: false, error: "\(error.code): \(error.message ?? "")")
+            } catch {
+                return PlayerCommandResult(success: false, error: "\(error)")
+            }
+        }
+    }
+    
+    // the order matches VlcPlayerCommandType on the Dart side
+    private func executeCommand(_ command: PlayerCommand) throws {
+        let playerId = command.playerId
+        switch command.type {
+        case 0:
+            guard var media = command.media else { throw missingArgument(command) }
+            media.playerId = playerId
+            try setStreamUrl(msg: media)
+        case 1:
+            try play(playerId: playerId)
+        case 2:
+            try pause(playerId: playerId)
+        case 3:
+            try stop(playerId: playerId)
+        case 4:
+            guard let value = command.intValue else { throw missingArgument(command) }
+            try seekTo(playerId: playerId, position: value)
+        case 5:
+            guard let value = command.boolValue else { throw missingArgument(command) }
+            try setLooping(playerId: playerId, isLooping: value)
+        case 6:
+            guard let value = command.intValue else { throw missingArgument(command) }
+            try setVolume(playerId: playerId, volume: value)
+        case 7:
+            guard let value = command.doubleValue else { throw missingArgument(command) }
+            try setPlaybackSpeed(playerId: playerId, speed: value)
+        case 8:
+            guard let value = command.intValue else { throw missingArgument(command) }
+            try setAudioTrack(playerId: playerId, audioTrackNumber: value)
+        case 9:
+            guard let value = command.intValue else { throw missingArgument(command) }
+            try setAudioDelay(playerId: playerId, delay: value)
+        case 10:
+            guard let value = command.intValue else { throw missingArgument(command) }
+            try setSpuTrack(playerId: playerId, spuTrackNumber: value)
+        case 11:
+            guard let value = command.intValue else { throw missingArgument(command) }
+            try setSpuDelay(playerId: playerId, delay: value)
+        case 12:
+            guard let value = command.intValue else { throw missingArgument(command) }
+            try setVideoTrack(playerId: playerId, videoTrackNumber: value)
+        case 13:
+            guard let value = command.doubleValue else { throw missingArgument(command) }
+            try setVideoScale(playerId: playerId, scale: value)
+        case 14:
+            guard let value = command.stringValue else { throw missingArgument(command) }
+            try setVideoAspectRatio(playerId: playerId, aspectRatio: value)
+        default:
+            throw PigeonError(code: "invalid_command", message: "Unknown command type \(command.type)", details: nil)
+        }
+    }
+    
+    private func missingArgument(_ command: PlayerCommand) -> PigeonError {
+        PigeonError(code: "invalid_command", message: "Missing argument for command type \(command.type)", details: nil)
+    }
 }
 
 extension Int {
@@ -11,6 +11,7 @@ public class VLCViewController: NSObject, FlutterPlatformView {
     var rendererEventChannel: FlutterEventChannel
     let rendererEventChannelHandler: VLCRendererEventStreamHandler
     var rendererdiscoverers: [VLCRendererDiscoverer] = .init()
+    private let mediaPreparer = DispatchQueue(label: "VlcMediaPreparer")
     
     public func view() -> UIView {
         return self.hostedView
@@ -114,16 +115,82 @@ public class VLCViewController: NSObject, FlutterPlatformView {
     }
     
     public func takeSnapshot() -> String? {
+        // the view is drawn on the main thread, the encoding stays on the calling thread
+        let image = Thread.isMainThread ? drawSnapshot() : DispatchQueue.main.sync { drawSnapshot() }
+        let byteArray = (image ?? UIImage()).pngData()
+        //
+        return byteArray?.base64EncodedString()
+    }
+    
+    public func takeSnapshotBytes(format: Int, quality: Int, maxWidth: Int?, maxHeight: Int?) -> Data? {
+        let image = Thread.isMainThread
+            ? drawSnapshot(maxWidth: maxWidth, maxHeight: maxHeight)
+            : DispatchQueue.main.sync { drawSnapshot(maxWidth: maxWidth, maxHeight: maxHeight) }
+        guard let image = image else {
+            return nil
+        }
+        // UIKit has no WebP encoder, WebP snapshots are encoded as JPEG
+        if format == 1 {
+            return image.pngData()
+        }
+        return image.jpegData(compressionQuality: CGFloat(min(max(quality, 0), 100)) / 100)
+    }
+    
+    public func writeSnapshot(format: Int, quality: Int, maxWidth: Int?, maxHeight: Int?, path: String) throws -> Bool {
+        guard let data = takeSnapshotBytes(format: format, quality: quality, maxWidth: maxWidth, maxHeight: maxHeight) else {
+            return false
+        }
+        try data.write(to: URL(fileURLWithPath: path), options: .atomic)
+        return true
+    }
+    
+    /// Draws the frame on the calling main thread and encodes it on a background queue, reporting
+    /// how long each step took.
+    public func captureSnapshot(format: Int, quality: Int, maxWidth: Int?, maxHeight: Int?, completion: @escaping (SnapshotResultMessage) -> Void) {
+        let requestedAt = DispatchTime.now().uptimeNanoseconds
+        let image = drawSnapshot(maxWidth: maxWidth, maxHeight: maxHeight)
+        let readNanos = DispatchTime.now().uptimeNanoseconds - requestedAt
+        DispatchQueue.global(qos: .userInitiated).async {
+            let encodeStart = DispatchTime.now().uptimeNanoseconds
+            var data: Data?
+            if let image = image {
+                data = format == 1
+                    ? image.pngData()
+                    : image.jpegData(compressionQuality: CGFloat(min(max(quality, 0), 100)) / 100)
+            }
+            let encodeNanos = DispatchTime.now().uptimeNanoseconds - encodeStart
+            let result = SnapshotResultMessage(
+                bytes: data.map { FlutterStandardTypedData(bytes: $0) },
+                width: Int64((image?.size.width ?? 0) * (image?.scale ?? 1)),
+                height: Int64((image?.size.height ?? 0) * (image?.scale ?? 1)),
+                readMicros: Int64(readNanos / 1000),
+                encodeMicros: Int64(encodeNanos / 1000),
+                totalMicros: Int64((DispatchTime.now().uptimeNanoseconds - requestedAt) / 1000),
+                coalesced: false
+            )
+            DispatchQueue.main.async {
+                completion(result)
+            }
+        }
+    }
+    
+    private func drawSnapshot(maxWidth: Int? = nil, maxHeight: Int? = nil) -> UIImage? {
         let drawable: UIView = self.vlcMediaPlayer.drawable as! UIView
         let size = drawable.frame.size
-        UIGraphicsBeginImageContextWithOptions(size, _: false, _: 0.0)
+        // the limits are in pixels, a lower scale draws the view straight into a smaller image
+        var scale = UIScreen.main.scale
+        if let maxWidth = maxWidth, maxWidth > 0, size.width > 0 {
+            scale = min(scale, CGFloat(maxWidth) / size.width)
+        }
+        if let maxHeight = maxHeight, maxHeight > 0, size.height > 0 {
+            scale = min(scale, CGFloat(maxHeight) / size.height)
+        }
+        UIGraphicsBeginImageContextWithOptions(size, _: false, _: scale)
         let rec = drawable.frame
         drawable.drawHierarchy(in: rec, afterScreenUpdates: false)
         let image = UIGraphicsGetImageFromCurrentImageContext()
         UIGraphicsEndImageContext()
-        let byteArray = (image ?? UIImage()).pngData()
-        //
-        return byteArray?.base64EncodedString()
+        return image
     }
     
     public var spuTracksCount: Int {
@@ -236,6 +303,28 @@ public class VLCViewController: NSObject, FlutterPlatformView {
         return -1
     }
     
+    public var allTracks: [TrackMessage] {
+        return self.trackMessages(tracks: self.vlcMediaPlayer.audioTracks, type: 0)
+            + self.trackMessages(tracks: self.vlcMediaPlayer.videoTracks, type: 1)
+            + self.trackMessages(tracks: self.vlcMediaPlayer.textTracks, type: 2)
+    }
+    
+    private func trackMessages(tracks: [VLCMediaPlayer.Track], type: Int64) -> [TrackMessage] {
+        // the tracks are addressed by index, as in the other track methods
+        return tracks.enumerated().map { index, track in
+            TrackMessage(
+                type: type,
+                id: index.int64,
+                name: track.trackName,
+                codec: track.codecName(),
+                language: track.language,
+                width: track.video.map { Int64($0.width) },
+                height: track.video.map { Int64($0.height) },
+                isSelected: track.isSelected
+            )
+        }
+    }
+    
     public func setVideoScale(scale: Float) {
         self.vlcMediaPlayer.scaleFactor = scale
     }
@@ -252,6 +341,25 @@ public class VLCViewController: NSObject, FlutterPlatformView {
         return self.vlcMediaPlayer.videoAspectRatio ?? "1"
     }
     
+    func state(playerId: Int64) -> PlayerStateMessage {
+        return PlayerStateMessage(
+            playerId: playerId,
+            isPlaying: isPlaying,
+            isSeekable: isSeekable,
+            position: position.int64,
+            duration: duration.int64,
+            volume: volume.int64,
+            playbackSpeed: playbackSpeed.double,
+            audioTrack: audioTrack.int64,
+            audioDelay: audioDelay.int64,
+            spuTrack: spuTrack.int64,
+            spuDelay: spuDelay.int64,
+            videoTrack: videoTrack.int64,
+            videoScale: videoScale.double,
+            videoAspectRatio: videoAspectRatio
+        )
+    }
+    
     public var availableRendererServices: [String] {
         self.vlcMediaPlayer.rendererServices()
     }
@@ -325,6 +433,21 @@ public class VLCViewController: NSObject, FlutterPlatformView {
         self.vlcMediaPlayer.stop()
     }
     
+    /// Sets the media on a serial worker queue and returns right away. A prepared event is sent
+    /// once the media is set, before playback starts when autoPlay is set. The media is not parsed
+    /// ahead of time on iOS, VLCKit reads its values once it plays.
+    func setMediaPlayerUrlAsync(uri: String, isAssetUrl: Bool, autoPlay: Bool, hwAcc: Int, options: [String]) {
+        self.mediaPreparer.async { [weak self] in
+            guard let self = self else { return }
+            
+            self.setMediaPlayerUrl(uri: uri, isAssetUrl: isAssetUrl, autoPlay: false, hwAcc: hwAcc, options: options)
+            self.mediaEventChannelHandler.mediaPrepared(player: self.vlcMediaPlayer)
+            if autoPlay {
+                self.vlcMediaPlayer.play()
+            }
+        }
+    }
+    
     func setMediaPlayerUrl(uri: String, isAssetUrl: Bool, autoPlay: Bool, hwAcc: Int, options: [String]) {
         print("🔧 [VLC Controller] Setting media URL: \(uri)")
         print("🔧 [VLC Controller] isAssetUrl: \(isAssetUrl), autoPlay: \(autoPlay), hwAcc: \(hwAcc)")
@@ -484,6 +607,29 @@ class VLCPlayerEventStreamHandler: NSObject, FlutterStreamHandler, VLCMediaPlaye
         return -1
     }
     
+    func mediaPrepared(player: VLCMediaPlayer) {
+        let duration = player.media?.length.value ?? 0
+        let height = player.videoSize.height
+        let width = player.videoSize.width
+        let audioTracksCount = player.audioTracks.count
+        let spuTracksCount = player.textTracks.count
+        let videoTracksCount = player.videoTracks.count
+        
+        DispatchQueue.main.async {
+            guard let mediaEventSink = self.mediaEventSink else { return }
+            
+            mediaEventSink([
+                "event": "prepared",
+                "duration": duration,
+                "height": height,
+                "width": width,
+                "audioTracksCount": audioTracksCount,
+                "spuTracksCount": spuTracksCount,
+                "videoTracksCount": videoTracksCount,
+            ])
+        }
+    }
+    
     @objc func mediaPlayerStateChanged(_ aNotification: Notification) {
         guard let mediaEventSink = self.mediaEventSink else { return }
         
@@ -4,8 +4,24 @@
 export 'package:flutter_vlc_player_platform_interface/flutter_vlc_player_platform_interface.dart'
     show
         HwAcc,
+        VlcApiMethodMetrics,
+        VlcFrame,
+        VlcFrameFormat,
         VlcMediaEvent,
         VlcMediaEventType,
+        VlcMediaSwitch,
+        VlcMotionEvent,
+        VlcPlayerCommand,
+        VlcPlayerCommandResult,
+        VlcPlayerCommandType,
+        VlcPlayerState,
+        VlcSnapshot,
+        VlcSnapshotFormat,
+        VlcSpriteSheetUpdate,
+        VlcSpriteTile,
+        VlcThumbnail,
+        VlcTrack,
+        VlcTrackType,
         VlcRendererEvent,
         VlcRendererEventType,
         VlcSubtitleColor,
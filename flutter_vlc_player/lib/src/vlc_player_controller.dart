@@ -6,6 +6,7 @@ import 'package:flutter/widgets.dart';
 import 'package:flutter_vlc_player/src/enums/playing_state.dart';
 import 'package:flutter_vlc_player/src/vlc_app_life_cycle_observer.dart';
 import 'package:flutter_vlc_player/src/vlc_player_platform.dart';
+import 'package:flutter_vlc_player/src/vlc_position_extrapolator.dart';
 import 'package:flutter_vlc_player/src/vlc_player_value.dart';
 import 'package:flutter_vlc_player_platform_interface/flutter_vlc_player_platform_interface.dart';
 
@@ -22,6 +23,10 @@ import 'package:flutter_vlc_player_platform_interface/flutter_vlc_player_platfor
 class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
   static const _maxVolume = 100;
 
+  /// The largest width and height, in pixels, of a page of the sprite sheets
+  /// made by [generateSpriteSheet].
+  static const maxSpritePageSize = 2048;
+
   /// The URI to the video file. This will be in different formats depending on
   /// the [DataSourceType] of the original video.
   final String dataSource;
@@ -43,6 +48,19 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
   /// The default value is false.
   final bool allowBackgroundPlayback;
 
+  /// Maximum number of position updates per second sent by the platform.
+  /// Intermediate updates are coalesced, state changes are always delivered
+  /// immediately. The default value is null, which means no limit.
+  /// Currently only supported on Android.
+  final int? maxPositionUpdatesPerSecond;
+
+  /// The platform sends position anchors on play, pause, seek, rate change,
+  /// buffering and drift instead of the position in every time update, and
+  /// [extrapolatedPosition] computes the position locally in between.
+  /// [VlcPlayerValue.position] is then only updated on anchors.
+  /// The default value is false. Currently only supported on Android.
+  final bool positionAnchors;
+
   /// This is a callback that will be executed once the platform view has been initialized.
   /// If you want the media to play as soon as the platform view has initialized, you could just call
   /// [VlcPlayerController.play] in this callback. (see the example).
@@ -60,6 +78,9 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
   String? package;
 
   DataSourceType _dataSourceType;
+  // the source of the media prepared by [prepareNext], until it is committed
+  DataSourceType? _nextDataSourceType;
+  String? _nextPackage;
   bool? _isReadyToInitialize;
 
   /// The viewId for this controller
@@ -74,6 +95,8 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
 
   bool _isDisposed = false;
 
+  final _positionExtrapolator = VlcPositionExtrapolator();
+
   VlcAppLifeCycleObserver? _lifeCycleObserver;
 
   /// Describes the type of data source this [VlcPlayerController]
@@ -88,6 +111,9 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
   @visibleForTesting
   int? get viewId => _viewId;
 
+  /// The id that addresses this player in [VlcPlayerCommand]s.
+  int get playerId => _viewId;
+
   ///
   /// The name of the asset is given by the [dataSource] argument and must not be
   /// null. The [package] argument must be non-null when the asset comes from a
@@ -100,6 +126,8 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
     this.hwAcc = HwAcc.auto,
     this.autoPlay = true,
     this.options,
+    this.maxPositionUpdatesPerSecond,
+    this.positionAnchors = false,
     @Deprecated('Please, use the addOnInitListener method instead.')
     VoidCallback? onInit,
     @Deprecated('Please, use the addOnRendererEventListener method instead.')
@@ -121,6 +149,8 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
     this.hwAcc = HwAcc.auto,
     this.autoPlay = true,
     this.options,
+    this.maxPositionUpdatesPerSecond,
+    this.positionAnchors = false,
     @Deprecated('Please, use the addOnInitListener method instead.')
     VoidCallback? onInit,
     @Deprecated('Please, use the addOnRendererEventListener method instead.')
@@ -142,6 +172,8 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
     this.hwAcc = HwAcc.auto,
     this.autoPlay = true,
     this.options,
+    this.maxPositionUpdatesPerSecond,
+    this.positionAnchors = false,
     @Deprecated('Please, use the addOnInitListener method instead.')
     VoidCallback? onInit,
     @Deprecated('Please, use the addOnRendererEventListener method instead.')
@@ -196,6 +228,8 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
       hwAcc: hwAcc,
       autoPlay: autoPlay,
       options: options,
+      maxPositionUpdatesPerSecond: maxPositionUpdatesPerSecond,
+      positionAnchors: positionAnchors,
     );
 
     final initializingCompleter = Completer<void>();
@@ -208,6 +242,7 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
 
       switch (event.mediaEventType) {
         case VlcMediaEventType.opening:
+          _positionExtrapolator.reset();
           value = value.copyWith(
             isPlaying: false,
             isBuffering: true,
@@ -269,7 +304,7 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
             activeSpuTrack: event.activeSpuTrack,
             isPlaying: event.isPlaying,
             playingState:
-                (event.isPlaying ?? false)
+                (event.isPlaying ?? value.isPlaying)
                     ? PlayingState.playing
                     : value.playingState,
             errorDescription: VlcPlayerValue.noError,
@@ -291,6 +326,24 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
             playingState: PlayingState.error,
             errorDescription: VlcPlayerValue.unknownError,
           );
+        case VlcMediaEventType.positionAnchor:
+          _positionExtrapolator.anchor(
+            position: event.position ?? Duration.zero,
+            speed: event.playbackSpeed ?? 1.0,
+            timestamp: event.timestamp ?? Duration.zero,
+            isPlaying: event.isPlaying ?? false,
+          );
+          value = value.copyWith(position: event.position);
+        case VlcMediaEventType.prepared:
+          value = value.copyWith(
+            duration: event.duration,
+            size: event.size,
+            audioTracksCount: event.audioTracksCount,
+            spuTracksCount: event.spuTracksCount,
+            videoTracksCount: event.videoTracksCount,
+          );
+          break;
+
         case VlcMediaEventType.unknown:
           break;
       }
@@ -381,11 +434,15 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
   /// its state before the method was called. (i.e. if this method is called whilst media is playing, once the new
   /// data source has been loaded, the new stream will begin playing.)
   /// [dataSource] - the path of the asset file.
+  /// [prepareAsync] - returns without waiting for the media to be loaded,
+  /// [parse] makes the [VlcMediaEventType.prepared] event carry its duration and tracks.
   Future<void> setMediaFromAsset(
     String dataSource, {
     String? package,
     bool? autoPlay,
     HwAcc? hwAcc,
+    bool prepareAsync = false,
+    bool parse = false,
   }) async {
     _dataSourceType = DataSourceType.asset;
     this.package = package;
@@ -395,6 +452,8 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
       package: package,
       autoPlay: autoPlay,
       hwAcc: hwAcc,
+      prepareAsync: prepareAsync,
+      parse: parse,
     );
   }
 
@@ -402,10 +461,14 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
   /// its state before the method was called. (i.e. if this method is called whilst media is playing, once the new
   /// data source has been loaded, the new stream will begin playing.)
   /// [dataSource] - the URL of the stream to start playing.
+  /// [prepareAsync] - returns without waiting for the media to be loaded,
+  /// [parse] makes the [VlcMediaEventType.prepared] event carry its duration and tracks.
   Future<void> setMediaFromNetwork(
     String dataSource, {
     bool? autoPlay,
     HwAcc? hwAcc,
+    bool prepareAsync = false,
+    bool parse = false,
   }) async {
     _dataSourceType = DataSourceType.network;
     package = null;
@@ -414,6 +477,8 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
       dataSourceType: DataSourceType.network,
       autoPlay: autoPlay,
       hwAcc: hwAcc,
+      prepareAsync: prepareAsync,
+      parse: parse,
     );
   }
 
@@ -421,10 +486,14 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
   /// its state before the method was called. (i.e. if this method is called whilst media is playing, once the new
   /// data source has been loaded, the new stream will begin playing.)
   /// [file] - the File stream to start playing.
+  /// [prepareAsync] - returns without waiting for the media to be loaded,
+  /// [parse] makes the [VlcMediaEventType.prepared] event carry its duration and tracks.
   Future<void> setMediaFromFile(
     File file, {
     bool? autoPlay,
     HwAcc? hwAcc,
+    bool prepareAsync = false,
+    bool parse = false,
   }) async {
     _dataSourceType = DataSourceType.file;
     package = null;
@@ -434,6 +503,8 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
       dataSourceType: DataSourceType.file,
       autoPlay: autoPlay,
       hwAcc: hwAcc,
+      prepareAsync: prepareAsync,
+      parse: parse,
     );
   }
 
@@ -442,14 +513,34 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
   /// data source has been loaded, the new stream will begin playing.)
   /// [dataSource] - the URL of the stream to start playing.
   /// [dataSourceType] - the source type of media.
+  /// [prepareAsync] - returns without waiting for the media to be loaded, a
+  /// [VlcMediaEventType.prepared] event is sent once it is set.
+  /// [parse] - parses the media before it is set, so the prepared event
+  /// carries its duration and tracks. Only used with [prepareAsync].
   Future<void> _setStreamUrl(
     String dataSource, {
     required DataSourceType dataSourceType,
     String? package,
     bool? autoPlay,
     HwAcc? hwAcc,
+    bool prepareAsync = false,
+    bool parse = false,
   }) async {
     _throwIfNotInitialized('setStreamUrl');
+    if (prepareAsync) {
+      // the media is swapped natively once it is ready, which stops playback
+      await vlcPlayerPlatform.setStreamUrlAsync(
+        _viewId,
+        uri: dataSource,
+        type: dataSourceType,
+        package: package,
+        hwAcc: hwAcc ?? HwAcc.auto,
+        autoPlay: autoPlay ?? true,
+        parse: parse,
+      );
+
+      return;
+    }
     await vlcPlayerPlatform.stop(_viewId);
     await vlcPlayerPlatform.setStreamUrl(
       _viewId,
@@ -463,6 +554,57 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
     return;
   }
 
+  /// Opens and buffers [dataSource] on a standby player sharing this
+  /// player's LibVLC, without touching the current playback, so
+  /// [commitNext] can switch to it without the gap of [setMediaFromNetwork].
+  /// A next media that was not committed is replaced.
+  ///
+  /// The next media is opened muted and paused, without a surface, so its
+  /// video decoder only starts against the view on commit. [autoPlay] starts
+  /// its playback on commit. Only supported on Android.
+  Future<void> prepareNext(
+    String dataSource, {
+    DataSourceType dataSourceType = DataSourceType.network,
+    String? package,
+    bool? autoPlay,
+    HwAcc? hwAcc,
+  }) async {
+    _throwIfNotInitialized('prepareNext');
+    _nextDataSourceType = dataSourceType;
+    _nextPackage = package;
+    await vlcPlayerPlatform.prepareNext(
+      _viewId,
+      uri: dataSource,
+      type: dataSourceType,
+      package: package,
+      hwAcc: hwAcc ?? HwAcc.auto,
+      autoPlay: autoPlay ?? true,
+    );
+  }
+
+  /// Swaps the media prepared by [prepareNext] onto the view in place of the
+  /// current one, which is stopped in the background. Completes once the
+  /// first frame of the new media is out, with the latency of the switch. A
+  /// media prepared without autoPlay completes as soon as it is attached.
+  Future<VlcMediaSwitch> commitNext() async {
+    _throwIfNotInitialized('commitNext');
+    final result = await vlcPlayerPlatform.commitNext(_viewId);
+    _dataSourceType = _nextDataSourceType ?? _dataSourceType;
+    package = _nextPackage;
+    _nextDataSourceType = null;
+    _nextPackage = null;
+
+    return result;
+  }
+
+  /// Drops the media prepared by [prepareNext].
+  Future<void> cancelNext() async {
+    _throwIfNotInitialized('cancelNext');
+    _nextDataSourceType = null;
+    _nextPackage = null;
+    await vlcPlayerPlatform.cancelNext(_viewId);
+  }
+
   /// Starts playing the video.
   ///
   /// This method returns a future that completes as soon as the "play" command
@@ -540,6 +682,18 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
     return position.inMilliseconds;
   }
 
+  /// Returns the current position extrapolated from the last position anchor,
+  /// without a platform call, so it can be read on every frame.
+  /// Falls back to [VlcPlayerValue.position] if [positionAnchors] is off or no
+  /// anchor has been received yet.
+  Duration get extrapolatedPosition {
+    if (!_positionExtrapolator.hasAnchor) {
+      return value.position;
+    }
+
+    return _positionExtrapolator.position(value.duration);
+  }
+
   /// Returns the position in the current video.
   Future<Duration> getPosition() async {
     _throwIfNotInitialized('getPosition');
@@ -844,6 +998,14 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
     return activeVideoTrack;
   }
 
+  /// Returns the audio, video and subtitle tracks of the current media with
+  /// their codec, language and resolution, in a single call.
+  Future<List<VlcTrack>> getAllTracks() async {
+    _throwIfNotInitialized('getAllTracks');
+
+    return vlcPlayerPlatform.getAllTracks(_viewId);
+  }
+
   /// [scale] - the video scale value
   /// Set video scale
   Future<void> setVideoScale(double videoScale) async {
@@ -888,6 +1050,149 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
     return vlcPlayerPlatform.takeSnapshot(_viewId);
   }
 
+  /// Returns a snapshot of the current frame encoded in [format], sent as
+  /// raw bytes instead of a Base64 string.
+  ///
+  /// The frame is scaled down natively to fit within [maxWidth] x [maxHeight]
+  /// when given, keeping its aspect ratio. [quality] goes from 0 to 100 and is
+  /// ignored for PNG. iOS encodes WebP snapshots as JPEG.
+  Future<Uint8List?> takeSnapshotBytes({
+    VlcSnapshotFormat format = VlcSnapshotFormat.jpeg,
+    int quality = 90,
+    int? maxWidth,
+    int? maxHeight,
+  }) async {
+    _throwIfNotInitialized('takeSnapshotBytes');
+
+    return vlcPlayerPlatform.takeSnapshotBytes(
+      _viewId,
+      format: format,
+      quality: quality,
+      maxWidth: maxWidth,
+      maxHeight: maxHeight,
+    );
+  }
+
+  /// Returns a snapshot like [takeSnapshotBytes], meant for frequent
+  /// snapshots such as tile previews.
+  ///
+  /// On Android the frame is drawn into a reused bitmap already scaled to
+  /// [maxWidth] x [maxHeight], encoded off the platform thread, and shared
+  /// with identical requests for this player still in flight. The result
+  /// reports how long each step took.
+  Future<VlcSnapshot> captureSnapshot({
+    VlcSnapshotFormat format = VlcSnapshotFormat.jpeg,
+    int quality = 90,
+    int? maxWidth,
+    int? maxHeight,
+  }) async {
+    _throwIfNotInitialized('captureSnapshot');
+
+    return vlcPlayerPlatform.captureSnapshot(
+      _viewId,
+      format: format,
+      quality: quality,
+      maxWidth: maxWidth,
+      maxHeight: maxHeight,
+    );
+  }
+
+  /// Writes a snapshot like [takeSnapshotBytes] natively to the file at
+  /// [path], replacing it, so large snapshots never cross the platform
+  /// channel. Returns false if there is no frame to take.
+  Future<bool> takeSnapshotToFile(
+    String path, {
+    VlcSnapshotFormat format = VlcSnapshotFormat.jpeg,
+    int quality = 90,
+    int? maxWidth,
+    int? maxHeight,
+  }) async {
+    _throwIfNotInitialized('takeSnapshotToFile');
+
+    return vlcPlayerPlatform.takeSnapshotToFile(
+      _viewId,
+      path,
+      format: format,
+      quality: quality,
+      maxWidth: maxWidth,
+      maxHeight: maxHeight,
+    );
+  }
+
+  /// Returns a stream of frames sampled [fps] times per second, for
+  /// on-device analysis, as JPEG images or raw `width * height * 4` RGBA
+  /// bytes, scaled down natively to fit within [maxWidth] x [maxHeight] when
+  /// given.
+  ///
+  /// On Android the frames are drawn into a ring of [bufferCount] reused
+  /// buffers and converted off the platform thread, then sent on a channel of
+  /// their own. Frames are dropped rather than queued when every buffer is
+  /// busy or the subscription is paused, and [VlcFrame.droppedFrames] counts
+  /// them. Listening starts the tap, cancelling the subscription stops it.
+  /// Only one tap runs per player, a new one takes over its settings. Not
+  /// supported on iOS.
+  Stream<VlcFrame> tapFrames({
+    double fps = 2,
+    VlcFrameFormat format = VlcFrameFormat.jpeg,
+    int quality = 80,
+    int? maxWidth,
+    int? maxHeight,
+    int bufferCount = 3,
+  }) {
+    if (!fps.isFinite || fps <= 0) {
+      throw ArgumentError.value(fps, 'fps', 'Must be positive and finite.');
+    }
+    _throwIfNotInitialized('tapFrames');
+
+    return vlcPlayerPlatform.tapFrames(
+      _viewId,
+      fps: fps,
+      format: format,
+      quality: quality,
+      maxWidth: maxWidth,
+      maxHeight: maxHeight,
+      bufferCount: bufferCount,
+    );
+  }
+
+  /// Returns a stream of the changes detected natively in the video, so a
+  /// wall of players can stay idle until something moves.
+  ///
+  /// On Android the frames are sampled [fps] times per second at a tiny
+  /// [width] x [height] and compared in luma with the previous sample. A
+  /// pixel has changed when its luma differs by more than [pixelThreshold],
+  /// out of 255, and an event is sent when the share of changed pixels
+  /// reaches [threshold], with the region they span. The sampling runs on the
+  /// platform thread and slows down to take at most [cpuBudget] of its time.
+  /// Listening starts the detection, cancelling the subscription stops it.
+  /// Not supported on iOS.
+  Stream<VlcMotionEvent> detectMotion({
+    double fps = 5,
+    int width = 64,
+    int height = 36,
+    double threshold = 0.02,
+    int pixelThreshold = 25,
+    double cpuBudget = 0.02,
+  }) {
+    if (!fps.isFinite || fps <= 0) {
+      throw ArgumentError.value(fps, 'fps', 'Must be positive and finite.');
+    }
+    if (cpuBudget.isNaN || cpuBudget <= 0) {
+      throw ArgumentError.value(cpuBudget, 'cpuBudget', 'Must be positive.');
+    }
+    _throwIfNotInitialized('detectMotion');
+
+    return vlcPlayerPlatform.detectMotion(
+      _viewId,
+      fps: fps,
+      width: width,
+      height: height,
+      threshold: threshold,
+      pixelThreshold: pixelThreshold,
+      cpuBudget: cpuBudget,
+    );
+  }
+
   /// Get list of available renderer services which is supported by vlc library
   Future<List<String>> getAvailableRendererServices() async {
     _throwIfNotInitialized('getAvailableRendererServices');
@@ -945,6 +1250,178 @@ class VlcPlayerController extends ValueNotifier<VlcPlayerValue> {
     return vlcPlayerPlatform.stopRecording(_viewId);
   }
 
+  /// Applies an ordered list of commands in a single platform call.
+  ///
+  /// Commands can target several players, see [playerId], so for example
+  /// the state of a whole grid of players can be restored in one call.
+  /// Commands are sent as is, the values of the controllers are updated by
+  /// the following media events or getters.
+  static Future<List<VlcPlayerCommandResult>> executeBatch(
+    List<VlcPlayerCommand> commands,
+  ) {
+    return vlcPlayerPlatform.executeBatch(commands);
+  }
+
+  /// Extracts the frames of the media at [uri] at the given [timestamps]
+  /// without creating a player view.
+  ///
+  /// On Android the media is decoded by an off-screen player, with a bounded
+  /// number of files processed in parallel, set with the
+  /// `software.solid.fluttervlcplayer.THUMBNAIL_WORKERS` manifest meta-data.
+  /// The frames are scaled to fit within [maxWidth] x [maxHeight], 320 x 320
+  /// by default. A frame that cannot be decoded is reported as an error on
+  /// the stream, which closes once all are done. Cancelling the subscription
+  /// stops the extraction. Not supported on iOS.
+  ///
+  /// The frames are kept in a disk cache that survives restarts, keyed by
+  /// [uri], the size and modification time of local files or [cacheTag],
+  /// like an ETag, for remote ones, and the requested timestamp and encoding.
+  /// Cached frames are sent first, without opening the media.
+  static Stream<VlcThumbnail> extractThumbnails(
+    String uri,
+    List<Duration> timestamps, {
+    String? cacheTag,
+    VlcSnapshotFormat format = VlcSnapshotFormat.jpeg,
+    int quality = 80,
+    int? maxWidth,
+    int? maxHeight,
+  }) {
+    return vlcPlayerPlatform.extractThumbnails(
+      uri,
+      timestamps,
+      cacheTag: cacheTag,
+      format: format,
+      quality: quality,
+      maxWidth: maxWidth,
+      maxHeight: maxHeight,
+    );
+  }
+
+  /// Generates a sprite sheet for seek bar previews: the frames of the media
+  /// at [uri] every [interval], each fitted in a [tileWidth] x [tileHeight]
+  /// tile, [columns] tiles per row, written to the file at [path].
+  ///
+  /// The media is decoded off-screen with the cheaper decoding options, on
+  /// the thumbnail workers. The sheet is split into pages of at most
+  /// [maxSpritePageSize] pixels a side: the first is written to [path], the
+  /// next ones next to it with `-1`, `-2`, ... appended to the file name.
+  /// Each page is written once full and an update listing the tiles drawn so
+  /// far, with their page, is sent, so the first tiles can be shown while the
+  /// next ones are decoded. A row of tiles must fit in a page. A sheet has at
+  /// most 1000 tiles. Cancelling the subscription stops the generation. Only
+  /// supported on Android.
+  static Stream<VlcSpriteSheetUpdate> generateSpriteSheet(
+    String uri,
+    String path, {
+    Duration interval = const Duration(seconds: 10),
+    int tileWidth = 160,
+    int tileHeight = 90,
+    int columns = 10,
+    VlcSnapshotFormat format = VlcSnapshotFormat.jpeg,
+    int quality = 80,
+  }) {
+    if (tileWidth <= 0 || tileHeight <= 0 || columns <= 0) {
+      throw ArgumentError('The tile size and columns must be positive.');
+    }
+    if (tileHeight > maxSpritePageSize ||
+        tileWidth * columns > maxSpritePageSize) {
+      throw ArgumentError(
+        'A row of tiles must fit in $maxSpritePageSize pixels.',
+      );
+    }
+
+    return vlcPlayerPlatform.generateSpriteSheet(
+      uri,
+      path,
+      interval: interval,
+      tileWidth: tileWidth,
+      tileHeight: tileHeight,
+      columns: columns,
+      format: format,
+      quality: quality,
+    );
+  }
+
+  /// Deletes the cached thumbnails.
+  static Future<void> clearThumbnailCache() {
+    return vlcPlayerPlatform.clearThumbnailCache();
+  }
+
+  /// Returns the latency of the platform API calls of all players, per
+  /// method and player, as measured natively since the last reset.
+  ///
+  /// Only recorded on Android, when enabled with the
+  /// `software.solid.fluttervlcplayer.API_METRICS` manifest meta-data.
+  static Future<List<VlcApiMethodMetrics>> getApiMetrics() {
+    return vlcPlayerPlatform.getApiMetrics();
+  }
+
+  /// Drops the API latency recorded so far.
+  static Future<void> resetApiMetrics() {
+    return vlcPlayerPlatform.resetApiMetrics();
+  }
+
+  /// Returns the playback values of the player, read natively in a single
+  /// call instead of one call per getter, and updates [value] with them.
+  Future<VlcPlayerState> getPlayerState() async {
+    _throwIfNotInitialized('getPlayerState');
+    final state = await vlcPlayerPlatform.getPlayerState(_viewId);
+    _applyPlayerState(state);
+
+    return state;
+  }
+
+  /// Returns the playback values of several players in a single call and
+  /// updates the [value] of each controller with them.
+  ///
+  /// Players disposed in the meantime are left out of the result.
+  static Future<List<VlcPlayerState>> getPlayersState(
+    List<VlcPlayerController> controllers,
+  ) async {
+    for (final controller in controllers) {
+      controller._throwIfNotInitialized('getPlayersState');
+    }
+    final states = await vlcPlayerPlatform.getPlayersState(
+      controllers.map((controller) => controller._viewId).toList(),
+    );
+    for (final state in states) {
+      for (final controller in controllers) {
+        if (controller._viewId == state.viewId) {
+          controller._applyPlayerState(state);
+        }
+      }
+    }
+
+    return states;
+  }
+
+  void _applyPlayerState(VlcPlayerState state) {
+    if (_isDisposed) {
+      return;
+    }
+    value = value.copyWith(
+      isPlaying: state.isPlaying,
+      position: state.position,
+      duration: state.duration,
+      volume: state.volume.clamp(0, _maxVolume),
+      playbackSpeed: state.playbackSpeed,
+      videoScale: state.videoScale,
+      activeAudioTrack: state.audioTrack,
+      audioDelay: state.audioDelay,
+      activeSpuTrack: state.spuTrack,
+      spuDelay: state.spuDelay,
+      activeVideoTrack: state.videoTrack,
+    );
+  }
+
+  /// Requests a full snapshot of the playback values from the platform.
+  /// Time updates normally only carry the values that changed.
+  Future<void> resyncMediaEvents() async {
+    _throwIfNotInitialized('resyncMediaEvents');
+
+    return vlcPlayerPlatform.resyncMediaEvents(_viewId);
+  }
+
   /// [functionName] - name of function
   /// throw exception if vlc player controller is not initialized
   void _throwIfNotInitialized(String functionName) {
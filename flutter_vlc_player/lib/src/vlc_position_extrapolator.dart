@@ -0,0 +1,61 @@
+/// Extrapolates the playback position from the position anchors sent by the
+/// platform, so the position can be read at any rate without a platform call.
+///
+/// Anchors carry a timestamp from the platform's monotonic clock. It is mapped
+/// to a local monotonic clock with the smallest offset seen so far, which is
+/// the one least delayed by the delivery of the event.
+class VlcPositionExtrapolator {
+  static final Stopwatch _clock = Stopwatch()..start();
+
+  int? _clockOffsetMicros;
+  int? _anchorLocalMicros;
+  Duration _anchorPosition = Duration.zero;
+  double _anchorSpeed = 1.0;
+  bool _anchorIsPlaying = false;
+
+  /// Whether an anchor has been received yet.
+  bool get hasAnchor => _anchorLocalMicros != null;
+
+  /// Applies a new anchor.
+  void anchor({
+    required Duration position,
+    required double speed,
+    required Duration timestamp,
+    required bool isPlaying,
+  }) {
+    final nowMicros = _clock.elapsedMicroseconds;
+    final offset = nowMicros - timestamp.inMicroseconds;
+    final currentOffset = _clockOffsetMicros;
+    if (currentOffset == null || offset < currentOffset) {
+      _clockOffsetMicros = offset;
+    }
+    _anchorLocalMicros = timestamp.inMicroseconds + _clockOffsetMicros!;
+    _anchorPosition = position;
+    _anchorSpeed = speed;
+    _anchorIsPlaying = isPlaying;
+  }
+
+  /// Drops the current anchor, for example when the media changes.
+  void reset() {
+    _anchorLocalMicros = null;
+    _anchorPosition = Duration.zero;
+  }
+
+  /// Returns the position extrapolated to now, never past [duration] when it
+  /// is known.
+  Duration position(Duration duration) {
+    final anchorLocalMicros = _anchorLocalMicros;
+    if (anchorLocalMicros == null || !_anchorIsPlaying) {
+      return _anchorPosition;
+    }
+    final elapsedMicros = _clock.elapsedMicroseconds - anchorLocalMicros;
+    final position =
+        _anchorPosition +
+        Duration(microseconds: (elapsedMicros * _anchorSpeed).round());
+    if (duration > Duration.zero && position > duration) {
+      return duration;
+    }
+
+    return position;
+  }
+}
@@ -1,3 +1,5 @@
+import 'dart:typed_data';
+
 import 'package:pigeon/pigeon.dart';
 
 // to make changes effect, must run "dart run pigeon --input pigeons/messages.dart"
@@ -20,6 +22,9 @@ class CreateMessage {
   final bool autoPlay;
   final int? hwAcc;
   final List<String> options;
+  final bool? binaryEvents;
+  final int? maxPositionUpdatesPerSecond;
+  final bool? positionAnchors;
 
   const CreateMessage({
     required this.playerId,
@@ -29,6 +34,9 @@ class CreateMessage {
     required this.autoPlay,
     required this.hwAcc,
     required this.options,
+    required this.binaryEvents,
+    required this.maxPositionUpdatesPerSecond,
+    required this.positionAnchors,
   });
 }
 
@@ -85,59 +93,337 @@ class AddAudioMessage {
   });
 }
 
+class PlayerCommand {
+  final int playerId;
+  final int type;
+  final int? intValue;
+  final double? doubleValue;
+  final bool? boolValue;
+  final String? stringValue;
+  final SetMediaMessage? media;
+
+  const PlayerCommand({
+    required this.playerId,
+    required this.type,
+    required this.intValue,
+    required this.doubleValue,
+    required this.boolValue,
+    required this.stringValue,
+    required this.media,
+  });
+}
+
+class PlayerCommandResult {
+  final bool success;
+  final String? error;
+
+  const PlayerCommandResult({required this.success, required this.error});
+}
+
+class SnapshotMessage {
+  final int playerId;
+  final int format;
+  final int quality;
+  final int? maxWidth;
+  final int? maxHeight;
+
+  const SnapshotMessage({
+    required this.playerId,
+    required this.format,
+    required this.quality,
+    required this.maxWidth,
+    required this.maxHeight,
+  });
+}
+
+class SnapshotResultMessage {
+  final Uint8List? bytes;
+  final int width;
+  final int height;
+  final int readMicros;
+  final int encodeMicros;
+  final int totalMicros;
+  final bool coalesced;
+
+  const SnapshotResultMessage({
+    required this.bytes,
+    required this.width,
+    required this.height,
+    required this.readMicros,
+    required this.encodeMicros,
+    required this.totalMicros,
+    required this.coalesced,
+  });
+}
+
+class FrameTapMessage {
+  final int playerId;
+  final double fps;
+  final int format;
+  final int quality;
+  final int? maxWidth;
+  final int? maxHeight;
+  final int bufferCount;
+
+  const FrameTapMessage({
+    required this.playerId,
+    required this.fps,
+    required this.format,
+    required this.quality,
+    required this.maxWidth,
+    required this.maxHeight,
+    required this.bufferCount,
+  });
+}
+
+class MotionDetectionMessage {
+  final int playerId;
+  final double fps;
+  final int width;
+  final int height;
+  final double threshold;
+  final int pixelThreshold;
+  final double cpuBudget;
+
+  const MotionDetectionMessage({
+    required this.playerId,
+    required this.fps,
+    required this.width,
+    required this.height,
+    required this.threshold,
+    required this.pixelThreshold,
+    required this.cpuBudget,
+  });
+}
+
+class CommitNextResultMessage {
+  final bool success;
+  final int swapMicros;
+  final int firstFrameMicros;
+
+  const CommitNextResultMessage({
+    required this.success,
+    required this.swapMicros,
+    required this.firstFrameMicros,
+  });
+}
+
+class PlayerStateMessage {
+  final int playerId;
+  final bool isPlaying;
+  final bool isSeekable;
+  final int position;
+  final int duration;
+  final int volume;
+  final double playbackSpeed;
+  final int audioTrack;
+  final int audioDelay;
+  final int spuTrack;
+  final int spuDelay;
+  final int videoTrack;
+  final double videoScale;
+  final String videoAspectRatio;
+
+  const PlayerStateMessage({
+    required this.playerId,
+    required this.isPlaying,
+    required this.isSeekable,
+    required this.position,
+    required this.duration,
+    required this.volume,
+    required this.playbackSpeed,
+    required this.audioTrack,
+    required this.audioDelay,
+    required this.spuTrack,
+    required this.spuDelay,
+    required this.videoTrack,
+    required this.videoScale,
+    required this.videoAspectRatio,
+  });
+}
+
+class TrackMessage {
+  final int type;
+  final int id;
+  final String name;
+  final String? codec;
+  final String? language;
+  final int? width;
+  final int? height;
+  final bool isSelected;
+
+  const TrackMessage({
+    required this.type,
+    required this.id,
+    required this.name,
+    required this.codec,
+    required this.language,
+    required this.width,
+    required this.height,
+    required this.isSelected,
+  });
+}
+
+class ThumbnailRequestMessage {
+  final String uri;
+  final String? cacheTag;
+  final List<int> timestamps;
+  final int format;
+  final int quality;
+  final int? maxWidth;
+  final int? maxHeight;
+
+  const ThumbnailRequestMessage({
+    required this.uri,
+    required this.cacheTag,
+    required this.timestamps,
+    required this.format,
+    required this.quality,
+    required this.maxWidth,
+    required this.maxHeight,
+  });
+}
+
+class SpriteSheetRequestMessage {
+  final String uri;
+  final String path;
+  final int intervalMs;
+  final int tileWidth;
+  final int tileHeight;
+  final int columns;
+  final int format;
+  final int quality;
+
+  const SpriteSheetRequestMessage({
+    required this.uri,
+    required this.path,
+    required this.intervalMs,
+    required this.tileWidth,
+    required this.tileHeight,
+    required this.columns,
+    required this.format,
+    required this.quality,
+  });
+}
+
+class ApiMethodMetrics {
+  final String method;
+  final int playerId;
+  final int count;
+  final double meanMicros;
+  final double p50Micros;
+  final double p90Micros;
+  final double p99Micros;
+  final double maxMicros;
+
+  const ApiMethodMetrics({
+    required this.method,
+    required this.playerId,
+    required this.count,
+    required this.meanMicros,
+    required this.p50Micros,
+    required this.p90Micros,
+    required this.p99Micros,
+    required this.maxMicros,
+  });
+}
+
 @HostApi(dartHostTestHandler: 'TestHostVlcPlayerApi')
 abstract class VlcPlayerApi {
   void initialize();
 
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void create(CreateMessage msg);
 
   void dispose(int playerId);
 
   // general methods
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void setStreamUrl(SetMediaMessage msg);
 
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
+  void setStreamUrlAsync(SetMediaMessage msg, bool parse);
+
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
+  void prepareNext(SetMediaMessage msg);
+
+  @async
+  CommitNextResultMessage commitNext(int playerId);
+
+  void cancelNext(int playerId);
+
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void play(int playerId);
 
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void pause(int playerId);
 
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void stop(int playerId);
 
   bool isPlaying(int playerId);
 
   bool isSeekable(int playerId);
 
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void setLooping(int playerId, bool isLooping);
 
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void seekTo(int playerId, int position);
 
   int position(int playerId);
 
   int duration(int playerId);
 
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void setVolume(int playerId, int volume);
 
   int getVolume(int playerId);
 
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void setPlaybackSpeed(int playerId, double speed);
 
   double getPlaybackSpeed(int playerId);
 
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   String? takeSnapshot(int playerId);
 
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
+  Uint8List? takeSnapshotBytes(SnapshotMessage msg);
+
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
+  bool takeSnapshotToFile(SnapshotMessage msg, String path);
+
+  @async
+  SnapshotResultMessage captureSnapshot(SnapshotMessage msg);
+
+  // frame tap methods
+  void startFrameTap(FrameTapMessage msg);
+
+  void stopFrameTap(int playerId);
+
+  // motion detection methods
+  void startMotionDetection(MotionDetectionMessage msg);
+
+  void stopMotionDetection(int playerId);
+
   // captions & subtitles methods
 
   int getSpuTracksCount(int playerId);
 
   Map<int, String> getSpuTracks(int playerId);
 
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void setSpuTrack(int playerId, int spuTrackNumber);
 
   int getSpuTrack(int playerId);
 
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void setSpuDelay(int playerId, int delay);
 
   int getSpuDelay(int playerId);
 
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void addSubtitleTrack(AddSubtitleMessage msg);
 
   // audios methods
@@ -145,14 +431,17 @@ abstract class VlcPlayerApi {
 
   Map<int, String> getAudioTracks(int playerId);
 
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void setAudioTrack(int playerId, int audioTrackNumber);
 
   int getAudioTrack(int playerId);
 
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void setAudioDelay(int playerId, int delay);
 
   int getAudioDelay(int playerId);
 
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void addAudioTrack(AddAudioMessage msg);
 
   // videos methods
@@ -160,18 +449,23 @@ abstract class VlcPlayerApi {
 
   Map<int, String> getVideoTracks(int playerId);
 
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void setVideoTrack(int playerId, int videoTrackNumber);
 
   int getVideoTrack(int playerId);
 
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void setVideoScale(int playerId, double scale);
 
   double getVideoScale(int playerId);
 
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void setVideoAspectRatio(int playerId, String aspectRatio);
 
   String getVideoAspectRatio(int playerId);
 
+  List<TrackMessage> getAllTracks(int playerId);
+
   // casts & renderers methods
   List<String> getAvailableRendererServices(int playerId);
 
@@ -184,7 +478,36 @@ abstract class VlcPlayerApi {
   void castToRenderer(int playerId, String rendererId);
 
   // recording methods
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   bool startRecording(int playerId, String saveDirectory);
 
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   bool stopRecording(int playerId);
+
+  // state methods
+  PlayerStateMessage getPlayerState(int playerId);
+
+  List<PlayerStateMessage> getPlayersState(List<int> playerIds);
+
+  // events methods
+  void resyncMediaEvents(int playerId);
+
+  // thumbnail methods
+  int extractThumbnails(ThumbnailRequestMessage msg);
+
+  int generateSpriteSheet(SpriteSheetRequestMessage msg);
+
+  void cancelThumbnails(int requestId);
+
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
+  void clearThumbnailCache();
+
+  // metrics methods
+  List<ApiMethodMetrics> getApiMetrics();
+
+  void resetApiMetrics();
+
+  // batch methods
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
+  List<PlayerCommandResult> executeBatch(List<PlayerCommand> commands);
 }
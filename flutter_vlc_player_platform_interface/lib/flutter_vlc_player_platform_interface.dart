@@ -1,11 +1,26 @@
+export 'src/commands/player_command.dart';
 export 'src/enums/data_source_type.dart';
+export 'src/enums/frame_format.dart';
 export 'src/enums/hardware_acceleration.dart';
 export 'src/enums/media_event_type.dart';
+export 'src/enums/player_command_type.dart';
 export 'src/enums/renderer_event_type.dart';
 export 'src/enums/subtitles/vlc_subtitle_text_direction.dart';
+export 'src/enums/snapshot_format.dart';
+export 'src/enums/track_type.dart';
 export 'src/events/media_event.dart';
 export 'src/events/renderer_event.dart';
+export 'src/frames/vlc_frame.dart';
+export 'src/media/vlc_media_switch.dart';
+export 'src/metrics/vlc_api_method_metrics.dart';
+export 'src/motion/vlc_motion_event.dart';
 export 'src/platform_interface/vlc_player_platform_interface.dart';
+export 'src/snapshots/vlc_snapshot.dart';
+export 'src/state/vlc_player_state.dart';
+export 'src/thumbnails/vlc_sprite_sheet_update.dart';
+export 'src/thumbnails/vlc_sprite_tile.dart';
+export 'src/thumbnails/vlc_thumbnail.dart';
+export 'src/tracks/vlc_track.dart';
 export 'src/utils/helpers/subtitles/vlc_subtitle_color.dart';
 export 'src/utils/helpers/subtitles/vlc_subtitle_thickness.dart';
 export 'src/utils/options/vlc_advanced_options.dart';
@@ -0,0 +1,144 @@
+import 'package:flutter_vlc_player_platform_interface/src/enums/data_source_type.dart';
+import 'package:flutter_vlc_player_platform_interface/src/enums/hardware_acceleration.dart';
+import 'package:flutter_vlc_player_platform_interface/src/enums/player_command_type.dart';
+
+/// A single player command of a batch of commands.
+// ignore: prefer_match_file_name
+class VlcPlayerCommand {
+  /// The player the command is applied to.
+  final int viewId;
+
+  /// The type of the command.
+  final VlcPlayerCommandType type;
+
+  /// Integer argument, used by seek, volume, track and delay commands.
+  final int? intValue;
+
+  /// Double argument, used by playback speed and video scale commands.
+  final double? doubleValue;
+
+  /// Boolean argument, used by the looping command.
+  final bool? boolValue;
+
+  /// String argument, used by the stream url and aspect ratio commands.
+  final String? stringValue;
+
+  /// Only used by [VlcPlayerCommandType.setStreamUrl].
+  final DataSourceType? dataSourceType;
+
+  /// Only used by [VlcPlayerCommandType.setStreamUrl].
+  final String? package;
+
+  /// Only used by [VlcPlayerCommandType.setStreamUrl].
+  final bool? autoPlay;
+
+  /// Only used by [VlcPlayerCommandType.setStreamUrl].
+  final HwAcc? hwAcc;
+
+  const VlcPlayerCommand._(
+    this.viewId,
+    this.type, {
+    this.intValue,
+    this.doubleValue,
+    this.boolValue,
+    this.stringValue,
+    this.dataSourceType,
+    this.package,
+    this.autoPlay,
+    this.hwAcc,
+  });
+
+  const VlcPlayerCommand.setStreamUrl(
+    int viewId, {
+    required String uri,
+    required DataSourceType type,
+    String? package,
+    bool? autoPlay,
+    HwAcc? hwAcc,
+  }) : this._(
+         viewId,
+         VlcPlayerCommandType.setStreamUrl,
+         stringValue: uri,
+         dataSourceType: type,
+         package: package,
+         autoPlay: autoPlay,
+         hwAcc: hwAcc,
+       );
+
+  const VlcPlayerCommand.play(int viewId)
+    : this._(viewId, VlcPlayerCommandType.play);
+
+  const VlcPlayerCommand.pause(int viewId)
+    : this._(viewId, VlcPlayerCommandType.pause);
+
+  const VlcPlayerCommand.stop(int viewId)
+    : this._(viewId, VlcPlayerCommandType.stop);
+
+  VlcPlayerCommand.seekTo(int viewId, Duration position)
+    : this._(
+        viewId,
+        VlcPlayerCommandType.seekTo,
+        intValue: position.inMilliseconds,
+      );
+
+  const VlcPlayerCommand.setLooping(int viewId, bool looping)
+    : this._(viewId, VlcPlayerCommandType.setLooping, boolValue: looping);
+
+  const VlcPlayerCommand.setVolume(int viewId, int volume)
+    : this._(viewId, VlcPlayerCommandType.setVolume, intValue: volume);
+
+  const VlcPlayerCommand.setPlaybackSpeed(int viewId, double speed)
+    : this._(
+        viewId,
+        VlcPlayerCommandType.setPlaybackSpeed,
+        doubleValue: speed,
+      );
+
+  const VlcPlayerCommand.setAudioTrack(int viewId, int audioTrackNumber)
+    : this._(
+        viewId,
+        VlcPlayerCommandType.setAudioTrack,
+        intValue: audioTrackNumber,
+      );
+
+  const VlcPlayerCommand.setAudioDelay(int viewId, int delay)
+    : this._(viewId, VlcPlayerCommandType.setAudioDelay, intValue: delay);
+
+  const VlcPlayerCommand.setSpuTrack(int viewId, int spuTrackNumber)
+    : this._(
+        viewId,
+        VlcPlayerCommandType.setSpuTrack,
+        intValue: spuTrackNumber,
+      );
+
+  const VlcPlayerCommand.setSpuDelay(int viewId, int delay)
+    : this._(viewId, VlcPlayerCommandType.setSpuDelay, intValue: delay);
+
+  const VlcPlayerCommand.setVideoTrack(int viewId, int videoTrackNumber)
+    : this._(
+        viewId,
+        VlcPlayerCommandType.setVideoTrack,
+        intValue: videoTrackNumber,
+      );
+
+  const VlcPlayerCommand.setVideoScale(int viewId, double scale)
+    : this._(viewId, VlcPlayerCommandType.setVideoScale, doubleValue: scale);
+
+  const VlcPlayerCommand.setVideoAspectRatio(int viewId, String aspectRatio)
+    : this._(
+        viewId,
+        VlcPlayerCommandType.setVideoAspectRatio,
+        stringValue: aspectRatio,
+      );
+}
+
+/// The outcome of a single command of a batch.
+class VlcPlayerCommandResult {
+  /// Whether the command was applied.
+  final bool success;
+
+  /// The error of a failed command.
+  final String? error;
+
+  const VlcPlayerCommandResult({required this.success, this.error});
+}
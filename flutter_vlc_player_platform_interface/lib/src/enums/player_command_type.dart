@@ -0,0 +1,18 @@
+// ignore: prefer_match_file_name
+enum VlcPlayerCommandType {
+  setStreamUrl,
+  play,
+  pause,
+  stop,
+  seekTo,
+  setLooping,
+  setVolume,
+  setPlaybackSpeed,
+  setAudioTrack,
+  setAudioDelay,
+  setSpuTrack,
+  setSpuDelay,
+  setVideoTrack,
+  setVideoScale,
+  setVideoAspectRatio,
+}
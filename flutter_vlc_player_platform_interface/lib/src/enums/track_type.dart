@@ -0,0 +1,2 @@
+// ignore: prefer_match_file_name
+enum VlcTrackType { audio, video, spu }
@@ -0,0 +1,198 @@
+import 'dart:typed_data';
+import 'dart:ui';
+
+import 'package:flutter_vlc_player_platform_interface/src/enums/media_event_type.dart';
+import 'package:flutter_vlc_player_platform_interface/src/events/media_event.dart';
+
+/// Decodes the compact binary media events sent by the Android player when
+/// `binaryEvents` is requested on create.
+///
+/// The first byte is the event type, followed by fixed little-endian fields
+/// per type. The layout must match `BinaryMediaEventEncoder` on Android.
+///
+/// Time changed delta events only carry the fields that changed since the
+/// previous event, the other fields of the decoded event are null.
+class BinaryMediaEventDecoder {
+  static const int _opening = 1;
+  static const int _paused = 2;
+  static const int _stopped = 3;
+  static const int _playing = 4;
+  static const int _ended = 5;
+  static const int _timeChanged = 6;
+  static const int _error = 7;
+  static const int _timeChangedDelta = 8;
+  static const int _positionAnchor = 9;
+  static const int _prepared = 10;
+
+  static const int _sizeField = 1;
+  static const int _speedField = 1 << 1;
+  static const int _positionField = 1 << 2;
+  static const int _durationField = 1 << 3;
+  static const int _bufferField = 1 << 4;
+  static const int _audioTracksCountField = 1 << 5;
+  static const int _activeAudioTrackField = 1 << 6;
+  static const int _spuTracksCountField = 1 << 7;
+  static const int _activeSpuTrackField = 1 << 8;
+  static const int _isPlayingField = 1 << 9;
+
+  const BinaryMediaEventDecoder();
+
+  VlcMediaEvent decode(Uint8List bytes) {
+    if (bytes.isEmpty) {
+      return VlcMediaEvent(mediaEventType: VlcMediaEventType.unknown);
+    }
+    final data = ByteData.sublistView(bytes);
+    switch (data.getUint8(0)) {
+      case _opening:
+        return VlcMediaEvent(mediaEventType: VlcMediaEventType.opening);
+
+      case _paused:
+        return VlcMediaEvent(mediaEventType: VlcMediaEventType.paused);
+
+      case _stopped:
+        return VlcMediaEvent(mediaEventType: VlcMediaEventType.stopped);
+
+      case _playing:
+        return VlcMediaEvent(
+          mediaEventType: VlcMediaEventType.playing,
+          size: Size(
+            data.getInt32(1, Endian.little).toDouble(),
+            data.getInt32(5, Endian.little).toDouble(),
+          ),
+          playbackSpeed: data.getFloat32(9, Endian.little),
+          duration: Duration(milliseconds: data.getInt64(13, Endian.little)),
+          audioTracksCount: data.getInt32(21, Endian.little),
+          activeAudioTrack: data.getInt32(25, Endian.little),
+          spuTracksCount: data.getInt32(29, Endian.little),
+          activeSpuTrack: data.getInt32(33, Endian.little),
+        );
+
+      case _ended:
+        return VlcMediaEvent(
+          mediaEventType: VlcMediaEventType.ended,
+          position: Duration(milliseconds: data.getInt64(1, Endian.little)),
+        );
+
+      case _timeChanged:
+        return VlcMediaEvent(
+          mediaEventType: VlcMediaEventType.timeChanged,
+          size: Size(
+            data.getInt32(1, Endian.little).toDouble(),
+            data.getInt32(5, Endian.little).toDouble(),
+          ),
+          playbackSpeed: data.getFloat32(9, Endian.little),
+          position: Duration(milliseconds: data.getInt64(13, Endian.little)),
+          duration: Duration(milliseconds: data.getInt64(21, Endian.little)),
+          bufferPercent: data.getFloat32(29, Endian.little),
+          audioTracksCount: data.getInt32(33, Endian.little),
+          activeAudioTrack: data.getInt32(37, Endian.little),
+          spuTracksCount: data.getInt32(41, Endian.little),
+          activeSpuTrack: data.getInt32(45, Endian.little),
+          isPlaying: data.getUint8(49) != 0,
+        );
+
+      case _error:
+        return VlcMediaEvent(mediaEventType: VlcMediaEventType.error);
+
+      case _timeChangedDelta:
+        return _decodeTimeChangedDelta(data);
+
+      case _positionAnchor:
+        return VlcMediaEvent(
+          mediaEventType: VlcMediaEventType.positionAnchor,
+          position: Duration(milliseconds: data.getInt64(1, Endian.little)),
+          playbackSpeed: data.getFloat32(9, Endian.little),
+          timestamp: Duration(microseconds: data.getInt64(13, Endian.little)),
+          isPlaying: data.getUint8(21) != 0,
+        );
+
+      case _prepared:
+        return VlcMediaEvent(
+          mediaEventType: VlcMediaEventType.prepared,
+          duration: Duration(milliseconds: data.getInt64(1, Endian.little)),
+          size: Size(
+            data.getInt32(9, Endian.little).toDouble(),
+            data.getInt32(13, Endian.little).toDouble(),
+          ),
+          audioTracksCount: data.getInt32(17, Endian.little),
+          spuTracksCount: data.getInt32(21, Endian.little),
+          videoTracksCount: data.getInt32(25, Endian.little),
+        );
+
+      default:
+        return VlcMediaEvent(mediaEventType: VlcMediaEventType.unknown);
+    }
+  }
+
+  VlcMediaEvent _decodeTimeChangedDelta(ByteData data) {
+    final fields = data.getUint16(1, Endian.little);
+    var offset = 3;
+
+    Size? size;
+    if (fields & _sizeField != 0) {
+      size = Size(
+        data.getInt32(offset, Endian.little).toDouble(),
+        data.getInt32(offset + 4, Endian.little).toDouble(),
+      );
+      offset += 8;
+    }
+    double? playbackSpeed;
+    if (fields & _speedField != 0) {
+      playbackSpeed = data.getFloat32(offset, Endian.little);
+      offset += 4;
+    }
+    Duration? position;
+    if (fields & _positionField != 0) {
+      position = Duration(milliseconds: data.getInt64(offset, Endian.little));
+      offset += 8;
+    }
+    Duration? duration;
+    if (fields & _durationField != 0) {
+      duration = Duration(milliseconds: data.getInt64(offset, Endian.little));
+      offset += 8;
+    }
+    double? bufferPercent;
+    if (fields & _bufferField != 0) {
+      bufferPercent = data.getFloat32(offset, Endian.little);
+      offset += 4;
+    }
+    int? audioTracksCount;
+    if (fields & _audioTracksCountField != 0) {
+      audioTracksCount = data.getInt32(offset, Endian.little);
+      offset += 4;
+    }
+    int? activeAudioTrack;
+    if (fields & _activeAudioTrackField != 0) {
+      activeAudioTrack = data.getInt32(offset, Endian.little);
+      offset += 4;
+    }
+    int? spuTracksCount;
+    if (fields & _spuTracksCountField != 0) {
+      spuTracksCount = data.getInt32(offset, Endian.little);
+      offset += 4;
+    }
+    int? activeSpuTrack;
+    if (fields & _activeSpuTrackField != 0) {
+      activeSpuTrack = data.getInt32(offset, Endian.little);
+      offset += 4;
+    }
+    bool? isPlaying;
+    if (fields & _isPlayingField != 0) {
+      isPlaying = data.getUint8(offset) != 0;
+    }
+
+    return VlcMediaEvent(
+      mediaEventType: VlcMediaEventType.timeChanged,
+      size: size,
+      playbackSpeed: playbackSpeed,
+      position: position,
+      duration: duration,
+      bufferPercent: bufferPercent,
+      audioTracksCount: audioTracksCount,
+      activeAudioTrack: activeAudioTrack,
+      spuTracksCount: spuTracksCount,
+      activeSpuTrack: activeSpuTrack,
+      isPlaying: isPlaying,
+    );
+  }
+}
@@ -47,6 +47,11 @@ class VlcMediaEvent {
   /// Only used if [eventType] is [VlcMediaEventType.buffering, VlcMediaEventType.playing].
   final int? activeSpuTrack;
 
+  /// Returns the number of video tracks of media.
+  ///
+  /// Only used if [eventType] is [VlcMediaEventType.prepared].
+  final int? videoTracksCount;
+
   /// Returns the buffer percent of media.
   ///
   /// Only used if [eventType] is [VlcMediaEventType.buffering].
@@ -57,6 +62,12 @@ class VlcMediaEvent {
   /// Only used if [eventType] is [VlcMediaEventType.buffering].
   final bool? isPlaying;
 
+  /// Monotonic platform time at which [position] was taken.
+  ///
+  /// Only used if [eventType] is [VlcMediaEventType.positionAnchor], where
+  /// [position] advances at [playbackSpeed] from this time while [isPlaying].
+  final Duration? timestamp;
+
   /// Returns the recording state of media.
   ///
   /// Only used if [eventType] is [VlcMediaEventType.playing, VlcMediaEventType.recording].
@@ -72,7 +83,8 @@ class VlcMediaEvent {
   /// The [mediaEventType] argument is required.
   ///
   /// Depending on the [mediaEventType], the [duration], [size]
-  /// arguments can be null.
+  /// arguments can be null. Time changed events may only carry the values
+  /// that changed since the previous one, the others are null.
   VlcMediaEvent({
     required this.mediaEventType,
     this.duration,
@@ -83,8 +95,10 @@ class VlcMediaEvent {
     this.activeAudioTrack,
     this.spuTracksCount,
     this.activeSpuTrack,
+    this.videoTracksCount,
     this.bufferPercent,
     this.isPlaying,
+    this.timestamp,
     this.isRecording,
     this.recordPath,
   });
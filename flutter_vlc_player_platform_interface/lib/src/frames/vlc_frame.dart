@@ -0,0 +1,39 @@
+import 'dart:typed_data';
+
+import 'package:flutter_vlc_player_platform_interface/src/enums/frame_format.dart';
+
+/// A frame sampled by a player's frame tap.
+class VlcFrame {
+  /// The number of the frame since the tap started, dropped frames included.
+  final int sequence;
+
+  /// When the frame was drawn, in the platform's monotonic clock, the same
+  /// as the position anchors.
+  final Duration timestamp;
+
+  /// The width of the frame in pixels.
+  final int width;
+
+  /// The height of the frame in pixels.
+  final int height;
+
+  /// The encoding of [bytes].
+  final VlcFrameFormat format;
+
+  /// The frame, as `width * height * 4` RGBA bytes or a JPEG image.
+  final Uint8List bytes;
+
+  /// The number of frames dropped since the tap started because the
+  /// previous ones were not consumed yet.
+  final int droppedFrames;
+
+  const VlcFrame({
+    required this.sequence,
+    required this.timestamp,
+    required this.width,
+    required this.height,
+    required this.format,
+    required this.bytes,
+    required this.droppedFrames,
+  });
+}
@@ -0,0 +1,21 @@
+/// The latency of swapping a prepared next media onto a player's view.
+class VlcMediaSwitch {
+  /// Whether the first frame came out, playback started for a media
+  /// without video, or a paused media was attached, before the switch timed
+  /// out or failed.
+  final bool success;
+
+  /// The time the native swap itself took, from the request to the new
+  /// media attached to the view.
+  final Duration swapDuration;
+
+  /// The time from the request to the first frame of the new media, or to
+  /// its attachment when it was prepared without autoPlay.
+  final Duration firstFrameDuration;
+
+  const VlcMediaSwitch({
+    required this.success,
+    required this.swapDuration,
+    required this.firstFrameDuration,
+  });
+}
@@ -6,16 +6,40 @@ import 'package:flutter/rendering.dart';
 import 'package:flutter/services.dart';
 import 'package:flutter/widgets.dart';
 import 'package:flutter_vlc_player_platform_interface/flutter_vlc_player_platform_interface.dart';
+import 'package:flutter_vlc_player_platform_interface/src/events/binary_media_event_decoder.dart';
 import 'package:flutter_vlc_player_platform_interface/src/messages/messages.dart';
 
 /// An implementation of [VlcPlayerPlatform] that uses method channels.
 class MethodChannelVlcPlayer extends VlcPlayerPlatform {
   final _api = VlcPlayerApi();
+  final _binaryMediaEventDecoder = const BinaryMediaEventDecoder();
 
   EventChannel _mediaEventChannelFor(int viewId) {
     return EventChannel('flutter_video_plugin/getVideoEvents_$viewId');
   }
 
+  /// Media events of all players, sent together once per frame when batched
+  /// delivery is enabled on Android, as `[viewId, event, viewId, event, ...]`.
+  late final Stream<dynamic> _batchedMediaEvents =
+      const EventChannel(
+        'flutter_video_plugin/getBatchedVideoEvents',
+      ).receiveBroadcastStream();
+
+  /// Thumbnails and sprite sheet updates of all extraction requests, tagged
+  /// with their request id.
+  late final Stream<dynamic> _thumbnailEvents =
+      const EventChannel(
+        'flutter_video_plugin/getThumbnails',
+      ).receiveBroadcastStream();
+
+  EventChannel _frameEventChannelFor(int viewId) {
+    return EventChannel('flutter_video_plugin/getFrames_$viewId');
+  }
+
+  EventChannel _motionEventChannelFor(int viewId) {
+    return EventChannel('flutter_video_plugin/getMotionEvents_$viewId');
+  }
+
   EventChannel _rendererEventChannelFor(int viewId) {
     return EventChannel('flutter_video_plugin/getRendererEvents_$viewId');
   }
@@ -34,6 +58,8 @@ class MethodChannelVlcPlayer extends VlcPlayerPlatform {
     bool? autoPlay,
     HwAcc? hwAcc,
     VlcPlayerOptions? options,
+    int? maxPositionUpdatesPerSecond,
+    bool? positionAnchors,
   }) {
     final message = CreateMessage(
       playerId: viewId,
@@ -43,6 +69,9 @@ class MethodChannelVlcPlayer extends VlcPlayerPlatform {
       autoPlay: autoPlay ?? true,
       hwAcc: hwAcc?.index,
       options: options?.get() ?? [],
+      binaryEvents: true,
+      maxPositionUpdatesPerSecond: maxPositionUpdatesPerSecond,
+      positionAnchors: positionAnchors,
     );
 
     return _api.create(message);
@@ -112,86 +141,203 @@ class MethodChannelVlcPlayer extends VlcPlayerPlatform {
   }
 
   @override
-  // ignore: cyclomatic_complexity
   Stream<VlcMediaEvent> mediaEventsFor(int viewId) {
-    return _mediaEventChannelFor(viewId).receiveBroadcastStream().map((
-      dynamic event,
-    ) {
-      final Map<Object?, Object?> map = event as Map<Object?, Object?>;
-      //
-      switch (map['event']) {
-        case 'opening':
-          return VlcMediaEvent(mediaEventType: VlcMediaEventType.opening);
-
-        case 'paused':
-          return VlcMediaEvent(mediaEventType: VlcMediaEventType.paused);
+    final events = _mediaEventChannelFor(viewId).receiveBroadcastStream();
+    if (!Platform.isAndroid) {
+      return events.map(_decodeMediaEvent);
+    }
 
-        case 'stopped':
-          return VlcMediaEvent(mediaEventType: VlcMediaEventType.stopped);
+    // The player channel is always listened to, even when its events come in
+    // batches, since listening to it is what starts the native delivery.
+    return _merge(
+      events,
+      _batchedMediaEvents.expand(
+        (dynamic batch) => _unpackBatch(viewId, batch as List<Object?>),
+      ),
+    ).map(_decodeMediaEvent);
+  }
 
-        case 'playing':
-          return VlcMediaEvent(
-            mediaEventType: VlcMediaEventType.playing,
-            size: Size(
-              (map['width'] as num?)?.toDouble() ?? 0.0,
-              (map['height'] as num?)?.toDouble() ?? 0.0,
-            ),
-            playbackSpeed: map['speed'] as double? ?? 1.0,
-            duration: Duration(milliseconds: map['duration'] as int? ?? 0),
-            audioTracksCount: map['audioTracksCount'] as int? ?? 1,
-            activeAudioTrack: map['activeAudioTrack'] as int? ?? 0,
-            spuTracksCount: map['spuTracksCount'] as int? ?? 0,
-            activeSpuTrack: map['activeSpuTrack'] as int? ?? -1,
-          );
+  Iterable<Object?> _unpackBatch(int viewId, List<Object?> batch) sync* {
+    for (var i = 0; i + 1 < batch.length; i += 2) {
+      if (batch[i] == viewId) {
+        yield batch[i + 1];
+      }
+    }
+  }
 
-        case 'ended':
-          return VlcMediaEvent(
-            mediaEventType: VlcMediaEventType.ended,
-            position: Duration(milliseconds: map['position'] as int? ?? 0),
-          );
+  Stream<dynamic> _merge(Stream<dynamic> first, Stream<dynamic> second) {
+    final subscriptions = <StreamSubscription<dynamic>>[];
+    // ignore: close_sinks
+    late final StreamController<dynamic> controller;
+    controller = StreamController<dynamic>.broadcast(
+      onListen: () {
+        subscriptions
+          ..add(first.listen(controller.add, onError: controller.addError))
+          ..add(second.listen(controller.add, onError: controller.addError));
+      },
+      onCancel: () async {
+        for (final subscription in subscriptions) {
+          await subscription.cancel();
+        }
+        subscriptions.clear();
+      },
+    );
 
-        case 'buffering':
-        case 'timeChanged':
-          const defaultBufferPercent = 100.0;
+    return controller.stream;
+  }
 
-          return VlcMediaEvent(
-            mediaEventType: VlcMediaEventType.timeChanged,
-            size: Size(
-              (map['width'] as num?)?.toDouble() ?? 0.0,
-              (map['height'] as num?)?.toDouble() ?? 0.0,
-            ),
-            playbackSpeed: map['speed'] as double? ?? 1.0,
-            position: Duration(milliseconds: map['position'] as int? ?? 0),
-            duration: Duration(milliseconds: map['duration'] as int? ?? 0),
-            audioTracksCount: map['audioTracksCount'] as int? ?? 1,
-            activeAudioTrack: map['activeAudioTrack'] as int? ?? 0,
-            spuTracksCount: map['spuTracksCount'] as int? ?? 0,
-            activeSpuTrack: map['activeSpuTrack'] as int? ?? -1,
-            bufferPercent: map['buffer'] as double? ?? defaultBufferPercent,
-            isPlaying: map['isPlaying'] as bool? ?? false,
-          );
+  // ignore: cyclomatic_complexity
+  VlcMediaEvent _decodeMediaEvent(dynamic event) {
+    if (event is Uint8List) {
+      return _binaryMediaEventDecoder.decode(event);
+    }
+    final Map<Object?, Object?> map = event as Map<Object?, Object?>;
+    //
+    switch (map['event']) {
+      case 'opening':
+        return VlcMediaEvent(mediaEventType: VlcMediaEventType.opening);
+
+      case 'paused':
+        return VlcMediaEvent(mediaEventType: VlcMediaEventType.paused);
+
+      case 'stopped':
+        return VlcMediaEvent(mediaEventType: VlcMediaEventType.stopped);
+
+      case 'playing':
+        return VlcMediaEvent(
+          mediaEventType: VlcMediaEventType.playing,
+          size: Size(
+            (map['width'] as num?)?.toDouble() ?? 0.0,
+            (map['height'] as num?)?.toDouble() ?? 0.0,
+          ),
+          playbackSpeed: map['speed'] as double? ?? 1.0,
+          duration: Duration(milliseconds: map['duration'] as int? ?? 0),
+          audioTracksCount: map['audioTracksCount'] as int? ?? 1,
+          activeAudioTrack: map['activeAudioTrack'] as int? ?? 0,
+          spuTracksCount: map['spuTracksCount'] as int? ?? 0,
+          activeSpuTrack: map['activeSpuTrack'] as int? ?? -1,
+        );
+
+      case 'ended':
+        return VlcMediaEvent(
+          mediaEventType: VlcMediaEventType.ended,
+          position: Duration(milliseconds: map['position'] as int? ?? 0),
+        );
+
+      case 'buffering':
+      case 'timeChanged':
+        // Android only sends the fields that changed since the previous
+        // event, missing fields are left null so they keep their value.
+        final position = map['position'] as int?;
+        final duration = map['duration'] as int?;
+
+        return VlcMediaEvent(
+          mediaEventType: VlcMediaEventType.timeChanged,
+          size:
+              map.containsKey('width')
+                  ? Size(
+                    (map['width'] as num?)?.toDouble() ?? 0.0,
+                    (map['height'] as num?)?.toDouble() ?? 0.0,
+                  )
+                  : null,
+          playbackSpeed: map['speed'] as double?,
+          position:
+              position == null ? null : Duration(milliseconds: position),
+          duration:
+              duration == null ? null : Duration(milliseconds: duration),
+          audioTracksCount: map['audioTracksCount'] as int?,
+          activeAudioTrack: map['activeAudioTrack'] as int?,
+          spuTracksCount: map['spuTracksCount'] as int?,
+          activeSpuTrack: map['activeSpuTrack'] as int?,
+          bufferPercent: map['buffer'] as double?,
+          isPlaying: map['isPlaying'] as bool?,
+        );
+
+      case 'mediaChanged':
+        return VlcMediaEvent(mediaEventType: VlcMediaEventType.mediaChanged);
+
+      case 'recording':
+        return VlcMediaEvent(
+          mediaEventType: VlcMediaEventType.recording,
+          isRecording: map['isRecording'] as bool? ?? false,
+          recordPath: map['recordPath'] as String? ?? '',
+        );
+
+      case 'error':
+        return VlcMediaEvent(mediaEventType: VlcMediaEventType.error);
+
+      case 'positionAnchor':
+        return VlcMediaEvent(
+          mediaEventType: VlcMediaEventType.positionAnchor,
+          position: Duration(milliseconds: map['position'] as int? ?? 0),
+          playbackSpeed: map['speed'] as double? ?? 1.0,
+          timestamp: Duration(microseconds: map['timestamp'] as int? ?? 0),
+          isPlaying: map['isPlaying'] as bool? ?? false,
+        );
+
+      case 'prepared':
+        return VlcMediaEvent(
+          mediaEventType: VlcMediaEventType.prepared,
+          duration: Duration(milliseconds: map['duration'] as int? ?? 0),
+          size: Size(
+            (map['width'] as num?)?.toDouble() ?? 0.0,
+            (map['height'] as num?)?.toDouble() ?? 0.0,
+          ),
+          audioTracksCount: map['audioTracksCount'] as int? ?? 0,
+          spuTracksCount: map['spuTracksCount'] as int? ?? 0,
+          videoTracksCount: map['videoTracksCount'] as int? ?? 0,
+        );
+
+      default:
+        return VlcMediaEvent(mediaEventType: VlcMediaEventType.unknown);
+    }
+  }
 
-        case 'mediaChanged':
-          return VlcMediaEvent(mediaEventType: VlcMediaEventType.mediaChanged);
+  @override
+  Future<void> setStreamUrl(
+    int viewId, {
+    required String uri,
+    required DataSourceType type,
+    String? package,
+    bool? autoPlay,
+    HwAcc? hwAcc,
+  }) {
+    final message = SetMediaMessage(
+      playerId: viewId,
+      uri: uri,
+      type: type.index,
+      packageName: package,
+      hwAcc: hwAcc?.index,
+      autoPlay: autoPlay ?? true,
+    );
 
-        case 'recording':
-          return VlcMediaEvent(
-            mediaEventType: VlcMediaEventType.recording,
-            isRecording: map['isRecording'] as bool? ?? false,
-            recordPath: map['recordPath'] as String? ?? '',
-          );
+    return _api.setStreamUrl(message);
+  }
 
-        case 'error':
-          return VlcMediaEvent(mediaEventType: VlcMediaEventType.error);
+  @override
+  Future<void> setStreamUrlAsync(
+    int viewId, {
+    required String uri,
+    required DataSourceType type,
+    String? package,
+    bool? autoPlay,
+    HwAcc? hwAcc,
+    bool parse = false,
+  }) {
+    final message = SetMediaMessage(
+      playerId: viewId,
+      uri: uri,
+      type: type.index,
+      packageName: package,
+      hwAcc: hwAcc?.index,
+      autoPlay: autoPlay ?? true,
+    );
 
-        default:
-          return VlcMediaEvent(mediaEventType: VlcMediaEventType.unknown);
-      }
-    });
+    return _api.setStreamUrlAsync(message, parse);
   }
 
   @override
-  Future<void> setStreamUrl(
+  Future<void> prepareNext(
     int viewId, {
     required String uri,
     required DataSourceType type,
@@ -208,7 +354,23 @@ class MethodChannelVlcPlayer extends VlcPlayerPlatform {
       autoPlay: autoPlay ?? true,
     );
 
-    return _api.setStreamUrl(message);
+    return _api.prepareNext(message);
+  }
+
+  @override
+  Future<VlcMediaSwitch> commitNext(int viewId) async {
+    final response = await _api.commitNext(viewId);
+
+    return VlcMediaSwitch(
+      success: response.success,
+      swapDuration: Duration(microseconds: response.swapMicros),
+      firstFrameDuration: Duration(microseconds: response.firstFrameMicros),
+    );
+  }
+
+  @override
+  Future<void> cancelNext(int viewId) {
+    return _api.cancelNext(viewId);
   }
 
   @override
@@ -396,6 +558,29 @@ class MethodChannelVlcPlayer extends VlcPlayerPlatform {
     return _api.getVideoTrack(viewId);
   }
 
+  @override
+  Future<List<VlcTrack>> getAllTracks(int viewId) async {
+    final response = await _api.getAllTracks(viewId);
+
+    return response.map((track) {
+      final width = track.width;
+      final height = track.height;
+
+      return VlcTrack(
+        type: VlcTrackType.values[track.type],
+        id: track.id,
+        name: track.name,
+        codec: track.codec,
+        language: track.language,
+        size:
+            width == null || height == null
+                ? null
+                : Size(width.toDouble(), height.toDouble()),
+        isSelected: track.isSelected,
+      );
+    }).toList();
+  }
+
   @override
   Future<void> setVideoScale(int viewId, double scale) {
     return _api.setVideoScale(viewId, scale);
@@ -431,6 +616,234 @@ class MethodChannelVlcPlayer extends VlcPlayerPlatform {
     return imageBytes;
   }
 
+  @override
+  Future<Uint8List?> takeSnapshotBytes(
+    int viewId, {
+    required VlcSnapshotFormat format,
+    required int quality,
+    int? maxWidth,
+    int? maxHeight,
+  }) {
+    return _api.takeSnapshotBytes(
+      SnapshotMessage(
+        playerId: viewId,
+        format: format.index,
+        quality: quality,
+        maxWidth: maxWidth,
+        maxHeight: maxHeight,
+      ),
+    );
+  }
+
+  @override
+  Future<VlcSnapshot> captureSnapshot(
+    int viewId, {
+    required VlcSnapshotFormat format,
+    required int quality,
+    int? maxWidth,
+    int? maxHeight,
+  }) async {
+    final response = await _api.captureSnapshot(
+      SnapshotMessage(
+        playerId: viewId,
+        format: format.index,
+        quality: quality,
+        maxWidth: maxWidth,
+        maxHeight: maxHeight,
+      ),
+    );
+
+    return VlcSnapshot(
+      bytes: response.bytes,
+      width: response.width,
+      height: response.height,
+      readDuration: Duration(microseconds: response.readMicros),
+      encodeDuration: Duration(microseconds: response.encodeMicros),
+      totalDuration: Duration(microseconds: response.totalMicros),
+      coalesced: response.coalesced,
+    );
+  }
+
+  @override
+  Stream<VlcFrame> tapFrames(
+    int viewId, {
+    required double fps,
+    required VlcFrameFormat format,
+    required int quality,
+    int? maxWidth,
+    int? maxHeight,
+    required int bufferCount,
+  }) {
+    var isCancelled = false;
+    var droppedWhilePaused = 0;
+    StreamSubscription<dynamic>? subscription;
+    late final StreamController<VlcFrame> controller;
+
+    controller = StreamController<VlcFrame>(
+      onListen: () {
+        // the channel only exists once the tap has started
+        _api
+            .startFrameTap(
+              FrameTapMessage(
+                playerId: viewId,
+                fps: fps,
+                format: format.index,
+                quality: quality,
+                maxWidth: maxWidth,
+                maxHeight: maxHeight,
+                bufferCount: bufferCount,
+              ),
+            )
+            .then(
+              (_) {
+                if (isCancelled) {
+                  _api.stopFrameTap(viewId);
+
+                  return;
+                }
+                subscription = _frameEventChannelFor(viewId)
+                    .receiveBroadcastStream()
+                    .listen(
+                      (dynamic event) {
+                        // a paused listener is behind, buffering would only
+                        // make it further behind
+                        if (controller.isPaused) {
+                          droppedWhilePaused++;
+
+                          return;
+                        }
+                        final map = event as Map<Object?, Object?>;
+                        controller.add(
+                          VlcFrame(
+                            sequence: map['sequence'] as int,
+                            timestamp: Duration(
+                              microseconds: map['timestampMicros'] as int,
+                            ),
+                            width: map['width'] as int,
+                            height: map['height'] as int,
+                            format: VlcFrameFormat.values[map['format'] as int],
+                            bytes: map['bytes'] as Uint8List,
+                            droppedFrames:
+                                (map['droppedFrames'] as int) +
+                                droppedWhilePaused,
+                          ),
+                        );
+                      },
+                      onError: controller.addError,
+                    );
+              },
+              onError: (Object error, StackTrace stackTrace) {
+                controller.addError(error, stackTrace);
+                controller.close();
+              },
+            );
+      },
+      onCancel: () async {
+        isCancelled = true;
+        await subscription?.cancel();
+        await _api.stopFrameTap(viewId);
+      },
+    );
+
+    return controller.stream;
+  }
+
+  @override
+  Stream<VlcMotionEvent> detectMotion(
+    int viewId, {
+    required double fps,
+    required int width,
+    required int height,
+    required double threshold,
+    required int pixelThreshold,
+    required double cpuBudget,
+  }) {
+    var isCancelled = false;
+    StreamSubscription<dynamic>? subscription;
+    late final StreamController<VlcMotionEvent> controller;
+
+    controller = StreamController<VlcMotionEvent>(
+      onListen: () {
+        // the channel only exists once the detection has started
+        _api
+            .startMotionDetection(
+              MotionDetectionMessage(
+                playerId: viewId,
+                fps: fps,
+                width: width,
+                height: height,
+                threshold: threshold,
+                pixelThreshold: pixelThreshold,
+                cpuBudget: cpuBudget,
+              ),
+            )
+            .then(
+              (_) {
+                if (isCancelled) {
+                  _api.stopMotionDetection(viewId);
+
+                  return;
+                }
+                subscription = _motionEventChannelFor(viewId)
+                    .receiveBroadcastStream()
+                    .listen(
+                      (dynamic event) {
+                        final map = event as Map<Object?, Object?>;
+                        controller.add(
+                          VlcMotionEvent(
+                            timestamp: Duration(
+                              microseconds: map['timestampMicros'] as int,
+                            ),
+                            score: map['score'] as double,
+                            region: Rect.fromLTRB(
+                              map['left'] as double,
+                              map['top'] as double,
+                              map['right'] as double,
+                              map['bottom'] as double,
+                            ),
+                          ),
+                        );
+                      },
+                      onError: controller.addError,
+                    );
+              },
+              onError: (Object error, StackTrace stackTrace) {
+                controller.addError(error, stackTrace);
+                controller.close();
+              },
+            );
+      },
+      onCancel: () async {
+        isCancelled = true;
+        await subscription?.cancel();
+        await _api.stopMotionDetection(viewId);
+      },
+    );
+
+    return controller.stream;
+  }
+
+  @override
+  Future<bool> takeSnapshotToFile(
+    int viewId,
+    String path, {
+    required VlcSnapshotFormat format,
+    required int quality,
+    int? maxWidth,
+    int? maxHeight,
+  }) {
+    return _api.takeSnapshotToFile(
+      SnapshotMessage(
+        playerId: viewId,
+        format: format.index,
+        quality: quality,
+        maxWidth: maxWidth,
+        maxHeight: maxHeight,
+      ),
+      path,
+    );
+  }
+
   @override
   Future<List<String>> getAvailableRendererServices(int viewId) {
     return _api.getAvailableRendererServices(viewId);
@@ -493,4 +906,296 @@ class MethodChannelVlcPlayer extends VlcPlayerPlatform {
   Future<bool> stopRecording(int viewId) {
     return _api.stopRecording(viewId);
   }
+
+  @override
+  Future<VlcPlayerState> getPlayerState(int viewId) async {
+    final response = await _api.getPlayerState(viewId);
+
+    return _playerState(response);
+  }
+
+  @override
+  Future<List<VlcPlayerState>> getPlayersState(List<int> viewIds) async {
+    final response = await _api.getPlayersState(viewIds);
+
+    return response.map(_playerState).toList();
+  }
+
+  VlcPlayerState _playerState(PlayerStateMessage message) {
+    return VlcPlayerState(
+      viewId: message.playerId,
+      isPlaying: message.isPlaying,
+      isSeekable: message.isSeekable,
+      position: Duration(milliseconds: message.position),
+      duration: Duration(milliseconds: message.duration),
+      volume: message.volume,
+      playbackSpeed: message.playbackSpeed,
+      audioTrack: message.audioTrack,
+      audioDelay: message.audioDelay,
+      spuTrack: message.spuTrack,
+      spuDelay: message.spuDelay,
+      videoTrack: message.videoTrack,
+      videoScale: message.videoScale,
+      videoAspectRatio: message.videoAspectRatio,
+    );
+  }
+
+  @override
+  Future<void> resyncMediaEvents(int viewId) {
+    return _api.resyncMediaEvents(viewId);
+  }
+
+  @override
+  Stream<VlcThumbnail> extractThumbnails(
+    String uri,
+    List<Duration> timestamps, {
+    String? cacheTag,
+    required VlcSnapshotFormat format,
+    required int quality,
+    int? maxWidth,
+    int? maxHeight,
+  }) {
+    return _thumbnailRequest<VlcThumbnail>(
+      start: () => _api.extractThumbnails(
+        ThumbnailRequestMessage(
+          uri: uri,
+          cacheTag: cacheTag,
+          timestamps: timestamps
+              .map((timestamp) => timestamp.inMilliseconds)
+              .toList(),
+          format: format.index,
+          quality: quality,
+          maxWidth: maxWidth,
+          maxHeight: maxHeight,
+        ),
+      ),
+      onEvent: (controller, event) {
+        if (event['event'] == 'thumbnail') {
+          controller.add(
+            VlcThumbnail(
+              index: event['index'] as int,
+              timestamp: Duration(milliseconds: event['time'] as int),
+              bytes: event['bytes'] as Uint8List,
+              width: event['width'] as int,
+              height: event['height'] as int,
+            ),
+          );
+        }
+      },
+    );
+  }
+
+  @override
+  Stream<VlcSpriteSheetUpdate> generateSpriteSheet(
+    String uri,
+    String path, {
+    required Duration interval,
+    required int tileWidth,
+    required int tileHeight,
+    required int columns,
+    required VlcSnapshotFormat format,
+    required int quality,
+  }) {
+    final tiles = <VlcSpriteTile>[];
+
+    return _thumbnailRequest<VlcSpriteSheetUpdate>(
+      start: () => _api.generateSpriteSheet(
+        SpriteSheetRequestMessage(
+          uri: uri,
+          path: path,
+          intervalMs: interval.inMilliseconds,
+          tileWidth: tileWidth,
+          tileHeight: tileHeight,
+          columns: columns,
+          format: format.index,
+          quality: quality,
+        ),
+      ),
+      onEvent: (controller, event) {
+        if (event['event'] == 'sprites') {
+          // time, left, top, width and height of each tile of the page
+          final path = event['path'] as String;
+          final rects = event['tiles'] as List<int>;
+          for (var i = 0; i + 4 < rects.length; i += 5) {
+            tiles.add(
+              VlcSpriteTile(
+                timestamp: Duration(milliseconds: rects[i]),
+                path: path,
+                rect: Rect.fromLTWH(
+                  rects[i + 1].toDouble(),
+                  rects[i + 2].toDouble(),
+                  rects[i + 3].toDouble(),
+                  rects[i + 4].toDouble(),
+                ),
+              ),
+            );
+          }
+          controller.add(
+            VlcSpriteSheetUpdate(
+              path: path,
+              tiles: List.unmodifiable(tiles),
+              totalTiles: event['tileCount'] as int,
+            ),
+          );
+        }
+      },
+    );
+  }
+
+  /// Returns the events of a request on the thumbnail channel, started by
+  /// [start] once listened to. The errors and the end of the request are
+  /// handled here, the other events are passed to [onEvent].
+  Stream<T> _thumbnailRequest<T>({
+    required Future<int> Function() start,
+    required void Function(
+      StreamController<T> controller,
+      Map<Object?, Object?> event,
+    )
+    onEvent,
+  }) {
+    int? requestId;
+    var isDone = false;
+    var isCancelled = false;
+    final pendingEvents = <Map<Object?, Object?>>[];
+    StreamSubscription<dynamic>? subscription;
+    late final StreamController<T> controller;
+
+    void handleEvent(Map<Object?, Object?> event) {
+      switch (event['event']) {
+        case 'error':
+          controller.addError(
+            PlatformException(
+              code: 'thumbnail_failed',
+              message: event['message'] as String?,
+              details: event['index'],
+            ),
+          );
+        //
+        case 'done':
+          isDone = true;
+          subscription?.cancel();
+          controller.close();
+        //
+        default:
+          onEvent(controller, event);
+      }
+    }
+
+    controller = StreamController<T>(
+      onListen: () {
+        // listen first, the events may arrive before the request id does
+        subscription = _thumbnailEvents.listen((dynamic event) {
+          final map = event as Map<Object?, Object?>;
+          if (requestId == null) {
+            pendingEvents.add(map);
+          } else if (map['requestId'] == requestId) {
+            handleEvent(map);
+          }
+        });
+        start().then(
+          (id) {
+            requestId = id;
+            if (isCancelled) {
+              _api.cancelThumbnails(id);
+
+              return;
+            }
+            for (final event in pendingEvents) {
+              if (event['requestId'] == id) {
+                handleEvent(event);
+              }
+            }
+            pendingEvents.clear();
+          },
+          onError: (Object error, StackTrace stackTrace) {
+            subscription?.cancel();
+            controller.addError(error, stackTrace);
+            controller.close();
+          },
+        );
+      },
+      onCancel: () async {
+        isCancelled = true;
+        await subscription?.cancel();
+        final id = requestId;
+        if (id != null && !isDone) {
+          await _api.cancelThumbnails(id);
+        }
+      },
+    );
+
+    return controller.stream;
+  }
+
+  @override
+  Future<void> clearThumbnailCache() {
+    return _api.clearThumbnailCache();
+  }
+
+  @override
+  Future<List<VlcApiMethodMetrics>> getApiMetrics() async {
+    final response = await _api.getApiMetrics();
+
+    return response.map((metrics) {
+      return VlcApiMethodMetrics(
+        method: metrics.method,
+        viewId: metrics.playerId,
+        count: metrics.count,
+        mean: _micros(metrics.meanMicros),
+        p50: _micros(metrics.p50Micros),
+        p90: _micros(metrics.p90Micros),
+        p99: _micros(metrics.p99Micros),
+        max: _micros(metrics.maxMicros),
+      );
+    }).toList();
+  }
+
+  Duration _micros(double micros) {
+    return Duration(microseconds: micros.round());
+  }
+
+  @override
+  Future<void> resetApiMetrics() {
+    return _api.resetApiMetrics();
+  }
+
+  @override
+  Future<List<VlcPlayerCommandResult>> executeBatch(
+    List<VlcPlayerCommand> commands,
+  ) async {
+    final results = await _api.executeBatch(
+      commands.map((command) {
+        final dataSourceType = command.dataSourceType;
+
+        return PlayerCommand(
+          playerId: command.viewId,
+          type: command.type.index,
+          intValue: command.intValue,
+          doubleValue: command.doubleValue,
+          boolValue: command.boolValue,
+          stringValue: command.stringValue,
+          media:
+              dataSourceType == null
+                  ? null
+                  : SetMediaMessage(
+                    playerId: command.viewId,
+                    uri: command.stringValue ?? '',
+                    type: dataSourceType.index,
+                    packageName: command.package,
+                    autoPlay: command.autoPlay ?? true,
+                    hwAcc: command.hwAcc?.index,
+                  ),
+        );
+      }).toList(),
+    );
+
+    return results
+        .map(
+          (result) => VlcPlayerCommandResult(
+            success: result.success,
+            error: result.error,
+          ),
+        )
+        .toList();
+  }
 }
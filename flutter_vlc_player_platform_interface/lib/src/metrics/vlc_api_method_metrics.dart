@@ -0,0 +1,39 @@
+/// The latency of one platform API method for one player, measured natively
+/// from the moment the call is received until it returns.
+class VlcApiMethodMetrics {
+  /// The name of the API method, like `play` or `setStreamUrl`.
+  final String method;
+
+  /// The player the calls were made for, or -1 for calls not made for a
+  /// single player, like `executeBatch`.
+  final int viewId;
+
+  /// The number of calls measured.
+  final int count;
+
+  /// The mean latency.
+  final Duration mean;
+
+  /// The median latency.
+  final Duration p50;
+
+  /// The 90th percentile latency.
+  final Duration p90;
+
+  /// The 99th percentile latency.
+  final Duration p99;
+
+  /// The highest latency.
+  final Duration max;
+
+  const VlcApiMethodMetrics({
+    required this.method,
+    required this.viewId,
+    required this.count,
+    required this.mean,
+    required this.p50,
+    required this.p90,
+    required this.p99,
+    required this.max,
+  });
+}
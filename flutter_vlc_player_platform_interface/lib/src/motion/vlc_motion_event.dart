@@ -0,0 +1,21 @@
+import 'dart:ui';
+
+/// A change between two frames sampled by a player's motion detector.
+class VlcMotionEvent {
+  /// When the frame was sampled, in the platform's monotonic clock, the same
+  /// as the position anchors.
+  final Duration timestamp;
+
+  /// The share of pixels that changed, from 0 to 1.
+  final double score;
+
+  /// The bounding box of the changed pixels, relative to the frame, from
+  /// 0 to 1 on both axes.
+  final Rect region;
+
+  const VlcMotionEvent({
+    required this.timestamp,
+    required this.score,
+    required this.region,
+  });
+}
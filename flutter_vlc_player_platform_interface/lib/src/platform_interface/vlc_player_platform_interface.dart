@@ -55,6 +55,12 @@ abstract class VlcPlayerPlatform extends PlatformInterface {
   }
 
   /// Creates an instance of a vlc player
+  ///
+  /// [maxPositionUpdatesPerSecond] caps how often time changed events are
+  /// sent for this player, null or zero means no cap.
+  ///
+  /// With [positionAnchors] the platform sends position anchors on
+  /// discontinuities instead of the position in every time changed event.
   Future<void> create({
     required int viewId,
     required String uri,
@@ -63,6 +69,8 @@ abstract class VlcPlayerPlatform extends PlatformInterface {
     bool? autoPlay,
     HwAcc? hwAcc,
     VlcPlayerOptions? options,
+    int? maxPositionUpdatesPerSecond,
+    bool? positionAnchors,
   }) {
     throw _unimplemented('create');
   }
@@ -84,6 +92,46 @@ abstract class VlcPlayerPlatform extends PlatformInterface {
     throw _unimplemented('setStreamUrl');
   }
 
+  /// Set/Change video streaming url without waiting for the media to be
+  /// loaded. The media is built, and parsed if [parse] is set, off the UI
+  /// thread and a [VlcMediaEventType.prepared] event is sent once it is set.
+  Future<void> setStreamUrlAsync(
+    int viewId, {
+    required String uri,
+    required DataSourceType type,
+    String? package,
+    bool? autoPlay,
+    HwAcc? hwAcc,
+    bool parse = false,
+  }) {
+    throw _unimplemented('setStreamUrlAsync');
+  }
+
+  /// Opens and buffers the next media on a standby player, without touching
+  /// the current playback, so [commitNext] can switch to it without a gap.
+  /// Replaces a next media that was not committed.
+  Future<void> prepareNext(
+    int viewId, {
+    required String uri,
+    required DataSourceType type,
+    String? package,
+    bool? autoPlay,
+    HwAcc? hwAcc,
+  }) {
+    throw _unimplemented('prepareNext');
+  }
+
+  /// Swaps the media prepared by [prepareNext] onto the view in place of the
+  /// current one, completing once its first frame is out.
+  Future<VlcMediaSwitch> commitNext(int viewId) {
+    throw _unimplemented('commitNext');
+  }
+
+  /// Drops the media prepared by [prepareNext].
+  Future<void> cancelNext(int viewId) {
+    throw _unimplemented('cancelNext');
+  }
+
   /// Sets the looping attribute of the video.
   Future<void> setLooping(int viewId, bool looping) {
     throw _unimplemented('setLooping');
@@ -275,6 +323,12 @@ abstract class VlcPlayerPlatform extends PlatformInterface {
     throw _unimplemented('getVideoTrack');
   }
 
+  /// Returns the audio, video and subtitle tracks with their details in a
+  /// single call.
+  Future<List<VlcTrack>> getAllTracks(int viewId) {
+    throw _unimplemented('getAllTracks');
+  }
+
   /// [scale] - the video scale value
   /// Set video scale
   Future<void> setVideoScale(int viewId, double scale) {
@@ -302,6 +356,81 @@ abstract class VlcPlayerPlatform extends PlatformInterface {
     throw _unimplemented('takeSnapshot');
   }
 
+  /// Returns a snapshot of the current frame encoded in [format], scaled down
+  /// to fit within [maxWidth] x [maxHeight] when given. [quality] goes from 0
+  /// to 100 and is ignored for PNG.
+  Future<Uint8List?> takeSnapshotBytes(
+    int viewId, {
+    required VlcSnapshotFormat format,
+    required int quality,
+    int? maxWidth,
+    int? maxHeight,
+  }) {
+    throw _unimplemented('takeSnapshotBytes');
+  }
+
+  /// Writes a snapshot like [takeSnapshotBytes] natively to the file at
+  /// [path], so the image never crosses the platform channel. Returns false
+  /// if there is no frame to take.
+  Future<bool> takeSnapshotToFile(
+    int viewId,
+    String path, {
+    required VlcSnapshotFormat format,
+    required int quality,
+    int? maxWidth,
+    int? maxHeight,
+  }) {
+    throw _unimplemented('takeSnapshotToFile');
+  }
+
+  /// Returns a snapshot like [takeSnapshotBytes] through the native snapshot
+  /// pipeline, which reuses its bitmaps, encodes off the platform thread and
+  /// shares the result between identical requests in flight.
+  Future<VlcSnapshot> captureSnapshot(
+    int viewId, {
+    required VlcSnapshotFormat format,
+    required int quality,
+    int? maxWidth,
+    int? maxHeight,
+  }) {
+    throw _unimplemented('captureSnapshot');
+  }
+
+  /// Samples [fps] frames per second of the player, scaled to fit within
+  /// [maxWidth] x [maxHeight], into a ring of [bufferCount] reusable native
+  /// buffers. Frames that find every buffer busy, or that arrive while the
+  /// subscription is paused, are dropped and counted. The tap starts when the
+  /// stream is listened to and stops when the subscription is cancelled.
+  Stream<VlcFrame> tapFrames(
+    int viewId, {
+    required double fps,
+    required VlcFrameFormat format,
+    required int quality,
+    int? maxWidth,
+    int? maxHeight,
+    required int bufferCount,
+  }) {
+    throw _unimplemented('tapFrames');
+  }
+
+  /// Samples [fps] frames per second of the player at [width] x [height] and
+  /// sends an event when the share of pixels whose luma changed by more than
+  /// [pixelThreshold] since the previous sample reaches [threshold]. The
+  /// sampling slows down to take at most [cpuBudget] of the platform thread's
+  /// time. Detection starts when the stream is listened to and stops when the
+  /// subscription is cancelled.
+  Stream<VlcMotionEvent> detectMotion(
+    int viewId, {
+    required double fps,
+    required int width,
+    required int height,
+    required double threshold,
+    required int pixelThreshold,
+    required double cpuBudget,
+  }) {
+    throw _unimplemented('detectMotion');
+  }
+
   /// Returns list of all available vlc renderer services
   Future<List<String>> getAvailableRendererServices(int viewId) {
     throw _unimplemented('getAvailableRendererServices');
@@ -345,6 +474,91 @@ abstract class VlcPlayerPlatform extends PlatformInterface {
     throw _unimplemented('stopRecording');
   }
 
+  /// Asks the platform to send a full time changed event, so every field
+  /// is up to date again after events may have been missed.
+  /// Returns the playback values of the player in a single call.
+  Future<VlcPlayerState> getPlayerState(int viewId) {
+    throw _unimplemented('getPlayerState');
+  }
+
+  /// Returns the playback values of several players in a single call.
+  /// Players that do not exist anymore are left out.
+  Future<List<VlcPlayerState>> getPlayersState(List<int> viewIds) {
+    throw _unimplemented('getPlayersState');
+  }
+
+  Future<void> resyncMediaEvents(int viewId) {
+    throw _unimplemented('resyncMediaEvents');
+  }
+
+  /// Extracts the frames of the media at [uri] at the given [timestamps]
+  /// without a player view, encoded like [takeSnapshotBytes]. Cached frames
+  /// come first, then the decoded ones in timestamp order. A frame that cannot
+  /// be decoded is reported as an error on the stream, which closes once all
+  /// are done. Cancelling the subscription stops the extraction.
+  ///
+  /// [cacheTag], like an ETag, tells apart the revisions of a remote media in
+  /// the thumbnail cache.
+  Stream<VlcThumbnail> extractThumbnails(
+    String uri,
+    List<Duration> timestamps, {
+    String? cacheTag,
+    required VlcSnapshotFormat format,
+    required int quality,
+    int? maxWidth,
+    int? maxHeight,
+  }) {
+    throw _unimplemented('extractThumbnails');
+  }
+
+  /// Generates a sprite sheet of the frames of the media at [uri] every
+  /// [interval], each fitted in a [tileWidth] x [tileHeight] tile, [columns]
+  /// tiles per row, and writes it to [path]. The sheet is split into pages of
+  /// bounded size, written next to [path] with their number appended to the
+  /// file name after the first. Each page is written once full and an update
+  /// is sent, so the first tiles can be shown while the next ones are
+  /// decoded. A frame that cannot be decoded is
+  /// reported as an error on the stream, which closes once the sheet is
+  /// complete. Cancelling the subscription stops the generation.
+  Stream<VlcSpriteSheetUpdate> generateSpriteSheet(
+    String uri,
+    String path, {
+    required Duration interval,
+    required int tileWidth,
+    required int tileHeight,
+    required int columns,
+    required VlcSnapshotFormat format,
+    required int quality,
+  }) {
+    throw _unimplemented('generateSpriteSheet');
+  }
+
+  /// Deletes the cached thumbnails.
+  Future<void> clearThumbnailCache() {
+    throw _unimplemented('clearThumbnailCache');
+  }
+
+  /// Returns the latency of the platform API calls made since the last reset,
+  /// per method and player. Empty unless the metrics are enabled natively,
+  /// only Android records them.
+  Future<List<VlcApiMethodMetrics>> getApiMetrics() {
+    throw _unimplemented('getApiMetrics');
+  }
+
+  /// Drops the latency recorded so far.
+  Future<void> resetApiMetrics() {
+    throw _unimplemented('resetApiMetrics');
+  }
+
+  /// Applies an ordered list of commands, possibly for several players, in a
+  /// single platform call. A failing command does not stop the following
+  /// ones, its result carries the error.
+  Future<List<VlcPlayerCommandResult>> executeBatch(
+    List<VlcPlayerCommand> commands,
+  ) {
+    throw _unimplemented('executeBatch');
+  }
+
   Object _unimplemented(String methodName) {
     return UnimplementedError('$methodName has not been implemented.');
   }
@@ -0,0 +1,36 @@
+import 'dart:typed_data';
+
+/// A snapshot taken by the snapshot pipeline, with the time each step took.
+class VlcSnapshot {
+  /// The encoded frame, or null if there was no frame to take.
+  final Uint8List? bytes;
+
+  /// The width of the encoded frame in pixels.
+  final int width;
+
+  /// The height of the encoded frame in pixels.
+  final int height;
+
+  /// The time spent drawing the frame on the platform thread.
+  final Duration readDuration;
+
+  /// The time spent encoding the frame on a background thread.
+  final Duration encodeDuration;
+
+  /// The time from the native request to the result.
+  final Duration totalDuration;
+
+  /// Whether the snapshot was shared with an identical request in flight
+  /// instead of being taken for this request.
+  final bool coalesced;
+
+  const VlcSnapshot({
+    required this.bytes,
+    required this.width,
+    required this.height,
+    required this.readDuration,
+    required this.encodeDuration,
+    required this.totalDuration,
+    required this.coalesced,
+  });
+}
@@ -0,0 +1,61 @@
+/// The playback values of a player, read natively in a single call.
+class VlcPlayerState {
+  /// The player the values belong to.
+  final int viewId;
+
+  /// Whether the player is playing.
+  final bool isPlaying;
+
+  /// Whether the current media is seekable.
+  final bool isSeekable;
+
+  /// The current playback position.
+  final Duration position;
+
+  /// The duration of the current media.
+  final Duration duration;
+
+  /// The volume, between 0 and 100.
+  final int volume;
+
+  /// The playback speed.
+  final double playbackSpeed;
+
+  /// The active audio track.
+  final int audioTrack;
+
+  /// The audio delay.
+  final int audioDelay;
+
+  /// The active subtitle track.
+  final int spuTrack;
+
+  /// The subtitle delay.
+  final int spuDelay;
+
+  /// The active video track.
+  final int videoTrack;
+
+  /// The video scale.
+  final double videoScale;
+
+  /// The video aspect ratio.
+  final String videoAspectRatio;
+
+  const VlcPlayerState({
+    required this.viewId,
+    required this.isPlaying,
+    required this.isSeekable,
+    required this.position,
+    required this.duration,
+    required this.volume,
+    required this.playbackSpeed,
+    required this.audioTrack,
+    required this.audioDelay,
+    required this.spuTrack,
+    required this.spuDelay,
+    required this.videoTrack,
+    required this.videoScale,
+    required this.videoAspectRatio,
+  });
+}
@@ -0,0 +1,20 @@
+import 'package:flutter_vlc_player_platform_interface/src/thumbnails/vlc_sprite_tile.dart';
+
+/// The progress of a sprite sheet generation, sent each time a page of the
+/// sheet is written.
+class VlcSpriteSheetUpdate {
+  /// The page file just written.
+  final String path;
+
+  /// The tiles drawn in the pages written so far, in timestamp order.
+  final List<VlcSpriteTile> tiles;
+
+  /// The number of tiles the sheet will have once complete.
+  final int totalTiles;
+
+  const VlcSpriteSheetUpdate({
+    required this.path,
+    required this.tiles,
+    required this.totalTiles,
+  });
+}
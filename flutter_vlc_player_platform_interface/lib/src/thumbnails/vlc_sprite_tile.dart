@@ -0,0 +1,20 @@
+import 'dart:ui';
+
+/// A frame of a sprite sheet.
+class VlcSpriteTile {
+  /// The position of the frame in the media.
+  final Duration timestamp;
+
+  /// The page file of the sheet the frame is drawn in.
+  final String path;
+
+  /// Where the frame is drawn in its page, in pixels. It is centered in its
+  /// tile and keeps its aspect ratio.
+  final Rect rect;
+
+  const VlcSpriteTile({
+    required this.timestamp,
+    required this.path,
+    required this.rect,
+  });
+}
@@ -0,0 +1,27 @@
+import 'dart:typed_data';
+
+/// A frame extracted from a media without a player view.
+class VlcThumbnail {
+  /// The position of [timestamp] in the requested list.
+  final int index;
+
+  /// The requested position of the frame in the media.
+  final Duration timestamp;
+
+  /// The encoded frame.
+  final Uint8List bytes;
+
+  /// The width of the encoded frame in pixels.
+  final int width;
+
+  /// The height of the encoded frame in pixels.
+  final int height;
+
+  const VlcThumbnail({
+    required this.index,
+    required this.timestamp,
+    required this.bytes,
+    required this.width,
+    required this.height,
+  });
+}
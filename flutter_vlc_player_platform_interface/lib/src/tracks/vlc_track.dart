@@ -0,0 +1,37 @@
+import 'dart:ui';
+
+import 'package:flutter_vlc_player_platform_interface/src/enums/track_type.dart';
+
+/// An audio, video or subtitle track of the current media.
+class VlcTrack {
+  /// The kind of the track.
+  final VlcTrackType type;
+
+  /// The track number, as used to select the track.
+  final int id;
+
+  /// The display name of the track.
+  final String name;
+
+  /// The codec of the track, if known.
+  final String? codec;
+
+  /// The language of the track, if known.
+  final String? language;
+
+  /// The resolution of a video track, if known.
+  final Size? size;
+
+  /// Whether the track is the active one of its type.
+  final bool isSelected;
+
+  const VlcTrack({
+    required this.type,
+    required this.id,
+    required this.name,
+    this.codec,
+    this.language,
+    this.size,
+    required this.isSelected,
+  });
+}